@@ -366,6 +366,60 @@ public class AtomixClusterBuilder implements Builder<AtomixCluster> {
     return this;
   }
 
+  /**
+   * Reserves connections for bulk transfers, e.g. raft snapshot replication.
+   *
+   * <p>Messages of the bulk types, by default raft install requests, are sent over {@code
+   * bulkConnectionPoolSize} dedicated connections per node, so that they do not delay latency
+   * critical messages like heartbeats and votes.
+   *
+   * @param bulkConnectionPoolSize the number of bulk connections per node
+   * @return the cluster builder
+   */
+  public AtomixClusterBuilder withBulkConnections(final int bulkConnectionPoolSize) {
+    config.getMessagingConfig().setBulkConnectionPoolSize(bulkConnectionPoolSize);
+    return this;
+  }
+
+  /**
+   * Enables write coalescing for the messaging connections.
+   *
+   * <p>Messages which are written to the same connection within one event loop tick are flushed
+   * together, at most {@code maxCoalescedMessages} at once and delayed by at most {@code
+   * maxFlushDelay}. This reduces the number of syscalls when many small messages are exchanged
+   * between two nodes, e.g. raft heartbeats and append requests of many partitions.
+   *
+   * @param maxCoalescedMessages the maximum number of messages flushed together
+   * @param maxFlushDelay the maximum time a flush is delayed
+   * @return the cluster builder
+   */
+  public AtomixClusterBuilder withWriteCoalescing(
+      final int maxCoalescedMessages, final Duration maxFlushDelay) {
+    config
+        .getMessagingConfig()
+        .setWriteCoalescingEnabled(true)
+        .setMaxCoalescedMessages(maxCoalescedMessages)
+        .setMaxFlushDelay(maxFlushDelay);
+    return this;
+  }
+
+  /**
+   * Enables compression of large messages.
+   *
+   * <p>Payloads of at least {@code compressionThreshold} bytes, e.g. append requests and snapshot
+   * chunks, are compressed if the receiving node supports it.
+   *
+   * @param compressionThreshold the size in bytes from which on payloads are compressed
+   * @return the cluster builder
+   */
+  public AtomixClusterBuilder withCompression(final int compressionThreshold) {
+    config
+        .getMessagingConfig()
+        .setCompressionEnabled(true)
+        .setCompressionThreshold(compressionThreshold);
+    return this;
+  }
+
   /**
    * Sets the reachability broadcast interval.
    *
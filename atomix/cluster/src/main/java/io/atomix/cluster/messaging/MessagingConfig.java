@@ -17,6 +17,7 @@
 package io.atomix.cluster.messaging;
 
 import io.atomix.utils.config.Config;
+import io.zeebe.util.compression.PayloadCompressor;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,7 +27,15 @@ public class MessagingConfig implements Config {
   private List<String> interfaces = new ArrayList<>();
   private Integer port;
   private int connectionPoolSize = 8;
+  private int bulkConnectionPoolSize = 0;
+  private List<String> bulkMessageTypes = new ArrayList<>(List.of("install"));
   private Duration connectTimeout = Duration.ofSeconds(10);
+  private boolean writeCoalescingEnabled = false;
+  private int maxCoalescedMessages = 128;
+  private Duration maxFlushDelay = Duration.ZERO;
+  private boolean compressionEnabled = false;
+  private int compressionThreshold = 32 * 1024;
+  private int maxMessageSize = PayloadCompressor.DEFAULT_MAX_PAYLOAD_LENGTH;
 
   /**
    * Returns the local interfaces to which to bind the node.
@@ -88,6 +97,51 @@ public class MessagingConfig implements Config {
     return this;
   }
 
+  /**
+   * Returns the number of connections per address which are reserved for bulk message types.
+   *
+   * @return the bulk connection pool size
+   */
+  public int getBulkConnectionPoolSize() {
+    return bulkConnectionPoolSize;
+  }
+
+  /**
+   * Sets the number of connections per address which are reserved for bulk message types, in
+   * addition to the connection pool. Bulk messages are then never queued in front of other
+   * messages, e.g. raft heartbeats are not delayed by snapshot replication. If zero, all messages
+   * share the connection pool.
+   *
+   * @param bulkConnectionPoolSize the bulk connection pool size
+   * @return the messaging configuration
+   */
+  public MessagingConfig setBulkConnectionPoolSize(final int bulkConnectionPoolSize) {
+    this.bulkConnectionPoolSize = bulkConnectionPoolSize;
+    return this;
+  }
+
+  /**
+   * Returns the message types which are sent over the bulk connections.
+   *
+   * @return the bulk message types
+   */
+  public List<String> getBulkMessageTypes() {
+    return bulkMessageTypes;
+  }
+
+  /**
+   * Sets the message types which are sent over the bulk connections. A message type matches if it
+   * is equal to one of the given types, or ends with {@code -<type>}, e.g. {@code install} matches
+   * the raft install requests of all partitions.
+   *
+   * @param bulkMessageTypes the bulk message types
+   * @return the messaging configuration
+   */
+  public MessagingConfig setBulkMessageTypes(final List<String> bulkMessageTypes) {
+    this.bulkMessageTypes = bulkMessageTypes;
+    return this;
+  }
+
   /**
    * Returns the Netty connection timeout.
    *
@@ -107,4 +161,130 @@ public class MessagingConfig implements Config {
     this.connectTimeout = connectTimeout;
     return this;
   }
+
+  /**
+   * Returns whether the writes of a connection are coalesced into fewer flushes.
+   *
+   * @return true if write coalescing is enabled
+   */
+  public boolean isWriteCoalescingEnabled() {
+    return writeCoalescingEnabled;
+  }
+
+  /**
+   * Sets whether the messages written to a connection within the same event loop tick are flushed
+   * together, instead of flushing every message on its own.
+   *
+   * @param writeCoalescingEnabled true to enable write coalescing
+   * @return the messaging configuration
+   */
+  public MessagingConfig setWriteCoalescingEnabled(final boolean writeCoalescingEnabled) {
+    this.writeCoalescingEnabled = writeCoalescingEnabled;
+    return this;
+  }
+
+  /**
+   * Returns the maximum number of messages which are coalesced into a single flush.
+   *
+   * @return the maximum number of coalesced messages
+   */
+  public int getMaxCoalescedMessages() {
+    return maxCoalescedMessages;
+  }
+
+  /**
+   * Sets the maximum number of messages which are coalesced into a single flush. Once reached, the
+   * pending messages are flushed right away.
+   *
+   * @param maxCoalescedMessages the maximum number of coalesced messages
+   * @return the messaging configuration
+   */
+  public MessagingConfig setMaxCoalescedMessages(final int maxCoalescedMessages) {
+    this.maxCoalescedMessages = maxCoalescedMessages;
+    return this;
+  }
+
+  /**
+   * Returns the maximum time a coalesced flush is delayed.
+   *
+   * @return the maximum flush delay
+   */
+  public Duration getMaxFlushDelay() {
+    return maxFlushDelay;
+  }
+
+  /**
+   * Sets the maximum time a coalesced flush is delayed. If zero, the pending messages are flushed
+   * as soon as the tasks which are already queued on the event loop have been run.
+   *
+   * @param maxFlushDelay the maximum flush delay
+   * @return the messaging configuration
+   */
+  public MessagingConfig setMaxFlushDelay(final Duration maxFlushDelay) {
+    this.maxFlushDelay = maxFlushDelay;
+    return this;
+  }
+
+  /**
+   * Returns whether large payloads are compressed.
+   *
+   * @return true if compression is enabled
+   */
+  public boolean isCompressionEnabled() {
+    return compressionEnabled;
+  }
+
+  /**
+   * Sets whether payloads which are at least as large as the compression threshold are compressed.
+   * Compression is only used for connections to nodes which support it; the protocol version is
+   * negotiated when the connection is established.
+   *
+   * @param compressionEnabled true to enable compression
+   * @return the messaging configuration
+   */
+  public MessagingConfig setCompressionEnabled(final boolean compressionEnabled) {
+    this.compressionEnabled = compressionEnabled;
+    return this;
+  }
+
+  /**
+   * Returns the size in bytes from which on payloads are compressed.
+   *
+   * @return the compression threshold in bytes
+   */
+  public int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Sets the size in bytes from which on payloads are compressed.
+   *
+   * @param compressionThreshold the compression threshold in bytes
+   * @return the messaging configuration
+   */
+  public MessagingConfig setCompressionThreshold(final int compressionThreshold) {
+    this.compressionThreshold = compressionThreshold;
+    return this;
+  }
+
+  /**
+   * Returns the maximum size in bytes of a decompressed message payload.
+   *
+   * @return the maximum message size in bytes
+   */
+  public int getMaxMessageSize() {
+    return maxMessageSize;
+  }
+
+  /**
+   * Sets the maximum size in bytes of a decompressed message payload. A compressed message which
+   * would be larger is rejected before it is decompressed.
+   *
+   * @param maxMessageSize the maximum message size in bytes
+   * @return the messaging configuration
+   */
+  public MessagingConfig setMaxMessageSize(final int maxMessageSize) {
+    this.maxMessageSize = maxMessageSize;
+    return this;
+  }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+/**
+ * The lanes of a {@link ChannelPool}. Each lane uses its own connections, such that bulk transfers
+ * do not delay latency critical control messages, e.g. raft heartbeats and votes.
+ */
+enum ChannelLane {
+  /** Latency critical messages, and all messages if no bulk lane is configured. */
+  CONTROL("control"),
+  /** Large transfers, e.g. snapshot chunks. */
+  BULK("bulk");
+
+  private final String label;
+
+  ChannelLane(final String label) {
+    this.label = label;
+  }
+
+  String getLabel() {
+    return label;
+  }
+}
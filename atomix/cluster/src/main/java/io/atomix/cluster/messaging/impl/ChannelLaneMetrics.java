@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/** Metrics about the requests which are queued on and sent through the lanes of a channel pool. */
+final class ChannelLaneMetrics {
+
+  private static final Gauge PENDING_REQUESTS =
+      Gauge.build()
+          .namespace("atomix")
+          .name("messaging_lane_pending_requests")
+          .help("Number of requests which wait for a connection or a response, per lane")
+          .labelNames("lane")
+          .register();
+
+  private static final Histogram REQUEST_LATENCY =
+      Histogram.build()
+          .namespace("atomix")
+          .name("messaging_lane_request_latency")
+          .help("Time from queuing a request on a lane until it completed, in seconds")
+          .buckets(0.0005, 0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5)
+          .labelNames("lane")
+          .register();
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private final Gauge.Child[] pendingRequests;
+  private final Histogram.Child[] requestLatency;
+
+  ChannelLaneMetrics() {
+    final ChannelLane[] lanes = ChannelLane.values();
+    pendingRequests = new Gauge.Child[lanes.length];
+    requestLatency = new Histogram.Child[lanes.length];
+    for (final ChannelLane lane : lanes) {
+      pendingRequests[lane.ordinal()] = PENDING_REQUESTS.labels(lane.getLabel());
+      requestLatency[lane.ordinal()] = REQUEST_LATENCY.labels(lane.getLabel());
+    }
+  }
+
+  /**
+   * Records that a request was queued on the given lane.
+   *
+   * @return the start time, to be passed to {@link #completed(ChannelLane, long)}
+   */
+  long queued(final ChannelLane lane) {
+    pendingRequests[lane.ordinal()].inc();
+    return System.nanoTime();
+  }
+
+  void completed(final ChannelLane lane, final long startTime) {
+    pendingRequests[lane.ordinal()].dec();
+    requestLatency[lane.ordinal()].observe((System.nanoTime() - startTime) / NANOS_PER_SECOND);
+  }
+}
@@ -22,6 +22,7 @@ import io.atomix.utils.net.Address;
 import io.netty.channel.Channel;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -29,18 +30,68 @@ import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Internal Netty channel pool. */
+/**
+ * Internal Netty channel pool.
+ *
+ * <p>The channels to each address are split into lanes: the message types which are configured as
+ * bulk types are sent over their own channels, such that e.g. large snapshot chunks are never
+ * queued in front of latency critical heartbeats. Without bulk channels, all message types share
+ * the control lane.
+ */
 class ChannelPool {
   private static final Logger LOGGER = LoggerFactory.getLogger(ChannelPool.class);
 
   private final Function<Address, CompletableFuture<Channel>> factory;
   private final int size;
+  private final int bulkSize;
+  private final List<String> bulkMessageTypes;
   private final Map<InetSocketAddress, List<CompletableFuture<Channel>>> channels =
       Maps.newConcurrentMap();
 
   ChannelPool(final Function<Address, CompletableFuture<Channel>> factory, final int size) {
+    this(factory, size, 0, List.of());
+  }
+
+  /**
+   * @param factory creates new channels to an address
+   * @param size the number of channels of the control lane, per address
+   * @param bulkSize the number of channels of the bulk lane, per address; 0 disables the lane
+   * @param bulkMessageTypes the message types which are sent over the bulk lane; a type matches if
+   *     it is equal to one of them, or ends with {@code -<type>} (e.g. raft subjects, which are
+   *     prefixed with the partition name)
+   */
+  ChannelPool(
+      final Function<Address, CompletableFuture<Channel>> factory,
+      final int size,
+      final int bulkSize,
+      final Collection<String> bulkMessageTypes) {
     this.factory = factory;
     this.size = size;
+    this.bulkSize = bulkSize;
+    this.bulkMessageTypes = List.copyOf(bulkMessageTypes);
+  }
+
+  /**
+   * Returns the lane over which messages of the given type are sent.
+   *
+   * @param messageType the message type
+   * @return the lane of the message type
+   */
+  ChannelLane getLane(final String messageType) {
+    if (bulkSize <= 0) {
+      return ChannelLane.CONTROL;
+    }
+
+    for (final String bulkType : bulkMessageTypes) {
+      if (messageType.equals(bulkType)
+          || (messageType.endsWith(bulkType)
+              && messageType.length() > bulkType.length()
+              && messageType.charAt(messageType.length() - bulkType.length() - 1) == '-')) {
+        return ChannelLane.BULK;
+      }
+    }
+
+    return ChannelLane.CONTROL;
   }
 
   /**
@@ -58,8 +109,9 @@ class ChannelPool {
     return channels.computeIfAbsent(
         targetAddress,
         e -> {
-          final List<CompletableFuture<Channel>> defaultList = new ArrayList<>(size);
-          for (int i = 0; i < size; i++) {
+          final int poolSize = size + Math.max(0, bulkSize);
+          final List<CompletableFuture<Channel>> defaultList = new ArrayList<>(poolSize);
+          for (int i = 0; i < poolSize; i++) {
             defaultList.add(null);
           }
           return Lists.newCopyOnWriteArrayList(defaultList);
@@ -67,12 +119,16 @@ class ChannelPool {
   }
 
   /**
-   * Returns the channel offset for the given message type.
+   * Returns the channel offset for the given message type. The channels of the control lane come
+   * first in the pool, followed by the channels of the bulk lane.
    *
    * @param messageType the message type for which to return the channel offset
    * @return the channel offset for the given message type
    */
-  private int getChannelOffset(final String messageType) {
+  int getChannelOffset(final String messageType) {
+    if (getLane(messageType) == ChannelLane.BULK) {
+      return size + Math.abs(messageType.hashCode() % bulkSize);
+    }
     return Math.abs(messageType.hashCode() % size);
   }
 
@@ -67,7 +67,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
         if (buffer.readableBytes() < Byte.BYTES) {
           return;
         }
-        type = ProtocolMessage.Type.forId(buffer.readByte());
+        type = ProtocolMessage.Type.forId(decodeTypeId(buffer.readByte()));
         currentState = DecoderState.READ_MESSAGE_ID;
       case READ_MESSAGE_ID:
         try {
@@ -91,6 +91,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
           // TODO: Perform a sanity check on the size before allocating
           content = new byte[contentLength];
           buffer.readBytes(content);
+          content = decodeContent(content);
         } else {
           content = EMPTY_PAYLOAD;
         }
@@ -153,6 +154,26 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
     }
   }
 
+  /**
+   * Decodes the message type id from the type byte; allows later versions to carry flags in it.
+   *
+   * @param typeByte the type byte as read from the wire
+   * @return the message type id
+   */
+  protected int decodeTypeId(final byte typeByte) {
+    return typeByte;
+  }
+
+  /**
+   * Decodes the content of the current message; allows later versions to transform it.
+   *
+   * @param content the content as read from the wire
+   * @return the content of the message
+   */
+  protected byte[] decodeContent(final byte[] content) {
+    return content;
+  }
+
   /** V2 decoder state. */
   enum DecoderState {
     READ_TYPE,
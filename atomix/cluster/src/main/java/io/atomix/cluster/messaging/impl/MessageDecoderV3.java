@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.zeebe.util.compression.PayloadCompressor;
+
+/**
+ * V3 message decoder; decompresses the content of messages marked as compressed. The compressor is
+ * owned by the decoder and closed when the decoder is removed from the pipeline.
+ */
+class MessageDecoderV3 extends MessageDecoderV2 {
+
+  private final PayloadCompressor compressor;
+  private boolean isCompressed;
+
+  MessageDecoderV3(final PayloadCompressor compressor) {
+    this.compressor = compressor;
+  }
+
+  @Override
+  protected int decodeTypeId(final byte typeByte) {
+    isCompressed = (typeByte & MessageEncoderV3.COMPRESSED_FLAG) != 0;
+    return typeByte & ~MessageEncoderV3.COMPRESSED_FLAG & 0xFF;
+  }
+
+  @Override
+  protected byte[] decodeContent(final byte[] content) {
+    return isCompressed ? compressor.decompress(content) : content;
+  }
+
+  @Override
+  protected void handlerRemoved0(final ChannelHandlerContext ctx) throws Exception {
+    compressor.close();
+    super.handlerRemoved0(ctx);
+  }
+}
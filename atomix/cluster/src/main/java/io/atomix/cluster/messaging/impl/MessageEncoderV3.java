@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.zeebe.util.compression.PayloadCompressor;
+
+/**
+ * V3 message encoder. Compresses payloads which are at least as large as the compression
+ * threshold, and marks them by setting the {@link #COMPRESSED_FLAG} in the type byte. The
+ * compressor is owned by the encoder and closed when the encoder is removed from the pipeline.
+ */
+class MessageEncoderV3 extends MessageEncoderV2 {
+  static final int COMPRESSED_FLAG = 0x80;
+
+  private final PayloadCompressor compressor;
+  private final int compressionThreshold;
+
+  MessageEncoderV3(
+      final Address address, final PayloadCompressor compressor, final int compressionThreshold) {
+    super(address);
+    this.compressor = compressor;
+    this.compressionThreshold = compressionThreshold;
+  }
+
+  @Override
+  protected void encodeMessage(final ProtocolMessage message, final ByteBuf buffer) {
+    byte[] payload = message.payload();
+    int typeId = message.type().id();
+
+    if (payload.length >= compressionThreshold) {
+      final byte[] compressed = compressor.compress(payload);
+      if (compressed != null) {
+        payload = compressed;
+        typeId |= COMPRESSED_FLAG;
+      }
+    }
+
+    buffer.writeByte(typeId);
+    writeLong(buffer, message.id());
+    writeInt(buffer, payload.length);
+    buffer.writeBytes(payload);
+  }
+
+  @Override
+  public void handlerRemoved(final ChannelHandlerContext ctx) throws Exception {
+    compressor.close();
+    super.handlerRemoved(ctx);
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.prometheus.client.Histogram;
+
+/** Metrics about the writes of the messaging connections to a remote host. */
+final class MessagingConnectionMetrics {
+
+  private static final Histogram MESSAGES_PER_FLUSH =
+      Histogram.build()
+          .namespace("atomix")
+          .name("messaging_messages_per_flush")
+          .help("Number of messages written to a connection with a single flush")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256, 512)
+          .labelNames("host")
+          .register();
+
+  private static final Histogram BYTES_PER_FLUSH =
+      Histogram.build()
+          .namespace("atomix")
+          .name("messaging_bytes_per_flush")
+          .help("Number of bytes written to a connection with a single flush")
+          .exponentialBuckets(64, 4, 10)
+          .labelNames("host")
+          .register();
+
+  private final Histogram.Child messagesPerFlush;
+  private final Histogram.Child bytesPerFlush;
+
+  MessagingConnectionMetrics(final String host) {
+    messagesPerFlush = MESSAGES_PER_FLUSH.labels(host);
+    bytesPerFlush = BYTES_PER_FLUSH.labels(host);
+  }
+
+  void flushed(final int messages, final long bytes) {
+    messagesPerFlush.observe(messages);
+    bytesPerFlush.observe(bytes);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.utils.net.Address;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.zeebe.util.compression.CompressionMetrics;
+import io.zeebe.util.compression.PayloadCompressor;
+
+/** V3 messaging protocol; V2 with optional compression of large payloads. */
+public class MessagingProtocolV3 implements MessagingProtocol {
+  private static final CompressionMetrics METRICS = new CompressionMetrics("messaging");
+
+  private final Address address;
+  private final MessagingConfig config;
+
+  MessagingProtocolV3(final Address address, final MessagingConfig config) {
+    this.address = address;
+    this.config = config;
+  }
+
+  @Override
+  public ProtocolVersion version() {
+    return ProtocolVersion.V3;
+  }
+
+  @Override
+  public MessageToByteEncoder<Object> newEncoder() {
+    final int compressionThreshold =
+        config.isCompressionEnabled() ? config.getCompressionThreshold() : Integer.MAX_VALUE;
+    return new MessageEncoderV3(address, newCompressor(), compressionThreshold);
+  }
+
+  @Override
+  public ByteToMessageDecoder newDecoder() {
+    return new MessageDecoderV3(newCompressor());
+  }
+
+  private PayloadCompressor newCompressor() {
+    return new PayloadCompressor(METRICS, config.getMaxMessageSize());
+  }
+}
@@ -86,6 +86,7 @@ public class NettyMessagingService implements ManagedMessagingService {
   private final Map<Channel, RemoteClientConnection> connections = Maps.newConcurrentMap();
   private final AtomicLong messageIdGenerator = new AtomicLong(0);
   private final ChannelPool channelPool;
+  private final ChannelLaneMetrics laneMetrics = new ChannelLaneMetrics();
   private EventLoopGroup serverGroup;
   private EventLoopGroup clientGroup;
   private Class<? extends ServerChannel> serverChannelClass;
@@ -109,7 +110,12 @@ public class NettyMessagingService implements ManagedMessagingService {
     this.config = config;
     this.protocolVersion = protocolVersion;
     openFutures = new CopyOnWriteArrayList<>();
-    channelPool = new ChannelPool(this::openChannel, config.getConnectionPoolSize());
+    channelPool =
+        new ChannelPool(
+            this::openChannel,
+            config.getConnectionPoolSize(),
+            config.getBulkConnectionPoolSize(),
+            config.getBulkMessageTypes());
   }
 
   @Override
@@ -384,6 +390,10 @@ public class NettyMessagingService implements ManagedMessagingService {
       return;
     }
 
+    final ChannelLane lane = channelPool.getLane(type);
+    final long queuedAt = laneMetrics.queued(lane);
+    future.whenComplete((result, error) -> laneMetrics.completed(lane, queuedAt));
+
     // we need these to close them on stop
     openFutures.add(future);
     channelPool
@@ -695,11 +705,22 @@ public class NettyMessagingService implements ManagedMessagingService {
         final ChannelHandlerContext context,
         final Connection<M> connection,
         final ProtocolVersion protocolVersion) {
-      final MessagingProtocol protocol = protocolVersion.createProtocol(returnAddress);
+      final MessagingProtocol protocol = protocolVersion.createProtocol(returnAddress, config);
       context.pipeline().remove(this);
       context.pipeline().addLast("encoder", protocol.newEncoder());
       context.pipeline().addLast("decoder", protocol.newDecoder());
       context.pipeline().addLast("handler", new MessageDispatcher<>(connection));
+
+      if (config.isWriteCoalescingEnabled()) {
+        // outbound messages pass the handlers from last to first, so this sees encoded buffers
+        context
+            .pipeline()
+            .addBefore(
+                "encoder",
+                "write-coalescing",
+                new WriteCoalescingHandler(
+                    config.getMaxCoalescedMessages(), config.getMaxFlushDelay().toNanos()));
+      }
     }
   }
 
@@ -16,6 +16,7 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.utils.net.Address;
 import java.util.stream.Stream;
 
@@ -23,15 +24,24 @@ import java.util.stream.Stream;
 public enum ProtocolVersion {
   V1(1) {
     @Override
-    public MessagingProtocol createProtocol(final Address address) {
+    public MessagingProtocol createProtocol(
+        final Address address, final MessagingConfig config) {
       return new MessagingProtocolV1(address);
     }
   },
   V2(2) {
     @Override
-    public MessagingProtocol createProtocol(final Address address) {
+    public MessagingProtocol createProtocol(
+        final Address address, final MessagingConfig config) {
       return new MessagingProtocolV2(address);
     }
+  },
+  V3(3) {
+    @Override
+    public MessagingProtocol createProtocol(
+        final Address address, final MessagingConfig config) {
+      return new MessagingProtocolV3(address, config);
+    }
   };
 
   private final short version;
@@ -72,7 +82,8 @@ public enum ProtocolVersion {
    * Creates a new protocol instance.
    *
    * @param address the protocol address
+   * @param config the messaging configuration
    * @return a new protocol instance
    */
-  public abstract MessagingProtocol createProtocol(Address address);
+  public abstract MessagingProtocol createProtocol(Address address, MessagingConfig config);
 }
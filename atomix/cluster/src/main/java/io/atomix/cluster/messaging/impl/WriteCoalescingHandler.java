@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the flushes of a connection. Instead of issuing a syscall for every message, a flush
+ * is deferred until the tasks currently queued on the event loop have been run, such that all
+ * messages written within the same event loop tick are flushed together. The flush is done at the
+ * latest after {@code maxFlushDelay}, or right away once {@code maxCoalescedMessages} are pending.
+ * If the connection was idle, i.e. nothing was flushed within the last {@code maxFlushDelay}, the
+ * flush is not delayed, so that sparse messages don't pay the delay.
+ *
+ * <p>Similar to Netty's {@code FlushConsolidationHandler}, but it also consolidates flushes which
+ * are not triggered by a read, and records how many messages and bytes were written per flush.
+ * Must be placed after the message encoder, such that it sees the encoded buffers.
+ */
+final class WriteCoalescingHandler extends ChannelDuplexHandler {
+
+  private final int maxCoalescedMessages;
+  private final long maxFlushDelayNanos;
+  private final Runnable flushTask = this::onScheduledFlush;
+
+  private ChannelHandlerContext context;
+  private MessagingConnectionMetrics metrics;
+  private boolean isFlushScheduled;
+  private int pendingMessages;
+  private long pendingBytes;
+  private long lastFlushNanos;
+
+  WriteCoalescingHandler(final int maxCoalescedMessages, final long maxFlushDelayNanos) {
+    this.maxCoalescedMessages = maxCoalescedMessages;
+    this.maxFlushDelayNanos = maxFlushDelayNanos;
+    lastFlushNanos = System.nanoTime() - maxFlushDelayNanos;
+  }
+
+  @Override
+  public void handlerAdded(final ChannelHandlerContext context) {
+    this.context = context;
+  }
+
+  @Override
+  public void write(
+      final ChannelHandlerContext context, final Object message, final ChannelPromise promise) {
+    if (message instanceof ByteBuf) {
+      pendingBytes += ((ByteBuf) message).readableBytes();
+    }
+    pendingMessages++;
+
+    context.write(message, promise);
+  }
+
+  @Override
+  public void flush(final ChannelHandlerContext context) {
+    if (pendingMessages >= maxCoalescedMessages || isIdle()) {
+      flushNow(context);
+    } else if (!isFlushScheduled) {
+      isFlushScheduled = true;
+
+      if (maxFlushDelayNanos > 0) {
+        context.executor().schedule(flushTask, maxFlushDelayNanos, TimeUnit.NANOSECONDS);
+      } else {
+        // runs after all tasks which are already queued, e.g. other writes
+        context.executor().execute(flushTask);
+      }
+    }
+  }
+
+  @Override
+  public void channelWritabilityChanged(final ChannelHandlerContext context) {
+    if (!context.channel().isWritable()) {
+      // flush to drain the outbound buffer as fast as possible
+      flushNow(context);
+    }
+
+    context.fireChannelWritabilityChanged();
+  }
+
+  @Override
+  public void disconnect(final ChannelHandlerContext context, final ChannelPromise promise) {
+    flushNow(context);
+    context.disconnect(promise);
+  }
+
+  @Override
+  public void close(final ChannelHandlerContext context, final ChannelPromise promise) {
+    flushNow(context);
+    context.close(promise);
+  }
+
+  @Override
+  public void exceptionCaught(final ChannelHandlerContext context, final Throwable cause) {
+    flushNow(context);
+    context.fireExceptionCaught(cause);
+  }
+
+  @Override
+  public void handlerRemoved(final ChannelHandlerContext context) {
+    flushNow(context);
+  }
+
+  private boolean isIdle() {
+    return maxFlushDelayNanos > 0 && System.nanoTime() - lastFlushNanos >= maxFlushDelayNanos;
+  }
+
+  private void onScheduledFlush() {
+    if (isFlushScheduled) {
+      flushNow(context);
+    }
+  }
+
+  private void flushNow(final ChannelHandlerContext context) {
+    isFlushScheduled = false;
+
+    if (pendingMessages > 0) {
+      getMetrics(context).flushed(pendingMessages, pendingBytes);
+      pendingMessages = 0;
+      pendingBytes = 0;
+      lastFlushNanos = System.nanoTime();
+      context.flush();
+    }
+  }
+
+  private MessagingConnectionMetrics getMetrics(final ChannelHandlerContext context) {
+    if (metrics == null) {
+      // resolved lazily, since the remote address is not known before a client channel connects
+      metrics = new MessagingConnectionMetrics(getRemoteHost(context.channel().remoteAddress()));
+    }
+    return metrics;
+  }
+
+  private static String getRemoteHost(final SocketAddress remoteAddress) {
+    // without the port, which is ephemeral for incoming connections and would create a new
+    // metrics child per connection
+    if (remoteAddress instanceof InetSocketAddress) {
+      return ((InetSocketAddress) remoteAddress).getHostString();
+    }
+    return String.valueOf(remoteAddress);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.utils.net.Address;
+import io.netty.channel.Channel;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+
+public final class ChannelPoolTest {
+
+  private static final int SIZE = 4;
+  private static final int BULK_SIZE = 2;
+
+  @Test
+  public void shouldSendAllMessagesOverControlLaneWithoutBulkConnections() {
+    // given
+    final ChannelPool pool = new ChannelPool(ChannelPoolTest::neverConnect, SIZE);
+
+    // when
+    final ChannelLane lane = pool.getLane("raft-partition-partition-1-install");
+
+    // then
+    assertThat(lane).isEqualTo(ChannelLane.CONTROL);
+  }
+
+  @Test
+  public void shouldSendBulkMessageTypesOverBulkLane() {
+    // given
+    final ChannelPool pool =
+        new ChannelPool(ChannelPoolTest::neverConnect, SIZE, BULK_SIZE, List.of("install"));
+
+    // when - then
+    assertThat(pool.getLane("install")).isEqualTo(ChannelLane.BULK);
+    assertThat(pool.getLane("raft-partition-partition-1-install")).isEqualTo(ChannelLane.BULK);
+    assertThat(pool.getLane("raft-partition-partition-1-append")).isEqualTo(ChannelLane.CONTROL);
+    assertThat(pool.getLane("raft-partition-partition-1-poll")).isEqualTo(ChannelLane.CONTROL);
+    assertThat(pool.getLane("reinstall")).isEqualTo(ChannelLane.CONTROL);
+  }
+
+  @Test
+  public void shouldUseSeparateChannelsPerLane() {
+    // given
+    final ChannelPool pool =
+        new ChannelPool(ChannelPoolTest::neverConnect, SIZE, BULK_SIZE, List.of("install"));
+
+    // when
+    final int bulkOffset = pool.getChannelOffset("raft-partition-partition-1-install");
+    final int controlOffset = pool.getChannelOffset("raft-partition-partition-1-append");
+
+    // then
+    assertThat(bulkOffset).isBetween(SIZE, SIZE + BULK_SIZE - 1);
+    assertThat(controlOffset).isBetween(0, SIZE - 1);
+  }
+
+  private static CompletableFuture<Channel> neverConnect(final Address address) {
+    return new CompletableFuture<>();
+  }
+}
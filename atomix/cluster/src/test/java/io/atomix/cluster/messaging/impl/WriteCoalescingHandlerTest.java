@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.time.Duration;
+import org.junit.Test;
+
+public class WriteCoalescingHandlerTest {
+
+  @Test
+  public void shouldFlushWritesOfSameTickTogether() {
+    // given
+    final var channel = new EmbeddedChannel(new WriteCoalescingHandler(128, 0));
+
+    // when
+    channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {1}));
+    channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {2}));
+    channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {3}));
+
+    // then
+    assertThat(channel.outboundMessages()).isEmpty();
+    channel.runPendingTasks();
+    assertThat(channel.outboundMessages()).hasSize(3);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void shouldFlushRightAwayIfMaxCoalescedMessagesReached() {
+    // given
+    final var channel = new EmbeddedChannel(new WriteCoalescingHandler(2, 0));
+
+    // when
+    channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {1}));
+    channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {2}));
+
+    // then
+    assertThat(channel.outboundMessages()).hasSize(2);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void shouldFlushPendingWritesOnClose() {
+    // given
+    final var channel = new EmbeddedChannel(new WriteCoalescingHandler(128, 0));
+    channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {1}));
+
+    // when
+    channel.close();
+
+    // then
+    assertThat(channel.outboundMessages()).hasSize(1);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void shouldFlushRightAwayIfIdle() {
+    // given
+    final var channel =
+        new EmbeddedChannel(new WriteCoalescingHandler(128, Duration.ofHours(1).toNanos()));
+
+    // when
+    channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {1}));
+
+    // then
+    assertThat(channel.outboundMessages()).hasSize(1);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void shouldDelayFlushIfNotIdle() {
+    // given
+    final var channel =
+        new EmbeddedChannel(new WriteCoalescingHandler(128, Duration.ofHours(1).toNanos()));
+    channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {1}));
+
+    // when
+    channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {2}));
+    channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {3}));
+
+    // then
+    assertThat(channel.outboundMessages()).hasSize(1);
+    channel.close();
+    assertThat(channel.outboundMessages()).hasSize(3);
+    channel.finishAndReleaseAll();
+  }
+}
@@ -268,6 +268,25 @@ public class AtomixBuilder extends AtomixClusterBuilder {
     return this;
   }
 
+  @Override
+  public AtomixBuilder withBulkConnections(final int bulkConnectionPoolSize) {
+    super.withBulkConnections(bulkConnectionPoolSize);
+    return this;
+  }
+
+  @Override
+  public AtomixBuilder withWriteCoalescing(
+      final int maxCoalescedMessages, final Duration maxFlushDelay) {
+    super.withWriteCoalescing(maxCoalescedMessages, maxFlushDelay);
+    return this;
+  }
+
+  @Override
+  public AtomixBuilder withCompression(final int compressionThreshold) {
+    super.withCompression(compressionThreshold);
+    return this;
+  }
+
   @Override
   public AtomixBuilder setBroadcastInterval(final Duration interval) {
     super.setBroadcastInterval(interval);
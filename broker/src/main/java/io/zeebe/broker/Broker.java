@@ -66,6 +66,7 @@ import io.zeebe.engine.processing.EngineProcessors;
 import io.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.zeebe.engine.processing.streamprocessor.ProcessingContext;
 import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.logstreams.impl.log.ZeebeEntryValidator;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.storage.atomix.ZeebeIndexAdapter;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
@@ -119,6 +120,7 @@ public final class Broker implements AutoCloseable {
   private Atomix atomix;
   private CompletableFuture<Broker> startFuture;
   private TopologyManagerImpl topologyManager;
+  private PartitionAwareRequestLimiter requestLimiter;
   private LeaderManagementRequestHandler managementRequestHandler;
   private CommandApiService commandHandler;
   private ActorScheduler scheduler;
@@ -200,13 +202,18 @@ public final class Broker implements AutoCloseable {
         new BrokerInfo(
             clusterCfg.getNodeId(),
             SocketUtil.toHostAndPortString(networkCfg.getCommandApi().getAdvertisedAddress()));
+    if (brokerCfg.getGateway().isEnable()) {
+      // clients route requests of a partition to the gateway embedded in the partition's leader
+      localBroker.setGatewayAddress(
+          networkCfg.getAdvertisedHost() + ":" + brokerCfg.getGateway().getNetwork().getPort());
+    }
 
     final StartProcess startContext = new StartProcess("Broker-" + localBroker.getNodeId());
 
     startContext.addStep("actor scheduler", this::actorSchedulerStep);
     startContext.addStep("membership and replication protocol", () -> atomixCreateStep(brokerCfg));
     startContext.addStep(
-        "command api transport", () -> commandApiTransportStep(clusterCfg, localBroker));
+        "command api transport", () -> commandApiTransportStep(brokerCfg, localBroker));
     startContext.addStep(
         "command api handler", () -> commandApiHandlerStep(brokerCfg, localBroker));
     startContext.addStep("subscription api", () -> subscriptionAPIStep(localBroker));
@@ -251,7 +258,8 @@ public final class Broker implements AutoCloseable {
   private AutoCloseable atomixCreateStep(final BrokerCfg brokerCfg) {
     final var snapshotStoreFactory = new FileBasedSnapshotStoreFactory();
     snapshotStoreSupplier = snapshotStoreFactory;
-    atomix = AtomixFactory.fromConfiguration(brokerCfg, snapshotStoreFactory);
+    final var entryValidator = new ZeebeEntryValidator();
+    atomix = AtomixFactory.fromConfiguration(brokerCfg, snapshotStoreFactory, entryValidator);
 
     final var partitionGroup =
         (RaftPartitionGroup)
@@ -268,18 +276,30 @@ public final class Broker implements AutoCloseable {
               raftPartition.setJournalIndexFactory(() -> zeebeIndex);
             });
 
-    return () ->
-        atomix.stop().get(brokerContext.getStepTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    return () -> {
+      atomix.stop().get(brokerContext.getStepTimeout().toMillis(), TimeUnit.MILLISECONDS);
+      entryValidator.close();
+    };
   }
 
   private AutoCloseable commandApiTransportStep(
-      final ClusterCfg clusterCfg, final BrokerInfo localBroker) {
+      final BrokerCfg brokerCfg, final BrokerInfo localBroker) {
+
+    final var clusterCfg = brokerCfg.getCluster();
 
+    final var experimentalCfg = brokerCfg.getExperimental();
+    final var messagingConfig =
+        new MessagingConfig()
+            .setWriteCoalescingEnabled(experimentalCfg.isEnableWriteCoalescing())
+            .setMaxCoalescedMessages(experimentalCfg.getMaxCoalescedMessages())
+            .setMaxFlushDelay(experimentalCfg.getMaxFlushDelay())
+            .setCompressionEnabled(experimentalCfg.isEnableMessageCompression())
+            .setCompressionThreshold(experimentalCfg.getMessageCompressionThresholdInBytes());
     final var nettyMessagingService =
         new NettyMessagingService(
             clusterCfg.getClusterName(),
             Address.from(localBroker.getCommandApiAddress()),
-            new MessagingConfig());
+            messagingConfig);
 
     nettyMessagingService.start().join();
     LOG.debug("Bound command API to {} ", nettyMessagingService.address());
@@ -298,12 +318,12 @@ public final class Broker implements AutoCloseable {
       final BrokerCfg brokerCfg, final BrokerInfo localBroker) {
 
     final BackpressureCfg backpressureCfg = brokerCfg.getBackpressure();
-    PartitionAwareRequestLimiter limiter = PartitionAwareRequestLimiter.newNoopLimiter();
+    requestLimiter = PartitionAwareRequestLimiter.newNoopLimiter();
     if (backpressureCfg.isEnabled()) {
-      limiter = PartitionAwareRequestLimiter.newLimiter(backpressureCfg);
+      requestLimiter = PartitionAwareRequestLimiter.newLimiter(backpressureCfg);
     }
 
-    commandHandler = new CommandApiService(serverTransport, localBroker, limiter);
+    commandHandler = new CommandApiService(serverTransport, localBroker, requestLimiter);
     partitionListeners.add(commandHandler);
     scheduleActor(commandHandler);
     diskSpaceUsageListeners.add(commandHandler);
@@ -332,7 +352,7 @@ public final class Broker implements AutoCloseable {
 
   private AutoCloseable topologyManagerStep(
       final ClusterCfg clusterCfg, final BrokerInfo localBroker) {
-    topologyManager = new TopologyManagerImpl(atomix, localBroker, clusterCfg);
+    topologyManager = new TopologyManagerImpl(atomix, localBroker, clusterCfg, requestLimiter);
     partitionListeners.add(topologyManager);
     scheduleActor(topologyManager);
     return topologyManager;
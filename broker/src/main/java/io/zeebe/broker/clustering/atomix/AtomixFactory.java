@@ -18,6 +18,7 @@ import io.atomix.core.AtomixBuilder;
 import io.atomix.core.AtomixConfig;
 import io.atomix.raft.partition.RaftPartitionGroup;
 import io.atomix.raft.partition.RaftPartitionGroup.Builder;
+import io.atomix.raft.zeebe.EntryValidator;
 import io.atomix.utils.net.Address;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.system.configuration.BrokerCfg;
@@ -43,6 +44,17 @@ public final class AtomixFactory {
 
   public static Atomix fromConfiguration(
       final BrokerCfg configuration, final ReceivableSnapshotStoreFactory snapshotStoreFactory) {
+    return fromConfiguration(configuration, snapshotStoreFactory, new ZeebeEntryValidator());
+  }
+
+  /**
+   * @param entryValidator validates the entries appended to the raft log of all partitions; it is
+   *     not closed by Atomix and must be closed by the caller after Atomix is stopped
+   */
+  public static Atomix fromConfiguration(
+      final BrokerCfg configuration,
+      final ReceivableSnapshotStoreFactory snapshotStoreFactory,
+      final EntryValidator entryValidator) {
     final var clusterCfg = configuration.getCluster();
     final var nodeId = clusterCfg.getNodeId();
     final var localMemberId = Integer.toString(nodeId);
@@ -77,12 +89,25 @@ public final class AtomixFactory {
                     networkCfg.getInternalApi().getAdvertisedPort()))
             .withMembershipProvider(discoveryProvider);
 
+    final var experimentalCfg = configuration.getExperimental();
+    if (experimentalCfg.isEnableWriteCoalescing()) {
+      atomixBuilder.withWriteCoalescing(
+          experimentalCfg.getMaxCoalescedMessages(), experimentalCfg.getMaxFlushDelay());
+    }
+    if (experimentalCfg.getBulkConnectionPoolSize() > 0) {
+      atomixBuilder.withBulkConnections(experimentalCfg.getBulkConnectionPoolSize());
+    }
+    if (experimentalCfg.isEnableMessageCompression()) {
+      atomixBuilder.withCompression(experimentalCfg.getMessageCompressionThresholdInBytes());
+    }
+
     final DataCfg dataConfiguration = configuration.getData();
     final String rootDirectory = dataConfiguration.getDirectory();
     IoUtil.ensureDirectoryExists(new File(rootDirectory), "Zeebe data directory");
 
     final RaftPartitionGroup partitionGroup =
-        createRaftPartitionGroup(configuration, rootDirectory, snapshotStoreFactory);
+        createRaftPartitionGroup(
+            configuration, rootDirectory, snapshotStoreFactory, entryValidator);
 
     return atomixBuilder.withPartitionGroups(partitionGroup).build();
   }
@@ -90,7 +115,8 @@ public final class AtomixFactory {
   private static RaftPartitionGroup createRaftPartitionGroup(
       final BrokerCfg configuration,
       final String rootDirectory,
-      final ReceivableSnapshotStoreFactory snapshotStoreFactory) {
+      final ReceivableSnapshotStoreFactory snapshotStoreFactory,
+      final EntryValidator entryValidator) {
 
     final File raftDirectory = new File(rootDirectory, AtomixFactory.GROUP_NAME);
     IoUtil.ensureDirectoryExists(raftDirectory, "Raft data directory");
@@ -110,7 +136,7 @@ public final class AtomixFactory {
             .withMaxAppendBatchSize((int) experimentalCfg.getMaxAppendBatchSizeInBytes())
             .withMaxAppendsPerFollower(experimentalCfg.getMaxAppendsPerFollower())
             .withStorageLevel(dataCfg.getAtomixStorageLevel())
-            .withEntryValidator(new ZeebeEntryValidator())
+            .withEntryValidator(entryValidator)
             .withFlushExplicitly(!experimentalCfg.isDisableExplicitRaftFlush())
             .withFreeDiskSpace(dataCfg.getFreeDiskSpaceReplicationWatermark());
 
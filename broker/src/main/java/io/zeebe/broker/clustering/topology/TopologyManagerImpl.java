@@ -15,13 +15,16 @@ import io.atomix.core.Atomix;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.PartitionListener;
 import io.zeebe.broker.system.configuration.ClusterCfg;
+import io.zeebe.broker.transport.backpressure.PartitionAwareRequestLimiter;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.zeebe.protocol.record.PartitionRole;
 import io.zeebe.util.LogUtil;
 import io.zeebe.util.VersionUtil;
 import io.zeebe.util.health.HealthStatus;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
@@ -33,18 +36,26 @@ import org.slf4j.Logger;
 public final class TopologyManagerImpl extends Actor
     implements TopologyManager, ClusterMembershipEventListener, PartitionListener {
   private static final Logger LOG = Loggers.CLUSTERING_LOGGER;
+  private static final Duration PARTITION_LOAD_INTERVAL = Duration.ofSeconds(1);
+  // the load is only gossiped again if it changed by at least this many percentage points
+  private static final int PARTITION_LOAD_CHANGE_THRESHOLD = 10;
 
   private final Int2ObjectHashMap<BrokerInfo> partitionLeaders = new Int2ObjectHashMap<>();
   private final Atomix atomix;
   private final BrokerInfo localBroker;
+  private final PartitionAwareRequestLimiter requestLimiter;
 
   private final List<TopologyPartitionListener> topologyPartitionListeners = new ArrayList<>();
   private final String actorName;
 
   public TopologyManagerImpl(
-      final Atomix atomix, final BrokerInfo localBroker, final ClusterCfg clusterCfg) {
+      final Atomix atomix,
+      final BrokerInfo localBroker,
+      final ClusterCfg clusterCfg,
+      final PartitionAwareRequestLimiter requestLimiter) {
     this.atomix = atomix;
     this.localBroker = localBroker;
+    this.requestLimiter = requestLimiter;
     localBroker
         .setClusterSize(clusterCfg.getClusterSize())
         .setPartitionsCount(clusterCfg.getPartitionsCount())
@@ -88,6 +99,7 @@ public final class TopologyManagerImpl extends Actor
         .getMembershipService()
         .getMembers()
         .forEach(m -> event(new ClusterMembershipEvent(Type.MEMBER_ADDED, m)));
+    actor.runAtFixedRate(PARTITION_LOAD_INTERVAL, this::updatePartitionLoad);
   }
 
   public ActorFuture<Void> setLeader(final long term, final int partitionId) {
@@ -244,6 +256,30 @@ public final class TopologyManagerImpl extends Actor
     localBroker.writeIntoProperties(memberProperties);
   }
 
+  // Publishes the load of the led partitions, such that gateways can prefer less loaded partitions
+  private void updatePartitionLoad() {
+    boolean changed = false;
+
+    for (final var entry : localBroker.getPartitionRoles().entrySet()) {
+      if (entry.getValue() != PartitionRole.LEADER) {
+        continue;
+      }
+
+      final int partitionId = entry.getKey();
+      final int load = requestLimiter.getInflightUsage(partitionId);
+      final Integer publishedLoad = localBroker.getPartitionLoads().get(partitionId);
+      if (publishedLoad == null
+          || Math.abs(publishedLoad - load) >= PARTITION_LOAD_CHANGE_THRESHOLD) {
+        localBroker.setPartitionLoad(partitionId, load);
+        changed = true;
+      }
+    }
+
+    if (changed) {
+      publishTopologyChanges();
+    }
+  }
+
   @Override
   public void removeTopologyPartitionListener(final TopologyPartitionListener listener) {
     actor.run(() -> topologyPartitionListeners.remove(listener));
@@ -15,6 +15,7 @@ import io.zeebe.broker.system.configuration.ClusterCfg;
 import io.zeebe.broker.system.configuration.DataCfg;
 import io.zeebe.broker.system.configuration.ThreadsCfg;
 import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.CpuAffinity;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
 import java.util.Collections;
@@ -138,10 +139,22 @@ public final class SystemContext {
         .setActorClock(clock)
         .setCpuBoundActorThreadCount(cpuThreads)
         .setIoBoundActorThreadCount(ioThreads)
+        .setThreadAffinityEnabled(cfg.isPartitionAffinity())
+        .setCpuAffinity(getCpuAffinity(cfg))
+        .setIdleStrategy(cfg.getIdleStrategy())
+        .setMaxIdleParkPeriod(cfg.getMaxIdleParkPeriod())
         .setSchedulerName(brokerId)
         .build();
   }
 
+  private CpuAffinity getCpuAffinity(final ThreadsCfg cfg) {
+    if (cfg.hasNumaNode()) {
+      return CpuAffinity.ofNumaNode(cfg.getNumaNode());
+    }
+
+    return CpuAffinity.ofCpuList(cfg.getCpuSet());
+  }
+
   public ActorScheduler getScheduler() {
     return scheduler;
   }
@@ -29,6 +29,7 @@ public final class DataCfg implements ConfigurationEntry {
   private static final double DEFAULT_DISK_USAGE_REPLICATION_WATERMARK = 0.99;
   private static final double DEFAULT_DISK_USAGE_COMMAND_WATERMARK = 0.97;
   private static final Duration DEFAULT_DISK_USAGE_MONITORING_DELAY = Duration.ofSeconds(1);
+  private static final long DEFAULT_SNAPSHOT_RECORD_THRESHOLD = 5_000_000L;
   private static final double DISABLED_DISK_USAGE_WATERMARK = 1.0;
 
   /**
@@ -44,6 +45,8 @@ public final class DataCfg implements ConfigurationEntry {
 
   private Duration snapshotPeriod = Duration.ofMinutes(5);
 
+  private long snapshotRecordThreshold = DEFAULT_SNAPSHOT_RECORD_THRESHOLD;
+
   private int logIndexDensity = 100;
 
   private boolean useMmap = true;
@@ -125,6 +128,14 @@ public final class DataCfg implements ConfigurationEntry {
     this.snapshotPeriod = snapshotPeriod;
   }
 
+  public long getSnapshotRecordThreshold() {
+    return snapshotRecordThreshold;
+  }
+
+  public void setSnapshotRecordThreshold(final long snapshotRecordThreshold) {
+    this.snapshotRecordThreshold = snapshotRecordThreshold;
+  }
+
   public int getLogIndexDensity() {
     return logIndexDensity;
   }
@@ -204,6 +215,8 @@ public final class DataCfg implements ConfigurationEntry {
         + logSegmentSize
         + ", snapshotPeriod="
         + snapshotPeriod
+        + ", snapshotRecordThreshold="
+        + snapshotRecordThreshold
         + ", logIndexDensity="
         + logIndexDensity
         + ", useMmap="
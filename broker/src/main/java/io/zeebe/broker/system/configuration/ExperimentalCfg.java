@@ -7,6 +7,7 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import java.time.Duration;
 import java.util.Optional;
 import org.springframework.util.unit.DataSize;
 
@@ -21,11 +22,27 @@ public class ExperimentalCfg {
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
   private static final boolean DEFAULT_DETECT_REPROCESSING_INCONSISTENCY = false;
+  private static final int DEFAULT_MAX_COALESCED_MESSAGES = 128;
+  private static final Duration DEFAULT_MAX_FLUSH_DELAY = Duration.ZERO;
+  private static final DataSize DEFAULT_COMPRESSION_THRESHOLD = DataSize.ofKilobytes(32);
+  private static final DataSize MAX_WRITE_BUFFER_SIZE = DataSize.ofGigabytes(1);
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
   private boolean detectReprocessingInconsistency = DEFAULT_DETECT_REPROCESSING_INCONSISTENCY;
+  private boolean enableWriteCoalescing = false;
+  private int maxCoalescedMessages = DEFAULT_MAX_COALESCED_MESSAGES;
+  private Duration maxFlushDelay = DEFAULT_MAX_FLUSH_DELAY;
+  private boolean enableMessageCompression = false;
+  private DataSize messageCompressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+  private boolean enableLogCompression = false;
+  private DataSize logCompressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+  private int bulkConnectionPoolSize = 0;
+  private int commandTracingSampleRate = 0;
+  private DataSize writeBufferSize;
+  private boolean enableMappedWriteBuffer = false;
+  private DataSize largeVariableThreshold;
 
   public int getMaxAppendsPerFollower() {
     return maxAppendsPerFollower;
@@ -63,6 +80,132 @@ public class ExperimentalCfg {
     this.detectReprocessingInconsistency = detectReprocessingInconsistency;
   }
 
+  public boolean isEnableWriteCoalescing() {
+    return enableWriteCoalescing;
+  }
+
+  public void setEnableWriteCoalescing(final boolean enableWriteCoalescing) {
+    this.enableWriteCoalescing = enableWriteCoalescing;
+  }
+
+  public int getMaxCoalescedMessages() {
+    return maxCoalescedMessages;
+  }
+
+  public void setMaxCoalescedMessages(final int maxCoalescedMessages) {
+    this.maxCoalescedMessages = maxCoalescedMessages;
+  }
+
+  public Duration getMaxFlushDelay() {
+    return maxFlushDelay;
+  }
+
+  public void setMaxFlushDelay(final Duration maxFlushDelay) {
+    this.maxFlushDelay = maxFlushDelay;
+  }
+
+  public boolean isEnableMessageCompression() {
+    return enableMessageCompression;
+  }
+
+  public void setEnableMessageCompression(final boolean enableMessageCompression) {
+    this.enableMessageCompression = enableMessageCompression;
+  }
+
+  public DataSize getMessageCompressionThreshold() {
+    return messageCompressionThreshold;
+  }
+
+  public void setMessageCompressionThreshold(final DataSize messageCompressionThreshold) {
+    this.messageCompressionThreshold = messageCompressionThreshold;
+  }
+
+  public int getMessageCompressionThresholdInBytes() {
+    return (int)
+        Optional.ofNullable(messageCompressionThreshold)
+            .orElse(DEFAULT_COMPRESSION_THRESHOLD)
+            .toBytes();
+  }
+
+  public boolean isEnableLogCompression() {
+    return enableLogCompression;
+  }
+
+  public void setEnableLogCompression(final boolean enableLogCompression) {
+    this.enableLogCompression = enableLogCompression;
+  }
+
+  public DataSize getLogCompressionThreshold() {
+    return logCompressionThreshold;
+  }
+
+  public void setLogCompressionThreshold(final DataSize logCompressionThreshold) {
+    this.logCompressionThreshold = logCompressionThreshold;
+  }
+
+  public int getLogCompressionThresholdInBytes() {
+    return (int)
+        Optional.ofNullable(logCompressionThreshold)
+            .orElse(DEFAULT_COMPRESSION_THRESHOLD)
+            .toBytes();
+  }
+
+  public int getBulkConnectionPoolSize() {
+    return bulkConnectionPoolSize;
+  }
+
+  public void setBulkConnectionPoolSize(final int bulkConnectionPoolSize) {
+    this.bulkConnectionPoolSize = bulkConnectionPoolSize;
+  }
+
+  public int getCommandTracingSampleRate() {
+    return commandTracingSampleRate;
+  }
+
+  public void setCommandTracingSampleRate(final int commandTracingSampleRate) {
+    this.commandTracingSampleRate = commandTracingSampleRate;
+  }
+
+  public DataSize getWriteBufferSize() {
+    return writeBufferSize;
+  }
+
+  public void setWriteBufferSize(final DataSize writeBufferSize) {
+    this.writeBufferSize = writeBufferSize;
+  }
+
+  public int getWriteBufferSizeInBytes() {
+    if (writeBufferSize == null) {
+      return -1;
+    }
+
+    return (int) Math.min(writeBufferSize.toBytes(), MAX_WRITE_BUFFER_SIZE.toBytes());
+  }
+
+  public boolean isEnableMappedWriteBuffer() {
+    return enableMappedWriteBuffer;
+  }
+
+  public void setEnableMappedWriteBuffer(final boolean enableMappedWriteBuffer) {
+    this.enableMappedWriteBuffer = enableMappedWriteBuffer;
+  }
+
+  public DataSize getLargeVariableThreshold() {
+    return largeVariableThreshold;
+  }
+
+  public void setLargeVariableThreshold(final DataSize largeVariableThreshold) {
+    this.largeVariableThreshold = largeVariableThreshold;
+  }
+
+  public int getLargeVariableThresholdInBytes() {
+    if (largeVariableThreshold == null) {
+      return 0;
+    }
+
+    return (int) Math.min(largeVariableThreshold.toBytes(), Integer.MAX_VALUE);
+  }
+
   @Override
   public String toString() {
     return "ExperimentalCfg{"
@@ -74,6 +217,30 @@ public class ExperimentalCfg {
         + disableExplicitRaftFlush
         + ", detectReprocessingInconsistency="
         + detectReprocessingInconsistency
+        + ", enableWriteCoalescing="
+        + enableWriteCoalescing
+        + ", maxCoalescedMessages="
+        + maxCoalescedMessages
+        + ", maxFlushDelay="
+        + maxFlushDelay
+        + ", enableMessageCompression="
+        + enableMessageCompression
+        + ", messageCompressionThreshold="
+        + messageCompressionThreshold
+        + ", enableLogCompression="
+        + enableLogCompression
+        + ", logCompressionThreshold="
+        + logCompressionThreshold
+        + ", bulkConnectionPoolSize="
+        + bulkConnectionPoolSize
+        + ", commandTracingSampleRate="
+        + commandTracingSampleRate
+        + ", writeBufferSize="
+        + writeBufferSize
+        + ", enableMappedWriteBuffer="
+        + enableMappedWriteBuffer
+        + ", largeVariableThreshold="
+        + largeVariableThreshold
         + '}';
   }
 }
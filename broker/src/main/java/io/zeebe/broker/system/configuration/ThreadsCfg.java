@@ -7,9 +7,20 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import io.zeebe.util.sched.ActorIdleStrategy;
+import java.time.Duration;
+
 public final class ThreadsCfg implements ConfigurationEntry {
+  private static final int NO_NUMA_NODE = -1;
+  private static final Duration DEFAULT_MAX_IDLE_PARK_PERIOD = Duration.ofMillis(1);
+
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private boolean partitionAffinity = false;
+  private String cpuSet;
+  private int numaNode = NO_NUMA_NODE;
+  private ActorIdleStrategy idleStrategy = ActorIdleStrategy.BACKOFF;
+  private Duration maxIdleParkPeriod = DEFAULT_MAX_IDLE_PARK_PERIOD;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +38,50 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public boolean isPartitionAffinity() {
+    return partitionAffinity;
+  }
+
+  public void setPartitionAffinity(final boolean partitionAffinity) {
+    this.partitionAffinity = partitionAffinity;
+  }
+
+  public String getCpuSet() {
+    return cpuSet;
+  }
+
+  public void setCpuSet(final String cpuSet) {
+    this.cpuSet = cpuSet;
+  }
+
+  public int getNumaNode() {
+    return numaNode;
+  }
+
+  public void setNumaNode(final int numaNode) {
+    this.numaNode = numaNode;
+  }
+
+  public boolean hasNumaNode() {
+    return numaNode != NO_NUMA_NODE;
+  }
+
+  public ActorIdleStrategy getIdleStrategy() {
+    return idleStrategy;
+  }
+
+  public void setIdleStrategy(final ActorIdleStrategy idleStrategy) {
+    this.idleStrategy = idleStrategy;
+  }
+
+  public Duration getMaxIdleParkPeriod() {
+    return maxIdleParkPeriod;
+  }
+
+  public void setMaxIdleParkPeriod(final Duration maxIdleParkPeriod) {
+    this.maxIdleParkPeriod = maxIdleParkPeriod;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +89,17 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", partitionAffinity="
+        + partitionAffinity
+        + ", cpuSet='"
+        + cpuSet
+        + '\''
+        + ", numaNode="
+        + numaNode
+        + ", idleStrategy="
+        + idleStrategy
+        + ", maxIdleParkPeriod="
+        + maxIdleParkPeriod
         + '}';
   }
 }
@@ -29,6 +29,14 @@ public class BrokerStepMetrics {
           .labelNames(STEP_NAME_LABEL)
           .register();
 
+  private static final Gauge RECOVERY_METRICS =
+      Gauge.build()
+          .namespace(ZEEBE_NAMESPACE)
+          .name("partition_recovery_step_latency")
+          .help("Time for each step to recover the state of a partition from a snapshot.")
+          .labelNames("partition", STEP_NAME_LABEL)
+          .register();
+
   /**
    * Meter the time to start for a single step.
    *
@@ -48,4 +56,16 @@ public class BrokerStepMetrics {
   public void observeDurationForCloseStep(String stepName, long closeDuration) {
     CLOSE_METRICS.labels(stepName).set(closeDuration);
   }
+
+  /**
+   * Meter the time of a single step to recover the state of a partition.
+   *
+   * @param partitionId the id of the recovered partition
+   * @param stepName the name of the step
+   * @param recoveryDuration the step duration in ms
+   */
+  public void observeDurationForRecoveryStep(
+      final int partitionId, final String stepName, final long recoveryDuration) {
+    RECOVERY_METRICS.labels(Integer.toString(partitionId), stepName).set(recoveryDuration);
+  }
 }
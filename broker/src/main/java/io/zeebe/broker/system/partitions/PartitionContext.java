@@ -28,6 +28,7 @@ import io.zeebe.util.health.HealthMonitor;
 import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.ScheduledTimer;
+import io.zeebe.util.trace.CommandTracer;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
@@ -49,6 +50,7 @@ public class PartitionContext {
   private final ZeebeIndexMapping zeebeIndexMapping;
   private final ExporterRepository exporterRepository;
   private final PartitionProcessingState partitionProcessingState;
+  private final CommandTracer commandTracer;
 
   private StreamProcessor streamProcessor;
   private LogStream logStream;
@@ -92,6 +94,9 @@ public class PartitionContext {
     this.zeebeIndexMapping = zeebeIndexMapping;
     this.exporterRepository = exporterRepository;
     this.partitionProcessingState = partitionProcessingState;
+    commandTracer =
+        CommandTracer.create(
+            partitionId, brokerCfg.getExperimental().getCommandTracingSampleRate());
   }
 
   public ExporterDirector getExporterDirector() {
@@ -246,6 +251,10 @@ public class PartitionContext {
     return commandApiService;
   }
 
+  public CommandTracer getCommandTracer() {
+    return commandTracer;
+  }
+
   public int getMaxFragmentSize() {
     return maxFragmentSize;
   }
@@ -21,6 +21,15 @@ public interface StateController extends AutoCloseable {
    */
   Optional<TransientSnapshot> takeTransientSnapshot(long lowerBoundSnapshotPosition);
 
+  /**
+   * Returns the position a snapshot taken now would be based on, which is the minimum of the given
+   * position and the lowest exported position.
+   *
+   * @param lowerBoundSnapshotPosition the lower bound snapshot position
+   * @return the snapshot position, or the given position if the database is not opened
+   */
+  long getSnapshotPosition(long lowerBoundSnapshotPosition);
+
   /** Registers to consumes replicated snapshots. */
   void consumeReplicatedSnapshots();
 
@@ -79,6 +79,8 @@ public final class ZeebePartition extends Actor
   private void onRoleChange(final Role newRole, final long newTerm) {
     ActorFuture<Void> nextTransitionFuture = null;
     term = newTerm;
+    // the commands written in the previous role are not processed by this partition anymore
+    context.getCommandTracer().reset();
     switch (newRole) {
       case LEADER:
         if (raftRole != Role.LEADER) {
@@ -192,8 +194,14 @@ public final class ZeebePartition extends Actor
 
   @Override
   public void onActorStarting() {
+    final var experimentalCfg = context.getBrokerCfg().getExperimental();
+    final int logCompressionThreshold =
+        experimentalCfg.isEnableLogCompression()
+            ? experimentalCfg.getLogCompressionThresholdInBytes()
+            : AtomixLogStorage.COMPRESSION_DISABLED;
     context.setAtomixLogStorage(
-        AtomixLogStorage.ofPartition(context.getZeebeIndexMapping(), context.getRaftPartition()));
+        AtomixLogStorage.ofPartition(
+            context.getZeebeIndexMapping(), context.getRaftPartition(), logCompressionThreshold));
     context.getRaftPartition().addRoleChangeListener(this);
     context.getComponentHealthMonitor().addFailureListener(this);
     onRoleChange(context.getRaftPartition().getRole(), context.getRaftPartition().term());
@@ -317,6 +325,10 @@ public final class ZeebePartition extends Actor
         () -> {
           context.setDiskSpaceAvailable(false);
           zeebePartitionHealth.setDiskSpaceAvailable(false);
+          if (context.getSnapshotDirector() != null) {
+            // a snapshot allows to compact the log
+            context.getSnapshotDirector().onDiskSpaceNotAvailable();
+          }
           if (context.getStreamProcessor() != null) {
             LOG.warn("Disk space usage is above threshold. Pausing stream processor.");
             context.getStreamProcessor().pauseProcessing();
@@ -330,6 +342,9 @@ public final class ZeebePartition extends Actor
         () -> {
           context.setDiskSpaceAvailable(true);
           zeebePartitionHealth.setDiskSpaceAvailable(false);
+          if (context.getSnapshotDirector() != null) {
+            context.getSnapshotDirector().onDiskSpaceAvailable();
+          }
           if (context.getStreamProcessor() != null && context.shouldProcess()) {
             LOG.info("Disk space usage is below threshold. Resuming stream processor.");
             context.getStreamProcessor().resumeProcessing();
@@ -7,20 +7,30 @@
  */
 package io.zeebe.broker.system.partitions.impl;
 
+import io.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
 import io.zeebe.broker.system.partitions.StateController;
+import io.zeebe.broker.system.partitions.impl.SnapshotPolicy.Decision;
 import io.zeebe.engine.processing.streamprocessor.StreamProcessor;
 import io.zeebe.logstreams.impl.Loggers;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.snapshots.raft.TransientSnapshot;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ActorCondition;
+import io.zeebe.util.sched.ScheduledTimer;
 import io.zeebe.util.sched.SchedulingHints;
+import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.time.Duration;
+import java.util.function.LongPredicate;
 import org.slf4j.Logger;
 
-public final class AsyncSnapshotDirector extends Actor {
+/**
+ * Takes the snapshots of a partition. When a snapshot is taken is decided by the {@link
+ * SnapshotPolicy}, which is evaluated on the snapshot period, on each commit and if the disk space
+ * is running out.
+ */
+public final class AsyncSnapshotDirector extends Actor implements DiskSpaceUsageListener {
 
   public static final Duration MINIMUM_SNAPSHOT_PERIOD = Duration.ofMinutes(1);
 
@@ -40,24 +50,34 @@ public final class AsyncSnapshotDirector extends Actor {
   private final String processorName;
   private final StreamProcessor streamProcessor;
   private final String actorName;
+  private final long snapshotRecordThreshold;
+  private final SnapshotPolicyMetrics policyMetrics;
 
   private ActorCondition commitCondition;
   private Long lastWrittenEventPosition;
   private TransientSnapshot pendingSnapshot;
   private long lowerBoundSnapshotPosition;
+  private long snapshotPosition;
   private boolean takingSnapshot;
+  private SnapshotPolicy policy;
+  private ScheduledTimer delayedPolicyCheck;
+  private long lastCommitPosition = -1L;
+  private long snapshotCommitPosition;
 
   public AsyncSnapshotDirector(
       final int nodeId,
       final StreamProcessor streamProcessor,
       final StateController stateController,
       final LogStream logStream,
-      final Duration snapshotRate) {
+      final Duration snapshotRate,
+      final long snapshotRecordThreshold) {
     this.streamProcessor = streamProcessor;
     this.stateController = stateController;
     this.logStream = logStream;
     processorName = streamProcessor.getName();
     this.snapshotRate = snapshotRate;
+    this.snapshotRecordThreshold = snapshotRecordThreshold;
+    policyMetrics = new SnapshotPolicyMetrics(Integer.toString(logStream.getPartitionId()));
     actorName = buildActorName(nodeId, "SnapshotDirector-" + logStream.getPartitionId());
   }
 
@@ -66,9 +86,17 @@ public final class AsyncSnapshotDirector extends Actor {
     return actorName;
   }
 
+  @Override
+  public int getAffinityKey() {
+    return logStream.getPartitionId();
+  }
+
   @Override
   protected void onActorStarting() {
     actor.setSchedulingHints(SchedulingHints.ioBound());
+    policy =
+        new SnapshotPolicy(
+            MINIMUM_SNAPSHOT_PERIOD, snapshotRecordThreshold, ActorClock.currentTimeMillis());
     final var firstSnapshotTime =
         RandomDuration.getRandomDurationMinuteBased(MINIMUM_SNAPSHOT_PERIOD, snapshotRate);
     actor.runDelayed(firstSnapshotTime, this::scheduleSnapshotOnRate);
@@ -92,9 +120,64 @@ public final class AsyncSnapshotDirector extends Actor {
     return super.closeAsync();
   }
 
+  @Override
+  public void onDiskSpaceNotAvailable() {
+    actor.call(
+        () -> {
+          policy.setDiskPressure(true);
+          checkPolicyOnProgress();
+        });
+  }
+
+  @Override
+  public void onDiskSpaceAvailable() {
+    actor.call(() -> policy.setDiskPressure(false));
+  }
+
   private void scheduleSnapshotOnRate() {
-    actor.runAtFixedRate(snapshotRate, this::prepareTakingSnapshot);
-    prepareTakingSnapshot();
+    actor.runAtFixedRate(snapshotRate, this::checkPolicyOnPeriod);
+    checkPolicyOnPeriod();
+  }
+
+  private void checkPolicyOnPeriod() {
+    if (takingSnapshot) {
+      return;
+    }
+
+    // the decision depends on the snapshot position, which is only known once the last processed
+    // position is resolved
+    prepareTakingSnapshot(
+        position -> {
+          final var decision = policy.onPeriod(ActorClock.currentTimeMillis(), position);
+          policyMetrics.decision(decision);
+          return decision.shouldTakeSnapshot();
+        });
+  }
+
+  private void checkPolicyOnProgress() {
+    if (takingSnapshot || lastCommitPosition < 0) {
+      return;
+    }
+
+    final var now = ActorClock.currentTimeMillis();
+    final var decision = policy.onProgress(now, lastCommitPosition);
+    policyMetrics.setRecordsSinceSnapshot(policy.getRecordsSinceSnapshot(lastCommitPosition));
+
+    if (decision == Decision.DELAY_MIN_INTERVAL) {
+      if (delayedPolicyCheck == null) {
+        policyMetrics.decision(decision);
+        delayedPolicyCheck =
+            actor.runDelayed(
+                Duration.ofMillis(policy.getRemainingMinInterval(now)),
+                () -> {
+                  delayedPolicyCheck = null;
+                  checkPolicyOnProgress();
+                });
+      }
+    } else if (decision.shouldTakeSnapshot()) {
+      policyMetrics.decision(decision);
+      prepareTakingSnapshot();
+    }
   }
 
   private String getConditionNameForPosition() {
@@ -102,10 +185,24 @@ public final class AsyncSnapshotDirector extends Actor {
   }
 
   public void forceSnapshot() {
-    actor.call(this::prepareTakingSnapshot);
+    actor.call(
+        () -> {
+          if (!takingSnapshot) {
+            policyMetrics.decision(Decision.TAKE_ON_REQUEST);
+            prepareTakingSnapshot();
+          }
+        });
   }
 
   private void prepareTakingSnapshot() {
+    prepareTakingSnapshot(position -> true);
+  }
+
+  /**
+   * @param shouldTakeSnapshot decides with the position the snapshot would have whether the
+   *     snapshot is taken
+   */
+  private void prepareTakingSnapshot(final LongPredicate shouldTakeSnapshot) {
     if (takingSnapshot) {
       return;
     }
@@ -123,7 +220,15 @@ public final class AsyncSnapshotDirector extends Actor {
               return;
             }
 
+            final long position = stateController.getSnapshotPosition(lastProcessedPosition);
+            if (!shouldTakeSnapshot.test(position)) {
+              takingSnapshot = false;
+              return;
+            }
+
+            policy.onSnapshotStarted(ActorClock.currentTimeMillis());
             lowerBoundSnapshotPosition = lastProcessedPosition;
+            snapshotPosition = position;
             takeSnapshot();
           } else {
             LOG.error(ERROR_MSG_ON_RESOLVE_PROCESSED_POS, error);
@@ -140,6 +245,7 @@ public final class AsyncSnapshotDirector extends Actor {
         .onComplete(
             (commitPosition, errorOnRetrievingCommitPosition) -> {
               if (errorOnRetrievingCommitPosition == null) {
+                snapshotCommitPosition = commitPosition;
                 final var optionalPendingSnapshot =
                     stateController.takeTransientSnapshot(tempSnapshotPosition);
                 if (optionalPendingSnapshot.isEmpty()) {
@@ -180,12 +286,26 @@ public final class AsyncSnapshotDirector extends Actor {
         .getCommitPositionAsync()
         .onComplete(
             (currentCommitPosition, error) -> {
+              if (error != null) {
+                if (pendingSnapshot != null) {
+                  // the snapshot is taken again on the next trigger
+                  LOG.error("Unexpected error on retrieving commit position", error);
+                  pendingSnapshot.abort();
+                  pendingSnapshot = null;
+                  lastWrittenEventPosition = null;
+                  takingSnapshot = false;
+                }
+                return;
+              }
+
+              lastCommitPosition = currentCommitPosition;
               if (pendingSnapshot != null
                   && lastWrittenEventPosition != null
                   && currentCommitPosition >= lastWrittenEventPosition) {
 
                 try {
                   final var snapshot = pendingSnapshot.persist();
+                  policy.onSnapshotPersisted(snapshotCommitPosition, snapshotPosition);
 
                   LOG.info(
                       "Current commit position {} is greater than {}, snapshot {} is valid and has been persisted.",
@@ -199,6 +319,8 @@ public final class AsyncSnapshotDirector extends Actor {
                   takingSnapshot = false;
                   pendingSnapshot = null;
                 }
+              } else {
+                checkPolicyOnProgress();
               }
             });
   }
@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.partitions.impl;
+
+import java.time.Duration;
+
+/**
+ * Decides when the {@link AsyncSnapshotDirector} takes a snapshot. Besides the fixed snapshot
+ * period, a snapshot is taken as soon as the log grew by a given number of records since the last
+ * snapshot, which bounds the replay on recovery, or if the disk space is running out, such that the
+ * log can be compacted. Periodic snapshots are skipped if the snapshot position, i.e. the minimum
+ * of the last processed and the lowest exported position, did not advance since the last snapshot,
+ * since such a snapshot would neither shorten the replay nor allow to compact the log.
+ *
+ * <p>Snapshots are never taken more often than the minimum interval, which also bounds the I/O
+ * spent on snapshots.
+ */
+final class SnapshotPolicy {
+
+  private static final long UNKNOWN_POSITION = -1L;
+
+  private final long minIntervalMillis;
+  private final long recordThreshold;
+
+  private long lastSnapshotTime;
+  private long lastSnapshotPosition = UNKNOWN_POSITION;
+  private long lastSnapshotCommitPosition = UNKNOWN_POSITION;
+  private long recordBaselinePosition = UNKNOWN_POSITION;
+  private boolean diskPressure;
+
+  /**
+   * @param minInterval the minimum interval between two snapshots
+   * @param recordThreshold the number of records after which a snapshot is taken, or a value less
+   *     or equal to zero to disable this trigger
+   * @param startTime the time at which the director was started, in millis
+   */
+  SnapshotPolicy(final Duration minInterval, final long recordThreshold, final long startTime) {
+    minIntervalMillis = minInterval.toMillis();
+    this.recordThreshold = recordThreshold;
+    lastSnapshotTime = startTime;
+  }
+
+  /**
+   * Decides whether a snapshot should be taken on the fixed snapshot period.
+   *
+   * @param now the current time in millis
+   * @param snapshotPosition the position a snapshot taken now would have, i.e. the minimum of the
+   *     last processed and the lowest exported position
+   * @return the decision
+   */
+  Decision onPeriod(final long now, final long snapshotPosition) {
+    if (lastSnapshotPosition != UNKNOWN_POSITION && snapshotPosition <= lastSnapshotPosition) {
+      return Decision.SKIP_IDLE;
+    }
+
+    if (now - lastSnapshotTime < minIntervalMillis) {
+      return Decision.DELAY_MIN_INTERVAL;
+    }
+
+    return Decision.TAKE_ON_PERIOD;
+  }
+
+  /**
+   * Decides whether a snapshot should be taken because of the log growth or the disk pressure.
+   *
+   * @param now the current time in millis
+   * @param commitPosition the current commit position
+   * @return the decision
+   */
+  Decision onProgress(final long now, final long commitPosition) {
+    if (recordBaselinePosition == UNKNOWN_POSITION) {
+      // after a restart, only the records written since then are counted
+      recordBaselinePosition = commitPosition;
+    }
+
+    final Decision decision;
+    if (diskPressure && commitPosition > lastSnapshotCommitPosition) {
+      decision = Decision.TAKE_ON_DISK_PRESSURE;
+    } else if (recordThreshold > 0 && getRecordsSinceSnapshot(commitPosition) >= recordThreshold) {
+      decision = Decision.TAKE_ON_RECORDS;
+    } else {
+      return Decision.NONE;
+    }
+
+    return now - lastSnapshotTime < minIntervalMillis ? Decision.DELAY_MIN_INTERVAL : decision;
+  }
+
+  /**
+   * Called when a snapshot is started, regardless whether it succeeds, such that also failing
+   * attempts are bounded by the minimum interval.
+   *
+   * @param now the current time in millis
+   */
+  void onSnapshotStarted(final long now) {
+    lastSnapshotTime = now;
+  }
+
+  /**
+   * @param commitPosition the commit position at the time the snapshot was taken
+   * @param snapshotPosition the minimum of the last processed and the lowest exported position the
+   *     snapshot was taken for
+   */
+  void onSnapshotPersisted(final long commitPosition, final long snapshotPosition) {
+    lastSnapshotPosition = snapshotPosition;
+    lastSnapshotCommitPosition = commitPosition;
+    recordBaselinePosition = commitPosition;
+  }
+
+  void setDiskPressure(final boolean diskPressure) {
+    this.diskPressure = diskPressure;
+  }
+
+  long getRecordsSinceSnapshot(final long commitPosition) {
+    if (recordBaselinePosition == UNKNOWN_POSITION) {
+      return 0;
+    }
+
+    return Math.max(0, commitPosition - recordBaselinePosition);
+  }
+
+  /** @return the time in millis until the minimum interval since the last snapshot is over */
+  long getRemainingMinInterval(final long now) {
+    return Math.max(0, lastSnapshotTime + minIntervalMillis - now);
+  }
+
+  enum Decision {
+    TAKE_ON_PERIOD("period"),
+    TAKE_ON_RECORDS("records"),
+    TAKE_ON_DISK_PRESSURE("disk_pressure"),
+    TAKE_ON_REQUEST("request"),
+    SKIP_IDLE("skipped_idle"),
+    DELAY_MIN_INTERVAL("delayed_min_interval"),
+    NONE("none");
+
+    private final String label;
+
+    Decision(final String label) {
+      this.label = label;
+    }
+
+    boolean shouldTakeSnapshot() {
+      return this == TAKE_ON_PERIOD
+          || this == TAKE_ON_RECORDS
+          || this == TAKE_ON_DISK_PRESSURE
+          || this == TAKE_ON_REQUEST;
+    }
+
+    String getLabel() {
+      return label;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.partitions.impl;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.zeebe.broker.system.partitions.impl.SnapshotPolicy.Decision;
+
+/** Metrics of the decisions of the {@link SnapshotPolicy} */
+public class SnapshotPolicyMetrics {
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL_NAME = "partition";
+
+  private static final Counter DECISIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME, "decision")
+          .help("Number of decisions of the snapshot policy, by trigger or reason to skip")
+          .name("snapshot_policy_decisions_total")
+          .register();
+  private static final Gauge RECORDS_SINCE_SNAPSHOT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .help("Number of records written to the log since the last snapshot")
+          .name("snapshot_policy_records_since_snapshot")
+          .register();
+
+  private final String partitionId;
+
+  public SnapshotPolicyMetrics(final String partitionId) {
+    this.partitionId = partitionId;
+  }
+
+  void decision(final Decision decision) {
+    DECISIONS.labels(partitionId, decision.getLabel()).inc();
+  }
+
+  void setRecordsSinceSnapshot(final long records) {
+    RECORDS_SINCE_SNAPSHOT.labels(partitionId).set(records);
+  }
+}
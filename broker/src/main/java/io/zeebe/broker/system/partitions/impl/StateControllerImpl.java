@@ -7,6 +7,7 @@
  */
 package io.zeebe.broker.system.partitions.impl;
 
+import io.zeebe.broker.system.monitoring.BrokerStepMetrics;
 import io.zeebe.broker.system.partitions.AtomixRecordEntrySupplier;
 import io.zeebe.broker.system.partitions.SnapshotReplication;
 import io.zeebe.broker.system.partitions.StateController;
@@ -46,6 +47,8 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
   private final AtomixRecordEntrySupplier entrySupplier;
 
   private final SnapshotReplicationMetrics metrics;
+  private final BrokerStepMetrics stepMetrics = new BrokerStepMetrics();
+  private final int partitionId;
 
   private ZeebeDb db;
   private final ConstructableSnapshotStore constructableSnapshotStore;
@@ -67,6 +70,7 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
     this.exporterPositionSupplier = exporterPositionSupplier;
     this.entrySupplier = entrySupplier;
     this.replication = replication;
+    this.partitionId = partitionId;
     metrics = new SnapshotReplicationMetrics(Integer.toString(partitionId));
   }
 
@@ -101,6 +105,16 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
     return transientSnapshot;
   }
 
+  @Override
+  public long getSnapshotPosition(final long lowerBoundSnapshotPosition) {
+    if (!isDbOpened()) {
+      return lowerBoundSnapshotPosition;
+    }
+
+    final long exportedPosition = exporterPositionSupplier.applyAsLong(openDb());
+    return Math.min(exportedPosition, lowerBoundSnapshotPosition);
+  }
+
   @Override
   public void consumeReplicatedSnapshots() {
     replication.consume(this::consumeSnapshotChunk);
@@ -108,9 +122,11 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
 
   @Override
   public void recover() throws Exception {
+    long stepStart = System.currentTimeMillis();
 
     if (Files.exists(runtimeDirectory)) {
       FileUtil.deleteFolder(runtimeDirectory);
+      stepStart = observeRecoveryStep("delete runtime", stepStart);
     }
 
     final var optLatestSnapshot = constructableSnapshotStore.getLatestSnapshot();
@@ -118,11 +134,14 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
       final var snapshot = optLatestSnapshot.get();
       LOG.debug("Available snapshot: {}", snapshot);
 
-      FileUtil.copySnapshot(runtimeDirectory, snapshot.getPath());
+      // SST files are immutable, such that they can be shared with the snapshot
+      FileUtil.linkSnapshot(runtimeDirectory, snapshot.getPath());
+      stepStart = observeRecoveryStep("link snapshot", stepStart);
 
       try {
         // open database to verify that the snapshot is recoverable
         openDb();
+        observeRecoveryStep("open database", stepStart);
         LOG.debug("Recovered state from snapshot '{}'", snapshot);
       } catch (final Exception exception) {
         LOG.error(
@@ -136,6 +155,12 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
     }
   }
 
+  private long observeRecoveryStep(final String stepName, final long stepStart) {
+    final long now = System.currentTimeMillis();
+    stepMetrics.observeDurationForRecoveryStep(partitionId, stepName, now - stepStart);
+    return now;
+  }
+
   @Override
   public ZeebeDb openDb() {
     if (db == null) {
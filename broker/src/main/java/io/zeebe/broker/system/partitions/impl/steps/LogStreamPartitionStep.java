@@ -12,8 +12,10 @@ import io.zeebe.broker.system.partitions.PartitionStep;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.nio.file.Path;
 
 public class LogStreamPartitionStep implements PartitionStep {
+  private static final String WRITE_BUFFER_FILE = "write-buffer";
 
   @Override
   public ActorFuture<Void> open(final PartitionContext context) {
@@ -54,12 +56,21 @@ public class LogStreamPartitionStep implements PartitionStep {
   }
 
   private ActorFuture<LogStream> buildLogstream(final PartitionContext context) {
+    final var experimentalCfg = context.getBrokerCfg().getExperimental();
+    final Path writeBufferFile =
+        experimentalCfg.isEnableMappedWriteBuffer()
+            ? context.getRaftPartition().dataDirectory().toPath().resolve(WRITE_BUFFER_FILE)
+            : null;
+
     return LogStream.builder()
         .withLogStorage(context.getAtomixLogStorage())
         .withLogName("logstream-" + context.getRaftPartition().name())
         .withNodeId(context.getNodeId())
         .withPartitionId(context.getRaftPartition().id().id())
         .withMaxFragmentSize(context.getMaxFragmentSize())
+        .withWriteBufferSize(experimentalCfg.getWriteBufferSizeInBytes())
+        .withWriteBufferFile(writeBufferFile)
+        .withCommandTracer(context.getCommandTracer())
         .withActorScheduler(context.getScheduler())
         .buildAsync();
   }
@@ -17,14 +17,16 @@ public class SnapshotDirectorPartitionStep implements PartitionStep {
 
   @Override
   public ActorFuture<Void> open(final PartitionContext context) {
-    final Duration snapshotPeriod = context.getBrokerCfg().getData().getSnapshotPeriod();
+    final var dataCfg = context.getBrokerCfg().getData();
+    final Duration snapshotPeriod = dataCfg.getSnapshotPeriod();
     final AsyncSnapshotDirector snapshotDirector =
         new AsyncSnapshotDirector(
             context.getNodeId(),
             context.getStreamProcessor(),
             context.getSnapshotController(),
             context.getLogStream(),
-            snapshotPeriod);
+            snapshotPeriod,
+            dataCfg.getSnapshotRecordThreshold());
 
     context.setSnapshotDirector(snapshotDirector);
     return context.getScheduler().submitActor(snapshotDirector);
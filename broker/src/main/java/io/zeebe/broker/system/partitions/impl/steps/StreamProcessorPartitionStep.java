@@ -71,6 +71,8 @@ public class StreamProcessorPartitionStep implements PartitionStep {
         .commandResponseWriter(state.getCommandApiService().newCommandResponseWriter())
         .detectReprocessingInconsistency(
             state.getBrokerCfg().getExperimental().isDetectReprocessingInconsistency())
+        .largeVariableThreshold(
+            state.getBrokerCfg().getExperimental().getLargeVariableThresholdInBytes())
         .onProcessedListener(
             state.getCommandApiService().getOnProcessedListener(state.getPartitionId()))
         .streamProcessorFactory(
@@ -28,6 +28,22 @@ public final class BackpressureMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Counter DROPPED_REQUEST_BY_PRIORITY_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("backpressure_dropped_requests_by_priority_total")
+          .help("Number of requests dropped due to backpressure, by the priority of the command")
+          .labelNames("partition", "priority")
+          .register();
+
+  private static final Counter REQUEST_BY_PRIORITY_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("backpressure_requests_by_priority_total")
+          .help("Number of requests checked by the backpressure, by the priority of the command")
+          .labelNames("partition", "priority")
+          .register();
+
   private static final Gauge CURRENT_INFLIGHT =
       Gauge.build()
           .namespace("zeebe")
@@ -48,6 +64,16 @@ public final class BackpressureMetrics {
     DROPPED_REQUEST_COUNT.labels(String.valueOf(partitionId)).inc();
   }
 
+  public void dropped(final int partitionId, final CommandPriority priority) {
+    DROPPED_REQUEST_BY_PRIORITY_COUNT
+        .labels(String.valueOf(partitionId), priority.getLabel())
+        .inc();
+  }
+
+  public void receivedRequest(final int partitionId, final CommandPriority priority) {
+    REQUEST_BY_PRIORITY_COUNT.labels(String.valueOf(partitionId), priority.getLabel()).inc();
+  }
+
   public void receivedRequest(final int partitionId) {
     TOTAL_REQUEST_COUNT.labels(String.valueOf(partitionId)).inc();
   }
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.backpressure;
+
+import io.zeebe.protocol.record.intent.DeploymentIntent;
+import io.zeebe.protocol.record.intent.IncidentIntent;
+import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.protocol.record.intent.VariableDocumentIntent;
+import io.zeebe.protocol.record.intent.WorkflowInstanceCreationIntent;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The priority classes of the commands which are limited by the {@link CommandRateLimiter}. Under
+ * load, commands which finish work that is already in the system are preferred over commands which
+ * start new work. A command is only accepted while the in-flight requests are below the share of
+ * the current limit that is granted to its class, such that the remaining capacity is reserved for
+ * the classes with a higher priority.
+ */
+public enum CommandPriority {
+  /** Commands which complete work, e.g. job completion. They are never rejected. */
+  CRITICAL("critical", Double.POSITIVE_INFINITY),
+  /** Commands which resolve or cancel work that is in progress. */
+  HIGH("high", 1.0),
+  /** Commands which continue work, e.g. job activation or message publishing. */
+  NORMAL("normal", 0.9),
+  /** Commands which start new work, e.g. workflow instance creation. */
+  LOW("low", 0.75);
+
+  private static final Map<Intent, CommandPriority> PRIORITIES = new HashMap<>();
+
+  static {
+    PRIORITIES.put(JobIntent.COMPLETE, CRITICAL);
+    PRIORITIES.put(JobIntent.FAIL, CRITICAL);
+
+    PRIORITIES.put(JobIntent.THROW_ERROR, HIGH);
+    PRIORITIES.put(JobIntent.UPDATE_RETRIES, HIGH);
+    PRIORITIES.put(IncidentIntent.RESOLVE, HIGH);
+    PRIORITIES.put(WorkflowInstanceIntent.CANCEL, HIGH);
+    PRIORITIES.put(VariableDocumentIntent.UPDATE, HIGH);
+
+    PRIORITIES.put(WorkflowInstanceCreationIntent.CREATE, LOW);
+    PRIORITIES.put(WorkflowInstanceCreationIntent.CREATE_WITH_AWAITING_RESULT, LOW);
+    PRIORITIES.put(DeploymentIntent.CREATE, LOW);
+  }
+
+  private final String label;
+  private final double limitShare;
+  private final String rejectionMessage;
+
+  CommandPriority(final String label, final double limitShare) {
+    this.label = label;
+    this.limitShare = limitShare;
+    rejectionMessage =
+        String.format(
+            "Reached maximum capacity of requests handled for commands of priority '%s'", label);
+  }
+
+  /**
+   * @param intent the intent of the command
+   * @return the priority class of the command, {@link #NORMAL} if it has no specific class
+   */
+  public static CommandPriority of(final Intent intent) {
+    return PRIORITIES.getOrDefault(intent, NORMAL);
+  }
+
+  /**
+   * @param inflight the current number of in-flight requests
+   * @param limit the current limit of in-flight requests
+   * @return true if a command of this class is accepted
+   */
+  boolean isAccepted(final int inflight, final int limit) {
+    return inflight < limit * limitShare;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  /** @return the message which is sent to the client if a command of this class is rejected */
+  public String getRejectionMessage() {
+    return rejectionMessage;
+  }
+}
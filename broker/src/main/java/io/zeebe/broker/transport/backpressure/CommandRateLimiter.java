@@ -10,20 +10,21 @@ package io.zeebe.broker.transport.backpressure;
 import com.netflix.concurrency.limits.limiter.AbstractLimiter;
 import io.zeebe.broker.Loggers;
 import io.zeebe.protocol.record.intent.Intent;
-import io.zeebe.protocol.record.intent.JobIntent;
-import java.util.EnumSet;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
 
+/**
+ * Limits the in-flight commands of a partition. The commands are accepted by their {@link
+ * CommandPriority}, such that under load new work is rejected before work in progress.
+ */
 public final class CommandRateLimiter extends AbstractLimiter<Intent>
     implements RequestLimiter<Intent> {
 
-  private static final Set<? extends Intent> WHITE_LISTED_COMMANDS =
-      EnumSet.of(JobIntent.COMPLETE, JobIntent.FAIL);
-  private final Map<ListenerId, Listener> responseListeners = new ConcurrentHashMap<>();
+  // the listeners by request id, by stream id; access is synchronized on the map since the
+  // requests are acquired by the command API and released by the stream processor
+  private final Int2ObjectHashMap<Long2ObjectHashMap<Listener>> responseListeners =
+      new Int2ObjectHashMap<>();
   private final int partitionId;
   private final BackpressureMetrics metrics = new BackpressureMetrics();
 
@@ -36,7 +37,11 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
 
   @Override
   public Optional<Listener> acquire(final Intent intent) {
-    if (getInflight() >= getLimit() && !WHITE_LISTED_COMMANDS.contains(intent)) {
+    final CommandPriority priority = CommandPriority.of(intent);
+    metrics.receivedRequest(partitionId, priority);
+
+    if (!priority.isAccepted(getInflight(), getLimit())) {
+      metrics.dropped(partitionId, priority);
       return createRejectedListener();
     }
     final Listener listener = createListener();
@@ -45,7 +50,21 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
 
   private void registerListener(final int streamId, final long requestId, final Listener listener) {
     // assumes the pair <streamId, requestId> is unique.
-    responseListeners.put(new ListenerId(streamId, requestId), listener);
+    synchronized (responseListeners) {
+      Long2ObjectHashMap<Listener> streamListeners = responseListeners.get(streamId);
+      if (streamListeners == null) {
+        streamListeners = new Long2ObjectHashMap<>();
+        responseListeners.put(streamId, streamListeners);
+      }
+      streamListeners.put(requestId, listener);
+    }
+  }
+
+  private Listener removeListener(final int streamId, final long requestId) {
+    synchronized (responseListeners) {
+      final Long2ObjectHashMap<Listener> streamListeners = responseListeners.get(streamId);
+      return streamListeners != null ? streamListeners.remove(requestId) : null;
+    }
   }
 
   @Override
@@ -63,7 +82,7 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
 
   @Override
   public void onResponse(final int streamId, final long requestId) {
-    final Listener listener = responseListeners.remove(new ListenerId(streamId, requestId));
+    final Listener listener = removeListener(streamId, requestId);
     if (listener != null) {
       listener.onSuccess();
       metrics.decInflight(partitionId);
@@ -79,7 +98,7 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
 
   @Override
   public void onIgnore(final int streamId, final long requestId) {
-    final Listener listener = responseListeners.remove(new ListenerId(streamId, requestId));
+    final Listener listener = removeListener(streamId, requestId);
     if (listener != null) {
       listener.onIgnore();
       metrics.decInflight(partitionId);
@@ -113,31 +132,4 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
       return new CommandRateLimiter(this, partitionId);
     }
   }
-
-  static class ListenerId {
-    private final int streamId;
-    private final long requestId;
-
-    ListenerId(final int streamId, final long requestId) {
-      this.streamId = streamId;
-      this.requestId = requestId;
-    }
-
-    @Override
-    public int hashCode() {
-      return Objects.hash(streamId, requestId);
-    }
-
-    @Override
-    public boolean equals(final Object o) {
-      if (this == o) {
-        return true;
-      }
-      if (o == null || getClass() != o.getClass()) {
-        return false;
-      }
-      final ListenerId that = (ListenerId) o;
-      return streamId == that.streamId && requestId == that.requestId;
-    }
-  }
 }
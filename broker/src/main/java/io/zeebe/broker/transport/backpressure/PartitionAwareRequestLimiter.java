@@ -148,6 +148,19 @@ public final class PartitionAwareRequestLimiter {
     return getOrCreateLimiter(partitionId);
   }
 
+  /**
+   * @return the in-flight requests of the partition, as percentage of its current limit, or 0 if
+   *     the partition is not limited
+   */
+  public int getInflightUsage(final int partitionId) {
+    final RequestLimiter<Intent> limiter = partitionLimiters.get(partitionId);
+    if (limiter == null || limiter.getLimit() <= 0) {
+      return 0;
+    }
+
+    return Math.min(100, limiter.getInflightCount() * 100 / limiter.getLimit());
+  }
+
   private RequestLimiter<Intent> getOrCreateLimiter(final int partitionId) {
     return partitionLimiters.computeIfAbsent(partitionId, limiterSupplier::apply);
   }
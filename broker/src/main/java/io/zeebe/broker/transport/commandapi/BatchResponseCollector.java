@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.commandapi;
+
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.ServerResponse;
+import io.zeebe.transport.impl.ServerResponseImpl;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Collects the responses to the commands of a batch request and sends them back as one {@link
+ * ExecuteCommandBatchResponse}, once every command of the batch is answered.
+ *
+ * <p>Each command of a batch is written with its own request id, which encodes the id of the batch
+ * request and the index of the command (see {@link #itemRequestId(long, int)}). The responses to
+ * such ids are collected; all other responses are passed through to the transport. Responses can
+ * be sent concurrently from different partitions.
+ */
+final class BatchResponseCollector implements ServerOutput {
+
+  static final int MAX_BATCH_ITEMS = 1 << 16;
+
+  private static final long BATCH_ITEM_FLAG = 1L << 62;
+  private static final int INDEX_BITS = 16;
+  private static final long INDEX_MASK = MAX_BATCH_ITEMS - 1;
+
+  private final Map<Long, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+  private final ServerOutput output;
+
+  BatchResponseCollector(final ServerOutput output) {
+    this.output = output;
+  }
+
+  static long itemRequestId(final long batchRequestId, final int index) {
+    return BATCH_ITEM_FLAG | (batchRequestId << INDEX_BITS) | index;
+  }
+
+  static boolean isItemRequestId(final long requestId) {
+    return requestId >= 0 && (requestId & BATCH_ITEM_FLAG) != 0;
+  }
+
+  /**
+   * Registers a batch request, such that the responses of its commands are collected. An empty
+   * batch is answered immediately.
+   */
+  void register(final int partitionId, final long batchRequestId, final int itemCount) {
+    if (itemCount <= 0) {
+      sendBatchResponse(new PendingBatch(partitionId, batchRequestId, 0));
+    } else {
+      pendingBatches.put(batchRequestId, new PendingBatch(partitionId, batchRequestId, itemCount));
+    }
+  }
+
+  /** Drops the pending batches of the partition, they can't be answered by this node anymore. */
+  void removePartition(final int partitionId) {
+    pendingBatches.values().removeIf(batch -> batch.partitionId == partitionId);
+  }
+
+  @Override
+  public void sendResponse(final ServerResponse response) {
+    final long requestId = response.getRequestId();
+    if (!isItemRequestId(requestId)) {
+      output.sendResponse(response);
+      return;
+    }
+
+    final long batchRequestId = (requestId & ~BATCH_ITEM_FLAG) >>> INDEX_BITS;
+    final int index = (int) (requestId & INDEX_MASK);
+
+    final PendingBatch batch = pendingBatches.get(batchRequestId);
+    if (batch == null || batch.partitionId != response.getPartitionId()) {
+      return;
+    }
+
+    // copy the response in the caller's thread, the response object is reused by the writer
+    final UnsafeBuffer result = new UnsafeBuffer(new byte[response.getLength()]);
+    response.write(result, 0);
+
+    if (batch.complete(index, result) && pendingBatches.remove(batchRequestId, batch)) {
+      sendBatchResponse(batch);
+    }
+  }
+
+  private void sendBatchResponse(final PendingBatch batch) {
+    final ExecuteCommandBatchResponse batchResponse =
+        new ExecuteCommandBatchResponse().setPartitionId(batch.partitionId);
+    for (int i = 0; i < batch.results.length(); i++) {
+      batchResponse.addResult(batch.results.get(i));
+    }
+
+    output.sendResponse(
+        new ServerResponseImpl()
+            .setPartitionId(batch.partitionId)
+            .setRequestId(batch.requestId)
+            .writer(batchResponse));
+  }
+
+  private static final class PendingBatch {
+    private final int partitionId;
+    private final long requestId;
+    private final AtomicReferenceArray<DirectBuffer> results;
+    private final AtomicInteger remaining;
+
+    private PendingBatch(final int partitionId, final long requestId, final int itemCount) {
+      this.partitionId = partitionId;
+      this.requestId = requestId;
+      results = new AtomicReferenceArray<>(itemCount);
+      remaining = new AtomicInteger(itemCount);
+    }
+
+    /** @return true if this was the last missing result of the batch */
+    private boolean complete(final int index, final DirectBuffer result) {
+      if (index >= results.length() || !results.compareAndSet(index, null, result)) {
+        // the command was already answered, e.g. it was rejected before it was written
+        return false;
+      }
+      return remaining.decrementAndGet() == 0;
+    }
+  }
+}
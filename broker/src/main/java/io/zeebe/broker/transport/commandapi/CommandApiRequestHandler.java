@@ -9,10 +9,14 @@ package io.zeebe.broker.transport.commandapi;
 
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.transport.backpressure.BackpressureMetrics;
+import io.zeebe.broker.transport.backpressure.CommandPriority;
 import io.zeebe.broker.transport.backpressure.RequestLimiter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
 import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.incident.IncidentRecord;
@@ -22,6 +26,8 @@ import io.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceCreationRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.ErrorCode;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
 import io.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.zeebe.protocol.record.MessageHeaderDecoder;
 import io.zeebe.protocol.record.RecordType;
@@ -29,12 +35,15 @@ import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.transport.RequestHandler;
 import io.zeebe.transport.ServerOutput;
+import io.zeebe.util.trace.CommandTracer;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 import org.slf4j.Logger;
 
@@ -44,21 +53,30 @@ final class CommandApiRequestHandler implements RequestHandler {
   private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
   private final ExecuteCommandRequestDecoder executeCommandRequestDecoder =
       new ExecuteCommandRequestDecoder();
+  private final ExecuteCommandBatchRequest executeCommandBatchRequest =
+      new ExecuteCommandBatchRequest();
   private final Queue<Runnable> cmdQueue = new ManyToOneConcurrentLinkedQueue<>();
   private final Consumer<Runnable> cmdConsumer = Runnable::run;
 
   private final Int2ObjectHashMap<LogStreamRecordWriter> leadingStreams = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<LogStreamBatchWriter> leadingBatchWriters =
+      new Int2ObjectHashMap<>();
   private final Int2ObjectHashMap<RequestLimiter<Intent>> partitionLimiters =
       new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<CommandTracer> partitionTracers = new Int2ObjectHashMap<>();
   private final RecordMetadata eventMetadata = new RecordMetadata();
 
   private final ErrorResponseWriter errorResponseWriter = new ErrorResponseWriter();
+  private final BatchResponseCollector batchResponseCollector;
+  private final LongArrayList batchedItemRequestIds = new LongArrayList();
+  private final LongArrayList batchedItemTraceIds = new LongArrayList();
 
   private final Map<ValueType, UnpackedObject> recordsByType = new EnumMap<>(ValueType.class);
   private final BackpressureMetrics metrics;
   private boolean isDiskSpaceAvailable = true;
 
-  CommandApiRequestHandler() {
+  CommandApiRequestHandler(final BatchResponseCollector batchResponseCollector) {
+    this.batchResponseCollector = batchResponseCollector;
     metrics = new BackpressureMetrics();
     initEventTypeMap();
   }
@@ -154,13 +172,23 @@ final class CommandApiRequestHandler implements RequestHandler {
           limiter.getLimit(),
           limiter.getInflightCount(),
           requestId);
-      errorResponseWriter.resourceExhausted().tryWriteResponse(output, partitionId, requestId);
+      errorResponseWriter
+          .resourceExhausted(CommandPriority.of(eventIntent).getRejectionMessage())
+          .tryWriteResponse(output, partitionId, requestId);
       return;
     }
 
+    final CommandTracer tracer = partitionTracers.get(partitionId);
+    final long traceId = tracer.sample();
+
     boolean written = false;
     try {
-      written = writeCommand(eventMetadata, buffer, key, logStreamWriter, eventOffset, eventLength);
+      final long position =
+          writeCommand(eventMetadata, buffer, key, logStreamWriter, eventOffset, eventLength);
+      written = position >= 0;
+      if (written) {
+        tracer.onWritten(traceId, position);
+      }
     } catch (final Exception ex) {
       LOG.error("Unexpected error on writing {} command", eventIntent, ex);
     } finally {
@@ -170,7 +198,7 @@ final class CommandApiRequestHandler implements RequestHandler {
     }
   }
 
-  private boolean writeCommand(
+  private long writeCommand(
       final RecordMetadata eventMetadata,
       final DirectBuffer buffer,
       final long key,
@@ -185,23 +213,212 @@ final class CommandApiRequestHandler implements RequestHandler {
       logStreamWriter.keyNull();
     }
 
-    final long eventPosition =
-        logStreamWriter
-            .metadataWriter(eventMetadata)
-            .value(buffer, eventOffset, eventLength)
-            .tryWrite();
+    return logStreamWriter
+        .metadataWriter(eventMetadata)
+        .value(buffer, eventOffset, eventLength)
+        .tryWrite();
+  }
+
+  /**
+   * Writes the commands of a batch request with one append to the log of the partition, as long as
+   * they fit into one batch of the log write buffer. Each command is written with its own item
+   * request id, so the engine answers it like a single command; the answers are collected by the
+   * {@link BatchResponseCollector} and sent back as one batch response. Commands which are invalid
+   * or dropped by the request limiter are answered with an error, the others are still written.
+   */
+  private void handleExecuteCommandBatchRequest(
+      final ServerOutput output,
+      final int partitionId,
+      final long requestId,
+      final RecordMetadata eventMetadata,
+      final DirectBuffer buffer,
+      final int messageOffset,
+      final int messageLength) {
+
+    if (!isDiskSpaceAvailable) {
+      errorResponseWriter
+          .resourceExhausted(
+              String.format(
+                  "Cannot accept requests for partition %d. Broker is out of disk space",
+                  partitionId))
+          .tryWriteResponse(output, partitionId, requestId);
+      return;
+    }
+
+    final LogStreamBatchWriter batchWriter = leadingBatchWriters.get(partitionId);
+
+    if (batchWriter == null) {
+      errorResponseWriter
+          .partitionLeaderMismatch(partitionId)
+          .tryWriteResponseOrLogFailure(output, partitionId, requestId);
+      return;
+    }
+
+    try {
+      executeCommandBatchRequest.wrap(buffer, messageOffset, messageLength);
+    } catch (final RuntimeException e) {
+      LOG.error("Failed to deserialize batch of commands in client API", e);
+
+      errorResponseWriter
+          .malformedRequest(e)
+          .tryWriteResponseOrLogFailure(output, partitionId, requestId);
+      return;
+    }
+
+    final List<ExecuteCommandRequest> commands = executeCommandBatchRequest.getCommands();
+    if (commands.size() > BatchResponseCollector.MAX_BATCH_ITEMS) {
+      errorResponseWriter
+          .errorCode(ErrorCode.MALFORMED_REQUEST)
+          .errorMessage(
+              "Expected to handle at most %d commands in a batch, but received %d",
+              BatchResponseCollector.MAX_BATCH_ITEMS,
+              commands.size())
+          .tryWriteResponseOrLogFailure(output, partitionId, requestId);
+      return;
+    }
+
+    batchResponseCollector.register(partitionId, requestId, commands.size());
 
-    return eventPosition >= 0;
+    final RequestLimiter<Intent> limiter = partitionLimiters.get(partitionId);
+    final CommandTracer tracer = partitionTracers.get(partitionId);
+    batchWriter.reset();
+
+    for (int index = 0; index < commands.size(); index++) {
+      final ExecuteCommandRequest command = commands.get(index);
+      final long itemRequestId = BatchResponseCollector.itemRequestId(requestId, index);
+
+      final ValueType eventType = command.getValueType();
+      final UnpackedObject event = recordsByType.get(eventType);
+
+      if (event == null) {
+        errorResponseWriter
+            .unsupportedMessage(eventType.name(), recordsByType.keySet().toArray())
+            .tryWriteResponseOrLogFailure(batchResponseCollector, partitionId, itemRequestId);
+        continue;
+      }
+
+      final DirectBuffer value = command.getValue();
+      event.reset();
+
+      try {
+        // verify that the event / command is valid
+        event.wrap(value, 0, value.capacity());
+      } catch (final RuntimeException e) {
+        LOG.error("Failed to deserialize message of type {} in client API", eventType.name(), e);
+
+        errorResponseWriter
+            .malformedRequest(e)
+            .tryWriteResponseOrLogFailure(batchResponseCollector, partitionId, itemRequestId);
+        continue;
+      }
+
+      final Intent eventIntent = command.getIntent();
+      eventMetadata.recordType(RecordType.COMMAND);
+      eventMetadata.intent(eventIntent);
+      eventMetadata.valueType(eventType);
+      eventMetadata.requestId(itemRequestId);
+
+      metrics.receivedRequest(partitionId);
+      if (!limiter.tryAcquire(partitionId, itemRequestId, eventIntent)) {
+        metrics.dropped(partitionId);
+        errorResponseWriter
+            .resourceExhausted(CommandPriority.of(eventIntent).getRejectionMessage())
+            .tryWriteResponse(batchResponseCollector, partitionId, itemRequestId);
+        continue;
+      }
+
+      final int length = eventMetadata.getLength() + value.capacity();
+      if (!batchWriter.canWriteAdditionalEvent(length)) {
+        writeBatchedCommands(partitionId, batchWriter, limiter, tracer);
+      }
+
+      if (!batchWriter.canWriteAdditionalEvent(length)) {
+        limiter.onIgnore(partitionId, itemRequestId);
+        errorResponseWriter
+            .internalError(
+                "Expected to write command of type %s with at most %d bytes, but it has %d bytes",
+                eventIntent,
+                batchWriter.getMaxFragmentLength(),
+                length)
+            .tryWriteResponse(batchResponseCollector, partitionId, itemRequestId);
+        continue;
+      }
+
+      addCommand(batchWriter, eventMetadata, command.getKey(), value);
+      batchedItemRequestIds.addLong(itemRequestId);
+      batchedItemTraceIds.addLong(tracer.sample());
+    }
+
+    writeBatchedCommands(partitionId, batchWriter, limiter, tracer);
+  }
+
+  private void addCommand(
+      final LogStreamBatchWriter batchWriter,
+      final RecordMetadata eventMetadata,
+      final long key,
+      final DirectBuffer value) {
+    final var event = batchWriter.event();
+
+    if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
+      event.key(key);
+    } else {
+      event.keyNull();
+    }
+
+    // the metadata and the value are copied into the batch, the metadata can be reused
+    event.metadataWriter(eventMetadata).value(value).done();
+  }
+
+  private void writeBatchedCommands(
+      final int partitionId,
+      final LogStreamBatchWriter batchWriter,
+      final RequestLimiter<Intent> limiter,
+      final CommandTracer tracer) {
+    final int count = batchedItemRequestIds.size();
+    if (count == 0) {
+      return;
+    }
+
+    long position = -1;
+    try {
+      position = batchWriter.tryWrite();
+    } catch (final Exception ex) {
+      LOG.error("Unexpected error on writing batch of {} commands", count, ex);
+    }
+
+    if (position >= 0) {
+      // the commands of a batch get consecutive positions, ending with the returned one
+      final long firstPosition = position - count + 1;
+      for (int i = 0; i < count; i++) {
+        tracer.onWritten(batchedItemTraceIds.getLong(i), firstPosition + i);
+      }
+    } else {
+      batchWriter.reset();
+      for (int i = 0; i < count; i++) {
+        final long itemRequestId = batchedItemRequestIds.getLong(i);
+        limiter.onIgnore(partitionId, itemRequestId);
+        errorResponseWriter
+            .resourceExhausted()
+            .tryWriteResponse(batchResponseCollector, partitionId, itemRequestId);
+      }
+    }
+
+    batchedItemRequestIds.clear();
+    batchedItemTraceIds.clear();
   }
 
   void addPartition(
       final int partitionId,
       final LogStreamRecordWriter logStreamWriter,
-      final RequestLimiter<Intent> limiter) {
+      final LogStreamBatchWriter batchWriter,
+      final RequestLimiter<Intent> limiter,
+      final CommandTracer tracer) {
     cmdQueue.add(
         () -> {
           leadingStreams.put(partitionId, logStreamWriter);
+          leadingBatchWriters.put(partitionId, batchWriter);
           partitionLimiters.put(partitionId, limiter);
+          partitionTracers.put(partitionId, tracer);
         });
   }
 
@@ -209,7 +426,9 @@ final class CommandApiRequestHandler implements RequestHandler {
     cmdQueue.add(
         () -> {
           leadingStreams.remove(partitionId);
+          leadingBatchWriters.remove(partitionId);
           partitionLimiters.remove(partitionId);
+          partitionTracers.remove(partitionId);
         });
   }
 
@@ -258,8 +477,17 @@ final class CommandApiRequestHandler implements RequestHandler {
       return;
     }
 
+    if (templateId == ExecuteCommandBatchRequestDecoder.TEMPLATE_ID) {
+      handleExecuteCommandBatchRequest(
+          output, partitionId, requestId, eventMetadata, buffer, offset, length);
+      return;
+    }
+
     errorResponseWriter
-        .invalidMessageTemplate(templateId, ExecuteCommandRequestDecoder.TEMPLATE_ID)
+        .invalidMessageTemplate(
+            templateId,
+            ExecuteCommandRequestDecoder.TEMPLATE_ID,
+            ExecuteCommandBatchRequestDecoder.TEMPLATE_ID)
         .tryWriteResponse(output, partitionId, requestId);
   }
 
@@ -15,6 +15,8 @@ import io.zeebe.broker.transport.backpressure.RequestLimiter;
 import io.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.intent.Intent;
@@ -31,6 +33,7 @@ public final class CommandApiService extends Actor
   private final PartitionAwareRequestLimiter limiter;
   private final ServerTransport serverTransport;
   private final CommandApiRequestHandler requestHandler;
+  private final BatchResponseCollector batchResponseCollector;
   private final IntHashSet leadPartitions = new IntHashSet();
   private final String actorName;
 
@@ -40,7 +43,8 @@ public final class CommandApiService extends Actor
       final PartitionAwareRequestLimiter limiter) {
     this.serverTransport = serverTransport;
     this.limiter = limiter;
-    requestHandler = new CommandApiRequestHandler();
+    batchResponseCollector = new BatchResponseCollector(serverTransport);
+    requestHandler = new CommandApiRequestHandler(batchResponseCollector);
     actorName = buildActorName(localBroker.getNodeId(), "CommandApiService");
   }
 
@@ -76,23 +80,43 @@ public final class CommandApiService extends Actor
               .onComplete(
                   (recordWriter, error) -> {
                     if (error == null) {
-
-                      final var requestLimiter = limiter.getLimiter(partitionId);
-                      requestHandler.addPartition(partitionId, recordWriter, requestLimiter);
-                      serverTransport.subscribe(partitionId, requestHandler);
-                      future.complete(null);
+                      logStream
+                          .newLogStreamBatchWriter()
+                          .onComplete(
+                              (batchWriter, batchWriterError) -> {
+                                if (batchWriterError == null) {
+                                  addPartition(partitionId, logStream, recordWriter, batchWriter);
+                                  future.complete(null);
+                                } else {
+                                  onWriterError(partitionId, future, batchWriterError);
+                                }
+                              });
                     } else {
-                      Loggers.SYSTEM_LOGGER.error(
-                          "Error on retrieving write buffer from log stream {}",
-                          partitionId,
-                          error);
-                      future.completeExceptionally(error);
+                      onWriterError(partitionId, future, error);
                     }
                   });
         });
     return future;
   }
 
+  private void addPartition(
+      final int partitionId,
+      final LogStream logStream,
+      final LogStreamRecordWriter recordWriter,
+      final LogStreamBatchWriter batchWriter) {
+    final var requestLimiter = limiter.getLimiter(partitionId);
+    requestHandler.addPartition(
+        partitionId, recordWriter, batchWriter, requestLimiter, logStream.getCommandTracer());
+    serverTransport.subscribe(partitionId, requestHandler);
+  }
+
+  private void onWriterError(
+      final int partitionId, final CompletableActorFuture<Void> future, final Throwable error) {
+    Loggers.SYSTEM_LOGGER.error(
+        "Error on retrieving write buffer from log stream {}", partitionId, error);
+    future.completeExceptionally(error);
+  }
+
   @Override
   public ActorFuture<Void> onBecomingInactive(final int partitionId, final long term) {
     return removeLeaderHandlersAsync(partitionId);
@@ -114,10 +138,11 @@ public final class CommandApiService extends Actor
   private void removeForPartitionId(final int partitionId) {
     limiter.removePartition(partitionId);
     serverTransport.unsubscribe(partitionId);
+    batchResponseCollector.removePartition(partitionId);
   }
 
   public CommandResponseWriter newCommandResponseWriter() {
-    return new CommandResponseWriterImpl(serverTransport);
+    return new CommandResponseWriterImpl(batchResponseCollector);
   }
 
   public Consumer<TypedRecord> getOnProcessedListener(final int partitionId) {
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.springframework.util.unit.DataSize;
+
+public final class ExperimentalCfgTest {
+
+  public final Map<String, String> environment = new HashMap<>();
+
+  @Test
+  public void shouldNotSetWriteBufferSizeByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getWriteBufferSizeInBytes()).isNegative();
+  }
+
+  @Test
+  public void shouldSetWriteBufferSizeFromEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.writeBufferSize", "64MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getWriteBufferSizeInBytes())
+        .isEqualTo(DataSize.ofMegabytes(64).toBytes());
+  }
+
+  @Test
+  public void shouldCapWriteBufferSize() {
+    // given
+    environment.put("zeebe.broker.experimental.writeBufferSize", "4GB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getWriteBufferSizeInBytes())
+        .isEqualTo(DataSize.ofGigabytes(1).toBytes());
+  }
+}
@@ -133,7 +133,7 @@ public final class AsyncSnapshotingTest {
   private void createAsyncSnapshotDirector(final ActorScheduler actorScheduler) {
     asyncSnapshotDirector =
         new AsyncSnapshotDirector(
-            0, mockStreamProcessor, snapshotController, logStream, Duration.ofMinutes(1));
+            0, mockStreamProcessor, snapshotController, logStream, Duration.ofMinutes(1), 0);
     actorScheduler.submitActor(asyncSnapshotDirector).join();
   }
 
@@ -261,4 +261,30 @@ public final class AsyncSnapshotingTest {
     waitUntil(() -> snapshotController.getValidSnapshotsCount() == 1);
     assertThat(snapshotController.getValidSnapshotsCount()).isEqualTo(1);
   }
+
+  @Test
+  public void shouldTakeSnapshotAgainWhenCommitPositionRetrievingFailedOnCommitCheck() {
+    // given
+    when(mockStreamProcessor.getLastProcessedPositionAsync())
+        .thenReturn(CompletableActorFuture.completed(25L));
+    when(mockStreamProcessor.getLastWrittenPositionAsync())
+        .thenReturn(CompletableActorFuture.completed(26L));
+    setCommitPosition(25L);
+    clock.addTime(Duration.ofMinutes(1));
+    verify(mockStreamProcessor, timeout(5000).times(1)).getLastWrittenPositionAsync();
+
+    when(logStream.getCommitPositionAsync())
+        .thenReturn(
+            CompletableActorFuture.completedExceptionally(
+                new RuntimeException("getCommitPositionAsync fails")));
+    conditionList.forEach(ActorCondition::signal);
+    verify(logStream, timeout(5000).times(4)).getCommitPositionAsync();
+
+    // when
+    asyncSnapshotDirector.forceSnapshot();
+
+    // then
+    verify(mockStreamProcessor, timeout(5000).times(2)).getLastProcessedPositionAsync();
+    assertThat(snapshotController.getValidSnapshotsCount()).isZero();
+  }
 }
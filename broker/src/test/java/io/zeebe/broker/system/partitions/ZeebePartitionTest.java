@@ -25,6 +25,7 @@ import io.zeebe.util.health.HealthStatus;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import io.zeebe.util.sched.testing.ControlledActorSchedulerRule;
+import io.zeebe.util.trace.CommandTracer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -55,6 +56,7 @@ public class ZeebePartitionTest {
 
     when(ctx.getRaftPartition()).thenReturn(raft);
     when(ctx.getComponentHealthMonitor()).thenReturn(healthMonitor);
+    when(ctx.getCommandTracer()).thenReturn(CommandTracer.disabled());
   }
 
   @Test
@@ -18,6 +18,7 @@ import io.zeebe.broker.system.partitions.impl.PartitionTransitionImpl;
 import io.zeebe.broker.system.partitions.impl.TestPartitionStep;
 import io.zeebe.util.health.CriticalComponentsHealthMonitor;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import io.zeebe.util.trace.CommandTracer;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
@@ -49,6 +50,7 @@ public class ZeebePartitionTransitionIntegrationTest {
 
     when(ctx.getRaftPartition()).thenReturn(raftPartition);
     when(ctx.getComponentHealthMonitor()).thenReturn(healthMonitor);
+    when(ctx.getCommandTracer()).thenReturn(CommandTracer.disabled());
   }
 
   @Test
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.partitions.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.broker.system.partitions.impl.SnapshotPolicy.Decision;
+import java.time.Duration;
+import org.junit.Test;
+
+public final class SnapshotPolicyTest {
+
+  private static final Duration MIN_INTERVAL = Duration.ofMinutes(1);
+  private static final long START = 0L;
+  private static final long AFTER_MIN_INTERVAL = MIN_INTERVAL.toMillis();
+
+  private final SnapshotPolicy policy = new SnapshotPolicy(MIN_INTERVAL, 100, START);
+
+  @Test
+  public void shouldTakeSnapshotOnPeriod() {
+    // when
+    final var decision = policy.onPeriod(AFTER_MIN_INTERVAL, 10);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.TAKE_ON_PERIOD);
+  }
+
+  @Test
+  public void shouldSkipSnapshotOnPeriodIfSnapshotPositionDidNotAdvance() {
+    // given
+    policy.onSnapshotStarted(START);
+    policy.onSnapshotPersisted(20, 10);
+
+    // when
+    final var decision = policy.onPeriod(AFTER_MIN_INTERVAL, 10);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.SKIP_IDLE);
+  }
+
+  @Test
+  public void shouldTakeSnapshotOnPeriodIfSnapshotPositionAdvanced() {
+    // given
+    policy.onSnapshotStarted(START);
+    policy.onSnapshotPersisted(20, 10);
+
+    // when
+    final var decision = policy.onPeriod(AFTER_MIN_INTERVAL, 15);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.TAKE_ON_PERIOD);
+  }
+
+  @Test
+  public void shouldTakeSnapshotIfRecordThresholdIsReached() {
+    // given
+    policy.onProgress(START, 10);
+
+    // when
+    final var notReached = policy.onProgress(AFTER_MIN_INTERVAL, 109);
+    final var reached = policy.onProgress(AFTER_MIN_INTERVAL, 110);
+
+    // then
+    assertThat(notReached).isEqualTo(Decision.NONE);
+    assertThat(reached).isEqualTo(Decision.TAKE_ON_RECORDS);
+    assertThat(policy.getRecordsSinceSnapshot(110)).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldCountRecordsSinceLastSnapshot() {
+    // given
+    policy.onProgress(START, 10);
+    policy.onSnapshotStarted(AFTER_MIN_INTERVAL);
+    policy.onSnapshotPersisted(100, 90);
+
+    // when
+    final var decision = policy.onProgress(2 * AFTER_MIN_INTERVAL, 150);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.NONE);
+    assertThat(policy.getRecordsSinceSnapshot(150)).isEqualTo(50);
+  }
+
+  @Test
+  public void shouldNotTakeSnapshotOnRecordsIfThresholdIsDisabled() {
+    // given
+    final var disabledPolicy = new SnapshotPolicy(MIN_INTERVAL, 0, START);
+    disabledPolicy.onProgress(START, 10);
+
+    // when
+    final var decision = disabledPolicy.onProgress(AFTER_MIN_INTERVAL, 1_000_000);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.NONE);
+  }
+
+  @Test
+  public void shouldTakeSnapshotOnDiskPressure() {
+    // given
+    policy.onProgress(START, 10);
+    policy.setDiskPressure(true);
+
+    // when
+    final var decision = policy.onProgress(AFTER_MIN_INTERVAL, 11);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.TAKE_ON_DISK_PRESSURE);
+  }
+
+  @Test
+  public void shouldDelaySnapshotUntilMinIntervalIsOver() {
+    // given
+    policy.onProgress(START, 10);
+    policy.onSnapshotStarted(START);
+
+    // when
+    final var decision = policy.onProgress(AFTER_MIN_INTERVAL - 100, 110);
+
+    // then
+    assertThat(decision).isEqualTo(Decision.DELAY_MIN_INTERVAL);
+    assertThat(policy.getRemainingMinInterval(AFTER_MIN_INTERVAL - 100)).isEqualTo(100);
+  }
+}
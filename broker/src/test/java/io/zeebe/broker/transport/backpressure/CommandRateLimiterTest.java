@@ -11,18 +11,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.netflix.concurrency.limits.limit.SettableLimit;
 import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
 import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.protocol.record.intent.WorkflowInstanceCreationIntent;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
 import java.util.stream.IntStream;
 import org.junit.Test;
 
 public final class CommandRateLimiterTest {
 
-  private static final int INITIAL_LIMIT = 5;
+  private static final int INITIAL_LIMIT = 10;
   private final SettableLimit limit = new SettableLimit(INITIAL_LIMIT);
 
   private final CommandRateLimiter rateLimiter = CommandRateLimiter.builder().limit(limit).build(0);
-  private final Intent context = WorkflowInstanceCreationIntent.CREATE;
+  private final Intent context = WorkflowInstanceIntent.CANCEL;
 
   @Test
   public void shouldAcquire() {
@@ -100,4 +102,32 @@ public final class CommandRateLimiterTest {
     // then
     assertThat(rateLimiter.getInflightCount()).isEqualTo(0);
   }
+
+  @Test
+  public void shouldRejectNewWorkBeforeWorkInProgress() {
+    // given
+    IntStream.range(0, 7)
+        .forEach(i -> assertThat(rateLimiter.tryAcquire(0, i, context)).isTrue());
+
+    // when
+    final boolean acquiredCreation =
+        rateLimiter.tryAcquire(0, 100, WorkflowInstanceCreationIntent.CREATE);
+    final boolean acquiredActivation = rateLimiter.tryAcquire(0, 101, JobBatchIntent.ACTIVATE);
+
+    // then
+    assertThat(acquiredCreation).isTrue();
+    assertThat(acquiredActivation).isTrue();
+    assertThat(rateLimiter.tryAcquire(0, 102, WorkflowInstanceCreationIntent.CREATE)).isFalse();
+    assertThat(rateLimiter.tryAcquire(0, 103, JobBatchIntent.ACTIVATE)).isFalse();
+    assertThat(rateLimiter.tryAcquire(0, 104, context)).isTrue();
+  }
+
+  @Test
+  public void shouldMapIntentsToPriorities() {
+    assertThat(CommandPriority.of(JobIntent.COMPLETE)).isEqualTo(CommandPriority.CRITICAL);
+    assertThat(CommandPriority.of(WorkflowInstanceIntent.CANCEL)).isEqualTo(CommandPriority.HIGH);
+    assertThat(CommandPriority.of(JobBatchIntent.ACTIVATE)).isEqualTo(CommandPriority.NORMAL);
+    assertThat(CommandPriority.of(WorkflowInstanceCreationIntent.CREATE))
+        .isEqualTo(CommandPriority.LOW);
+  }
 }
@@ -71,4 +71,18 @@ public final class PartitionAwareRateLimiterTest {
     // then
     assertThat(partitionedLimiter.tryAcquire(mainPartitionId, 0, 2, context)).isFalse();
   }
+
+  @Test
+  public void shouldReportInflightUsage() {
+    // given
+    assertThat(partitionedLimiter.getInflightUsage(0)).isZero();
+
+    // when
+    partitionedLimiter.tryAcquire(0, 0, 1, context);
+
+    // then
+    assertThat(partitionedLimiter.getInflightUsage(0)).isEqualTo(100);
+    assertThat(partitionedLimiter.getInflightUsage(1)).isZero();
+    assertThat(partitionedLimiter.getInflightUsage(PARTITIONS)).isZero();
+  }
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.commandapi;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.broker.transport.backpressure.NoopRequestLimiter;
+import io.zeebe.logstreams.log.LogStreamReader;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.logstreams.util.LogStreamReaderRule;
+import io.zeebe.logstreams.util.LogStreamRule;
+import io.zeebe.logstreams.util.LogStreamWriterRule;
+import io.zeebe.logstreams.util.SynchronousLogStream;
+import io.zeebe.protocol.impl.encoding.ErrorResponse;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.ErrorCode;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.protocol.record.intent.TimerIntent;
+import io.zeebe.test.util.TestUtil;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.ServerResponse;
+import io.zeebe.util.buffer.DirectBufferWriter;
+import io.zeebe.util.trace.CommandTracer;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.junit.rules.TemporaryFolder;
+
+public final class CommandApiRequestHandlerTest {
+
+  private static final long BATCH_REQUEST_ID = 7L;
+
+  private final TemporaryFolder temporaryFolder = new TemporaryFolder();
+  private final LogStreamRule logStreamRule = LogStreamRule.startByDefault(temporaryFolder);
+  private final LogStreamReaderRule readerRule = new LogStreamReaderRule(logStreamRule);
+  private final LogStreamWriterRule writerRule = new LogStreamWriterRule(logStreamRule);
+
+  @Rule
+  public final RuleChain ruleChain =
+      RuleChain.outerRule(temporaryFolder)
+          .around(logStreamRule)
+          .around(writerRule)
+          .around(readerRule);
+
+  private final RecordingServerOutput output = new RecordingServerOutput();
+  private final BatchResponseCollector batchResponseCollector = new BatchResponseCollector(output);
+  private CommandApiRequestHandler requestHandler;
+  private int partitionId;
+
+  @Before
+  public void setUp() {
+    final SynchronousLogStream logStream = logStreamRule.getLogStream();
+    partitionId = logStream.getPartitionId();
+
+    requestHandler = new CommandApiRequestHandler(batchResponseCollector);
+    requestHandler.addPartition(
+        partitionId,
+        logStream.newLogStreamRecordWriter(),
+        logStream.newLogStreamBatchWriter(),
+        new NoopRequestLimiter<>(),
+        CommandTracer.disabled());
+  }
+
+  @Test
+  public void shouldWriteCommandsOfBatchTogether() {
+    // given
+    final ExecuteCommandBatchRequest batchRequest =
+        new ExecuteCommandBatchRequest()
+            .setPartitionId(partitionId)
+            .addCommand(completeJobCommand(1L))
+            .addCommand(completeJobCommand(2L));
+
+    // when
+    sendBatchRequest(batchRequest);
+
+    // then
+    final LoggedEvent first = nextEvent();
+    final LoggedEvent second = nextEvent();
+    assertThat(second.getPosition()).isEqualTo(first.getPosition() + 1);
+    assertThat(first.getKey()).isEqualTo(1L);
+    assertThat(second.getKey()).isEqualTo(2L);
+
+    final RecordMetadata metadata = new RecordMetadata();
+    first.readMetadata(metadata);
+    assertThat(metadata.getRecordType()).isEqualTo(RecordType.COMMAND);
+    assertThat(metadata.getIntent()).isEqualTo(JobIntent.COMPLETE);
+    assertThat(metadata.getRequestStreamId()).isEqualTo(partitionId);
+    assertThat(metadata.getRequestId())
+        .isEqualTo(BatchResponseCollector.itemRequestId(BATCH_REQUEST_ID, 0));
+
+    second.readMetadata(metadata);
+    assertThat(metadata.getRequestId())
+        .isEqualTo(BatchResponseCollector.itemRequestId(BATCH_REQUEST_ID, 1));
+    assertThat(output.responses).isEmpty();
+  }
+
+  @Test
+  public void shouldRespondToBatchOnceAllCommandsAreAnswered() {
+    // given
+    final ExecuteCommandBatchRequest batchRequest =
+        new ExecuteCommandBatchRequest()
+            .setPartitionId(partitionId)
+            .addCommand(completeJobCommand(1L))
+            .addCommand(completeJobCommand(2L));
+    sendBatchRequest(batchRequest);
+
+    // when
+    respondToItem(1, 2L);
+    final int responsesAfterFirstAnswer = output.responses.size();
+    respondToItem(0, 1L);
+
+    // then
+    assertThat(responsesAfterFirstAnswer).isZero();
+    assertThat(output.responses).hasSize(1);
+    assertThat(output.requestIds).containsExactly(BATCH_REQUEST_ID);
+
+    final ExecuteCommandBatchResponse batchResponse = readBatchResponse();
+    assertThat(batchResponse.getPartitionId()).isEqualTo(partitionId);
+    assertThat(batchResponse.getResults())
+        .extracting(this::readCommandResponseKey)
+        .containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldRespondWithErrorToInvalidCommandOfBatch() {
+    // given
+    final DirectBuffer value = wrapString("invalid");
+    final ExecuteCommandBatchRequest batchRequest =
+        new ExecuteCommandBatchRequest()
+            .setPartitionId(partitionId)
+            .addCommand(
+                new ExecuteCommandRequest()
+                    .setValueType(ValueType.TIMER)
+                    .setIntent(TimerIntent.CREATE)
+                    .setValue(value, 0, value.capacity()))
+            .addCommand(completeJobCommand(2L));
+
+    // when
+    sendBatchRequest(batchRequest);
+    respondToItem(1, 2L);
+
+    // then
+    final LoggedEvent event = nextEvent();
+    assertThat(event.getKey()).isEqualTo(2L);
+
+    final ExecuteCommandBatchResponse batchResponse = readBatchResponse();
+    final ErrorResponse errorResponse = new ErrorResponse();
+    final DirectBuffer errorResult = batchResponse.getResults().get(0);
+    errorResponse.wrap(errorResult, 0, errorResult.capacity());
+    assertThat(errorResponse.getErrorCode()).isEqualTo(ErrorCode.UNSUPPORTED_MESSAGE);
+    assertThat(readCommandResponseKey(batchResponse.getResults().get(1))).isEqualTo(2L);
+  }
+
+  @Test
+  public void shouldRespondToEmptyBatch() {
+    // when
+    sendBatchRequest(new ExecuteCommandBatchRequest().setPartitionId(partitionId));
+
+    // then
+    assertThat(output.requestIds).containsExactly(BATCH_REQUEST_ID);
+    assertThat(readBatchResponse().getResults()).isEmpty();
+  }
+
+  private ExecuteCommandRequest completeJobCommand(final long key) {
+    final JobRecord job = new JobRecord().setType("test");
+    final UnsafeBuffer value = new UnsafeBuffer(new byte[job.getLength()]);
+    job.write(value, 0);
+
+    return new ExecuteCommandRequest()
+        .setKey(key)
+        .setValueType(ValueType.JOB)
+        .setIntent(JobIntent.COMPLETE)
+        .setValue(value, 0, value.capacity());
+  }
+
+  private void sendBatchRequest(final ExecuteCommandBatchRequest batchRequest) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[batchRequest.getLength()]);
+    batchRequest.write(buffer, 0);
+    requestHandler.onRequest(output, partitionId, BATCH_REQUEST_ID, buffer, 0, buffer.capacity());
+  }
+
+  private void respondToItem(final int index, final long key) {
+    new CommandResponseWriterImpl(batchResponseCollector)
+        .partitionId(partitionId)
+        .key(key)
+        .recordType(RecordType.EVENT)
+        .valueType(ValueType.JOB)
+        .intent(JobIntent.COMPLETED)
+        .valueWriter(new DirectBufferWriter().wrap(new UnsafeBuffer(new byte[0])))
+        .tryWriteResponse(
+            partitionId, BatchResponseCollector.itemRequestId(BATCH_REQUEST_ID, index));
+  }
+
+  private LoggedEvent nextEvent() {
+    final LogStreamReader reader = readerRule.getLogStreamReader();
+    TestUtil.waitUntil(reader::hasNext);
+    return reader.next();
+  }
+
+  private ExecuteCommandBatchResponse readBatchResponse() {
+    final DirectBuffer buffer = output.responses.get(output.responses.size() - 1);
+    final ExecuteCommandBatchResponse batchResponse = new ExecuteCommandBatchResponse();
+    batchResponse.wrap(buffer, 0, buffer.capacity());
+    return batchResponse;
+  }
+
+  private long readCommandResponseKey(final DirectBuffer result) {
+    final ExecuteCommandResponse response = new ExecuteCommandResponse();
+    response.wrap(result, 0, result.capacity());
+    return response.getKey();
+  }
+
+  private static final class RecordingServerOutput implements ServerOutput {
+    private final List<DirectBuffer> responses = new ArrayList<>();
+    private final List<Long> requestIds = new ArrayList<>();
+
+    @Override
+    public void sendResponse(final ServerResponse response) {
+      final UnsafeBuffer buffer = new UnsafeBuffer(new byte[response.getLength()]);
+      response.write(buffer, 0);
+      responses.add(buffer);
+      requestIds.add(response.getRequestId());
+    }
+  }
+}
@@ -89,6 +89,24 @@ func (_mr *MockGatewayClientMockRecorder) CompleteJob(arg0, arg1 interface{}, ar
 	return _mr.mock.ctrl.RecordCallWithMethodType(_mr.mock, "CompleteJob", reflect.TypeOf((*MockGatewayClient)(nil).CompleteJob), _s...)
 }
 
+// CompleteJobs mocks base method
+func (_m *MockGatewayClient) CompleteJobs(_param0 context.Context, _param1 *pb.CompleteJobsRequest, _param2 ...grpc.CallOption) (*pb.CompleteJobsResponse, error) {
+	_s := []interface{}{_param0, _param1}
+	for _, _x := range _param2 {
+		_s = append(_s, _x)
+	}
+	ret := _m.ctrl.Call(_m, "CompleteJobs", _s...)
+	ret0, _ := ret[0].(*pb.CompleteJobsResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// CompleteJobs indicates an expected call of CompleteJobs
+func (_mr *MockGatewayClientMockRecorder) CompleteJobs(arg0, arg1 interface{}, arg2 ...interface{}) *gomock.Call {
+	_s := append([]interface{}{arg0, arg1}, arg2...)
+	return _mr.mock.ctrl.RecordCallWithMethodType(_mr.mock, "CompleteJobs", reflect.TypeOf((*MockGatewayClient)(nil).CompleteJobs), _s...)
+}
+
 // CreateWorkflowInstance mocks base method
 func (_m *MockGatewayClient) CreateWorkflowInstance(_param0 context.Context, _param1 *pb.CreateWorkflowInstanceRequest, _param2 ...grpc.CallOption) (*pb.CreateWorkflowInstanceResponse, error) {
 	_s := []interface{}{_param0, _param1}
@@ -125,6 +143,24 @@ func (_mr *MockGatewayClientMockRecorder) CreateWorkflowInstanceWithResult(arg0,
 	return _mr.mock.ctrl.RecordCallWithMethodType(_mr.mock, "CreateWorkflowInstanceWithResult", reflect.TypeOf((*MockGatewayClient)(nil).CreateWorkflowInstanceWithResult), _s...)
 }
 
+// CreateWorkflowInstances mocks base method
+func (_m *MockGatewayClient) CreateWorkflowInstances(_param0 context.Context, _param1 *pb.CreateWorkflowInstancesRequest, _param2 ...grpc.CallOption) (*pb.CreateWorkflowInstancesResponse, error) {
+	_s := []interface{}{_param0, _param1}
+	for _, _x := range _param2 {
+		_s = append(_s, _x)
+	}
+	ret := _m.ctrl.Call(_m, "CreateWorkflowInstances", _s...)
+	ret0, _ := ret[0].(*pb.CreateWorkflowInstancesResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// CreateWorkflowInstances indicates an expected call of CreateWorkflowInstances
+func (_mr *MockGatewayClientMockRecorder) CreateWorkflowInstances(arg0, arg1 interface{}, arg2 ...interface{}) *gomock.Call {
+	_s := append([]interface{}{arg0, arg1}, arg2...)
+	return _mr.mock.ctrl.RecordCallWithMethodType(_mr.mock, "CreateWorkflowInstances", reflect.TypeOf((*MockGatewayClient)(nil).CreateWorkflowInstances), _s...)
+}
+
 // DeployWorkflow mocks base method
 func (_m *MockGatewayClient) DeployWorkflow(_param0 context.Context, _param1 *pb.DeployWorkflowRequest, _param2 ...grpc.CallOption) (*pb.DeployWorkflowResponse, error) {
 	_s := []interface{}{_param0, _param1}
@@ -179,6 +215,24 @@ func (_mr *MockGatewayClientMockRecorder) PublishMessage(arg0, arg1 interface{},
 	return _mr.mock.ctrl.RecordCallWithMethodType(_mr.mock, "PublishMessage", reflect.TypeOf((*MockGatewayClient)(nil).PublishMessage), _s...)
 }
 
+// PublishMessages mocks base method
+func (_m *MockGatewayClient) PublishMessages(_param0 context.Context, _param1 *pb.PublishMessagesRequest, _param2 ...grpc.CallOption) (*pb.PublishMessagesResponse, error) {
+	_s := []interface{}{_param0, _param1}
+	for _, _x := range _param2 {
+		_s = append(_s, _x)
+	}
+	ret := _m.ctrl.Call(_m, "PublishMessages", _s...)
+	ret0, _ := ret[0].(*pb.PublishMessagesResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// PublishMessages indicates an expected call of PublishMessages
+func (_mr *MockGatewayClientMockRecorder) PublishMessages(arg0, arg1 interface{}, arg2 ...interface{}) *gomock.Call {
+	_s := append([]interface{}{arg0, arg1}, arg2...)
+	return _mr.mock.ctrl.RecordCallWithMethodType(_mr.mock, "PublishMessages", reflect.TypeOf((*MockGatewayClient)(nil).PublishMessages), _s...)
+}
+
 // ResolveIncident mocks base method
 func (_m *MockGatewayClient) ResolveIncident(_param0 context.Context, _param1 *pb.ResolveIncidentRequest, _param2 ...grpc.CallOption) (*pb.ResolveIncidentResponse, error) {
 	_s := []interface{}{_param0, _param1}
@@ -269,6 +323,24 @@ func (_mr *MockGatewayClientMockRecorder) UpdateJobRetries(arg0, arg1 interface{
 	return _mr.mock.ctrl.RecordCallWithMethodType(_mr.mock, "UpdateJobRetries", reflect.TypeOf((*MockGatewayClient)(nil).UpdateJobRetries), _s...)
 }
 
+// WatchTopology mocks base method
+func (_m *MockGatewayClient) WatchTopology(_param0 context.Context, _param1 *pb.WatchTopologyRequest, _param2 ...grpc.CallOption) (pb.Gateway_WatchTopologyClient, error) {
+	_s := []interface{}{_param0, _param1}
+	for _, _x := range _param2 {
+		_s = append(_s, _x)
+	}
+	ret := _m.ctrl.Call(_m, "WatchTopology", _s...)
+	ret0, _ := ret[0].(pb.Gateway_WatchTopologyClient)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// WatchTopology indicates an expected call of WatchTopology
+func (_mr *MockGatewayClientMockRecorder) WatchTopology(arg0, arg1 interface{}, arg2 ...interface{}) *gomock.Call {
+	_s := append([]interface{}{arg0, arg1}, arg2...)
+	return _mr.mock.ctrl.RecordCallWithMethodType(_mr.mock, "WatchTopology", reflect.TypeOf((*MockGatewayClient)(nil).WatchTopology), _s...)
+}
+
 // MockGateway_ActivateJobsClient is a mock of Gateway_ActivateJobsClient interface
 type MockGateway_ActivateJobsClient struct {
 	ctrl     *gomock.Controller
@@ -28,9 +28,15 @@ public final class ClientProperties {
   /** @see ZeebeClientBuilder#gatewayAddress(String) */
   public static final String GATEWAY_ADDRESS = "zeebe.client.gateway.address";
 
+  /** @see ZeebeClientBuilder#partitionAwareRouting(boolean) */
+  public static final String PARTITION_AWARE_ROUTING = "zeebe.client.gateway.partitionAwareRouting";
+
   /** @see ZeebeClientBuilder#numJobWorkerExecutionThreads(int) */
   public static final String JOB_WORKER_EXECUTION_THREADS = "zeebe.client.worker.threads";
 
+  /** @see ZeebeClientBuilder#jobWorkerVirtualThreads(boolean) */
+  public static final String JOB_WORKER_VIRTUAL_THREADS = "zeebe.client.worker.virtualThreads";
+
   /** @see ZeebeClientBuilder#defaultJobWorkerMaxJobsActive(int) */
   public static final String JOB_WORKER_MAX_JOBS_ACTIVE = "zeebe.client.worker.maxJobsActive";
 
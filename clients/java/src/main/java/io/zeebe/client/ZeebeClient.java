@@ -18,8 +18,10 @@ package io.zeebe.client;
 import io.zeebe.client.api.command.ActivateJobsCommandStep1;
 import io.zeebe.client.api.command.CancelWorkflowInstanceCommandStep1;
 import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1;
+import io.zeebe.client.api.command.CreateWorkflowInstancesCommandStep1;
 import io.zeebe.client.api.command.DeployWorkflowCommandStep1;
 import io.zeebe.client.api.command.PublishMessageCommandStep1;
+import io.zeebe.client.api.command.PublishMessagesCommandStep1;
 import io.zeebe.client.api.command.ResolveIncidentCommandStep1;
 import io.zeebe.client.api.command.SetVariablesCommandStep1;
 import io.zeebe.client.api.command.TopologyRequestStep1;
@@ -109,6 +111,24 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    */
   CreateWorkflowInstanceCommandStep1 newCreateInstanceCommand();
 
+  /**
+   * Command to create/start multiple workflow instances with a single request.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newCreateInstancesCommand()
+   *  .add(zeebeClient.newCreateInstanceCommand().bpmnProcessId("my-process").latestVersion())
+   *  .add(zeebeClient.newCreateInstanceCommand().workflowKey(workflowKey))
+   *  .send();
+   * </pre>
+   *
+   * <p>Each instance is created independently; the result of every instance is reported in the
+   * order in which it was added.
+   *
+   * @return a builder for the command
+   */
+  CreateWorkflowInstancesCommandStep1 newCreateInstancesCommand();
+
   /**
    * Command to cancel a workflow instance.
    *
@@ -155,6 +175,24 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    */
   PublishMessageCommandStep1 newPublishMessageCommand();
 
+  /**
+   * Command to publish multiple messages with a single request.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newPublishMessagesCommand()
+   *  .add(zeebeClient.newPublishMessageCommand().messageName("a").correlationKey(id))
+   *  .add(zeebeClient.newPublishMessageCommand().messageName("b").correlationKey(id))
+   *  .send();
+   * </pre>
+   *
+   * <p>Each message is published independently; the result of every message is reported in the
+   * order in which it was added.
+   *
+   * @return a builder for the command
+   */
+  PublishMessagesCommandStep1 newPublishMessagesCommand();
+
   /**
    * Command to resolve an existing incident.
    *
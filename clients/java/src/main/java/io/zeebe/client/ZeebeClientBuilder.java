@@ -16,6 +16,7 @@
 package io.zeebe.client;
 
 import io.grpc.ClientInterceptor;
+import io.zeebe.client.api.MsgPackCodec;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
 import java.time.Duration;
 import java.util.Properties;
@@ -46,6 +47,17 @@ public interface ZeebeClientBuilder {
    */
   ZeebeClientBuilder gatewayAddress(String gatewayAddress);
 
+  /**
+   * @param enabled Whether requests which target a known partition are sent to the gateway
+   *     embedded in the leader of that partition, instead of the configured gateway. This applies
+   *     to completing, failing and throwing errors for jobs, and to publishing messages. The client
+   *     watches the topology of the configured gateway to learn the leaders; requests of
+   *     partitions without a known leader gateway are sent to the configured gateway. The leader
+   *     gateways are connected with the same security settings as the configured one. Default
+   *     value is false.
+   */
+  ZeebeClientBuilder partitionAwareRouting(boolean enabled);
+
   /**
    * @param maxJobsActive Default value for {@link JobWorkerBuilderStep3#maxJobsActive(int)}.
    *     Default value is 32.
@@ -58,6 +70,15 @@ public interface ZeebeClientBuilder {
    */
   ZeebeClientBuilder numJobWorkerExecutionThreads(int numThreads);
 
+  /**
+   * @param enabled Whether the handlers of job workers run on virtual threads, one per activated
+   *     job, instead of the job worker execution threads. The number of concurrently handled jobs
+   *     is then only limited by the maxJobsActive of the workers, and the execution threads are
+   *     only used to poll for jobs. On close, the client waits for running handlers to return.
+   *     Requires a Java runtime with virtual threads. Default value is false.
+   */
+  ZeebeClientBuilder jobWorkerVirtualThreads(boolean enabled);
+
   /**
    * The name of the worker which is used when none is set for a job worker. Default is 'default'.
    */
@@ -98,6 +119,14 @@ public interface ZeebeClientBuilder {
 
   ZeebeClientBuilder withInterceptors(ClientInterceptor... interceptor);
 
+  /**
+   * A {@link MsgPackCodec} which is used to encode and decode variables. If set, variables given as
+   * objects or maps are sent as MessagePack, and the variables of activated jobs are received as
+   * MessagePack, which saves the gateway from converting them from and to JSON. By default, no
+   * codec is set and variables are sent and received as JSON.
+   */
+  ZeebeClientBuilder msgPackCodec(MsgPackCodec msgPackCodec);
+
   /** @return a new {@link ZeebeClient} with the provided configuration options. */
   ZeebeClient build();
 }
@@ -16,6 +16,7 @@
 package io.zeebe.client;
 
 import io.grpc.ClientInterceptor;
+import io.zeebe.client.api.MsgPackCodec;
 import java.time.Duration;
 import java.util.List;
 
@@ -31,9 +32,15 @@ public interface ZeebeClientConfiguration {
   /** @see ZeebeClientBuilder#gatewayAddress(String) */
   String getGatewayAddress();
 
+  /** @see ZeebeClientBuilder#partitionAwareRouting(boolean) */
+  boolean isPartitionAwareRouting();
+
   /** @see ZeebeClientBuilder#numJobWorkerExecutionThreads(int) */
   int getNumJobWorkerExecutionThreads();
 
+  /** @see ZeebeClientBuilder#jobWorkerVirtualThreads(boolean) */
+  boolean isJobWorkerVirtualThreads();
+
   /** @see ZeebeClientBuilder#defaultJobWorkerMaxJobsActive(int) */
   int getDefaultJobWorkerMaxJobsActive();
 
@@ -65,4 +72,7 @@ public interface ZeebeClientConfiguration {
   Duration getKeepAlive();
 
   List<ClientInterceptor> getInterceptors();
+
+  /** @see ZeebeClientBuilder#msgPackCodec(MsgPackCodec) */
+  MsgPackCodec getMsgPackCodec();
 }
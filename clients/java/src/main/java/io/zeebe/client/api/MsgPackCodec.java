@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api;
+
+/**
+ * Encodes and decodes variables as MessagePack, the format in which the broker stores them. It can
+ * be backed by any MessagePack library, e.g. an {@code ObjectMapper} with a {@code
+ * MessagePackFactory} of jackson-dataformat-msgpack.
+ *
+ * <p>If a codec is configured with {@link io.zeebe.client.ZeebeClientBuilder#msgPackCodec}, the
+ * client sends and receives variables as MessagePack, such that neither the client nor the gateway
+ * need to convert them from or to JSON.
+ */
+public interface MsgPackCodec {
+
+  /**
+   * @param value the variables to encode; must be encoded as a MessagePack map
+   * @return the MessagePack encoded variables
+   */
+  byte[] toMsgPack(Object value);
+
+  /**
+   * @param msgPack the MessagePack encoded variables
+   * @param type the type to decode the variables to
+   * @return the decoded variables
+   */
+  <T> T fromMsgPack(byte[] msgPack, Class<T> type);
+}
@@ -56,4 +56,13 @@ public interface CompleteJobCommandStep1 extends FinalCommandStep<CompleteJobRes
    *     to the broker.
    */
   CompleteJobCommandStep1 variables(Object variables);
+
+  /**
+   * Set the variables to complete the job with.
+   *
+   * @param variables the variables as MessagePack document; the root must be a map
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  CompleteJobCommandStep1 variablesAsMsgPack(byte[] variables);
 }
@@ -101,6 +101,15 @@ public interface CreateWorkflowInstanceCommandStep1 {
      */
     CreateWorkflowInstanceCommandStep3 variables(Object variables);
 
+    /**
+     * Set the initial variables of the workflow instance.
+     *
+     * @param variables the variables document as MessagePack; the root must be a map
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    CreateWorkflowInstanceCommandStep3 variablesAsMsgPack(byte[] variables);
+
     /**
      * When this method is called, the response to the command will be received after the workflow
      * is completed. The response consists of a set of variables.
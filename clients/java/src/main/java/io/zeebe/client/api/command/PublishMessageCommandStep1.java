@@ -104,5 +104,14 @@ public interface PublishMessageCommandStep1 {
      *     it to the broker.
      */
     PublishMessageCommandStep3 variables(Object variables);
+
+    /**
+     * Set the variables of the message.
+     *
+     * @param variables the variables as MessagePack document; the root must be a map
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    PublishMessageCommandStep3 variablesAsMsgPack(byte[] variables);
   }
 }
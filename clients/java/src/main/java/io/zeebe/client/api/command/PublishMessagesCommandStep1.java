@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.command;
+
+import io.zeebe.client.api.command.PublishMessageCommandStep1.PublishMessageCommandStep3;
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.PublishMessageResponse;
+
+public interface PublishMessagesCommandStep1
+    extends FinalCommandStep<BatchResponse<PublishMessageResponse>> {
+
+  /**
+   * Add a message to publish with this batch.
+   *
+   * @param command the command to publish the message, created by {@link
+   *     io.zeebe.client.ZeebeClient#newPublishMessageCommand()} of the same client; it is sent as
+   *     part of this batch and should not be sent by itself
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  PublishMessagesCommandStep1 add(PublishMessageCommandStep3 command);
+}
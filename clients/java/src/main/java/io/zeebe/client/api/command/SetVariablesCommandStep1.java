@@ -56,6 +56,15 @@ public interface SetVariablesCommandStep1 {
    */
   SetVariablesCommandStep2 variables(Object variables);
 
+  /**
+   * Sets the variables document from a MessagePack document, which is passed to the broker as is.
+   *
+   * @param variables the variables document as MessagePack; the root must be a map
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  SetVariablesCommandStep2 variablesAsMsgPack(byte[] variables);
+
   interface SetVariablesCommandStep2 extends FinalCommandStep<SetVariablesResponse> {
     // the place for new optional parameters
 
@@ -68,6 +68,12 @@ public interface ActivatedJob {
   /** @return de-serialized variables as the given type */
   <T> T getVariablesAsType(Class<T> variableType);
 
+  /**
+   * @return the variables as MessagePack document, if the job was activated with a configured
+   *     {@link io.zeebe.client.api.MsgPackCodec}; otherwise null
+   */
+  byte[] getVariablesAsMsgPack();
+
   /** @return the record encoded as JSON */
   String toJson();
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.response;
+
+import io.zeebe.client.api.command.ClientStatusException;
+
+/**
+ * The result of a single item of a batch command.
+ *
+ * @param <T> the response type of the item
+ */
+public interface BatchItemResult<T> {
+
+  /** @return true if the item was processed successfully */
+  boolean isSuccessful();
+
+  /**
+   * @return the response of the item, as it would have been returned by the single command; null
+   *     if the item failed, or if the single command has no response content (e.g. complete job)
+   */
+  T getResponse();
+
+  /**
+   * @return the error of the item, with the status which would have been returned by the single
+   *     command; null if the item was processed successfully
+   */
+  ClientStatusException getError();
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.response;
+
+import java.util.List;
+
+/**
+ * The response of a batch command. Each item of the batch is processed independently, so some
+ * items may fail while others succeed.
+ *
+ * @param <T> the response type of a single item
+ */
+public interface BatchResponse<T> {
+
+  /** @return the result of each item, in the order in which the items were added to the batch */
+  List<BatchItemResult<T>> getResults();
+
+  /** @return true if all items of the batch were processed successfully */
+  boolean isSuccessful();
+}
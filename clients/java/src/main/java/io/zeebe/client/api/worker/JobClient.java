@@ -16,6 +16,7 @@
 package io.zeebe.client.api.worker;
 
 import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.zeebe.client.api.command.FailJobCommandStep1;
 import io.zeebe.client.api.command.ThrowErrorCommandStep1;
 
@@ -47,6 +48,24 @@ public interface JobClient {
    */
   CompleteJobCommandStep1 newCompleteCommand(long jobKey);
 
+  /**
+   * Command to complete multiple jobs with a single request.
+   *
+   * <pre>
+   * jobClient
+   *  .newCompleteJobsCommand()
+   *  .add(jobClient.newCompleteCommand(jobKey1).variables(json))
+   *  .add(jobClient.newCompleteCommand(jobKey2))
+   *  .send();
+   * </pre>
+   *
+   * <p>Each job is completed independently, i.e. a job which cannot be completed does not fail
+   * the others. The result of every job is reported in the order in which it was added.
+   *
+   * @return a builder for the command
+   */
+  CompleteJobsCommandStep1 newCompleteJobsCommand();
+
   /**
    * Command to mark a job as failed.
    *
@@ -176,6 +176,32 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 fetchVariables(String... fetchVariables);
 
+    /**
+     * Enable the adaptive flow control of the worker.
+     *
+     * <p>An adaptive worker measures the time from the activation of a job until its handler
+     * returned. As long as this latency is stable, it keeps up to {@link #maxJobsActive(int)} jobs
+     * active. When the jobs start to queue up and the latency rises, it activates fewer jobs, such
+     * that they don't time out before they are handled. When the gateway rejects the activation
+     * due to resource exhaustion, the worker doubles its poll interval until the activation
+     * succeeds again.
+     *
+     * <p>The worker is not adaptive by default.
+     *
+     * @param enabled true to enable the adaptive flow control
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 adaptiveFlowControl(boolean enabled);
+
+    /**
+     * Set the metrics which receive the measurements of this worker, e.g. to export them to a
+     * monitoring system.
+     *
+     * @param metrics the metrics of this worker
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 metrics(JobWorkerMetrics metrics);
+
     /**
      * Open the worker and start to work on available tasks.
      *
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.worker;
+
+import java.time.Duration;
+
+/**
+ * Receives metrics of a single job worker, e.g. to export them to a monitoring system. All methods
+ * have an empty default implementation, so only the relevant ones need to be implemented.
+ *
+ * <p>Implementations MUST be thread-safe and should return quickly, as they are called on the
+ * threads which activate and handle the jobs.
+ */
+public interface JobWorkerMetrics {
+
+  /**
+   * Called when jobs were activated for the worker.
+   *
+   * @param count the number of activated jobs
+   */
+  default void jobsActivated(final int count) {}
+
+  /**
+   * Called when the handler of a job returned, regardless of whether it succeeded.
+   *
+   * @param latency the time from the activation of the job until its handler returned
+   */
+  default void jobHandled(final Duration latency) {}
+
+  /**
+   * Called when an adaptive worker changed the number of jobs it keeps active at most.
+   *
+   * @param limit the new maximum of active jobs
+   */
+  default void activeJobsLimitChanged(final int limit) {}
+
+  /**
+   * Called when an adaptive worker changed its poll interval, e.g. because the gateway rejected
+   * the activation of jobs due to resource exhaustion.
+   *
+   * @param pollInterval the new poll interval
+   */
+  default void pollIntervalChanged(final Duration pollInterval) {}
+
+  /** @return metrics which ignore all values */
+  static JobWorkerMetrics noop() {
+    return new JobWorkerMetrics() {};
+  }
+}
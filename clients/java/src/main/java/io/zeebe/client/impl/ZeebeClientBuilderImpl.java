@@ -27,8 +27,10 @@ import io.zeebe.client.CredentialsProvider;
 import io.zeebe.client.ZeebeClient;
 import io.zeebe.client.ZeebeClientBuilder;
 import io.zeebe.client.ZeebeClientConfiguration;
+import io.zeebe.client.api.MsgPackCodec;
 import io.zeebe.client.impl.oauth.OAuthCredentialsProviderBuilder;
 import io.zeebe.client.impl.util.Environment;
+import io.zeebe.client.impl.worker.VirtualThreads;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -48,8 +50,10 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
 
   private final List<ClientInterceptor> interceptors = new ArrayList<>();
   private String gatewayAddress = "0.0.0.0:26500";
+  private boolean partitionAwareRouting = false;
   private int jobWorkerMaxJobsActive = 32;
   private int numJobWorkerExecutionThreads = 1;
+  private boolean jobWorkerVirtualThreads = false;
   private String defaultJobWorkerName = "default";
   private Duration defaultJobTimeout = Duration.ofMinutes(5);
   private Duration defaultJobPollInterval = Duration.ofMillis(100);
@@ -59,6 +63,7 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
   private String certificatePath;
   private CredentialsProvider credentialsProvider;
   private Duration keepAlive = Duration.ofSeconds(45);
+  private MsgPackCodec msgPackCodec;
 
   @Override
   public String getBrokerContactPoint() {
@@ -70,11 +75,21 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return gatewayAddress;
   }
 
+  @Override
+  public boolean isPartitionAwareRouting() {
+    return partitionAwareRouting;
+  }
+
   @Override
   public int getNumJobWorkerExecutionThreads() {
     return numJobWorkerExecutionThreads;
   }
 
+  @Override
+  public boolean isJobWorkerVirtualThreads() {
+    return jobWorkerVirtualThreads;
+  }
+
   @Override
   public int getDefaultJobWorkerMaxJobsActive() {
     return jobWorkerMaxJobsActive;
@@ -130,12 +145,21 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return interceptors;
   }
 
+  @Override
+  public MsgPackCodec getMsgPackCodec() {
+    return msgPackCodec;
+  }
+
   @Override
   public ZeebeClientBuilder withProperties(final Properties properties) {
 
     if (properties.containsKey(ClientProperties.GATEWAY_ADDRESS)) {
       gatewayAddress(properties.getProperty(ClientProperties.GATEWAY_ADDRESS));
     }
+    if (properties.containsKey(ClientProperties.PARTITION_AWARE_ROUTING)) {
+      partitionAwareRouting(
+          Boolean.parseBoolean(properties.getProperty(ClientProperties.PARTITION_AWARE_ROUTING)));
+    }
 
     if (properties.containsKey(ClientProperties.BROKER_CONTACTPOINT)) {
       brokerContactPoint(properties.getProperty(ClientProperties.BROKER_CONTACTPOINT));
@@ -145,6 +169,11 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
       numJobWorkerExecutionThreads(
           Integer.parseInt(properties.getProperty(ClientProperties.JOB_WORKER_EXECUTION_THREADS)));
     }
+    if (properties.containsKey(ClientProperties.JOB_WORKER_VIRTUAL_THREADS)) {
+      jobWorkerVirtualThreads(
+          Boolean.parseBoolean(
+              properties.getProperty(ClientProperties.JOB_WORKER_VIRTUAL_THREADS)));
+    }
     if (properties.containsKey(ClientProperties.JOB_WORKER_MAX_JOBS_ACTIVE)) {
       defaultJobWorkerMaxJobsActive(
           Integer.parseInt(properties.getProperty(ClientProperties.JOB_WORKER_MAX_JOBS_ACTIVE)));
@@ -205,6 +234,12 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder partitionAwareRouting(final boolean enabled) {
+    partitionAwareRouting = enabled;
+    return this;
+  }
+
   @Override
   public ZeebeClientBuilder defaultJobWorkerMaxJobsActive(final int maxJobsActive) {
     jobWorkerMaxJobsActive = maxJobsActive;
@@ -217,6 +252,12 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder jobWorkerVirtualThreads(final boolean enabled) {
+    jobWorkerVirtualThreads = enabled;
+    return this;
+  }
+
   @Override
   public ZeebeClientBuilder defaultJobWorkerName(final String workerName) {
     defaultJobWorkerName = workerName;
@@ -281,11 +322,22 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder msgPackCodec(final MsgPackCodec msgPackCodec) {
+    this.msgPackCodec = msgPackCodec;
+    return this;
+  }
+
   @Override
   public ZeebeClient build() {
     applyOverrides();
     applyDefaults();
 
+    if (isJobWorkerVirtualThreads()) {
+      // fail before the client creates its channel and executors
+      VirtualThreads.ensureSupported();
+    }
+
     return new ZeebeClientImpl(this);
   }
 
@@ -313,8 +365,10 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
 
     appendProperty(sb, "brokerContactPoint", gatewayAddress);
     appendProperty(sb, "gatewayAddress", gatewayAddress);
+    appendProperty(sb, "partitionAwareRouting", partitionAwareRouting);
     appendProperty(sb, "jobWorkerMaxJobsActive", jobWorkerMaxJobsActive);
     appendProperty(sb, "numJobWorkerExecutionThreads", numJobWorkerExecutionThreads);
+    appendProperty(sb, "jobWorkerVirtualThreads", jobWorkerVirtualThreads);
     appendProperty(sb, "defaultJobWorkerName", defaultJobWorkerName);
     appendProperty(sb, "defaultJobTimeout", defaultJobTimeout);
     appendProperty(sb, "defaultJobPollInterval", defaultJobPollInterval);
@@ -29,10 +29,13 @@ import io.zeebe.client.api.command.ActivateJobsCommandStep1;
 import io.zeebe.client.api.command.CancelWorkflowInstanceCommandStep1;
 import io.zeebe.client.api.command.ClientException;
 import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1;
+import io.zeebe.client.api.command.CreateWorkflowInstancesCommandStep1;
 import io.zeebe.client.api.command.DeployWorkflowCommandStep1;
 import io.zeebe.client.api.command.FailJobCommandStep1;
 import io.zeebe.client.api.command.PublishMessageCommandStep1;
+import io.zeebe.client.api.command.PublishMessagesCommandStep1;
 import io.zeebe.client.api.command.ResolveIncidentCommandStep1;
 import io.zeebe.client.api.command.SetVariablesCommandStep1;
 import io.zeebe.client.api.command.ThrowErrorCommandStep1;
@@ -43,15 +46,21 @@ import io.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.zeebe.client.impl.command.ActivateJobsCommandImpl;
 import io.zeebe.client.impl.command.CancelWorkflowInstanceCommandImpl;
 import io.zeebe.client.impl.command.CreateWorkflowInstanceCommandImpl;
+import io.zeebe.client.impl.command.CreateWorkflowInstancesCommandImpl;
 import io.zeebe.client.impl.command.DeployWorkflowCommandImpl;
 import io.zeebe.client.impl.command.JobUpdateRetriesCommandImpl;
 import io.zeebe.client.impl.command.PublishMessageCommandImpl;
+import io.zeebe.client.impl.command.PublishMessagesCommandImpl;
 import io.zeebe.client.impl.command.ResolveIncidentCommandImpl;
 import io.zeebe.client.impl.command.SetVariablesCommandImpl;
 import io.zeebe.client.impl.command.TopologyRequestImpl;
+import io.zeebe.client.impl.routing.GatewayRouter;
+import io.zeebe.client.impl.routing.PartitionAwareGatewayRouter;
+import io.zeebe.client.impl.routing.SingleGatewayRouter;
 import io.zeebe.client.impl.util.VersionUtil;
 import io.zeebe.client.impl.worker.JobClientImpl;
 import io.zeebe.client.impl.worker.JobWorkerBuilderImpl;
+import io.zeebe.client.impl.worker.VirtualThreads;
 import io.zeebe.gateway.protocol.GatewayGrpc;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import java.io.Closeable;
@@ -61,6 +70,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -71,6 +81,9 @@ public final class ZeebeClientImpl implements ZeebeClient {
   private final GatewayStub asyncStub;
   private final ManagedChannel channel;
   private final ScheduledExecutorService executorService;
+  private final ExecutorService jobHandlerExecutor;
+  private final GatewayRouter router;
+  private final PartitionAwareGatewayRouter partitionAwareRouter;
   private final List<Closeable> closeables = new CopyOnWriteArrayList<>();
   private final JobClient jobClient;
   private final CredentialsProvider credentialsProvider;
@@ -96,25 +109,65 @@ public final class ZeebeClientImpl implements ZeebeClient {
       final ManagedChannel channel,
       final GatewayStub gatewayStub,
       final ScheduledExecutorService executorService) {
+    this(
+        config,
+        channel,
+        gatewayStub,
+        executorService,
+        buildJobHandlerExecutor(config, channel, executorService));
+  }
+
+  /**
+   * @param jobHandlerExecutor runs the handlers of the job workers; if it is not the given {@code
+   *     executorService}, it is shut down on close and the running handlers are awaited before the
+   *     channel is closed
+   */
+  public ZeebeClientImpl(
+      final ZeebeClientConfiguration config,
+      final ManagedChannel channel,
+      final GatewayStub gatewayStub,
+      final ScheduledExecutorService executorService,
+      final ExecutorService jobHandlerExecutor) {
     this.config = config;
-    objectMapper = new ZeebeObjectMapper();
+    objectMapper = new ZeebeObjectMapper(config.getMsgPackCodec());
     this.channel = channel;
     asyncStub = gatewayStub;
     this.executorService = executorService;
+    this.jobHandlerExecutor = jobHandlerExecutor;
 
     if (config.getCredentialsProvider() != null) {
       credentialsProvider = config.getCredentialsProvider();
     } else {
       credentialsProvider = new NoopCredentialsProvider();
     }
+
+    if (config.isPartitionAwareRouting()) {
+      partitionAwareRouter =
+          new PartitionAwareGatewayRouter(
+              asyncStub,
+              gatewayAddress -> buildChannel(config, gatewayAddress),
+              leaderChannel -> buildGatewayStub(leaderChannel, config),
+              executorService);
+      partitionAwareRouter.start();
+      router = partitionAwareRouter;
+    } else {
+      partitionAwareRouter = null;
+      router = new SingleGatewayRouter(asyncStub);
+    }
+
     jobClient = newJobClient();
   }
 
   public static ManagedChannel buildChannel(final ZeebeClientConfiguration config) {
+    return buildChannel(config, config.getGatewayAddress());
+  }
+
+  private static ManagedChannel buildChannel(
+      final ZeebeClientConfiguration config, final String gatewayAddress) {
     final URI address;
 
     try {
-      address = new URI("zb://" + config.getGatewayAddress());
+      address = new URI("zb://" + gatewayAddress);
     } catch (final URISyntaxException e) {
       throw new RuntimeException("Failed to parse broker contact point", e);
     }
@@ -181,6 +234,24 @@ public final class ZeebeClientImpl implements ZeebeClient {
     return Executors.newScheduledThreadPool(threadCount);
   }
 
+  private static ExecutorService buildJobHandlerExecutor(
+      final ZeebeClientConfiguration config,
+      final ManagedChannel channel,
+      final ScheduledExecutorService executorService) {
+    if (!config.isJobWorkerVirtualThreads()) {
+      return executorService;
+    }
+
+    try {
+      return VirtualThreads.newVirtualThreadPerTaskExecutor();
+    } catch (final ClientException e) {
+      // the client is not created, so it can't be closed
+      executorService.shutdownNow();
+      channel.shutdownNow();
+      throw e;
+    }
+  }
+
   @Override
   public TopologyRequestStep1 newTopologyRequest() {
     return new TopologyRequestImpl(
@@ -203,6 +274,44 @@ public final class ZeebeClientImpl implements ZeebeClient {
           }
         });
 
+    // the resources are released even if a previous step times out
+    try {
+      closeJobHandlerExecutor();
+    } finally {
+      try {
+        closeJobWorkerExecutor();
+      } finally {
+        if (partitionAwareRouter != null) {
+          partitionAwareRouter.close();
+        }
+
+        closeChannel();
+      }
+    }
+  }
+
+  private void closeJobHandlerExecutor() {
+    if (jobHandlerExecutor == executorService) {
+      return;
+    }
+
+    // let the running handlers finish, their commands are sent before the channel is closed
+    jobHandlerExecutor.shutdown();
+
+    try {
+      if (!jobHandlerExecutor.awaitTermination(15, TimeUnit.SECONDS)) {
+        jobHandlerExecutor.shutdownNow();
+        throw new ClientException(
+            "Timed out awaiting termination of job handler executor after 15 seconds");
+      }
+    } catch (final InterruptedException e) {
+      jobHandlerExecutor.shutdownNow();
+      throw new ClientException(
+          "Unexpected interrupted awaiting termination of job handler executor", e);
+    }
+  }
+
+  private void closeJobWorkerExecutor() {
     executorService.shutdownNow();
 
     try {
@@ -214,7 +323,9 @@ public final class ZeebeClientImpl implements ZeebeClient {
       throw new ClientException(
           "Unexpected interrupted awaiting termination of job worker executor", e);
     }
+  }
 
+  private void closeChannel() {
     channel.shutdownNow();
 
     try {
@@ -243,6 +354,12 @@ public final class ZeebeClientImpl implements ZeebeClient {
         credentialsProvider::shouldRetryRequest);
   }
 
+  @Override
+  public CreateWorkflowInstancesCommandStep1 newCreateInstancesCommand() {
+    return new CreateWorkflowInstancesCommandImpl(
+        asyncStub, config.getDefaultRequestTimeout(), credentialsProvider::shouldRetryRequest);
+  }
+
   @Override
   public CancelWorkflowInstanceCommandStep1 newCancelInstanceCommand(
       final long workflowInstanceKey) {
@@ -266,7 +383,13 @@ public final class ZeebeClientImpl implements ZeebeClient {
   @Override
   public PublishMessageCommandStep1 newPublishMessageCommand() {
     return new PublishMessageCommandImpl(
-        asyncStub, config, objectMapper, credentialsProvider::shouldRetryRequest);
+        router, config, objectMapper, credentialsProvider::shouldRetryRequest);
+  }
+
+  @Override
+  public PublishMessagesCommandStep1 newPublishMessagesCommand() {
+    return new PublishMessagesCommandImpl(
+        asyncStub, config.getDefaultRequestTimeout(), credentialsProvider::shouldRetryRequest);
   }
 
   @Override
@@ -295,6 +418,7 @@ public final class ZeebeClientImpl implements ZeebeClient {
         jobClient,
         objectMapper,
         executorService,
+        jobHandlerExecutor,
         closeables,
         credentialsProvider::shouldRetryRequest);
   }
@@ -307,7 +431,7 @@ public final class ZeebeClientImpl implements ZeebeClient {
 
   private JobClient newJobClient() {
     return new JobClientImpl(
-        asyncStub, config, objectMapper, credentialsProvider::shouldRetryRequest);
+        asyncStub, router, config, objectMapper, credentialsProvider::shouldRetryRequest);
   }
 
   @Override
@@ -315,6 +439,11 @@ public final class ZeebeClientImpl implements ZeebeClient {
     return jobClient.newCompleteCommand(jobKey);
   }
 
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return jobClient.newCompleteJobsCommand();
+  }
+
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return jobClient.newFailCommand(jobKey);
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zeebe.client.api.MsgPackCodec;
 import io.zeebe.client.api.command.InternalClientException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -32,10 +33,53 @@ public final class ZeebeObjectMapper extends ObjectMapper {
   private static final TypeReference<Map<String, String>> STRING_MAP_TYPE_REFERENCE =
       new TypeReference<Map<String, String>>() {};
 
+  private final transient MsgPackCodec msgPackCodec;
+
   public ZeebeObjectMapper() {
+    this(null);
+  }
+
+  public ZeebeObjectMapper(final MsgPackCodec msgPackCodec) {
+    this.msgPackCodec = msgPackCodec;
     configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
   }
 
+  /** @return true if variables are sent and received as MessagePack */
+  public boolean isMsgPackEnabled() {
+    return msgPackCodec != null;
+  }
+
+  public byte[] toMsgPack(final Object value) {
+    try {
+      return getMsgPackCodec().toMsgPack(value);
+    } catch (final RuntimeException e) {
+      throw new InternalClientException(
+          String.format("Failed to serialize object '%s' to MessagePack", value), e);
+    }
+  }
+
+  public <T> T fromMsgPack(final byte[] msgPack, final Class<T> typeClass) {
+    try {
+      return getMsgPackCodec().fromMsgPack(msgPack, typeClass);
+    } catch (final RuntimeException e) {
+      throw new InternalClientException(
+          String.format("Failed to deserialize MessagePack to class '%s'", typeClass), e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public Map<String, Object> fromMsgPackAsMap(final byte[] msgPack) {
+    return fromMsgPack(msgPack, Map.class);
+  }
+
+  private MsgPackCodec getMsgPackCodec() {
+    if (msgPackCodec == null) {
+      throw new InternalClientException(
+          "Expected a MsgPackCodec to be configured to handle MessagePack variables, but none was");
+    }
+    return msgPackCodec;
+  }
+
   public <T> T fromJson(final String json, final Class<T> typeClass) {
     try {
       return readValue(json, typeClass);
@@ -54,7 +54,7 @@ public final class ActivateJobsCommandImpl
     this.asyncStub = asyncStub;
     this.objectMapper = objectMapper;
     this.retryPredicate = retryPredicate;
-    builder = ActivateJobsRequest.newBuilder();
+    builder = ActivateJobsRequest.newBuilder().setMsgPackVariables(objectMapper.isMsgPackEnabled());
     requestTimeout(config.getDefaultRequestTimeout());
     timeout(config.getDefaultJobTimeout());
     workerName(config.getDefaultJobWorkerName());
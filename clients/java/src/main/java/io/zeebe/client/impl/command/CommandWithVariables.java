@@ -44,8 +44,18 @@ public abstract class CommandWithVariables<T> {
 
   public T variables(final Object variables) {
     ArgumentUtil.ensureNotNull("variables", variables);
+    if (objectMapper.isMsgPackEnabled()) {
+      return setMsgPackVariablesInternal(objectMapper.toMsgPack(variables));
+    }
     return setVariablesInternal(objectMapper.toJson(variables));
   }
 
+  public T variablesAsMsgPack(final byte[] variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    return setMsgPackVariablesInternal(variables);
+  }
+
   protected abstract T setVariablesInternal(String variables);
+
+  protected abstract T setMsgPackVariablesInternal(byte[] variables);
 }
@@ -15,6 +15,7 @@
  */
 package io.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.grpc.stub.StreamObserver;
 import io.zeebe.client.api.ZeebeFuture;
 import io.zeebe.client.api.command.CompleteJobCommandStep1;
@@ -60,7 +61,7 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
 
   @Override
   public ZeebeFuture<CompleteJobResponse> send() {
-    final CompleteJobRequest request = builder.build();
+    final CompleteJobRequest request = buildRequest();
 
     final RetriableClientFutureImpl<CompleteJobResponse, GatewayOuterClass.CompleteJobResponse>
         future =
@@ -79,9 +80,19 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
         .completeJob(request, streamObserver);
   }
 
+  CompleteJobRequest buildRequest() {
+    return builder.build();
+  }
+
   @Override
   protected CompleteJobCommandStep1 setVariablesInternal(final String variables) {
-    builder.setVariables(variables);
+    builder.setVariables(variables).clearVariablesMsgPack();
+    return this;
+  }
+
+  @Override
+  protected CompleteJobCommandStep1 setMsgPackVariablesInternal(final byte[] variables) {
+    builder.clearVariables().setVariablesMsgPack(ByteString.copyFrom(variables));
     return this;
   }
 }
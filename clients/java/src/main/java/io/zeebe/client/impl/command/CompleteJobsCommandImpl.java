@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
+import io.zeebe.client.api.command.FinalCommandStep;
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.impl.RetriableClientFutureImpl;
+import io.zeebe.client.impl.response.BatchResponseImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public final class CompleteJobsCommandImpl implements CompleteJobsCommandStep1 {
+
+  private final GatewayStub asyncStub;
+  private final CompleteJobsRequest.Builder builder = CompleteJobsRequest.newBuilder();
+  private final Predicate<Throwable> retryPredicate;
+  private Duration requestTimeout;
+
+  public CompleteJobsCommandImpl(
+      final GatewayStub asyncStub,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 add(final CompleteJobCommandStep1 command) {
+    ArgumentUtil.ensureNotNull("command", command);
+    if (!(command instanceof CompleteJobCommandImpl)) {
+      throw new IllegalArgumentException(
+          "Expected a command created by JobClient#newCompleteCommand, but got " + command);
+    }
+
+    builder.addRequests(((CompleteJobCommandImpl) command).buildRequest());
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<BatchResponse<CompleteJobResponse>> requestTimeout(
+      final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<BatchResponse<CompleteJobResponse>> send() {
+    final CompleteJobsRequest request = builder.build();
+
+    final RetriableClientFutureImpl<
+            BatchResponse<CompleteJobResponse>, GatewayOuterClass.CompleteJobsResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                CompleteJobsCommandImpl::toBatchResponse,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final CompleteJobsRequest request,
+      final StreamObserver<GatewayOuterClass.CompleteJobsResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJobs(request, streamObserver);
+  }
+
+  private static BatchResponse<CompleteJobResponse> toBatchResponse(
+      final GatewayOuterClass.CompleteJobsResponse response) {
+    final BatchResponseImpl<CompleteJobResponse> batchResponse = new BatchResponseImpl<>();
+    for (final CompleteJobsResult result : response.getResultsList()) {
+      if (result.hasError()) {
+        batchResponse.addError(result.getError());
+      } else {
+        batchResponse.addResponse(null);
+      }
+    }
+    return batchResponse;
+  }
+}
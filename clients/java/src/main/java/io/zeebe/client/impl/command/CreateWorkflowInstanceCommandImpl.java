@@ -15,6 +15,7 @@
  */
 package io.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.grpc.stub.StreamObserver;
 import io.zeebe.client.api.ZeebeFuture;
 import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1;
@@ -79,9 +80,19 @@ public final class CreateWorkflowInstanceCommandImpl
   @Override
   public CreateWorkflowInstanceCommandStep3 variables(final Object variables) {
     ArgumentUtil.ensureNotNull("variables", variables);
+    if (objectMapper.isMsgPackEnabled()) {
+      return variablesAsMsgPack(objectMapper.toMsgPack(variables));
+    }
     return setVariables(objectMapper.toJson(variables));
   }
 
+  @Override
+  public CreateWorkflowInstanceCommandStep3 variablesAsMsgPack(final byte[] variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    builder.clearVariables().setVariablesMsgPack(ByteString.copyFrom(variables));
+    return this;
+  }
+
   @Override
   public CreateWorkflowInstanceWithResultCommandStep1 withResult() {
     return new CreateWorkflowInstanceWithResultCommandImpl(
@@ -119,7 +130,7 @@ public final class CreateWorkflowInstanceCommandImpl
 
   @Override
   public ZeebeFuture<WorkflowInstanceEvent> send() {
-    final CreateWorkflowInstanceRequest request = builder.build();
+    final CreateWorkflowInstanceRequest request = buildRequest();
 
     final RetriableClientFutureImpl<
             WorkflowInstanceEvent, GatewayOuterClass.CreateWorkflowInstanceResponse>
@@ -133,6 +144,10 @@ public final class CreateWorkflowInstanceCommandImpl
     return future;
   }
 
+  CreateWorkflowInstanceRequest buildRequest() {
+    return builder.build();
+  }
+
   private void send(
       final CreateWorkflowInstanceRequest request,
       final StreamObserver<GatewayOuterClass.CreateWorkflowInstanceResponse> future) {
@@ -142,7 +157,7 @@ public final class CreateWorkflowInstanceCommandImpl
   }
 
   private CreateWorkflowInstanceCommandStep3 setVariables(final String jsonDocument) {
-    builder.setVariables(jsonDocument);
+    builder.setVariables(jsonDocument).clearVariablesMsgPack();
     return this;
   }
 }
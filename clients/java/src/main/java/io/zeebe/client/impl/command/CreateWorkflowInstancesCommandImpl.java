@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1.CreateWorkflowInstanceCommandStep3;
+import io.zeebe.client.api.command.CreateWorkflowInstancesCommandStep1;
+import io.zeebe.client.api.command.FinalCommandStep;
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.WorkflowInstanceEvent;
+import io.zeebe.client.impl.RetriableClientFutureImpl;
+import io.zeebe.client.impl.response.BatchResponseImpl;
+import io.zeebe.client.impl.response.CreateWorkflowInstanceResponseImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResult;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public final class CreateWorkflowInstancesCommandImpl
+    implements CreateWorkflowInstancesCommandStep1 {
+
+  private final GatewayStub asyncStub;
+  private final CreateWorkflowInstancesRequest.Builder builder =
+      CreateWorkflowInstancesRequest.newBuilder();
+  private final Predicate<Throwable> retryPredicate;
+  private Duration requestTimeout;
+
+  public CreateWorkflowInstancesCommandImpl(
+      final GatewayStub asyncStub,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+  }
+
+  @Override
+  public CreateWorkflowInstancesCommandStep1 add(final CreateWorkflowInstanceCommandStep3 command) {
+    ArgumentUtil.ensureNotNull("command", command);
+    if (!(command instanceof CreateWorkflowInstanceCommandImpl)) {
+      throw new IllegalArgumentException(
+          "Expected a command created by ZeebeClient#newCreateInstanceCommand, but got "
+              + command);
+    }
+
+    builder.addRequests(((CreateWorkflowInstanceCommandImpl) command).buildRequest());
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<BatchResponse<WorkflowInstanceEvent>> requestTimeout(
+      final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<BatchResponse<WorkflowInstanceEvent>> send() {
+    final CreateWorkflowInstancesRequest request = builder.build();
+
+    final RetriableClientFutureImpl<
+            BatchResponse<WorkflowInstanceEvent>,
+            GatewayOuterClass.CreateWorkflowInstancesResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                CreateWorkflowInstancesCommandImpl::toBatchResponse,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final CreateWorkflowInstancesRequest request,
+      final StreamObserver<GatewayOuterClass.CreateWorkflowInstancesResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .createWorkflowInstances(request, streamObserver);
+  }
+
+  private static BatchResponse<WorkflowInstanceEvent> toBatchResponse(
+      final GatewayOuterClass.CreateWorkflowInstancesResponse response) {
+    final BatchResponseImpl<WorkflowInstanceEvent> batchResponse = new BatchResponseImpl<>();
+    for (final CreateWorkflowInstancesResult result : response.getResultsList()) {
+      if (result.hasError()) {
+        batchResponse.addError(result.getError());
+      } else {
+        batchResponse.addResponse(new CreateWorkflowInstanceResponseImpl(result.getResponse()));
+      }
+    }
+    return batchResponse;
+  }
+}
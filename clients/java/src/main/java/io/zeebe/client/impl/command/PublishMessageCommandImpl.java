@@ -15,6 +15,7 @@
  */
 package io.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.grpc.stub.StreamObserver;
 import io.zeebe.client.ZeebeClientConfiguration;
 import io.zeebe.client.api.ZeebeFuture;
@@ -26,7 +27,7 @@ import io.zeebe.client.api.response.PublishMessageResponse;
 import io.zeebe.client.impl.RetriableClientFutureImpl;
 import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.client.impl.response.PublishMessageResponseImpl;
-import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.client.impl.routing.GatewayRouter;
 import io.zeebe.gateway.protocol.GatewayOuterClass;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import java.time.Duration;
@@ -36,18 +37,18 @@ import java.util.function.Predicate;
 public final class PublishMessageCommandImpl extends CommandWithVariables<PublishMessageCommandImpl>
     implements PublishMessageCommandStep1, PublishMessageCommandStep2, PublishMessageCommandStep3 {
 
-  private final GatewayStub asyncStub;
+  private final GatewayRouter router;
   private final Predicate<Throwable> retryPredicate;
   private final PublishMessageRequest.Builder builder;
   private Duration requestTimeout;
 
   public PublishMessageCommandImpl(
-      final GatewayStub asyncStub,
+      final GatewayRouter router,
       final ZeebeClientConfiguration configuration,
       final ZeebeObjectMapper objectMapper,
       final Predicate<Throwable> retryPredicate) {
     super(objectMapper);
-    this.asyncStub = asyncStub;
+    this.router = router;
     this.retryPredicate = retryPredicate;
     builder = PublishMessageRequest.newBuilder();
     requestTimeout = configuration.getDefaultRequestTimeout();
@@ -56,7 +57,13 @@ public final class PublishMessageCommandImpl extends CommandWithVariables<Publis
 
   @Override
   protected PublishMessageCommandImpl setVariablesInternal(final String variables) {
-    builder.setVariables(variables);
+    builder.setVariables(variables).clearVariablesMsgPack();
+    return this;
+  }
+
+  @Override
+  protected PublishMessageCommandImpl setMsgPackVariablesInternal(final byte[] variables) {
+    builder.clearVariables().setVariablesMsgPack(ByteString.copyFrom(variables));
     return this;
   }
 
@@ -92,7 +99,7 @@ public final class PublishMessageCommandImpl extends CommandWithVariables<Publis
 
   @Override
   public ZeebeFuture<PublishMessageResponse> send() {
-    final PublishMessageRequest request = builder.build();
+    final PublishMessageRequest request = buildRequest();
     final RetriableClientFutureImpl<
             PublishMessageResponse, GatewayOuterClass.PublishMessageResponse>
         future =
@@ -105,10 +112,15 @@ public final class PublishMessageCommandImpl extends CommandWithVariables<Publis
     return future;
   }
 
+  PublishMessageRequest buildRequest() {
+    return builder.build();
+  }
+
   private void send(
       final PublishMessageRequest request,
       final StreamObserver<GatewayOuterClass.PublishMessageResponse> streamObserver) {
-    asyncStub
+    router
+        .forCorrelationKey(request.getCorrelationKey())
         .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
         .publishMessage(request, streamObserver);
   }
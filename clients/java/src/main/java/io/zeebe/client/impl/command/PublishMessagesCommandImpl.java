@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.FinalCommandStep;
+import io.zeebe.client.api.command.PublishMessageCommandStep1.PublishMessageCommandStep3;
+import io.zeebe.client.api.command.PublishMessagesCommandStep1;
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.PublishMessageResponse;
+import io.zeebe.client.impl.RetriableClientFutureImpl;
+import io.zeebe.client.impl.response.BatchResponseImpl;
+import io.zeebe.client.impl.response.PublishMessageResponseImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResult;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public final class PublishMessagesCommandImpl implements PublishMessagesCommandStep1 {
+
+  private final GatewayStub asyncStub;
+  private final PublishMessagesRequest.Builder builder = PublishMessagesRequest.newBuilder();
+  private final Predicate<Throwable> retryPredicate;
+  private Duration requestTimeout;
+
+  public PublishMessagesCommandImpl(
+      final GatewayStub asyncStub,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+  }
+
+  @Override
+  public PublishMessagesCommandStep1 add(final PublishMessageCommandStep3 command) {
+    ArgumentUtil.ensureNotNull("command", command);
+    if (!(command instanceof PublishMessageCommandImpl)) {
+      throw new IllegalArgumentException(
+          "Expected a command created by ZeebeClient#newPublishMessageCommand, but got "
+              + command);
+    }
+
+    builder.addRequests(((PublishMessageCommandImpl) command).buildRequest());
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<BatchResponse<PublishMessageResponse>> requestTimeout(
+      final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<BatchResponse<PublishMessageResponse>> send() {
+    final PublishMessagesRequest request = builder.build();
+
+    final RetriableClientFutureImpl<
+            BatchResponse<PublishMessageResponse>, GatewayOuterClass.PublishMessagesResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                PublishMessagesCommandImpl::toBatchResponse,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final PublishMessagesRequest request,
+      final StreamObserver<GatewayOuterClass.PublishMessagesResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .publishMessages(request, streamObserver);
+  }
+
+  private static BatchResponse<PublishMessageResponse> toBatchResponse(
+      final GatewayOuterClass.PublishMessagesResponse response) {
+    final BatchResponseImpl<PublishMessageResponse> batchResponse = new BatchResponseImpl<>();
+    for (final PublishMessagesResult result : response.getResultsList()) {
+      if (result.hasError()) {
+        batchResponse.addError(result.getError());
+      } else {
+        batchResponse.addResponse(new PublishMessageResponseImpl(result.getResponse()));
+      }
+    }
+    return batchResponse;
+  }
+}
@@ -15,6 +15,7 @@
  */
 package io.zeebe.client.impl.command;
 
+import com.google.protobuf.ByteString;
 import io.grpc.stub.StreamObserver;
 import io.zeebe.client.api.ZeebeFuture;
 import io.zeebe.client.api.command.FinalCommandStep;
@@ -112,11 +113,21 @@ public final class SetVariablesCommandImpl
   @Override
   public SetVariablesCommandStep2 variables(final Object variables) {
     ArgumentUtil.ensureNotNull("variables", variables);
+    if (objectMapper.isMsgPackEnabled()) {
+      return variablesAsMsgPack(objectMapper.toMsgPack(variables));
+    }
     return setVariables(objectMapper.toJson(variables));
   }
 
+  @Override
+  public SetVariablesCommandStep2 variablesAsMsgPack(final byte[] variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    builder.clearVariables().setVariablesMsgPack(ByteString.copyFrom(variables));
+    return this;
+  }
+
   private SetVariablesCommandStep2 setVariables(final String jsonDocument) {
-    builder.setVariables(jsonDocument);
+    builder.setVariables(jsonDocument).clearVariablesMsgPack();
     return this;
   }
 }
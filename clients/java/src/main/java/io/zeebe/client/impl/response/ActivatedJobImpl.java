@@ -38,6 +38,7 @@ public final class ActivatedJobImpl implements ActivatedJob {
   private final int retries;
   private final long deadline;
   private final String variables;
+  @JsonIgnore private final byte[] msgPackVariables;
 
   public ActivatedJobImpl(
       final ZeebeObjectMapper objectMapper, final GatewayOuterClass.ActivatedJob job) {
@@ -49,7 +50,13 @@ public final class ActivatedJobImpl implements ActivatedJob {
     worker = job.getWorker();
     retries = job.getRetries();
     deadline = job.getDeadline();
-    variables = job.getVariables();
+    if (job.getVariablesMsgPack().isEmpty()) {
+      variables = job.getVariables();
+      msgPackVariables = null;
+    } else {
+      variables = null;
+      msgPackVariables = job.getVariablesMsgPack().toByteArray();
+    }
     workflowInstanceKey = job.getWorkflowInstanceKey();
     bpmnProcessId = job.getBpmnProcessId();
     workflowDefinitionVersion = job.getWorkflowDefinitionVersion();
@@ -120,19 +127,34 @@ public final class ActivatedJobImpl implements ActivatedJob {
 
   @Override
   public String getVariables() {
+    if (msgPackVariables != null) {
+      return objectMapper.toJson(getVariablesAsMap());
+    }
     return variables;
   }
 
   @Override
   public Map<String, Object> getVariablesAsMap() {
+    if (msgPackVariables != null) {
+      return objectMapper.fromMsgPackAsMap(msgPackVariables);
+    }
     return objectMapper.fromJsonAsMap(variables);
   }
 
   @Override
   public <T> T getVariablesAsType(final Class<T> variableType) {
+    if (msgPackVariables != null) {
+      return objectMapper.fromMsgPack(msgPackVariables, variableType);
+    }
     return objectMapper.fromJson(variables, variableType);
   }
 
+  @Override
+  @JsonIgnore
+  public byte[] getVariablesAsMsgPack() {
+    return msgPackVariables;
+  }
+
   @Override
   public String toJson() {
     return objectMapper.toJson(this);
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.response;
+
+import io.grpc.Status;
+import io.zeebe.client.api.command.ClientStatusException;
+import io.zeebe.client.api.response.BatchItemResult;
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class BatchResponseImpl<T> implements BatchResponse<T> {
+
+  private final List<BatchItemResult<T>> results = new ArrayList<>();
+
+  public BatchResponseImpl<T> addResponse(final T response) {
+    results.add(new BatchItemResultImpl<>(response, null));
+    return this;
+  }
+
+  public BatchResponseImpl<T> addError(final BatchItemError error) {
+    final Status status =
+        Status.fromCodeValue(error.getCode()).withDescription(error.getMessage());
+    results.add(new BatchItemResultImpl<>(null, new ClientStatusException(status, null)));
+    return this;
+  }
+
+  @Override
+  public List<BatchItemResult<T>> getResults() {
+    return Collections.unmodifiableList(results);
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return results.stream().allMatch(BatchItemResult::isSuccessful);
+  }
+
+  @Override
+  public String toString() {
+    return "BatchResponseImpl{" + "results=" + results + '}';
+  }
+
+  private static final class BatchItemResultImpl<T> implements BatchItemResult<T> {
+
+    private final T response;
+    private final ClientStatusException error;
+
+    private BatchItemResultImpl(final T response, final ClientStatusException error) {
+      this.response = response;
+      this.error = error;
+    }
+
+    @Override
+    public boolean isSuccessful() {
+      return error == null;
+    }
+
+    @Override
+    public T getResponse() {
+      return response;
+    }
+
+    @Override
+    public ClientStatusException getError() {
+      return error;
+    }
+
+    @Override
+    public String toString() {
+      return "BatchItemResultImpl{" + "response=" + response + ", error=" + error + '}';
+    }
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.routing;
+
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+
+/** Chooses the gateway a request is sent to. */
+public interface GatewayRouter {
+
+  /**
+   * @param jobKey the key of the job the request targets
+   * @return the stub of the gateway to send the request to
+   */
+  GatewayStub forJob(long jobKey);
+
+  /**
+   * @param correlationKey the correlation key of the message to publish
+   * @return the stub of the gateway to send the request to
+   */
+  GatewayStub forCorrelationKey(String correlationKey);
+}
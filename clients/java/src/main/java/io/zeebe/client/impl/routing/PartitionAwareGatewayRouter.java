@@ -0,0 +1,247 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.routing;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.zeebe.client.api.command.ClientException;
+import io.zeebe.client.impl.Loggers;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
+import io.zeebe.gateway.protocol.GatewayOuterClass.Partition;
+import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
+import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.WatchTopologyRequest;
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.slf4j.Logger;
+
+/**
+ * Sends requests of a known partition to the gateway which is embedded in the leader of that
+ * partition, which saves the hop from the configured gateway to the leader. The leaders are
+ * learned by watching the topology of the configured gateway. Requests are sent to the configured
+ * gateway if the partition or the gateway of its leader is not known.
+ *
+ * <p>The routing is only an optimization: every gateway forwards a request to the current leader of
+ * its partition, so a request which is sent based on an outdated topology still succeeds.
+ */
+public final class PartitionAwareGatewayRouter implements GatewayRouter, Closeable {
+
+  private static final Logger LOG = Loggers.LOGGER;
+  private static final long RESUBSCRIBE_DELAY_MILLIS = 5_000;
+
+  // see io.zeebe.protocol.Protocol
+  private static final int START_PARTITION_ID = 1;
+  private static final int KEY_BITS = 51;
+
+  private final GatewayStub defaultStub;
+  private final Function<String, ManagedChannel> channelFactory;
+  private final Function<ManagedChannel, GatewayStub> stubFactory;
+  private final ScheduledExecutorService scheduler;
+  private final Map<String, ManagedChannel> channels = new ConcurrentHashMap<>();
+  private final Map<String, GatewayStub> stubs = new ConcurrentHashMap<>();
+
+  private volatile RoutingTable routingTable = RoutingTable.EMPTY;
+  private volatile ClientCallStreamObserver<WatchTopologyRequest> topologyWatch;
+  private volatile boolean closed;
+
+  public PartitionAwareGatewayRouter(
+      final GatewayStub defaultStub,
+      final Function<String, ManagedChannel> channelFactory,
+      final Function<ManagedChannel, GatewayStub> stubFactory,
+      final ScheduledExecutorService scheduler) {
+    this.defaultStub = defaultStub;
+    this.channelFactory = channelFactory;
+    this.stubFactory = stubFactory;
+    this.scheduler = scheduler;
+  }
+
+  /** Starts watching the topology of the configured gateway. */
+  public void start() {
+    watchTopology();
+  }
+
+  @Override
+  public GatewayStub forJob(final long jobKey) {
+    return forPartition(routingTable, (int) (jobKey >> KEY_BITS));
+  }
+
+  @Override
+  public GatewayStub forCorrelationKey(final String correlationKey) {
+    final RoutingTable table = routingTable;
+    if (table.partitionsCount <= 0 || correlationKey == null) {
+      return defaultStub;
+    }
+
+    return forPartition(table, getPartitionId(correlationKey, table.partitionsCount));
+  }
+
+  /**
+   * Returns the partition of the message subscriptions for the given correlation key, equal to the
+   * partition the gateway publishes the message to (see {@code SubscriptionUtil} of the broker).
+   */
+  static int getPartitionId(final String correlationKey, final int partitionsCount) {
+    int hashCode = 0;
+    for (final byte b : correlationKey.getBytes(StandardCharsets.UTF_8)) {
+      hashCode = 31 * hashCode + b;
+    }
+
+    return Math.abs(hashCode % partitionsCount) + START_PARTITION_ID;
+  }
+
+  void onTopologyUpdated(final TopologyResponse topology) {
+    routingTable = RoutingTable.of(topology);
+  }
+
+  private GatewayStub forPartition(final RoutingTable table, final int partitionId) {
+    final String gatewayAddress = table.leaderGateways.get(partitionId);
+    if (gatewayAddress == null || closed) {
+      return defaultStub;
+    }
+
+    return stubs.computeIfAbsent(gatewayAddress, this::newStub);
+  }
+
+  private GatewayStub newStub(final String gatewayAddress) {
+    final ManagedChannel channel = channelFactory.apply(gatewayAddress);
+    channels.put(gatewayAddress, channel);
+
+    if (closed) {
+      channel.shutdownNow();
+    }
+
+    return stubFactory.apply(channel);
+  }
+
+  private void watchTopology() {
+    if (!closed) {
+      defaultStub.watchTopology(WatchTopologyRequest.getDefaultInstance(), new TopologyObserver());
+    }
+  }
+
+  private void resubscribe() {
+    if (closed) {
+      return;
+    }
+
+    try {
+      scheduler.schedule(this::watchTopology, RESUBSCRIBE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    } catch (final RejectedExecutionException e) {
+      LOG.debug("Failed to resubscribe to the gateway topology, the client is closing", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+
+    final ClientCallStreamObserver<WatchTopologyRequest> watch = topologyWatch;
+    if (watch != null) {
+      watch.cancel("The client is closed", null);
+    }
+
+    channels.values().forEach(ManagedChannel::shutdownNow);
+
+    try {
+      for (final ManagedChannel channel : channels.values()) {
+        if (!channel.awaitTermination(15, TimeUnit.SECONDS)) {
+          throw new ClientException(
+              "Timed out awaiting termination of leader gateway channel after 15 seconds");
+        }
+      }
+    } catch (final InterruptedException e) {
+      throw new ClientException(
+          "Unexpectedly interrupted awaiting termination of leader gateway channel", e);
+    }
+  }
+
+  private final class TopologyObserver
+      implements ClientResponseObserver<WatchTopologyRequest, TopologyResponse> {
+
+    @Override
+    public void beforeStart(final ClientCallStreamObserver<WatchTopologyRequest> requestStream) {
+      topologyWatch = requestStream;
+    }
+
+    @Override
+    public void onNext(final TopologyResponse topology) {
+      onTopologyUpdated(topology);
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      if (closed) {
+        return;
+      }
+
+      if (Status.fromThrowable(error).getCode() == Code.UNIMPLEMENTED) {
+        LOG.warn(
+            "The gateway does not support watching the topology, all requests are sent to it");
+        return;
+      }
+
+      LOG.debug("Lost the topology watch of the gateway, resubscribing", error);
+      resubscribe();
+    }
+
+    @Override
+    public void onCompleted() {
+      resubscribe();
+    }
+  }
+
+  private static final class RoutingTable {
+
+    private static final RoutingTable EMPTY = new RoutingTable(0, Collections.emptyMap());
+
+    private final int partitionsCount;
+    private final Map<Integer, String> leaderGateways;
+
+    private RoutingTable(final int partitionsCount, final Map<Integer, String> leaderGateways) {
+      this.partitionsCount = partitionsCount;
+      this.leaderGateways = leaderGateways;
+    }
+
+    private static RoutingTable of(final TopologyResponse topology) {
+      final Map<Integer, String> leaderGateways = new HashMap<>();
+
+      for (final BrokerInfo broker : topology.getBrokersList()) {
+        if (broker.getGatewayAddress().isEmpty()) {
+          continue;
+        }
+
+        for (final Partition partition : broker.getPartitionsList()) {
+          if (partition.getRole() == PartitionBrokerRole.LEADER) {
+            leaderGateways.put(partition.getPartitionId(), broker.getGatewayAddress());
+          }
+        }
+      }
+
+      return new RoutingTable(topology.getPartitionsCount(), leaderGateways);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+/**
+ * Estimates how many jobs a worker should keep active, similar to a gradient concurrency limiter.
+ * The latency of a job is the time from its activation until its handler returned. As long as the
+ * latency of the recently handled jobs is close to the long term latency, the limit grows towards
+ * the maximum. When jobs queue up and the recent latency rises above the long term latency, the
+ * limit shrinks proportionally.
+ */
+final class AdaptiveJobLimit {
+
+  private static final int MIN_LIMIT = 1;
+  private static final double SHORT_WINDOW = 10;
+  private static final double LONG_WINDOW = 600;
+  private static final double TOLERANCE = 1.5;
+  private static final double SMOOTHING = 0.2;
+
+  private final int maxLimit;
+
+  private double limit;
+  private double shortLatency;
+  private double longLatency;
+  private volatile int currentLimit;
+
+  AdaptiveJobLimit(final int maxLimit) {
+    this.maxLimit = maxLimit;
+    limit = maxLimit;
+    currentLimit = maxLimit;
+  }
+
+  int getLimit() {
+    return currentLimit;
+  }
+
+  /**
+   * Updates the limit with the latency of a handled job.
+   *
+   * @param latencyNanos the latency of the job
+   * @param activeJobs the number of active jobs when the job was handled
+   * @return true if the limit changed
+   */
+  synchronized boolean onJobHandled(final long latencyNanos, final int activeJobs) {
+    if (longLatency == 0) {
+      shortLatency = latencyNanos;
+      longLatency = latencyNanos;
+    } else {
+      shortLatency += (latencyNanos - shortLatency) / SHORT_WINDOW;
+      longLatency += (latencyNanos - longLatency) / LONG_WINDOW;
+    }
+
+    // recover faster if the latency dropped permanently
+    if (longLatency > 2 * shortLatency) {
+      longLatency *= 0.95;
+    }
+
+    // if the worker doesn't use its limit, the latency tells nothing about a higher limit
+    if (activeJobs < limit / 2) {
+      return false;
+    }
+
+    final double gradient =
+        shortLatency > 0
+            ? Math.max(0.5, Math.min(1.0, TOLERANCE * longLatency / shortLatency))
+            : 1.0;
+    final double newLimit = limit * gradient + Math.sqrt(limit);
+    limit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    limit = Math.max(MIN_LIMIT, Math.min(maxLimit, limit));
+
+    final int previousLimit = currentLimit;
+    currentLimit = (int) limit;
+    return currentLimit != previousLimit;
+  }
+}
@@ -17,29 +17,35 @@ package io.zeebe.client.impl.worker;
 
 import io.zeebe.client.ZeebeClientConfiguration;
 import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.zeebe.client.api.command.FailJobCommandStep1;
 import io.zeebe.client.api.command.ThrowErrorCommandStep1;
 import io.zeebe.client.api.worker.JobClient;
 import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.client.impl.command.CompleteJobCommandImpl;
+import io.zeebe.client.impl.command.CompleteJobsCommandImpl;
 import io.zeebe.client.impl.command.FailJobCommandImpl;
 import io.zeebe.client.impl.command.ThrowErrorCommandImpl;
+import io.zeebe.client.impl.routing.GatewayRouter;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import java.util.function.Predicate;
 
 public final class JobClientImpl implements JobClient {
 
   private final GatewayStub asyncStub;
+  private final GatewayRouter router;
   private final ZeebeClientConfiguration config;
   private final ZeebeObjectMapper objectMapper;
   private final Predicate<Throwable> retryPredicate;
 
   public JobClientImpl(
       final GatewayStub asyncStub,
+      final GatewayRouter router,
       final ZeebeClientConfiguration config,
       final ZeebeObjectMapper objectMapper,
       final Predicate<Throwable> retryPredicate) {
     this.asyncStub = asyncStub;
+    this.router = router;
     this.config = config;
     this.objectMapper = objectMapper;
     this.retryPredicate = retryPredicate;
@@ -48,18 +54,28 @@ public final class JobClientImpl implements JobClient {
   @Override
   public CompleteJobCommandStep1 newCompleteCommand(final long jobKey) {
     return new CompleteJobCommandImpl(
-        asyncStub, objectMapper, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
+        router.forJob(jobKey),
+        objectMapper,
+        jobKey,
+        config.getDefaultRequestTimeout(),
+        retryPredicate);
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return new CompleteJobsCommandImpl(
+        asyncStub, config.getDefaultRequestTimeout(), retryPredicate);
   }
 
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return new FailJobCommandImpl(
-        asyncStub, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
+        router.forJob(jobKey), jobKey, config.getDefaultRequestTimeout(), retryPredicate);
   }
 
   @Override
   public ThrowErrorCommandStep1 newThrowErrorCommand(long jobKey) {
     return new ThrowErrorCommandImpl(
-        asyncStub, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
+        router.forJob(jobKey), jobKey, config.getDefaultRequestTimeout(), retryPredicate);
   }
 }
@@ -46,6 +46,7 @@ public final class JobPoller implements StreamObserver<ActivateJobsResponse> {
   private Consumer<ActivatedJob> jobConsumer;
   private IntConsumer doneCallback;
   private int activatedJobs;
+  private boolean resourceExhausted;
   private BooleanSupplier openSupplier;
   private StatusRuntimeException statusRuntimeException;
 
@@ -64,6 +65,7 @@ public final class JobPoller implements StreamObserver<ActivateJobsResponse> {
 
   private void reset() {
     activatedJobs = 0;
+    resourceExhausted = false;
   }
 
   public void poll(
@@ -105,6 +107,10 @@ public final class JobPoller implements StreamObserver<ActivateJobsResponse> {
     if (retryPredicate.test(throwable)) {
       poll();
     } else {
+      resourceExhausted =
+          throwable instanceof StatusRuntimeException
+              && ((StatusRuntimeException) throwable).getStatus().getCode()
+                  == Status.Code.RESOURCE_EXHAUSTED;
       try {
         if (openSupplier.getAsBoolean()) {
           logError(throwable);
@@ -131,6 +137,11 @@ public final class JobPoller implements StreamObserver<ActivateJobsResponse> {
         throwable);
   }
 
+  /** @return true if the last poll was rejected because the gateway's resources are exhausted */
+  public boolean isResourceExhausted() {
+    return resourceExhausted;
+  }
+
   @Override
   public void onCompleted() {
     pollingDone();
@@ -26,6 +26,7 @@ import io.zeebe.client.api.worker.JobWorker;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep2;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
+import io.zeebe.client.api.worker.JobWorkerMetrics;
 import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
@@ -34,6 +35,7 @@ import java.io.Closeable;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Predicate;
 
@@ -46,6 +48,7 @@ public final class JobWorkerBuilderImpl
   private final JobClient jobClient;
   private final ZeebeObjectMapper objectMapper;
   private final ScheduledExecutorService executorService;
+  private final ExecutorService jobExecutor;
   private final List<Closeable> closeables;
   private final Predicate<Throwable> retryPredicate;
   private String jobType;
@@ -56,6 +59,8 @@ public final class JobWorkerBuilderImpl
   private Duration pollInterval;
   private Duration requestTimeout;
   private List<String> fetchVariables;
+  private boolean adaptiveFlowControl;
+  private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
@@ -63,12 +68,14 @@ public final class JobWorkerBuilderImpl
       final JobClient jobClient,
       final ZeebeObjectMapper objectMapper,
       final ScheduledExecutorService executorService,
+      final ExecutorService jobExecutor,
       final List<Closeable> closeables,
       final Predicate<Throwable> retryPredicate) {
     this.gatewayStub = gatewayStub;
     this.jobClient = jobClient;
     this.objectMapper = objectMapper;
     this.executorService = executorService;
+    this.jobExecutor = jobExecutor;
     this.closeables = closeables;
 
     timeout = configuration.getDefaultJobTimeout().toMillis();
@@ -136,6 +143,18 @@ public final class JobWorkerBuilderImpl
     return fetchVariables(Arrays.asList(fetchVariables));
   }
 
+  @Override
+  public JobWorkerBuilderStep3 adaptiveFlowControl(final boolean enabled) {
+    adaptiveFlowControl = enabled;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -143,6 +162,7 @@ public final class JobWorkerBuilderImpl
     ensureGreaterThan("timeout", timeout, 0L);
     ensureNotNullNorEmpty("workerName", workerName);
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
+    ensureNotNull("metrics", metrics);
 
     final Builder requestBuilder =
         ActivateJobsRequest.newBuilder()
@@ -150,7 +170,8 @@ public final class JobWorkerBuilderImpl
             .setTimeout(timeout)
             .setWorker(workerName)
             .setMaxJobsToActivate(maxJobsActive)
-            .setRequestTimeout(requestTimeout.toMillis());
+            .setRequestTimeout(requestTimeout.toMillis())
+            .setMsgPackVariables(objectMapper.isMsgPackEnabled());
 
     if (fetchVariables != null) {
       requestBuilder.addAllFetchVariable(fetchVariables);
@@ -164,7 +185,14 @@ public final class JobWorkerBuilderImpl
 
     final JobWorkerImpl jobWorker =
         new JobWorkerImpl(
-            maxJobsActive, executorService, pollInterval, jobRunnableFactory, jobPoller);
+            maxJobsActive,
+            executorService,
+            jobExecutor,
+            pollInterval,
+            jobRunnableFactory,
+            jobPoller,
+            adaptiveFlowControl,
+            metrics);
     closeables.add(jobWorker);
     return jobWorker;
   }
@@ -17,6 +17,7 @@ package io.zeebe.client.impl.worker;
 
 import io.zeebe.client.api.response.ActivatedJob;
 import io.zeebe.client.api.worker.JobWorker;
+import io.zeebe.client.api.worker.JobWorkerMetrics;
 import io.zeebe.client.impl.Loggers;
 import java.io.Closeable;
 import java.time.Duration;
@@ -31,15 +32,23 @@ import org.slf4j.Logger;
 public final class JobWorkerImpl implements JobWorker, Closeable {
 
   private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
+  private static final float ACTIVATION_THRESHOLD = 0.3f;
+  private static final long MAX_POLL_BACKOFF_MILLIS = Duration.ofSeconds(10).toMillis();
 
   // job queue state
   private final int maxJobsActive;
-  private final int activationThreshold;
   private final AtomicInteger remainingJobs;
 
+  // adaptive flow control, null if the worker is not adaptive
+  private final AdaptiveJobLimit adaptiveJobLimit;
+  private final long pollIntervalMillis;
+  private volatile long pollBackoffMillis;
+  private volatile long pollBackoffDeadlineNanos;
+
   // job execution facilities
-  private final ExecutorService executor;
+  private final ExecutorService jobExecutor;
   private final JobRunnableFactory jobRunnableFactory;
+  private final JobWorkerMetrics metrics;
 
   // state synchronization
   private final AtomicBoolean acquiringJobs = new AtomicBoolean(true);
@@ -48,15 +57,20 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   public JobWorkerImpl(
       final int maxJobsActive,
       final ScheduledExecutorService executor,
+      final ExecutorService jobExecutor,
       final Duration pollInterval,
       final JobRunnableFactory jobRunnableFactory,
-      final JobPoller jobPoller) {
+      final JobPoller jobPoller,
+      final boolean adaptiveFlowControl,
+      final JobWorkerMetrics metrics) {
 
     this.maxJobsActive = maxJobsActive;
-    activationThreshold = Math.round(maxJobsActive * 0.3f);
     remainingJobs = new AtomicInteger(0);
+    adaptiveJobLimit = adaptiveFlowControl ? new AdaptiveJobLimit(maxJobsActive) : null;
+    pollIntervalMillis = pollInterval.toMillis();
+    this.metrics = metrics;
 
-    this.executor = executor;
+    this.jobExecutor = jobExecutor;
     this.jobRunnableFactory = jobRunnableFactory;
 
     this.jobPoller = new AtomicReference<>(jobPoller);
@@ -94,13 +108,19 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       // to avoid race conditions that would let us exceed the buffer size
       final int currentRemainingJobs = remainingJobs.get();
       if (shouldActivateJobs(currentRemainingJobs)) {
-        final int maxActivatedJobs = maxJobsActive - currentRemainingJobs;
+        final int maxActivatedJobs = Math.max(1, getMaxJobsActive() - currentRemainingJobs);
         try {
           jobPoller.poll(
               maxActivatedJobs,
               this::submitJob,
               activatedJobs -> {
                 remainingJobs.addAndGet(activatedJobs);
+                if (activatedJobs > 0) {
+                  metrics.jobsActivated(activatedJobs);
+                }
+                if (adaptiveJobLimit != null) {
+                  updatePollBackoff(jobPoller.isResourceExhausted());
+                }
                 this.jobPoller.set(jobPoller);
               },
               this::isOpen);
@@ -115,16 +135,54 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   }
 
   private boolean shouldActivateJobs(final int remainingJobs) {
-    return acquiringJobs.get() && remainingJobs <= activationThreshold;
+    return acquiringJobs.get()
+        && remainingJobs <= Math.round(getMaxJobsActive() * ACTIVATION_THRESHOLD)
+        && !isPollBackedOff();
+  }
+
+  private int getMaxJobsActive() {
+    return adaptiveJobLimit != null ? adaptiveJobLimit.getLimit() : maxJobsActive;
+  }
+
+  private boolean isPollBackedOff() {
+    return pollBackoffMillis > 0 && System.nanoTime() - pollBackoffDeadlineNanos < 0;
+  }
+
+  // is only called by the poller's callback, so there are no concurrent updates
+  private void updatePollBackoff(final boolean resourceExhausted) {
+    final long previousBackoffMillis = pollBackoffMillis;
+    if (resourceExhausted) {
+      pollBackoffMillis =
+          Math.min(
+              Math.max(previousBackoffMillis * 2, pollIntervalMillis),
+              Math.max(MAX_POLL_BACKOFF_MILLIS, pollIntervalMillis));
+      pollBackoffDeadlineNanos =
+          System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollBackoffMillis);
+    } else {
+      pollBackoffMillis = 0;
+    }
+
+    if (pollBackoffMillis != previousBackoffMillis) {
+      metrics.pollIntervalChanged(
+          Duration.ofMillis(Math.max(pollBackoffMillis, pollIntervalMillis)));
+    }
   }
 
   private void submitJob(final ActivatedJob job) {
-    executor.execute(jobRunnableFactory.create(job, this::jobHandlerFinished));
+    final long activatedAt = System.nanoTime();
+    jobExecutor.execute(jobRunnableFactory.create(job, () -> jobHandlerFinished(activatedAt)));
   }
 
-  private void jobHandlerFinished() {
-    final int remainingJobs = this.remainingJobs.decrementAndGet();
-    if (shouldActivateJobs(remainingJobs)) {
+  private void jobHandlerFinished(final long activatedAt) {
+    final long latencyNanos = System.nanoTime() - activatedAt;
+    metrics.jobHandled(Duration.ofNanos(latencyNanos));
+
+    final int activeJobs = remainingJobs.getAndDecrement();
+    if (adaptiveJobLimit != null && adaptiveJobLimit.onJobHandled(latencyNanos, activeJobs)) {
+      metrics.activeJobsLimitChanged(adaptiveJobLimit.getLimit());
+    }
+
+    if (shouldActivateJobs(activeJobs - 1)) {
       activateJobs();
     }
   }
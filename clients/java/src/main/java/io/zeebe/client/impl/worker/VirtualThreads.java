@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import io.zeebe.client.api.command.ClientException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates executors which run each task on a new virtual thread. The client is compiled for Java
+ * 8, so the factory method is looked up reflectively and is only available on runtimes which
+ * support virtual threads.
+ */
+public final class VirtualThreads {
+
+  private static final String FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+  private VirtualThreads() {}
+
+  /** @return {@code true} if the Java runtime supports virtual threads */
+  public static boolean isSupported() {
+    try {
+      Executors.class.getMethod(FACTORY_METHOD);
+      return true;
+    } catch (final NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /** @throws ClientException if the Java runtime doesn't support virtual threads */
+  public static void ensureSupported() {
+    findFactoryMethod();
+  }
+
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) findFactoryMethod().invoke(null);
+    } catch (final IllegalAccessException | InvocationTargetException e) {
+      throw new ClientException(
+          "Expected to run job handlers on virtual threads, but failed to create the executor", e);
+    }
+  }
+
+  private static Method findFactoryMethod() {
+    try {
+      return Executors.class.getMethod(FACTORY_METHOD);
+    } catch (final NoSuchMethodException e) {
+      throw new ClientException(
+          String.format(
+              "Expected to run job handlers on virtual threads, but the Java runtime %s does not"
+                  + " support virtual threads",
+              System.getProperty("java.version")),
+          e);
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import io.zeebe.client.api.MsgPackCodec;
+import io.zeebe.client.api.response.ActivateJobsResponse;
+import io.zeebe.client.util.RecordingGatewayService;
+import io.zeebe.client.util.TestEnvironmentRule;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class MsgPackVariablesTest {
+
+  private static final Map<String, Object> VARIABLES = Collections.singletonMap("foo", "bar");
+  // {"foo": "bar"} as MessagePack
+  private static final byte[] MSGPACK = {
+    (byte) 0x81, (byte) 0xa3, 'f', 'o', 'o', (byte) 0xa3, 'b', 'a', 'r'
+  };
+
+  private final StubCodec codec = new StubCodec();
+
+  @Rule
+  public final TestEnvironmentRule rule = new TestEnvironmentRule(b -> b.msgPackCodec(codec));
+
+  @Test
+  public void shouldEncodeObjectVariablesWithCodec() {
+    // when
+    rule.getClient()
+        .newPublishMessageCommand()
+        .messageName("name")
+        .correlationKey("key")
+        .variables(VARIABLES)
+        .send()
+        .join();
+
+    // then
+    final PublishMessageRequest request = rule.getGatewayService().getLastRequest();
+    assertThat(request.getVariables()).isEmpty();
+    assertThat(request.getVariablesMsgPack().toByteArray()).isEqualTo(MSGPACK);
+    assertThat(codec.encoded).isEqualTo(VARIABLES);
+  }
+
+  @Test
+  public void shouldSendJsonVariablesAsJson() {
+    // when
+    rule.getClient()
+        .newPublishMessageCommand()
+        .messageName("name")
+        .correlationKey("key")
+        .variables("{\"foo\": \"bar\"}")
+        .send()
+        .join();
+
+    // then
+    final PublishMessageRequest request = rule.getGatewayService().getLastRequest();
+    assertThat(request.getVariables()).isEqualTo("{\"foo\":\"bar\"}");
+    assertThat(request.getVariablesMsgPack().isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldActivateJobsWithMsgPackVariables() {
+    // given
+    final RecordingGatewayService gatewayService = rule.getGatewayService();
+    gatewayService.onActivateJobsRequest(
+        ActivatedJob.newBuilder()
+            .setKey(12)
+            .setCustomHeaders("{}")
+            .setVariablesMsgPack(ByteString.copyFrom(MSGPACK))
+            .build());
+
+    // when
+    final ActivateJobsResponse response =
+        rule.getClient()
+            .newActivateJobsCommand()
+            .jobType("foo")
+            .maxJobsToActivate(1)
+            .send()
+            .join();
+
+    // then
+    final ActivateJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getMsgPackVariables()).isTrue();
+
+    final io.zeebe.client.api.response.ActivatedJob job = response.getJobs().get(0);
+    assertThat(job.getVariablesAsMsgPack()).isEqualTo(MSGPACK);
+    assertThat(job.getVariablesAsMap()).isEqualTo(VARIABLES);
+    assertThat(job.getVariables()).isEqualTo("{\"foo\":\"bar\"}");
+  }
+
+  private static final class StubCodec implements MsgPackCodec {
+
+    private Object encoded;
+
+    @Override
+    public byte[] toMsgPack(final Object value) {
+      encoded = value;
+      return MSGPACK;
+    }
+
+    @Override
+    public <T> T fromMsgPack(final byte[] msgPack, final Class<T> type) {
+      assertThat(msgPack).isEqualTo(MSGPACK);
+      return type.cast(VARIABLES);
+    }
+  }
+}
@@ -21,14 +21,26 @@ import static io.zeebe.client.impl.ZeebeClientBuilderImpl.KEEP_ALIVE_VAR;
 import static io.zeebe.client.impl.ZeebeClientBuilderImpl.PLAINTEXT_CONNECTION_VAR;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import io.grpc.ManagedChannel;
+import io.zeebe.client.api.command.ClientException;
 import io.zeebe.client.impl.ZeebeClientBuilderImpl;
+import io.zeebe.client.impl.ZeebeClientImpl;
 import io.zeebe.client.impl.util.Environment;
 import io.zeebe.client.impl.util.EnvironmentRule;
+import io.zeebe.client.impl.worker.VirtualThreads;
 import io.zeebe.client.util.ClientTest;
+import io.zeebe.gateway.protocol.GatewayGrpc;
 import java.io.FileNotFoundException;
 import java.time.Duration;
 import java.util.Properties;
+import java.util.concurrent.ScheduledExecutorService;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -52,8 +64,10 @@ public final class ZeebeClientTest extends ClientTest {
 
       // then
       assertThat(configuration.getGatewayAddress()).isEqualTo("0.0.0.0:26500");
+      assertThat(configuration.isPartitionAwareRouting()).isFalse();
       assertThat(configuration.getDefaultJobWorkerMaxJobsActive()).isEqualTo(32);
       assertThat(configuration.getNumJobWorkerExecutionThreads()).isEqualTo(1);
+      assertThat(configuration.isJobWorkerVirtualThreads()).isFalse();
       assertThat(configuration.getDefaultJobWorkerName()).isEqualTo("default");
       assertThat(configuration.getDefaultJobTimeout()).isEqualTo(Duration.ofMinutes(5));
       assertThat(configuration.getDefaultJobPollInterval()).isEqualTo(Duration.ofMillis(100));
@@ -109,6 +123,74 @@ public final class ZeebeClientTest extends ClientTest {
     assertThat(builder.isPlaintextConnectionEnabled()).isFalse();
   }
 
+  @Test
+  public void shouldEnableJobWorkerVirtualThreadsWithProperty() {
+    // given
+    final Properties properties = new Properties();
+    properties.setProperty(ClientProperties.JOB_WORKER_VIRTUAL_THREADS, "true");
+    final ZeebeClientBuilderImpl builder = new ZeebeClientBuilderImpl();
+
+    // when
+    builder.withProperties(properties);
+
+    // then
+    assertThat(builder.isJobWorkerVirtualThreads()).isTrue();
+  }
+
+  @Test
+  public void shouldNotBuildClientIfVirtualThreadsAreNotSupported() {
+    // given
+    assumeFalse(VirtualThreads.isSupported());
+    final ZeebeClientBuilderImpl builder = new ZeebeClientBuilderImpl();
+    builder.jobWorkerVirtualThreads(true).usePlaintext();
+
+    // when/then
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(ClientException.class)
+        .hasMessageContaining("does not support virtual threads");
+  }
+
+  @Test
+  public void shouldReleaseResourcesIfVirtualThreadsAreNotSupported() {
+    // given
+    assumeFalse(VirtualThreads.isSupported());
+    final ZeebeClientBuilderImpl builder = new ZeebeClientBuilderImpl();
+    builder.jobWorkerVirtualThreads(true);
+    final ManagedChannel channel = mock(ManagedChannel.class);
+    final ScheduledExecutorService executorService = mock(ScheduledExecutorService.class);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                new ZeebeClientImpl(
+                    builder, channel, GatewayGrpc.newStub(channel), executorService))
+        .isInstanceOf(ClientException.class);
+
+    // then
+    verify(executorService).shutdownNow();
+    verify(channel).shutdownNow();
+  }
+
+  @Test
+  public void shouldCloseChannelIfExecutorDoesNotTerminate() throws Exception {
+    // given
+    final ManagedChannel channel = mock(ManagedChannel.class);
+    when(channel.awaitTermination(anyLong(), any())).thenReturn(true);
+    final ScheduledExecutorService executorService = mock(ScheduledExecutorService.class);
+    when(executorService.awaitTermination(anyLong(), any())).thenReturn(false);
+    final ZeebeClientImpl zeebeClient =
+        new ZeebeClientImpl(
+            new ZeebeClientBuilderImpl(), channel, GatewayGrpc.newStub(channel), executorService);
+
+    // when
+    assertThatThrownBy(zeebeClient::close)
+        .isInstanceOf(ClientException.class)
+        .hasMessageContaining("job worker executor");
+
+    // then
+    verify(channel).shutdownNow();
+  }
+
   @Test
   public void shouldCaCertificateWithEnvVar() {
     // given
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.grpc.ManagedChannel;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.zeebe.gateway.protocol.GatewayGrpc;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
+import io.zeebe.gateway.protocol.GatewayOuterClass.Partition;
+import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
+import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class PartitionAwareGatewayRouterTest {
+
+  private static final String LEADER_GATEWAY = "leader:26500";
+
+  private final List<String> connectedGateways = new ArrayList<>();
+  private ManagedChannel defaultChannel;
+  private GatewayStub defaultStub;
+  private PartitionAwareGatewayRouter router;
+
+  @Before
+  public void setUp() {
+    defaultChannel = InProcessChannelBuilder.forName("default").build();
+    defaultStub = GatewayGrpc.newStub(defaultChannel);
+    router =
+        new PartitionAwareGatewayRouter(
+            defaultStub,
+            address -> {
+              connectedGateways.add(address);
+              return InProcessChannelBuilder.forName(address).build();
+            },
+            GatewayGrpc::newStub,
+            null);
+  }
+
+  @After
+  public void tearDown() {
+    router.close();
+    defaultChannel.shutdownNow();
+  }
+
+  @Test
+  public void shouldGetPartitionIdOfCorrelationKey() {
+    // the same partitions as the broker's SubscriptionUtil
+    assertThat(PartitionAwareGatewayRouter.getPartitionId("a", 10)).isEqualTo(8);
+    assertThat(PartitionAwareGatewayRouter.getPartitionId("b", 3)).isEqualTo(3);
+    assertThat(PartitionAwareGatewayRouter.getPartitionId("c", 11)).isEqualTo(1);
+    assertThat(PartitionAwareGatewayRouter.getPartitionId("foobar", 100)).isEqualTo(64);
+  }
+
+  @Test
+  public void shouldUseDefaultGatewayWithoutTopology() {
+    // when
+    final GatewayStub jobStub = router.forJob(jobKey(2));
+    final GatewayStub messageStub = router.forCorrelationKey("b");
+
+    // then
+    assertThat(jobStub).isSameAs(defaultStub);
+    assertThat(messageStub).isSameAs(defaultStub);
+    assertThat(connectedGateways).isEmpty();
+  }
+
+  @Test
+  public void shouldRouteJobToGatewayOfPartitionLeader() {
+    // given
+    router.onTopologyUpdated(topologyWithLeader(2));
+
+    // when
+    final GatewayStub stub = router.forJob(jobKey(2));
+
+    // then
+    assertThat(stub).isNotSameAs(defaultStub).isSameAs(router.forJob(jobKey(2)));
+    assertThat(router.forJob(jobKey(1))).isSameAs(defaultStub);
+    assertThat(connectedGateways).containsExactly(LEADER_GATEWAY);
+  }
+
+  @Test
+  public void shouldRouteMessageToGatewayOfPartitionLeader() {
+    // given
+    router.onTopologyUpdated(topologyWithLeader(3));
+
+    // when
+    final GatewayStub stub = router.forCorrelationKey("b");
+
+    // then
+    assertThat(stub).isNotSameAs(defaultStub);
+    assertThat(router.forCorrelationKey("c")).isSameAs(defaultStub);
+    assertThat(connectedGateways).containsExactly(LEADER_GATEWAY);
+  }
+
+  private static long jobKey(final int partitionId) {
+    return ((long) partitionId << 51) + 1;
+  }
+
+  private static TopologyResponse topologyWithLeader(final int partitionId) {
+    return TopologyResponse.newBuilder()
+        .setPartitionsCount(3)
+        .addBrokers(
+            BrokerInfo.newBuilder()
+                .setNodeId(0)
+                .setGatewayAddress(LEADER_GATEWAY)
+                .addPartitions(
+                    Partition.newBuilder()
+                        .setPartitionId(partitionId)
+                        .setRole(PartitionBrokerRole.LEADER)))
+        .addBrokers(
+            BrokerInfo.newBuilder()
+                .setNodeId(1)
+                .addPartitions(
+                    Partition.newBuilder().setPartitionId(1).setRole(PartitionBrokerRole.LEADER)))
+        .build();
+  }
+}
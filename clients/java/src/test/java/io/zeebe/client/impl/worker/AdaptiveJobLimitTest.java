@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public final class AdaptiveJobLimitTest {
+
+  private static final int MAX_LIMIT = 32;
+  private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final AdaptiveJobLimit limit = new AdaptiveJobLimit(MAX_LIMIT);
+
+  @Test
+  public void shouldStartWithMaxLimit() {
+    assertThat(limit.getLimit()).isEqualTo(MAX_LIMIT);
+  }
+
+  @Test
+  public void shouldKeepLimitOnStableLatency() {
+    // when
+    handleJobs(100, LATENCY);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(MAX_LIMIT);
+  }
+
+  @Test
+  public void shouldDecreaseLimitWhenLatencyRises() {
+    // given
+    handleJobs(100, LATENCY);
+
+    // when
+    handleJobs(20, LATENCY * 10);
+
+    // then
+    assertThat(limit.getLimit()).isLessThan(MAX_LIMIT).isGreaterThanOrEqualTo(1);
+  }
+
+  @Test
+  public void shouldIncreaseLimitWhenLatencyRecovers() {
+    // given
+    handleJobs(100, LATENCY);
+    handleJobs(20, LATENCY * 10);
+    final int decreasedLimit = limit.getLimit();
+
+    // when
+    handleJobs(200, LATENCY);
+
+    // then
+    assertThat(limit.getLimit()).isGreaterThan(decreasedLimit);
+  }
+
+  @Test
+  public void shouldNotChangeLimitIfWorkerDoesNotUseIt() {
+    // given
+    handleJobs(100, LATENCY);
+
+    // when
+    for (int i = 0; i < 20; i++) {
+      limit.onJobHandled(LATENCY * 10, 1);
+    }
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(MAX_LIMIT);
+  }
+
+  private void handleJobs(final int count, final long latencyNanos) {
+    for (int i = 0; i < count; i++) {
+      limit.onJobHandled(latencyNanos, limit.getLimit());
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.grpc.Status.Code;
+import io.zeebe.client.api.response.BatchItemResult;
+import io.zeebe.client.api.response.BatchResponse;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.client.util.JsonUtil;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
+import java.util.Collections;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends ClientTest {
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final String json = JsonUtil.toJson(Collections.singletonMap("key", "val"));
+
+    // when
+    final BatchResponse<CompleteJobResponse> response =
+        client
+            .newCompleteJobsCommand()
+            .add(client.newCompleteCommand(1).variables(json))
+            .add(client.newCompleteCommand(2))
+            .send()
+            .join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getRequestsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(1L, 2L);
+    JsonUtil.assertEquality(request.getRequests(0).getVariables(), json);
+
+    assertThat(response.isSuccessful()).isTrue();
+    assertThat(response.getResults()).hasSize(2).allMatch(BatchItemResult::isSuccessful);
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldReportFailedJobs() {
+    // given
+    gatewayService.addRequestHandler(
+        CompleteJobsRequest.class,
+        r ->
+            CompleteJobsResponse.newBuilder()
+                .addResults(CompleteJobsResult.newBuilder().setJobKey(1))
+                .addResults(
+                    CompleteJobsResult.newBuilder()
+                        .setJobKey(2)
+                        .setError(
+                            BatchItemError.newBuilder()
+                                .setCode(Code.NOT_FOUND.value())
+                                .setMessage("job not found")))
+                .build());
+
+    // when
+    final BatchResponse<CompleteJobResponse> response =
+        client
+            .newCompleteJobsCommand()
+            .add(client.newCompleteCommand(1))
+            .add(client.newCompleteCommand(2))
+            .send()
+            .join();
+
+    // then
+    assertThat(response.isSuccessful()).isFalse();
+    assertThat(response.getResults().get(0).isSuccessful()).isTrue();
+
+    final BatchItemResult<CompleteJobResponse> failed = response.getResults().get(1);
+    assertThat(failed.isSuccessful()).isFalse();
+    assertThat(failed.getError().getStatus().getCode()).isEqualTo(Code.NOT_FOUND);
+    assertThat(failed.getError()).hasMessageContaining("job not found");
+    assertThat(failed.getResponse()).isNull();
+  }
+}
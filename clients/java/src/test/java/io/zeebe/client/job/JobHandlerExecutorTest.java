@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.grpc.ManagedChannel;
+import io.grpc.testing.GrpcServerRule;
+import io.zeebe.client.api.command.ClientException;
+import io.zeebe.client.impl.ZeebeClientBuilderImpl;
+import io.zeebe.client.impl.ZeebeClientImpl;
+import io.zeebe.client.impl.worker.VirtualThreads;
+import io.zeebe.client.util.RecordingGatewayService;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class JobHandlerExecutorTest {
+
+  private static final String HANDLER_THREAD_NAME = "test-job-handler";
+
+  @Rule public final GrpcServerRule serverRule = new GrpcServerRule();
+
+  private final RecordingGatewayService gatewayService = new RecordingGatewayService();
+  private final ExecutorService jobHandlerExecutor =
+      Executors.newSingleThreadExecutor(r -> new Thread(r, HANDLER_THREAD_NAME));
+
+  private ManagedChannel channel;
+  private ZeebeClientImpl client;
+
+  @Before
+  public void setUp() {
+    serverRule.getServiceRegistry().addService(gatewayService);
+    gatewayService.onActivateJobsRequest(
+        ActivatedJob.newBuilder().setKey(12).setCustomHeaders("{}").setVariables("{}").build());
+
+    final ZeebeClientBuilderImpl builder = new ZeebeClientBuilderImpl();
+    channel = serverRule.getChannel();
+    client =
+        new ZeebeClientImpl(
+            builder,
+            channel,
+            ZeebeClientImpl.buildGatewayStub(channel, builder),
+            Executors.newScheduledThreadPool(1),
+            jobHandlerExecutor);
+  }
+
+  @After
+  public void tearDown() {
+    client.close();
+  }
+
+  @Test
+  public void shouldRunHandlerOnJobHandlerExecutor() throws InterruptedException {
+    // given
+    final AtomicReference<String> handlerThread = new AtomicReference<>();
+    final CountDownLatch handled = new CountDownLatch(1);
+
+    // when
+    client
+        .newWorker()
+        .jobType("foo")
+        .handler(
+            (jobClient, job) -> {
+              handlerThread.compareAndSet(null, Thread.currentThread().getName());
+              handled.countDown();
+            })
+        .maxJobsActive(1)
+        .open();
+
+    // then
+    assertThat(handled.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(handlerThread.get()).isEqualTo(HANDLER_THREAD_NAME);
+  }
+
+  @Test
+  public void shouldAwaitRunningHandlersBeforeClosingChannel() throws Exception {
+    // given
+    final CountDownLatch handlerStarted = new CountDownLatch(1);
+    final CountDownLatch releaseHandler = new CountDownLatch(1);
+    final AtomicBoolean channelShutdownInHandler = new AtomicBoolean(true);
+
+    client
+        .newWorker()
+        .jobType("foo")
+        .handler(
+            (jobClient, job) -> {
+              handlerStarted.countDown();
+              releaseHandler.await();
+              channelShutdownInHandler.set(channel.isShutdown());
+              jobClient.newCompleteCommand(job.getKey()).send().join();
+            })
+        .maxJobsActive(1)
+        .open();
+    assertThat(handlerStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    final CompletableFuture<Void> closed = CompletableFuture.runAsync(client::close);
+
+    // then
+    assertThatThrownBy(() -> closed.get(500, TimeUnit.MILLISECONDS))
+        .isInstanceOf(TimeoutException.class);
+    assertThat(channel.isShutdown()).isFalse();
+
+    releaseHandler.countDown();
+    closed.get(30, TimeUnit.SECONDS);
+
+    assertThat(channelShutdownInHandler).isFalse();
+    assertThat(jobHandlerExecutor.isTerminated()).isTrue();
+    assertThat(channel.isShutdown()).isTrue();
+    assertThat(gatewayService.getRequests())
+        .filteredOn(CompleteJobRequest.class::isInstance)
+        .hasSize(1);
+  }
+
+  @Test
+  public void shouldReleaseResourcesIfVirtualThreadsAreNotSupported() {
+    // given
+    assumeFalse(VirtualThreads.isSupported());
+
+    final ZeebeClientBuilderImpl builder = new ZeebeClientBuilderImpl();
+    builder.jobWorkerVirtualThreads(true);
+    final ManagedChannel managedChannel = mock(ManagedChannel.class);
+    final ScheduledExecutorService executorService = mock(ScheduledExecutorService.class);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                new ZeebeClientImpl(
+                    builder,
+                    managedChannel,
+                    ZeebeClientImpl.buildGatewayStub(managedChannel, builder),
+                    executorService))
+        .isInstanceOf(ClientException.class);
+
+    // then
+    verify(managedChannel).shutdownNow();
+    verify(executorService).shutdownNow();
+  }
+}
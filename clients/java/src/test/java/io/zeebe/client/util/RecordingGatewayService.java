@@ -28,6 +28,9 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
@@ -88,6 +91,8 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(FailJobRequest.class, r -> FailJobResponse.getDefaultInstance());
     addRequestHandler(ThrowErrorRequest.class, r -> ThrowErrorResponse.getDefaultInstance());
     addRequestHandler(CompleteJobRequest.class, r -> CompleteJobResponse.getDefaultInstance());
+    addRequestHandler(
+        CompleteJobsRequest.class, r -> completeJobsResponse((CompleteJobsRequest) r));
     addRequestHandler(ActivateJobsRequest.class, r -> ActivateJobsResponse.getDefaultInstance());
     addRequestHandler(
         ResolveIncidentRequest.class, r -> ResolveIncidentResponse.getDefaultInstance());
@@ -130,6 +135,14 @@ public final class RecordingGatewayService extends GatewayImplBase {
         .build();
   }
 
+  private static CompleteJobsResponse completeJobsResponse(final CompleteJobsRequest request) {
+    final CompleteJobsResponse.Builder builder = CompleteJobsResponse.newBuilder();
+    request
+        .getRequestsList()
+        .forEach(r -> builder.addResults(CompleteJobsResult.newBuilder().setJobKey(r.getJobKey())));
+    return builder.build();
+  }
+
   private static StatusRuntimeException convertThrowable(final Throwable cause) {
     final String description;
 
@@ -163,6 +176,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
@@ -20,6 +20,7 @@ import io.zeebe.util.sched.ActorCondition;
 import io.zeebe.util.sched.FutureUtil;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import org.slf4j.Logger;
 
@@ -32,6 +33,8 @@ public class Dispatcher extends Actor {
 
   private final LogBuffer logBuffer;
   private final LogBufferAppender logAppender;
+  private final ReentrantLock claimLock = new ReentrantLock();
+  private final DispatcherMetrics metrics;
 
   private final AtomicPosition publisherLimit;
   private final AtomicPosition publisherPosition;
@@ -68,6 +71,7 @@ public class Dispatcher extends Actor {
 
     subscriptions = new Subscription[0];
     defaultSubscriptionNames = subscriptionNames;
+    metrics = new DispatcherMetrics(name, logWindowLength);
   }
 
   @Override
@@ -169,10 +173,51 @@ public class Dispatcher extends Actor {
         LogBufferAppender.claimedBatchLength(fragmentCount, batchLength));
   }
 
-  private synchronized long offer(
+  private long offer(
       final BiFunction<LogBufferPartition, Integer, Integer> claimer,
       final int fragmentCount,
       final int length) {
+    final boolean isPaddingWritten;
+    long newPosition;
+
+    lockClaims();
+    try {
+      newPosition = claim(claimer, length);
+      isPaddingWritten = newPosition == RESULT_PADDING_AT_END_OF_PARTITION;
+      if (isPaddingWritten) {
+        // the active partition is filled up, claim in the next one right away instead of letting
+        // the writer retry and contend for the lock again
+        newPosition = claim(claimer, length);
+      }
+
+      // if successful, replace internal publisher position with simple counter and return it
+      if (newPosition > 0) {
+        newPosition = recordPosition;
+        recordPosition += fragmentCount;
+      }
+    } finally {
+      claimLock.unlock();
+    }
+
+    if (isPaddingWritten) {
+      // claimed fragments signal the subscriptions on commit, but the padding is committed already
+      signalSubscriptions();
+    }
+
+    return newPosition;
+  }
+
+  private void lockClaims() {
+    if (!claimLock.tryLock()) {
+      final long waitStart = System.nanoTime();
+      claimLock.lock();
+      metrics.onContendedClaim(System.nanoTime() - waitStart);
+    }
+    metrics.onClaim();
+  }
+
+  private long claim(
+      final BiFunction<LogBufferPartition, Integer, Integer> claimer, final int length) {
     long newPosition = -1;
 
     if (!isClosed) {
@@ -194,20 +239,28 @@ public class Dispatcher extends Actor {
               String.format(ERROR_MESSAGE_CLAIM_FAILED, length, maxFragmentLength));
         }
 
-        newPosition = updatePublisherPosition(activePartitionId, newOffset);
+        if (newOffset == RESULT_PADDING_AT_END_OF_PARTITION) {
+          // claims are serialized, so the padding starts at the tail which was read above
+          metrics.onPadding(logBuffer.getPartitionSize() - partitionOffset);
+        }
 
-        // if successful, replace internal publisher position with simple counter and return it
+        newPosition = updatePublisherPosition(activePartitionId, newOffset);
         if (newPosition > 0) {
-          newPosition = recordPosition;
-          recordPosition += fragmentCount;
+          metrics.setBufferUsed(logWindowLength - bytesBetween(newPosition, limit));
         }
-        signalSubscriptions();
       }
     }
 
     return newPosition;
   }
 
+  private long bytesBetween(final long fromPosition, final long toPosition) {
+    final long partitions = partitionId(toPosition) - partitionId(fromPosition);
+    return partitions * logBuffer.getPartitionSize()
+        + partitionOffset(toPosition)
+        - partitionOffset(fromPosition);
+  }
+
   private long updatePublisherPosition(final int activePartitionId, final int newOffset) {
     long newPosition = -1;
 
@@ -256,6 +309,8 @@ public class Dispatcher extends Actor {
         LOG.trace("Updated publisher limit to {}", proposedPublisherLimit);
 
         isUpdated = 1;
+        metrics.setBufferUsed(
+            logWindowLength - bytesBetween(publisherPosition.get(), proposedPublisherLimit));
       }
     }
 
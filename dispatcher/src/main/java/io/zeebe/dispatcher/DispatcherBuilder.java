@@ -7,7 +7,9 @@
  */
 package io.zeebe.dispatcher;
 
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.LOG_META_DATA_LENGTH;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_COUNT;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_META_DATA_LENGTH;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.requiredCapacity;
 
 import io.zeebe.dispatcher.impl.log.LogBuffer;
@@ -17,6 +19,7 @@ import io.zeebe.util.EnsureUtil;
 import io.zeebe.util.allocation.AllocatedBuffer;
 import io.zeebe.util.allocation.BufferAllocators;
 import io.zeebe.util.sched.ActorScheduler;
+import java.nio.file.Path;
 import java.util.Objects;
 import org.agrona.BitUtil;
 
@@ -27,6 +30,7 @@ public final class DispatcherBuilder {
 
   private int bufferSize = -1;
   private int maxFragmentLength = -1;
+  private Path bufferFile;
 
   private String dispatcherName;
 
@@ -53,6 +57,16 @@ public final class DispatcherBuilder {
     return this;
   }
 
+  /**
+   * Maps the buffer to the given file instead of allocating it in direct memory. A large buffer
+   * then only occupies the page cache for the parts which are written to, so the buffer can be
+   * sized to absorb bursts of writes. The file is deleted when the dispatcher is closed.
+   */
+  public DispatcherBuilder bufferFile(final Path bufferFile) {
+    this.bufferFile = bufferFile;
+    return this;
+  }
+
   public DispatcherBuilder actorScheduler(final ActorScheduler actorScheduler) {
     this.actorScheduler = actorScheduler;
     return this;
@@ -87,9 +101,15 @@ public final class DispatcherBuilder {
     // assuming that we have only a single writer, we set the frame length to max value to use as
     // much of the memory as possible
     final int logWindowLength = partitionSize / 2;
-    maxFragmentLength = logWindowLength;
+    if (maxFragmentLength > 0) {
+      // a larger buffer only widens the window, it must not allow larger fragments than the
+      // readers of the buffer can handle
+      maxFragmentLength = Math.min(logWindowLength, BitUtil.align(maxFragmentLength * 2, 8) / 2);
+    } else {
+      maxFragmentLength = logWindowLength;
+    }
 
-    final AllocatedBuffer allocatedBuffer = initAllocatedBuffer(bufferSize);
+    final AllocatedBuffer allocatedBuffer = initAllocatedBuffer(partitionSize);
 
     // allocate the counters
     final AtomicPosition publisherLimit = new AtomicPosition();
@@ -142,7 +162,21 @@ public final class DispatcherBuilder {
   }
 
   private AllocatedBuffer initAllocatedBuffer(final int partitionSize) {
+    final long capacity =
+        (long) PARTITION_COUNT * (partitionSize + PARTITION_META_DATA_LENGTH)
+            + LOG_META_DATA_LENGTH;
+    if (capacity > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the capacity of the buffer to be at most %d bytes, but was %d bytes for a buffer size of %d",
+              Integer.MAX_VALUE, capacity, bufferSize));
+    }
+
     final int requiredCapacity = requiredCapacity(partitionSize);
+    if (bufferFile != null) {
+      return BufferAllocators.allocateMapped(bufferFile, requiredCapacity);
+    }
+
     return BufferAllocators.allocateDirect(requiredCapacity);
   }
 }
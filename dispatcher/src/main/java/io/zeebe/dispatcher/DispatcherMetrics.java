@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.dispatcher;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+/**
+ * Metrics of the claims on a dispatcher. The children are resolved once per dispatcher, such that
+ * recording a claim does not need a label lookup.
+ */
+final class DispatcherMetrics {
+
+  private static final Counter CLAIMS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("dispatcher_claims_total")
+          .help("Number of fragments and batches claimed on the dispatcher")
+          .labelNames("dispatcher")
+          .register();
+
+  private static final Counter CONTENDED_CLAIMS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("dispatcher_claim_contention_total")
+          .help("Number of claims which had to wait for the claim of another writer")
+          .labelNames("dispatcher")
+          .register();
+
+  private static final Counter CLAIM_WAIT_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("dispatcher_claim_wait_time_seconds_total")
+          .help("Time writers spent waiting for the claims of other writers")
+          .labelNames("dispatcher")
+          .register();
+
+  private static final Counter PADDING_BYTES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("dispatcher_padding_bytes_total")
+          .help("Number of bytes wasted as padding at the end of a log buffer partition")
+          .labelNames("dispatcher")
+          .register();
+
+  private static final Gauge BUFFER_USED =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("dispatcher_buffer_used_bytes")
+          .help("Number of bytes claimed in the dispatcher buffer which are not yet consumed")
+          .labelNames("dispatcher")
+          .register();
+
+  private static final Gauge BUFFER_WINDOW =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("dispatcher_buffer_window_bytes")
+          .help("Number of bytes which can be claimed before the dispatcher rejects claims")
+          .labelNames("dispatcher")
+          .register();
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private final Counter.Child claims;
+  private final Counter.Child contendedClaims;
+  private final Counter.Child claimWaitTime;
+  private final Counter.Child paddingBytes;
+  private final Gauge.Child bufferUsed;
+
+  DispatcherMetrics(final String dispatcherName, final int windowLength) {
+    claims = CLAIMS.labels(dispatcherName);
+    contendedClaims = CONTENDED_CLAIMS.labels(dispatcherName);
+    claimWaitTime = CLAIM_WAIT_TIME.labels(dispatcherName);
+    paddingBytes = PADDING_BYTES.labels(dispatcherName);
+    bufferUsed = BUFFER_USED.labels(dispatcherName);
+    BUFFER_WINDOW.labels(dispatcherName).set(windowLength);
+  }
+
+  void onClaim() {
+    claims.inc();
+  }
+
+  void onContendedClaim(final long waitNanos) {
+    contendedClaims.inc();
+    claimWaitTime.inc(Math.max(0, waitNanos) / NANOS_PER_SECOND);
+  }
+
+  void onPadding(final int bytes) {
+    if (bytes > 0) {
+      paddingBytes.inc(bytes);
+    }
+  }
+
+  void setBufferUsed(final long bytes) {
+    bufferUsed.set(Math.max(0, bytes));
+  }
+}
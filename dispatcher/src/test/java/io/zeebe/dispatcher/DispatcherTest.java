@@ -313,4 +313,38 @@ public final class DispatcherTest {
         dispatcher.claimFragmentBatch(claimedFragmentBatch, fragmentCount, A_MSG_PAYLOAD_LENGTH);
     assertThat(newPosition).isEqualTo(INITIAL_POSITION + fragmentCount);
   }
+
+  @Test
+  public void shouldClaimInNextPartitionIfActivePartitionIsFilled() {
+    // given
+    when(logBuffer.getActivePartitionIdVolatile()).thenReturn(0, 1);
+    when(logBufferPartition0.getTailCounterVolatile()).thenReturn(A_PARTITION_SIZE - HEADER_LENGTH);
+    when(logBufferPartition1.getTailCounterVolatile()).thenReturn(0);
+    when(publisherLimit.get()).thenReturn(position(1, A_FRAGMENT_LENGTH));
+    when(logAppender.claim(
+            eq(logBufferPartition0),
+            eq(0),
+            eq(claimedFragment),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            eq(A_STREAM_ID),
+            any()))
+        .thenReturn(LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION);
+    when(logAppender.claim(
+            eq(logBufferPartition1),
+            eq(1),
+            eq(claimedFragment),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            eq(A_STREAM_ID),
+            any()))
+        .thenReturn(A_FRAGMENT_LENGTH);
+
+    // when
+    final long newPosition =
+        dispatcher.claimSingleFragment(claimedFragment, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+
+    // then
+    assertThat(newPosition).isEqualTo(INITIAL_POSITION);
+    verify(logBuffer).onActivePartitionFilled(0);
+    verify(publisherPosition).proposeMaxOrdered(position(1, A_FRAGMENT_LENGTH));
+  }
 }
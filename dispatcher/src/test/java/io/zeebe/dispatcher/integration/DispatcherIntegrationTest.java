@@ -21,16 +21,21 @@ import io.zeebe.dispatcher.FragmentHandler;
 import io.zeebe.dispatcher.Subscription;
 import io.zeebe.util.ByteValue;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public final class DispatcherIntegrationTest {
 
   @Rule public final ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule(1);
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
 
   @Test
   public void testClaim() throws Exception {
@@ -196,6 +201,73 @@ public final class DispatcherIntegrationTest {
     assertThat(dispatcher.getLogBuffer().getPartitionSize()).isEqualTo(expectedPartitionSize);
   }
 
+  @Test
+  public void shouldNotIncreaseMaxFragmentLengthWithBufferSize() {
+    final int frameLength = (int) ByteValue.ofMegabytes(1);
+    final int bufferSize = (int) ByteValue.ofMegabytes(60);
+
+    final Dispatcher dispatcher =
+        Dispatchers.create("test")
+            .actorScheduler(actorSchedulerRule.get())
+            .maxFragmentLength(frameLength)
+            .bufferSize(bufferSize)
+            .build();
+
+    assertThat(dispatcher.getMaxFragmentLength()).isEqualTo(frameLength);
+    assertThat(dispatcher.getLogBuffer().getPartitionSize()).isEqualTo(bufferSize / 3);
+  }
+
+  @Test
+  public void shouldMapBufferToFile() throws Exception {
+    // given
+    final Path bufferFile = temporaryFolder.getRoot().toPath().resolve("buffer");
+    final Dispatcher dispatcher =
+        Dispatchers.create("default")
+            .actorScheduler(actorSchedulerRule.get())
+            .bufferSize((int) ByteValue.ofMegabytes(3))
+            .bufferFile(bufferFile)
+            .build();
+    final Subscription subscription = dispatcher.openSubscription("test");
+    final Consumer consumer = new Consumer();
+
+    // when
+    claimFragment(dispatcher, new ClaimedFragment(), 3);
+    subscription.poll(consumer, Integer.MAX_VALUE);
+
+    // then
+    assertThat(bufferFile).exists();
+    assertThat(Files.size(bufferFile)).isGreaterThanOrEqualTo(ByteValue.ofMegabytes(3));
+    assertThat(consumer.counters).containsExactly(1, 2, 3);
+
+    // when
+    dispatcher.close();
+
+    // then
+    assertThat(bufferFile).doesNotExist();
+  }
+
+  @Test
+  public void shouldMapBufferOfOneGigabyte() throws Exception {
+    // given
+    final Path bufferFile = temporaryFolder.getRoot().toPath().resolve("buffer");
+    final int bufferSize = (int) ByteValue.ofGigabytes(1);
+
+    // when
+    final Dispatcher dispatcher =
+        Dispatchers.create("default")
+            .actorScheduler(actorSchedulerRule.get())
+            .bufferSize(bufferSize)
+            .bufferFile(bufferFile)
+            .build();
+
+    // then
+    assertThat(dispatcher.getLogBuffer().getPartitionSize())
+        .isEqualTo(BitUtil.align(bufferSize / 3, 8));
+    assertThat(Files.size(bufferFile)).isBetween((long) bufferSize, 2L * bufferSize);
+
+    dispatcher.close();
+  }
+
   @Test
   public void shouldRejectIfFullFrameLengthIsLargerThanMax() {
     // given
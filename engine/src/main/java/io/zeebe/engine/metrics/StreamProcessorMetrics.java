@@ -55,6 +55,22 @@ public final class StreamProcessorMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Counter REPROCESSED_RECORDS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_reprocessed_records_total")
+          .help("Number of records reprocessed by the stream processor on recovery")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge REPROCESSING_POSITION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_reprocessing_position")
+          .help("The position until which the stream processor has reprocessed the log.")
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public StreamProcessorMetrics(final int partitionId) {
@@ -95,6 +111,11 @@ public final class StreamProcessorMetrics {
     STARTUP_RECOVERY_TIME.labels(partitionIdLabel).set(durationMillis);
   }
 
+  public void recordsReprocessed(final int count, final long position) {
+    REPROCESSED_RECORDS.labels(partitionIdLabel).inc(count);
+    REPROCESSING_POSITION.labels(partitionIdLabel).set(position);
+  }
+
   public void setLastProcessedPosition(final long position) {
     LAST_PROCESSED_POSITION.labels(partitionIdLabel).set(position);
   }
@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class VariableMetrics {
+
+  private static final Counter VARIABLE_WRITES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("variable_writes_total")
+          .help(
+              "Number of variables set on a scope, by whether they were created, updated or "
+                  + "skipped because the value didn't change")
+          .labelNames("action", "partition")
+          .register();
+
+  private final Counter.Child created;
+  private final Counter.Child updated;
+  private final Counter.Child skipped;
+
+  public VariableMetrics(final int partitionId) {
+    final String partitionIdLabel = String.valueOf(partitionId);
+    created = VARIABLE_WRITES.labels("created", partitionIdLabel);
+    updated = VARIABLE_WRITES.labels("updated", partitionIdLabel);
+    skipped = VARIABLE_WRITES.labels("skipped", partitionIdLabel);
+  }
+
+  public void variableCreated() {
+    created.inc();
+  }
+
+  public void variableUpdated() {
+    updated.inc();
+  }
+
+  public void variableSkipped() {
+    skipped.inc();
+  }
+}
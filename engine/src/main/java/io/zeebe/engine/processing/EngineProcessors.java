@@ -48,6 +48,7 @@ public final class EngineProcessors {
     final ZeebeState zeebeState = processingContext.getZeebeState();
     final TypedRecordProcessors typedRecordProcessors =
         TypedRecordProcessors.processors(zeebeState.getKeyGenerator());
+    typedRecordProcessors.withListener(subscriptionCommandSender);
     final LogStream stream = processingContext.getLogStream();
     final int partitionId = stream.getPartitionId();
     final int maxFragmentSize = processingContext.getMaxFragmentSize();
@@ -85,26 +85,21 @@ public final class BpmnBufferedMessageStartEventBehavior {
         final DirectBuffer messageNameBuffer =
             startEvent.getMessage().getMessageName().map(BufferUtil::wrapString).orElseThrow();
 
-        messageState.visitMessages(
+        // correlate the first message with same correlation key that was not correlated yet
+        messageState.visitCorrelatableMessages(
             messageNameBuffer,
             correlationKey,
+            workflow.getBpmnProcessId(),
+            ActorClock.currentTimeMillis(),
             message -> {
-              // correlate the first message with same correlation key that was not correlated yet
-              if (message.getDeadline() > ActorClock.currentTimeMillis()
-                  && !messageState.existMessageCorrelation(
-                      message.getKey(), workflow.getBpmnProcessId())) {
-
-                // correlate the first published message across all message start events
-                // - using the message key to decide which message was published before
-                if (message.getKey() < messageCorrelation.messageKey) {
-                  messageCorrelation.messageKey = message.getKey();
-                  messageCorrelation.elementId = startEvent.getId();
-                }
-
-                return false;
+              // correlate the first published message across all message start events
+              // - using the message key to decide which message was published before
+              if (message.getKey() < messageCorrelation.messageKey) {
+                messageCorrelation.messageKey = message.getKey();
+                messageCorrelation.elementId = startEvent.getId();
               }
 
-              return true;
+              return false;
             });
       }
     }
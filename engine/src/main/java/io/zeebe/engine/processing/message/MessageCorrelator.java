@@ -47,31 +47,28 @@ public final class MessageCorrelator {
     this.subscriptionRecord = subscriptionRecord;
     this.sideEffect = sideEffect;
 
-    messageState.visitMessages(
-        subscription.getMessageName(), subscription.getCorrelationKey(), this::correlateMessage);
+    messageState.visitCorrelatableMessages(
+        subscription.getMessageName(),
+        subscription.getCorrelationKey(),
+        subscriptionRecord.getBpmnProcessIdBuffer(),
+        ActorClock.currentTimeMillis(),
+        this::correlateMessage);
   }
 
   private boolean correlateMessage(final Message message) {
     // correlate the first message which is not correlated to the workflow instance yet
     messageKey = message.getKey();
 
-    final boolean correlateMessage =
-        message.getDeadline() > ActorClock.currentTimeMillis()
-            && !messageState.existMessageCorrelation(
-                messageKey, subscriptionRecord.getBpmnProcessIdBuffer());
-
-    if (correlateMessage) {
-      subscriptionState.updateToCorrelatingState(
-          subscription, message.getVariables(), ActorClock.currentTimeMillis(), messageKey);
+    subscriptionState.updateToCorrelatingState(
+        subscription, message.getVariables(), ActorClock.currentTimeMillis(), messageKey);
 
-      // send the correlate instead of acknowledge command
-      messageVariables.wrap(message.getVariables());
-      sideEffect.accept(this::sendCorrelateCommand);
+    // send the correlate instead of acknowledge command
+    messageVariables.wrap(message.getVariables());
+    sideEffect.accept(this::sendCorrelateCommand);
 
-      messageState.putMessageCorrelation(messageKey, subscriptionRecord.getBpmnProcessIdBuffer());
-    }
+    messageState.putMessageCorrelation(messageKey, subscriptionRecord.getBpmnProcessIdBuffer());
 
-    return !correlateMessage;
+    return false;
   }
 
   private boolean sendCorrelateCommand() {
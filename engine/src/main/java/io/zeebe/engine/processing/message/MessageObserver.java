@@ -40,7 +40,7 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
     final ActorControl actor = context.getActor();
     // it is safe to reuse the write because we running in the same actor/thread
     final MessageTimeToLiveChecker timeToLiveChecker =
-        new MessageTimeToLiveChecker(context.getLogStreamWriter(), messageState);
+        new MessageTimeToLiveChecker(actor, context.getLogStreamWriter(), messageState);
     context.getActor().runAtFixedRate(MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL, timeToLiveChecker);
 
     final PendingMessageSubscriptionChecker pendingSubscriptionChecker =
@@ -12,28 +12,107 @@ import io.zeebe.engine.state.message.Message;
 import io.zeebe.engine.state.message.MessageState;
 import io.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.zeebe.protocol.record.intent.MessageIntent;
+import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
+import org.agrona.collections.LongHashSet;
 
+/**
+ * Writes a DELETE command for the messages whose time to live is expired. A run writes at most
+ * {@link #MAX_DELETIONS_PER_RUN} commands, so it doesn't block the processing for long. If more
+ * messages are expired, the next run is scheduled right away instead of waiting for the next
+ * interval.
+ *
+ * <p>The keys of the messages which are deleted but not processed yet are kept, so a following
+ * run doesn't write the DELETE command again.
+ *
+ * <p>If a run stops early, the next run continues at the last visited message instead of the
+ * earliest deadline, such that it doesn't visit the pending deletions again. Only after a run
+ * visited all expired messages, the next run starts at the earliest deadline again.
+ */
 public final class MessageTimeToLiveChecker implements Runnable {
 
+  static final int MAX_DELETIONS_PER_RUN = 1_000;
+  static final int MAX_PENDING_DELETIONS = 10 * MAX_DELETIONS_PER_RUN;
+  static final Duration PENDING_DELETIONS_BACKOFF = Duration.ofMillis(100);
+
+  private final ActorControl actor;
   private final TypedCommandWriter writer;
   private final MessageState messageState;
 
   private final MessageRecord deleteMessageCommand = new MessageRecord();
+  private final LongHashSet pendingDeletions = new LongHashSet();
+
+  private boolean isNextRunScheduled;
+  private int deletionsOfRun;
+
+  private boolean hasResumePosition;
+  private long resumeDeadline;
+  private long resumeMessageKey;
 
   public MessageTimeToLiveChecker(
-      final TypedCommandWriter writer, final MessageState messageState) {
+      final ActorControl actor, final TypedCommandWriter writer, final MessageState messageState) {
+    this.actor = actor;
     this.writer = writer;
     this.messageState = messageState;
   }
 
   @Override
   public void run() {
-    messageState.visitMessagesWithDeadlineBefore(
-        ActorClock.currentTimeMillis(), this::writeDeleteMessageCommand);
+    final LongHashSet.LongIterator pendingIterator = pendingDeletions.iterator();
+    while (pendingIterator.hasNext()) {
+      if (!messageState.existMessage(pendingIterator.nextValue())) {
+        pendingIterator.remove();
+      }
+    }
+
+    if (pendingDeletions.size() >= MAX_PENDING_DELETIONS) {
+      // the processing is behind, wait until it deleted the messages
+      scheduleNextRun(PENDING_DELETIONS_BACKOFF);
+      return;
+    }
+
+    final long currentTime = ActorClock.currentTimeMillis();
+    final boolean isResumed = hasResumePosition;
+    hasResumePosition = false;
+    deletionsOfRun = 0;
+
+    if (isResumed) {
+      messageState.visitMessagesWithDeadlineBefore(
+          currentTime, resumeDeadline, resumeMessageKey, this::writeDeleteMessageCommand);
+    } else {
+      messageState.visitMessagesWithDeadlineBefore(currentTime, this::writeDeleteMessageCommand);
+    }
+
+    if (deletionsOfRun >= MAX_DELETIONS_PER_RUN) {
+      scheduleNextRun(Duration.ZERO);
+    }
+  }
+
+  int getPendingDeletions() {
+    return pendingDeletions.size();
+  }
+
+  private void scheduleNextRun(final Duration delay) {
+    if (!isNextRunScheduled) {
+      isNextRunScheduled = true;
+      actor.runDelayed(
+          delay,
+          () -> {
+            isNextRunScheduled = false;
+            run();
+          });
+    }
   }
 
   private boolean writeDeleteMessageCommand(final Message message) {
+    resumeDeadline = message.getDeadline();
+    resumeMessageKey = message.getKey();
+
+    if (pendingDeletions.contains(message.getKey())) {
+      return true;
+    }
+
     deleteMessageCommand.reset();
     deleteMessageCommand
         .setName(message.getName())
@@ -49,6 +128,16 @@ public final class MessageTimeToLiveChecker implements Runnable {
     writer.appendFollowUpCommand(message.getKey(), MessageIntent.DELETE, deleteMessageCommand);
 
     final long position = writer.flush();
-    return position > 0;
+    if (position <= 0) {
+      // retry the message on the next run
+      hasResumePosition = true;
+      return false;
+    }
+
+    pendingDeletions.add(message.getKey());
+    deletionsOfRun += 1;
+    hasResumePosition =
+        deletionsOfRun >= MAX_DELETIONS_PER_RUN || pendingDeletions.size() >= MAX_PENDING_DELETIONS;
+    return !hasResumePosition;
   }
 }
@@ -31,6 +31,7 @@ public final class PendingMessageSubscriptionChecker implements Runnable {
   public void run() {
     subscriptionState.visitSubscriptionBefore(
         ActorClock.currentTimeMillis() - subscriptionTimeout, this::sendCommand);
+    commandSender.flush();
   }
 
   private boolean sendCommand(final MessageSubscription subscription) {
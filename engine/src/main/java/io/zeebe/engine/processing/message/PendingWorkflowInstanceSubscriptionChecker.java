@@ -30,9 +30,9 @@ public final class PendingWorkflowInstanceSubscriptionChecker implements Runnabl
 
   @Override
   public void run() {
-
     subscriptionState.visitSubscriptionBefore(
         ActorClock.currentTimeMillis() - subscriptionTimeout, this::sendCommand);
+    commandSender.flush();
   }
 
   private boolean sendCommand(final WorkflowInstanceSubscription subscription) {
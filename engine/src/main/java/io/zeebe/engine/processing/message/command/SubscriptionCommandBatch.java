@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.message.command;
+
+import io.zeebe.engine.processing.message.command.SubscriptionCommandBatchDecoder.CommandsDecoder;
+import io.zeebe.engine.processing.message.command.SubscriptionCommandBatchEncoder.CommandsEncoder;
+import io.zeebe.protocol.impl.encoding.SbeBufferWriterReader;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.buffer.DirectBufferWriter;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A batch of subscription commands which are sent to the same partition. Every command is copied
+ * into the batch when it is added, so the command object can be reused right away.
+ */
+public final class SubscriptionCommandBatch
+    extends SbeBufferWriterReader<
+        SubscriptionCommandBatchEncoder, SubscriptionCommandBatchDecoder> {
+
+  private final SubscriptionCommandBatchEncoder encoder = new SubscriptionCommandBatchEncoder();
+  private final SubscriptionCommandBatchDecoder decoder = new SubscriptionCommandBatchDecoder();
+
+  private final MutableDirectBuffer commandsBuffer = new ExpandableArrayBuffer();
+  private final IntArrayList commandLengths = new IntArrayList();
+  private final DirectBuffer commandView = new UnsafeBuffer(0, 0);
+  private final DirectBufferWriter singleCommandWriter = new DirectBufferWriter();
+  private int commandsLength;
+
+  @Override
+  protected SubscriptionCommandBatchEncoder getBodyEncoder() {
+    return encoder;
+  }
+
+  @Override
+  protected SubscriptionCommandBatchDecoder getBodyDecoder() {
+    return decoder;
+  }
+
+  @Override
+  public void reset() {
+    commandLengths.clear();
+    commandsLength = 0;
+  }
+
+  @Override
+  public int getLength() {
+    return super.getLength()
+        + CommandsEncoder.sbeHeaderSize()
+        + commandLengths.size()
+            * (CommandsEncoder.sbeBlockLength() + CommandsEncoder.commandHeaderLength())
+        + commandsLength;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    super.write(buffer, offset);
+
+    final CommandsEncoder commandsEncoder = encoder.commandsCount(commandLengths.size());
+    int commandOffset = 0;
+    for (int i = 0; i < commandLengths.size(); i++) {
+      final int commandLength = commandLengths.getInt(i);
+      commandsEncoder.next().putCommand(commandsBuffer, commandOffset, commandLength);
+      commandOffset += commandLength;
+    }
+  }
+
+  public void add(final BufferWriter command) {
+    final int commandLength = command.getLength();
+    command.write(commandsBuffer, commandsLength);
+
+    commandLengths.addInt(commandLength);
+    commandsLength += commandLength;
+  }
+
+  public boolean isEmpty() {
+    return commandLengths.isEmpty();
+  }
+
+  public int size() {
+    return commandLengths.size();
+  }
+
+  /** @return the summed up length of the encoded commands, without the batch framing */
+  public int getCommandsLength() {
+    return commandsLength;
+  }
+
+  /**
+   * Writes the single command of the batch, without the batch framing.
+   *
+   * @throws IllegalStateException if the batch doesn't contain exactly one command
+   */
+  public BufferWriter getSingleCommand() {
+    if (commandLengths.size() != 1) {
+      throw new IllegalStateException(
+          String.format("Expected a batch with one command, but it has %d", size()));
+    }
+
+    return singleCommandWriter.wrap(commandsBuffer, 0, commandsLength);
+  }
+
+  /**
+   * Passes the encoded commands of a batch, which was wrapped before, to the given consumer. The
+   * buffer given to the consumer is only valid while it is called.
+   *
+   * @param consumer the consumer of the encoded commands
+   */
+  public void forEachCommand(final Consumer<DirectBuffer> consumer) {
+    final CommandsDecoder commandsDecoder = decoder.commands();
+    while (commandsDecoder.hasNext()) {
+      commandsDecoder.next().wrapCommand(commandView);
+      consumer.accept(commandView);
+    }
+  }
+}
@@ -7,7 +7,7 @@
  */
 package io.zeebe.engine.processing.message.command;
 
-import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.record.RecordMetadata;
@@ -25,6 +25,10 @@ import java.util.function.IntFunction;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Writes the received subscription commands to the log of the receiver partition. The commands of
+ * a {@link SubscriptionCommandBatch} are written together with a single append.
+ */
 public final class SubscriptionCommandMessageHandler
     implements Function<byte[], CompletableFuture<Void>> {
 
@@ -52,6 +56,8 @@ public final class SubscriptionCommandMessageHandler
   private final RejectCorrelateMessageSubscriptionCommand resetMessageCorrelationCommand =
       new RejectCorrelateMessageSubscriptionCommand();
 
+  private final SubscriptionCommandBatch commandBatch = new SubscriptionCommandBatch();
+
   private final RecordMetadata recordMetadata = new RecordMetadata();
 
   private final MessageSubscriptionRecord messageSubscriptionRecord =
@@ -61,13 +67,17 @@ public final class SubscriptionCommandMessageHandler
       new WorkflowInstanceSubscriptionRecord();
 
   private final Consumer<Runnable> enviromentToRun;
-  private final IntFunction<LogStreamRecordWriter> logstreamRecordWriterSupplier;
+  private final IntFunction<LogStreamBatchWriter> logStreamBatchWriterSupplier;
+
+  // the writer of the current message, all commands of a message are written with one append
+  private LogStreamBatchWriter batchWriter;
+  private int batchPartitionId;
 
   public SubscriptionCommandMessageHandler(
       final Consumer<Runnable> enviromentToRun,
-      final IntFunction<LogStreamRecordWriter> logstreamRecordWriterSupplier) {
+      final IntFunction<LogStreamBatchWriter> logStreamBatchWriterSupplier) {
     this.enviromentToRun = enviromentToRun;
-    this.logstreamRecordWriterSupplier = logstreamRecordWriterSupplier;
+    this.logStreamBatchWriterSupplier = logStreamBatchWriterSupplier;
   }
 
   @Override
@@ -76,44 +86,58 @@ public final class SubscriptionCommandMessageHandler
     enviromentToRun.accept(
         () -> {
           final DirectBuffer buffer = new UnsafeBuffer(bytes);
-          final int offset = 0;
-          final int length = buffer.capacity();
-          messageHeaderDecoder.wrap(buffer, offset);
-
-          if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
-
-            switch (messageHeaderDecoder.templateId()) {
-              case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
-                onOpenMessageSubscription(buffer, offset, length);
-                break;
-              case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onOpenWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCloseMessageSubscription(buffer, offset, length);
-                break;
-              case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onCloseWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onRejectCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              default:
-                break;
-            }
+          messageHeaderDecoder.wrap(buffer, 0);
+
+          if (messageHeaderDecoder.schemaId() == SubscriptionCommandBatchDecoder.SCHEMA_ID
+              && messageHeaderDecoder.templateId() == SubscriptionCommandBatchDecoder.TEMPLATE_ID) {
+            commandBatch.wrap(buffer, 0, buffer.capacity());
+            commandBatch.forEachCommand(this::onCommand);
+          } else {
+            onCommand(buffer);
           }
+
+          writeBatch();
           future.complete(null);
         });
     return future;
   }
 
-  private boolean onOpenMessageSubscription(
+  private void onCommand(final DirectBuffer buffer) {
+    final int offset = 0;
+    final int length = buffer.capacity();
+    messageHeaderDecoder.wrap(buffer, offset);
+
+    if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
+
+      switch (messageHeaderDecoder.templateId()) {
+        case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
+          onOpenMessageSubscription(buffer, offset, length);
+          break;
+        case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onOpenWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCorrelateMessageSubscription(buffer, offset, length);
+          break;
+        case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCloseMessageSubscription(buffer, offset, length);
+          break;
+        case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onCloseWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+          onRejectCorrelateMessageSubscription(buffer, offset, length);
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
+  private void onOpenMessageSubscription(
       final DirectBuffer buffer, final int offset, final int length) {
     openMessageSubscriptionCommand.wrap(buffer, offset, length);
 
@@ -126,14 +150,14 @@ public final class SubscriptionCommandMessageHandler
         .setCorrelationKey(openMessageSubscriptionCommand.getCorrelationKey())
         .setCloseOnCorrelate(openMessageSubscriptionCommand.shouldCloseOnCorrelate());
 
-    return writeCommand(
+    appendCommand(
         openMessageSubscriptionCommand.getSubscriptionPartitionId(),
         ValueType.MESSAGE_SUBSCRIPTION,
         MessageSubscriptionIntent.OPEN,
         messageSubscriptionRecord);
   }
 
-  private boolean onOpenWorkflowInstanceSubscription(
+  private void onOpenWorkflowInstanceSubscription(
       final DirectBuffer buffer, final int offset, final int length) {
     openWorkflowInstanceSubscriptionCommand.wrap(buffer, offset, length);
 
@@ -151,14 +175,14 @@ public final class SubscriptionCommandMessageHandler
         .setMessageName(openWorkflowInstanceSubscriptionCommand.getMessageName())
         .setCloseOnCorrelate(openWorkflowInstanceSubscriptionCommand.shouldCloseOnCorrelate());
 
-    return writeCommand(
+    appendCommand(
         workflowInstancePartitionId,
         ValueType.WORKFLOW_INSTANCE_SUBSCRIPTION,
         WorkflowInstanceSubscriptionIntent.OPEN,
         workflowInstanceSubscriptionRecord);
   }
 
-  private boolean onCorrelateWorkflowInstanceSubscription(
+  private void onCorrelateWorkflowInstanceSubscription(
       final DirectBuffer buffer, final int offset, final int length) {
     correlateWorkflowInstanceSubscriptionCommand.wrap(buffer, offset, length);
 
@@ -177,14 +201,14 @@ public final class SubscriptionCommandMessageHandler
         .setVariables(correlateWorkflowInstanceSubscriptionCommand.getVariables())
         .setCorrelationKey(correlateWorkflowInstanceSubscriptionCommand.getCorrelationKey());
 
-    return writeCommand(
+    appendCommand(
         workflowInstancePartitionId,
         ValueType.WORKFLOW_INSTANCE_SUBSCRIPTION,
         WorkflowInstanceSubscriptionIntent.CORRELATE,
         workflowInstanceSubscriptionRecord);
   }
 
-  private boolean onCorrelateMessageSubscription(
+  private void onCorrelateMessageSubscription(
       final DirectBuffer buffer, final int offset, final int length) {
     correlateMessageSubscriptionCommand.wrap(buffer, offset, length);
 
@@ -196,14 +220,14 @@ public final class SubscriptionCommandMessageHandler
         .setMessageKey(-1)
         .setMessageName(correlateMessageSubscriptionCommand.getMessageName());
 
-    return writeCommand(
+    appendCommand(
         correlateMessageSubscriptionCommand.getSubscriptionPartitionId(),
         ValueType.MESSAGE_SUBSCRIPTION,
         MessageSubscriptionIntent.CORRELATE,
         messageSubscriptionRecord);
   }
 
-  private boolean onCloseMessageSubscription(
+  private void onCloseMessageSubscription(
       final DirectBuffer buffer, final int offset, final int length) {
     closeMessageSubscriptionCommand.wrap(buffer, offset, length);
 
@@ -214,14 +238,14 @@ public final class SubscriptionCommandMessageHandler
         .setMessageKey(-1L)
         .setMessageName(closeMessageSubscriptionCommand.getMessageName());
 
-    return writeCommand(
+    appendCommand(
         closeMessageSubscriptionCommand.getSubscriptionPartitionId(),
         ValueType.MESSAGE_SUBSCRIPTION,
         MessageSubscriptionIntent.CLOSE,
         messageSubscriptionRecord);
   }
 
-  private boolean onCloseWorkflowInstanceSubscription(
+  private void onCloseWorkflowInstanceSubscription(
       final DirectBuffer buffer, final int offset, final int length) {
     closeWorkflowInstanceSubscriptionCommand.wrap(buffer, offset, length);
 
@@ -238,14 +262,14 @@ public final class SubscriptionCommandMessageHandler
         .setMessageKey(-1)
         .setMessageName(closeWorkflowInstanceSubscriptionCommand.getMessageName());
 
-    return writeCommand(
+    appendCommand(
         workflowInstancePartitionId,
         ValueType.WORKFLOW_INSTANCE_SUBSCRIPTION,
         WorkflowInstanceSubscriptionIntent.CLOSE,
         workflowInstanceSubscriptionRecord);
   }
 
-  private boolean onRejectCorrelateMessageSubscription(
+  private void onRejectCorrelateMessageSubscription(
       final DirectBuffer buffer, final int offset, final int length) {
     resetMessageCorrelationCommand.wrap(buffer, offset, length);
 
@@ -261,36 +285,44 @@ public final class SubscriptionCommandMessageHandler
         .setMessageKey(resetMessageCorrelationCommand.getMessageKey())
         .setCloseOnCorrelate(false);
 
-    return writeCommand(
+    appendCommand(
         resetMessageCorrelationCommand.getSubscriptionPartitionId(),
         ValueType.MESSAGE_SUBSCRIPTION,
         MessageSubscriptionIntent.REJECT,
         messageSubscriptionRecord);
   }
 
-  private boolean writeCommand(
+  private void appendCommand(
       final int partitionId,
       final ValueType valueType,
       final Intent intent,
       final UnpackedObject command) {
 
-    final LogStreamRecordWriter logStreamRecordWriter =
-        logstreamRecordWriterSupplier.apply(partitionId);
-    if (logStreamRecordWriter == null) {
-      // ignore message if you are not the leader of the partition
-      return true;
+    if (batchWriter != null && batchPartitionId != partitionId) {
+      writeBatch();
+    }
+
+    if (batchWriter == null) {
+      batchWriter = logStreamBatchWriterSupplier.apply(partitionId);
+      if (batchWriter == null) {
+        // ignore message if you are not the leader of the partition
+        return;
+      }
+
+      batchPartitionId = partitionId;
+      batchWriter.reset();
     }
 
-    logStreamRecordWriter.reset();
     recordMetadata.reset().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
 
-    final long position =
-        logStreamRecordWriter
-            .key(-1)
-            .metadataWriter(recordMetadata)
-            .valueWriter(command)
-            .tryWrite();
+    batchWriter.event().key(-1).metadataWriter(recordMetadata).valueWriter(command).done();
+  }
 
-    return position > 0;
+  private void writeBatch() {
+    if (batchWriter != null) {
+      // if the append fails, the sender resends the commands which are not acknowledged
+      batchWriter.tryWrite();
+      batchWriter = null;
+    }
   }
 }
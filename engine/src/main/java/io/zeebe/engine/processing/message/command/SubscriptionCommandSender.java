@@ -7,8 +7,15 @@
  */
 package io.zeebe.engine.processing.message.command;
 
+import io.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
+import io.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
 import io.zeebe.protocol.Protocol;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ScheduledTimer;
+import java.time.Duration;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
 
 /**
  * Send commands via the subscription endpoint. The commands are send as single messages (instead of request-response).
@@ -30,8 +37,23 @@ import org.agrona.DirectBuffer;
  * |                                                   Workflow Instance Partition                                                        |
  * +--------------------------------------------------------------------------------------------------------------------------------------+
  * <pre>
+ *
+ * <p>While the stream processor is running, the commands are not sent right away but collected in
+ * an outbox per receiver partition. The outboxes are flushed when the stream processor has no
+ * further record to process, when an outbox reaches {@link #MAX_BATCH_LENGTH} or at the latest
+ * after {@link #MAX_FLUSH_DELAY}. An outbox with more than one command is sent as a {@link
+ * SubscriptionCommandBatch}, which the receiver writes with a single append. Since the ACK
+ * commands are sent by the same sender, they are batched in the same way.
+ *
+ * <p>The commands stay in the outbox until they are sent. If an outbox is full and can't be sent,
+ * the new command is rejected, so that the stream processor retries it.
  */
-public class SubscriptionCommandSender {
+public class SubscriptionCommandSender implements StreamProcessorLifecycleAware {
+
+  /** Upper bound for the encoded commands of a batch, a larger single command is sent alone */
+  static final int MAX_BATCH_LENGTH = 32 * 1024;
+
+  static final Duration MAX_FLUSH_DELAY = Duration.ofMillis(10);
 
   private final OpenMessageSubscriptionCommand openMessageSubscriptionCommand =
       new OpenMessageSubscriptionCommand();
@@ -57,12 +79,61 @@ public class SubscriptionCommandSender {
   private final PartitionCommandSender partitionCommandSender;
   private final int senderPartition;
 
+  private final Int2ObjectHashMap<SubscriptionCommandBatch> outboxes = new Int2ObjectHashMap<>();
+  private ActorControl actor;
+  private ScheduledTimer flushTimer;
+
   public SubscriptionCommandSender(
       final int senderPartition, final PartitionCommandSender partitionCommandSender) {
     this.senderPartition = senderPartition;
     this.partitionCommandSender = partitionCommandSender;
   }
 
+  @Override
+  public void onRecovered(final ReadonlyProcessingContext context) {
+    actor = context.getActor();
+  }
+
+  @Override
+  public void onIdle() {
+    flush();
+  }
+
+  @Override
+  public void onPaused() {
+    flush();
+  }
+
+  @Override
+  public void onClose() {
+    discardPendingCommands();
+  }
+
+  @Override
+  public void onFailed() {
+    discardPendingCommands();
+  }
+
+  /**
+   * Sends all commands which were collected in the outboxes. The commands which can't be sent are
+   * kept and sent again after {@link #MAX_FLUSH_DELAY}.
+   */
+  public void flush() {
+    cancelFlushTimer();
+
+    boolean hasPendingCommands = false;
+    final Int2ObjectHashMap<SubscriptionCommandBatch>.EntryIterator iterator =
+        outboxes.entrySet().iterator();
+    while (iterator.hasNext()) {
+      iterator.next();
+      hasPendingCommands |= !flush(iterator.getIntKey(), iterator.getValue());
+    }
+
+    if (hasPendingCommands) {
+      scheduleFlush();
+    }
+  }
+
   public boolean openMessageSubscription(
       final int subscriptionPartitionId,
       final long workflowInstanceKey,
@@ -79,8 +150,7 @@ public class SubscriptionCommandSender {
     openMessageSubscriptionCommand.getCorrelationKey().wrap(correlationKey);
     openMessageSubscriptionCommand.setCloseOnCorrelate(closeOnCorrelate);
 
-    return partitionCommandSender.sendCommand(
-        subscriptionPartitionId, openMessageSubscriptionCommand);
+    return sendCommand(subscriptionPartitionId, openMessageSubscriptionCommand);
   }
 
   public boolean openWorkflowInstanceSubscription(
@@ -97,8 +167,7 @@ public class SubscriptionCommandSender {
     openWorkflowInstanceSubscriptionCommand.getMessageName().wrap(messageName);
     openWorkflowInstanceSubscriptionCommand.setCloseOnCorrelate(closeOnCorrelate);
 
-    return partitionCommandSender.sendCommand(
-        workflowInstancePartitionId, openWorkflowInstanceSubscriptionCommand);
+    return sendCommand(workflowInstancePartitionId, openWorkflowInstanceSubscriptionCommand);
   }
 
   public boolean correlateWorkflowInstanceSubscription(
@@ -121,8 +190,7 @@ public class SubscriptionCommandSender {
     correlateWorkflowInstanceSubscriptionCommand.getVariables().wrap(variables);
     correlateWorkflowInstanceSubscriptionCommand.getCorrelationKey().wrap(correlationKey);
 
-    return partitionCommandSender.sendCommand(
-        workflowInstancePartitionId, correlateWorkflowInstanceSubscriptionCommand);
+    return sendCommand(workflowInstancePartitionId, correlateWorkflowInstanceSubscriptionCommand);
   }
 
   public boolean correlateMessageSubscription(
@@ -138,8 +206,7 @@ public class SubscriptionCommandSender {
     correlateMessageSubscriptionCommand.getBpmnProcessId().wrap(bpmnProcessId);
     correlateMessageSubscriptionCommand.getMessageName().wrap(messageName);
 
-    return partitionCommandSender.sendCommand(
-        subscriptionPartitionId, correlateMessageSubscriptionCommand);
+    return sendCommand(subscriptionPartitionId, correlateMessageSubscriptionCommand);
   }
 
   public boolean closeMessageSubscription(
@@ -153,8 +220,7 @@ public class SubscriptionCommandSender {
     closeMessageSubscriptionCommand.setElementInstanceKey(elementInstanceKey);
     closeMessageSubscriptionCommand.setMessageName(messageName);
 
-    return partitionCommandSender.sendCommand(
-        subscriptionPartitionId, closeMessageSubscriptionCommand);
+    return sendCommand(subscriptionPartitionId, closeMessageSubscriptionCommand);
   }
 
   public boolean closeWorkflowInstanceSubscription(
@@ -169,8 +235,7 @@ public class SubscriptionCommandSender {
     closeWorkflowInstanceSubscriptionCommand.setElementInstanceKey(elementInstanceKey);
     closeWorkflowInstanceSubscriptionCommand.setMessageName(messageName);
 
-    return partitionCommandSender.sendCommand(
-        workflowInstancePartitionId, closeWorkflowInstanceSubscriptionCommand);
+    return sendCommand(workflowInstancePartitionId, closeWorkflowInstanceSubscriptionCommand);
   }
 
   public boolean rejectCorrelateMessageSubscription(
@@ -189,7 +254,66 @@ public class SubscriptionCommandSender {
     rejectCorrelateMessageSubscriptionCommand.getMessageName().wrap(messageName);
     rejectCorrelateMessageSubscriptionCommand.getCorrelationKey().wrap(correlationKey);
 
-    return partitionCommandSender.sendCommand(
-        workflowInstancePartitionId, rejectCorrelateMessageSubscriptionCommand);
+    return sendCommand(workflowInstancePartitionId, rejectCorrelateMessageSubscriptionCommand);
+  }
+
+  private boolean sendCommand(final int receiverPartitionId, final BufferWriter command) {
+    if (actor == null) {
+      // not attached to a running stream processor, nothing would flush the outbox
+      return partitionCommandSender.sendCommand(receiverPartitionId, command);
+    }
+
+    SubscriptionCommandBatch outbox = outboxes.get(receiverPartitionId);
+    if (outbox == null) {
+      outbox = new SubscriptionCommandBatch();
+      outboxes.put(receiverPartitionId, outbox);
+    }
+
+    if (!outbox.isEmpty()
+        && outbox.getCommandsLength() + command.getLength() > MAX_BATCH_LENGTH
+        && !flush(receiverPartitionId, outbox)) {
+      // the outbox is full, the stream processor retries the command
+      return false;
+    }
+    outbox.add(command);
+    scheduleFlush();
+
+    return true;
+  }
+
+  private boolean flush(final int receiverPartitionId, final SubscriptionCommandBatch outbox) {
+    if (outbox.isEmpty()) {
+      return true;
+    }
+
+    final boolean sent;
+    if (outbox.size() == 1) {
+      sent = partitionCommandSender.sendCommand(receiverPartitionId, outbox.getSingleCommand());
+    } else {
+      sent = partitionCommandSender.sendCommand(receiverPartitionId, outbox);
+    }
+
+    if (sent) {
+      outbox.reset();
+    }
+    return sent;
+  }
+
+  private void scheduleFlush() {
+    if (flushTimer == null) {
+      flushTimer = actor.runDelayed(MAX_FLUSH_DELAY, this::flush);
+    }
+  }
+
+  private void discardPendingCommands() {
+    cancelFlushTimer();
+    outboxes.values().forEach(SubscriptionCommandBatch::reset);
+  }
+
+  private void cancelFlushTimer() {
+    if (flushTimer != null) {
+      flushTimer.cancel();
+      flushTimer = null;
+    }
   }
 }
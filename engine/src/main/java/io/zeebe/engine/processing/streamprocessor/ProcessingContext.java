@@ -34,8 +34,11 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
 
   private BooleanSupplier abortCondition;
   private Consumer<TypedRecord> onProcessedListener = record -> {};
+  private Runnable onIdleListener = () -> {};
   private int maxFragmentSize;
   private boolean detectReprocessingInconsistency;
+  private int largeVariableThreshold;
+  private int reprocessingTransactionSize = ReProcessingStateMachine.TRANSACTION_BATCH_SIZE;
 
   public ProcessingContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -98,6 +101,11 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext onIdleListener(final Runnable onIdleListener) {
+    this.onIdleListener = onIdleListener;
+    return this;
+  }
+
   public ProcessingContext maxFragmentSize(final int maxFragmentSize) {
     this.maxFragmentSize = maxFragmentSize;
     return this;
@@ -109,6 +117,16 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext setLargeVariableThreshold(final int largeVariableThreshold) {
+    this.largeVariableThreshold = largeVariableThreshold;
+    return this;
+  }
+
+  public ProcessingContext setReprocessingTransactionSize(final int reprocessingTransactionSize) {
+    this.reprocessingTransactionSize = reprocessingTransactionSize;
+    return this;
+  }
+
   @Override
   public ActorControl getActor() {
     return actor;
@@ -173,7 +191,19 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return onProcessedListener;
   }
 
+  public Runnable getOnIdleListener() {
+    return onIdleListener;
+  }
+
   public boolean isDetectReprocessingInconsistency() {
     return detectReprocessingInconsistency;
   }
+
+  public int getLargeVariableThreshold() {
+    return largeVariableThreshold;
+  }
+
+  public int getReprocessingTransactionSize() {
+    return reprocessingTransactionSize;
+  }
 }
@@ -31,6 +31,7 @@ import io.zeebe.util.retry.RetryStrategy;
 import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.trace.CommandTracer;
 import java.time.Duration;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -122,7 +123,9 @@ public final class ProcessingStateMachine {
   private final RecordProcessorMap recordProcessorMap;
   private final TypedEventImpl typedEvent;
   private final StreamProcessorMetrics metrics;
+  private final CommandTracer tracer;
   private final Consumer<TypedRecord> onProcessed;
+  private final Runnable onIdle;
 
   // current iteration
   private SideEffectProducer sideEffectProducer;
@@ -163,7 +166,9 @@ public final class ProcessingStateMachine {
     responseWriter = new TypedResponseWriterImpl(context.getCommandResponseWriter(), partitionId);
 
     metrics = new StreamProcessorMetrics(partitionId);
+    tracer = logStream.getCommandTracer();
     onProcessed = context.getOnProcessedListener();
+    onIdle = context.getOnIdleListener();
   }
 
   private void skipRecord() {
@@ -206,6 +211,8 @@ public final class ProcessingStateMachine {
       } else {
         skipRecord();
       }
+    } else if (currentProcessor == null) {
+      onIdle.run();
     }
   }
 
@@ -221,6 +228,7 @@ public final class ProcessingStateMachine {
 
     processingStartTime = ActorClock.currentTimeMillis();
     metrics.processingLatency(metadata.getRecordType(), event.getTimestamp(), processingStartTime);
+    tracer.onProcessing(event.getPosition());
 
     try {
       final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
@@ -433,6 +441,7 @@ public final class ProcessingStateMachine {
           }
 
           notifyListener();
+          tracer.onProcessed(currentEvent.getPosition());
 
           metrics.processingDuration(
               metadata.getRecordType(), processingStartTime, ActorClock.currentTimeMillis());
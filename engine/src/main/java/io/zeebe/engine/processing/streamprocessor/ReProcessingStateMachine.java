@@ -10,6 +10,7 @@ package io.zeebe.engine.processing.streamprocessor;
 import io.zeebe.db.DbContext;
 import io.zeebe.db.TransactionOperation;
 import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.zeebe.engine.processing.streamprocessor.writers.NoopResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.ReprocessingStreamWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
@@ -21,67 +22,90 @@ import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.zeebe.protocol.impl.record.value.error.ErrorRecord;
 import io.zeebe.protocol.record.ValueType;
-import io.zeebe.util.retry.EndlessRetryStrategy;
-import io.zeebe.util.retry.RetryStrategy;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 
 /**
  * Represents the reprocessing state machine, which is executed on reprocessing.
  *
+ * <p>The log is read only once. The last source event position, i.e. the position until which the
+ * records have to be reprocessed, and the positions of the events which failed on processing are
+ * collected while reading. Since they are only known at the end of the log, the records are
+ * reprocessed speculatively, many of them in one transaction:
+ *
+ * <ul>
+ *   <li>when a transaction holds enough records, the following records are only read (scanned)
+ *       until a record is read whose source event comes after the last record of the transaction.
+ *       Since the follow-up records are written in the order of their source events, all follow-up
+ *       records (including error records) of the transaction's records were read then. The
+ *       transaction is committed and the records after it are reprocessed. The scanned records are
+ *       bounded by the distance between an event and its follow-up records on the log
+ *   <li>if an error record is read for an event of the current transaction, the transaction is
+ *       rolled back and the records are reprocessed again from the last commit on, this time
+ *       knowing the failed event
+ *   <li>if a processor throws an exception, the transaction is rolled back and the following
+ *       records are scanned for an error record of the event. If the event failed on processing
+ *       before, it is reprocessed as failed event. Otherwise, it is retried a few times before the
+ *       reprocessing fails
+ *   <li>when the end of the log is reached, the last source event position is known. If the
+ *       current transaction contains records after it, these records since the last commit are
+ *       reprocessed again, until the last source event position
+ * </ul>
+ *
  * <pre>
- * +------------------+   +-------------+           +------------------------+
- * |                  |   |             |           |                        |
- * |  startRecover()  |--->  scanLog()  |---------->|  reprocessNextEvent()  |
- * |                  |   |             |           |                        |
- * +------------------+   +---+---------+           +-----^------+-----------+
- *                            |                           |      |
- * +-----------------+        | no source events          |      |
- * |                 |        |                           |      |
- * |  onRecovered()  <--------+                           |      |    +--------------------+
- * |                 |                                    |      |    |                    |
- * +--------^--------+                hasNext             |      +--->|  reprocessEvent()  |
- *          |            +--------------------------------+           |                    |
- *          |            |                                            +----+----------+----+
- *          |            |                                                 |          |
- *   +------+------------+-----+                                           |          |
- *   |                         |               no event processor          |          |
- *   |  onRecordReprocessed()  |<------------------------------------------+          |
- *   |                         |                                                      |
- *   +---------^---------------+                                                      |
- *             |                                                                      |
- *             |      +--------------------------+       +----------------------+     |
- *             |      |                          |       |                      |     |
- *             +------+  updateStateUntilDone()  <-------+  processUntilDone()  |<----+
- *                    |                          |       |                      |
- *                    +------^------------+------+       +---^------------+-----+
- *                           |            |                  |            |
- *                           +------------+                  +------------+
- *                             exception                       exception
+ * +------------------+       +---------------------------+  end of log  +---------------+
+ * |                  |       |                           |------------->|               |
+ * |  startRecover()  |------>|  reprocessNextRecords()   |              |  onEndOfLog() |
+ * |                  |       |                           |<-------------|               |
+ * +------------------+       +--+---------^----------+---+    redo      +-------+-------+
+ *                               |         |          |                          |
+ *                  enough       |         |          | failed event in          |
+ *                  records      |         |          | transaction              v
+ *                 +-------------v-----+   |   +------v----------------+  +---------------+
+ *                 |                   |   |   |                       |  |               |
+ *                 |  scan(), commit() +---+---+  rollback()           |  |  onRecovered()|
+ *                 |                   |       |                       |  |               |
+ *                 +-------------------+       +-----------------------+  +---------------+
  * </pre>
- *
- * See https://textik.com/#773271ce7ea2096a
  */
 public final class ReProcessingStateMachine {
 
   public static final Consumer NOOP_SIDE_EFFECT_CONSUMER = (sideEffect) -> {};
+
+  /** Number of records after which a transaction is committed, as soon as it is confirmed */
+  static final int TRANSACTION_BATCH_SIZE = 10_000;
+
+  /** Number of records which are reprocessed in one actor job */
+  static final int RECORDS_PER_ITERATION = 1_000;
+
+  /** Number of times an event which didn't fail on processing is retried if it fails */
+  static final int MAX_PROCESSING_RETRIES = 3;
+
+  private static final long NO_POSITION = -1L;
+  private static final Duration PROGRESS_LOG_INTERVAL = Duration.ofSeconds(10);
+
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
   private static final String ERROR_MESSAGE_ON_EVENT_FAILED_SKIP_EVENT =
       "Expected to find event processor for event '{}', but caught an exception. Skip this event.";
-  private static final String ERROR_MESSAGE_REPROCESSING_NO_FOLLOW_UP_EVENT =
-      "Expected to find last follow-up event position '%d', but last position was '%d'. Failed to reprocess on processor";
-  private static final String ERROR_MESSAGE_REPROCESSING_NO_NEXT_EVENT =
-      "Expected to find last follow-up event position '%d', but found no next event. Failed to reprocess on processor";
   private static final String LOG_STMT_REPROCESSING_FINISHED =
       "Processor finished reprocessing at event position {}";
+  private static final String LOG_STMT_REPROCESSING_PROGRESS =
+      "Processor reprocessed {} records until position {} ({} records/s)";
   private static final String LOG_STMT_FAILED_ON_PROCESSING =
       "Event {} failed on processing last time, will call #onError to update workflow instance blacklist.";
+  private static final String LOG_STMT_RETRY_TRANSACTION =
+      "Failed to reprocess the records after position {}, will retry.";
+  private static final String ERROR_MESSAGE_REPROCESSING_FAILED =
+      "Expected to reprocess the event at position %d, which didn't fail on processing, but it failed %d times on reprocessing";
+  private static final String ERROR_MESSAGE_FAILED_EVENT_REPROCESSING_FAILED =
+      "Expected to reprocess the failed event at position %d, but it failed again";
 
   private static final String ERROR_INCONSISTENT_LOG =
       "Expected that position '%d' of current event is higher then position '%d' of last event, but was not. Inconsistent log detected!";
@@ -102,15 +126,28 @@ public final class ReProcessingStateMachine {
   private final TypedResponseWriter noopResponseWriter = new NoopResponseWriter();
 
   private final DbContext dbContext;
-  private final RetryStrategy updateStateRetryStrategy;
-  private final RetryStrategy processRetryStrategy;
+  private final StreamProcessorMetrics metrics;
+  private final int transactionBatchSize;
 
-  private final BooleanSupplier abortCondition;
   private final Set<Long> failedEventPositions = new HashSet<>();
   // current iteration
   private long lastSourceEventPosition;
-  private long lastFollowUpEventPosition;
   private long snapshotPosition;
+  // the last position to reprocess, only known after the end of the log was reached once
+  private long reprocessingBoundary;
+  private long lastReadPosition;
+  // the position of the last record whose state is committed
+  private long committedPosition;
+  // the position of the last record which is reprocessed in the current transaction
+  private long transactionPosition;
+  private int transactionRecords;
+
+  // while scanning, the records are only read until a record's source event is after this position
+  private long scanUntilPosition;
+  // the event which failed on reprocessing, if the scanning looks for its error record
+  private long failedProcessingPosition;
+  private long retryPosition;
+  private int processingRetries;
 
   private ActorFuture<Long> recoveryFuture;
   private LoggedEvent currentEvent;
@@ -118,6 +155,9 @@ public final class ReProcessingStateMachine {
   private ZeebeDbTransaction zeebeDbTransaction;
   private boolean detectReprocessingInconsistency;
 
+  private long lastProgressLogTime;
+  private long recordsSinceProgressLog;
+
   public ReProcessingStateMachine(final ProcessingContext context) {
     actor = context.getActor();
     eventFilter = context.getEventFilter();
@@ -126,11 +166,10 @@ public final class ReProcessingStateMachine {
     recordProcessorMap = context.getRecordProcessorMap();
     dbContext = context.getDbContext();
     zeebeState = context.getZeebeState();
-    abortCondition = context.getAbortCondition();
     typedEvent = new TypedEventImpl(context.getLogStream().getPartitionId());
+    metrics = new StreamProcessorMetrics(context.getLogStream().getPartitionId());
+    transactionBatchSize = context.getReprocessingTransactionSize();
 
-    updateStateRetryStrategy = new EndlessRetryStrategy(actor);
-    processRetryStrategy = new EndlessRetryStrategy(actor);
     detectReprocessingInconsistency = context.isDetectReprocessingInconsistency();
   }
 
@@ -145,113 +184,135 @@ public final class ReProcessingStateMachine {
     recoveryFuture = new CompletableActorFuture<>();
 
     this.snapshotPosition = snapshotPosition;
+    lastSourceEventPosition = snapshotPosition;
+    lastReadPosition = snapshotPosition;
+    committedPosition = snapshotPosition;
+    transactionPosition = snapshotPosition;
+    reprocessingBoundary = Long.MAX_VALUE;
+    transactionRecords = 0;
+    stopScanning();
+    retryPosition = NO_POSITION;
+    processingRetries = 0;
 
-    LOG.trace("Start scanning the log for error events.");
-    lastSourceEventPosition = scanLog(snapshotPosition);
-    LOG.trace("Finished scanning the log for error events.");
+    if (logStreamReader.hasNext()) {
+      LOG.info("Processor starts reprocessing after position {}", snapshotPosition);
+      lastProgressLogTime = ActorClock.currentTimeMillis();
 
-    if (lastSourceEventPosition > snapshotPosition) {
-      LOG.info(
-          "Processor starts reprocessing, until last source event position {}",
-          lastSourceEventPosition);
-      logStreamReader.seekToNextEvent(snapshotPosition);
-      reprocessNextEvent();
-    } else if (snapshotPosition > 0) {
-      recoveryFuture.complete(snapshotPosition);
+      zeebeDbTransaction = dbContext.getCurrentTransaction();
+      zeebeDbTransaction.setConflictTracking(false);
+      reprocessNextRecords();
     } else {
-      recoveryFuture.complete(StreamProcessor.UNSET_POSITION);
+      onRecovered();
     }
     return recoveryFuture;
   }
 
-  private long scanLog(final long snapshotPosition) {
-    long lastSourceEventPosition = -1L;
-
-    if (logStreamReader.hasNext()) {
-      lastSourceEventPosition = snapshotPosition;
-
-      long lastPosition = snapshotPosition;
-      while (logStreamReader.hasNext()) {
-        final LoggedEvent newEvent = logStreamReader.next();
-
-        final var currentPosition = newEvent.getPosition();
-        if (lastPosition >= currentPosition) {
-          throw new IllegalStateException(
-              String.format(ERROR_INCONSISTENT_LOG, currentPosition, lastPosition));
-        }
-        lastPosition = currentPosition;
-
-        metadata.reset();
-        newEvent.readMetadata(metadata);
-        long errorPosition = -1;
-        if (metadata.getValueType() == ValueType.ERROR) {
-          newEvent.readValue(errorRecord);
-          errorPosition = errorRecord.getErrorEventPosition();
+  private void reprocessNextRecords() {
+    try {
+      for (int i = 0; i < RECORDS_PER_ITERATION; i++) {
+        if (!logStreamReader.hasNext()) {
+          if (onEndOfLog()) {
+            return;
+          }
+          continue;
         }
 
-        if (errorPosition >= 0) {
-          LOG.debug(
-              "Found error-prone event {} on reprocessing, will add position {} to the blacklist.",
-              newEvent,
-              errorPosition);
-          failedEventPositions.add(errorPosition);
-        }
+        currentEvent = logStreamReader.next();
+        final boolean failedEventInTransaction = readRecord(currentEvent);
 
-        final long sourceEventPosition = newEvent.getSourceEventPosition();
-        if (sourceEventPosition > 0) {
-          if (sourceEventPosition > lastSourceEventPosition) {
-            lastSourceEventPosition = sourceEventPosition;
+        if (failedEventInTransaction) {
+          // the event was reprocessed in the current transaction but should be blacklisted
+          redo();
+
+        } else if (isScanning()) {
+          if (currentEvent.getSourceEventPosition() > scanUntilPosition) {
+            onScanned();
           }
-          if (currentPosition > lastFollowUpEventPosition) {
-            lastFollowUpEventPosition = currentPosition;
+
+        } else if (currentEvent.getPosition() > reprocessingBoundary) {
+          if (onBoundaryReached()) {
+            return;
           }
+
+        } else {
+          reprocessRecord(currentEvent);
         }
       }
 
-      // reset position
-      logStreamReader.seek(snapshotPosition + 1);
-    }
+      actor.submit(this::reprocessNextRecords);
 
-    return lastSourceEventPosition;
+    } catch (final RuntimeException e) {
+      zeebeDbTransaction.setConflictTracking(true);
+      recoveryFuture.completeExceptionally(e);
+    }
   }
 
-  private void readNextEvent() {
-    if (!logStreamReader.hasNext()) {
+  /**
+   * Collects the source event position and the failed events of the record.
+   *
+   * @return {@code true} if the record is an error record for an event of the current transaction
+   */
+  private boolean readRecord(final LoggedEvent event) {
+    final long position = event.getPosition();
+    if (lastReadPosition >= position) {
       throw new IllegalStateException(
-          String.format(ERROR_MESSAGE_REPROCESSING_NO_NEXT_EVENT, lastFollowUpEventPosition));
+          String.format(ERROR_INCONSISTENT_LOG, position, lastReadPosition));
     }
+    lastReadPosition = position;
 
-    currentEvent = logStreamReader.next();
-    if (currentEvent.getPosition() > lastFollowUpEventPosition) {
-      throw new IllegalStateException(
-          String.format(
-              ERROR_MESSAGE_REPROCESSING_NO_FOLLOW_UP_EVENT,
-              lastFollowUpEventPosition,
-              currentEvent.getPosition()));
+    metadata.reset();
+    event.readMetadata(metadata);
+
+    final long sourceEventPosition = event.getSourceEventPosition();
+    if (sourceEventPosition > lastSourceEventPosition) {
+      lastSourceEventPosition = sourceEventPosition;
     }
+
+    if (metadata.getValueType() == ValueType.ERROR) {
+      event.readValue(errorRecord);
+      final long errorPosition = errorRecord.getErrorEventPosition();
+
+      if (errorPosition >= 0 && failedEventPositions.add(errorPosition)) {
+        LOG.debug(
+            "Found error-prone event {} on reprocessing, will add position {} to the blacklist.",
+            event,
+            errorPosition);
+
+        return errorPosition > committedPosition && errorPosition <= transactionPosition;
+      }
+    }
+
+    return false;
   }
 
-  private void reprocessNextEvent() {
-    try {
-      readNextEvent();
+  private void reprocessRecord(final LoggedEvent event) {
+    final long position = event.getPosition();
 
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        reprocessEvent(currentEvent);
+    if ((eventFilter == null || eventFilter.applies(event)) && !reprocessEvent(event)) {
+      onReprocessingFailed(position);
+      return;
+    }
+
+    reprocessingStreamWriter.removeRecord(event.getKey(), event.getSourceEventPosition());
+    transactionPosition = position;
+    transactionRecords += 1;
+
+    if (transactionRecords >= transactionBatchSize) {
+      if (reprocessingBoundary == Long.MAX_VALUE) {
+        // wait for the follow-up records of the transaction before committing it
+        scanUntilPosition = transactionPosition;
+      } else if (commit()) {
+        // all records until the boundary were read already, i.e. their follow-up records too
+        seekTo(committedPosition);
       } else {
-        onRecordReprocessed(currentEvent);
+        redo();
       }
-
-    } catch (final RuntimeException e) {
-      recoveryFuture.completeExceptionally(e);
     }
   }
 
-  private void reprocessEvent(final LoggedEvent currentEvent) {
-
+  private boolean reprocessEvent(final LoggedEvent currentEvent) {
+    eventProcessor = null;
     try {
-      metadata.reset();
-      currentEvent.readMetadata(metadata);
-
       eventProcessor =
           recordProcessorMap.get(
               metadata.getRecordType(), metadata.getValueType(), metadata.getIntent().value());
@@ -260,8 +321,7 @@ public final class ReProcessingStateMachine {
     }
 
     if (eventProcessor == null) {
-      onRecordReprocessed(currentEvent);
-      return;
+      return true;
     }
 
     final UnifiedRecordValue value =
@@ -272,42 +332,18 @@ public final class ReProcessingStateMachine {
       verifyRecordMatchesToReprocessing(typedEvent);
     }
 
-    if (currentEvent.getPosition() <= lastSourceEventPosition) {
-      // don't reprocess records after the last source event
-      reprocessingStreamWriter.configureSourceContext(currentEvent.getPosition());
-      processUntilDone(currentEvent.getPosition(), typedEvent);
+    final long position = currentEvent.getPosition();
+    reprocessingStreamWriter.configureSourceContext(position);
 
-    } else {
-      onRecordReprocessed(currentEvent);
+    try {
+      zeebeDbTransaction.run(chooseOperationForEvent(position, typedEvent));
+      return true;
+    } catch (final Exception e) {
+      LOG.warn(LOG_STMT_RETRY_TRANSACTION, committedPosition, e);
+      return false;
     }
   }
 
-  private void processUntilDone(final long position, final TypedRecord<?> currentEvent) {
-    final TransactionOperation operationOnProcessing =
-        chooseOperationForEvent(position, currentEvent);
-
-    final ActorFuture<Boolean> resultFuture =
-        processRetryStrategy.runWithRetry(
-            () -> {
-              final boolean onRetry = zeebeDbTransaction != null;
-              if (onRetry) {
-                zeebeDbTransaction.rollback();
-              }
-              zeebeDbTransaction = dbContext.getCurrentTransaction();
-              zeebeDbTransaction.run(operationOnProcessing);
-              return true;
-            },
-            abortCondition);
-
-    actor.runOnCompletion(
-        resultFuture,
-        (v, t) -> {
-          // processing should be retried endless until it worked
-          assert t == null : "On reprocessing there shouldn't be any exception thrown.";
-          updateStateUntilDone();
-        });
-  }
-
   private TransactionOperation chooseOperationForEvent(
       final long position, final TypedRecord<?> currentEvent) {
     final TransactionOperation operationOnProcessing;
@@ -332,46 +368,201 @@ public final class ReProcessingStateMachine {
     return operationOnProcessing;
   }
 
-  private void updateStateUntilDone() {
-    final ActorFuture<Boolean> retryFuture =
-        updateStateRetryStrategy.runWithRetry(
-            () -> {
-              zeebeDbTransaction.commit();
-              zeebeDbTransaction = null;
-              return true;
-            },
-            abortCondition);
-
-    actor.runOnCompletion(
-        retryFuture,
-        (bool, throwable) -> {
-          // update state should be retried endless until it worked
-          assert throwable == null : "On reprocessing there shouldn't be any exception thrown.";
-          onRecordReprocessed(currentEvent);
-        });
-  }
+  private void onReprocessingFailed(final long position) {
+    if (failedEventPositions.contains(position)) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_FAILED_EVENT_REPROCESSING_FAILED, position));
+    }
 
-  private void onRecordReprocessed(final LoggedEvent currentEvent) {
-    reprocessingStreamWriter.removeRecord(
-        currentEvent.getKey(), currentEvent.getSourceEventPosition());
+    // the failed processing may have left changes in the transaction
+    rollbackTransaction();
 
-    // do reprocessing until the last source event but read until the last follow-up event to check
-    // for inconsistent reprocessing records
-    if (currentEvent.getPosition() >= lastFollowUpEventPosition) {
-      LOG.info(LOG_STMT_REPROCESSING_FINISHED, currentEvent.getPosition());
+    if (reprocessingBoundary == Long.MAX_VALUE) {
+      // look for an error record of the event, which is written after the event
+      failedProcessingPosition = position;
+      scanUntilPosition = position;
+    } else {
+      // all error records were read already
+      retryAfterFailure(position);
+    }
+  }
 
-      // reset the position to the first event where the processing should start
-      logStreamReader.seekToNextEvent(lastSourceEventPosition);
+  /** Invoked when all follow-up records of the records until the scan position were read. */
+  private void onScanned() {
+    final long failedPosition = failedProcessingPosition;
+    stopScanning();
 
-      onRecovered(lastSourceEventPosition);
+    if (failedPosition != NO_POSITION) {
+      retryAfterFailure(failedPosition);
+    } else if (commit()) {
+      seekTo(committedPosition);
     } else {
-      actor.submit(this::reprocessNextEvent);
+      redo();
+    }
+  }
+
+  private void retryAfterFailure(final long failedPosition) {
+    final boolean failedBefore = failedEventPositions.contains(failedPosition);
+
+    if (!failedBefore && failedPosition <= reprocessingBoundary) {
+      if (retryPosition != failedPosition) {
+        retryPosition = failedPosition;
+        processingRetries = 0;
+      }
+
+      processingRetries += 1;
+      if (processingRetries > MAX_PROCESSING_RETRIES) {
+        throw new IllegalStateException(
+            String.format(ERROR_MESSAGE_REPROCESSING_FAILED, failedPosition, processingRetries));
+      }
+    }
+
+    // the event is reprocessed as failed event, retried, or not reprocessed at all if it is after
+    // the boundary
+    seekTo(committedPosition);
+  }
+
+  /**
+   * Invoked when the end of the log is reached. The last source event position is known now.
+   *
+   * @return {@code true} if the reprocessing is done
+   */
+  private boolean onEndOfLog() {
+    if (reprocessingBoundary == Long.MAX_VALUE) {
+      reprocessingBoundary = lastSourceEventPosition;
+    }
+
+    final long failedPosition = failedProcessingPosition;
+    stopScanning();
+
+    if (failedPosition != NO_POSITION) {
+      retryAfterFailure(failedPosition);
+      return false;
+    }
+
+    if (transactionPosition > reprocessingBoundary) {
+      // the records after the last source event are processed after the reprocessing
+      redo();
+      return false;
+    }
+
+    if (!commit()) {
+      redo();
+      return false;
+    }
+
+    if (committedPosition < reprocessingBoundary) {
+      // records were only scanned, but not reprocessed yet
+      seekTo(committedPosition);
+      return false;
+    }
+
+    onReprocessed();
+    return true;
+  }
+
+  /**
+   * Invoked when a record after the last source event position is read.
+   *
+   * @return {@code true} if the reprocessing is done
+   */
+  private boolean onBoundaryReached() {
+    if (!commit()) {
+      redo();
+      return false;
+    }
+
+    onReprocessed();
+    return true;
+  }
+
+  private boolean commit() {
+    try {
+      zeebeDbTransaction.commit();
+    } catch (final Exception e) {
+      LOG.warn(LOG_STMT_RETRY_TRANSACTION, committedPosition, e);
+      return false;
     }
+
+    zeebeDbTransaction = dbContext.getCurrentTransaction();
+    committedPosition = transactionPosition;
+    onRecordsReprocessed(transactionRecords);
+    transactionRecords = 0;
+    return true;
   }
 
-  private void onRecovered(final long lastProcessedPosition) {
-    recoveryFuture.complete(lastProcessedPosition);
+  private void rollbackTransaction() {
+    try {
+      zeebeDbTransaction.rollback();
+    } catch (final Exception e) {
+      throw new IllegalStateException(
+          String.format("Failed to roll back the records after position %d", committedPosition),
+          e);
+    }
+
+    zeebeDbTransaction = dbContext.getCurrentTransaction();
+    reprocessingStreamWriter.removeRecordsAfter(committedPosition);
+    transactionPosition = committedPosition;
+    transactionRecords = 0;
+  }
+
+  /** Rolls back the current transaction and reprocesses its records again. */
+  private void redo() {
+    rollbackTransaction();
+    stopScanning();
+    seekTo(committedPosition);
+  }
+
+  private void seekTo(final long position) {
+    logStreamReader.seekToNextEvent(position);
+    lastReadPosition = position;
+  }
+
+  private boolean isScanning() {
+    return scanUntilPosition != NO_POSITION;
+  }
+
+  private void stopScanning() {
+    scanUntilPosition = NO_POSITION;
+    failedProcessingPosition = NO_POSITION;
+  }
+
+  private void onReprocessed() {
+    zeebeDbTransaction.setConflictTracking(true);
+    onRecovered();
+  }
+
+  private void onRecordsReprocessed(final int records) {
+    metrics.recordsReprocessed(records, committedPosition);
+
+    recordsSinceProgressLog += records;
+    final long now = ActorClock.currentTimeMillis();
+    final long elapsed = now - lastProgressLogTime;
+    if (elapsed >= PROGRESS_LOG_INTERVAL.toMillis()) {
+      LOG.info(
+          LOG_STMT_REPROCESSING_PROGRESS,
+          recordsSinceProgressLog,
+          committedPosition,
+          recordsSinceProgressLog * 1000 / elapsed);
+      lastProgressLogTime = now;
+      recordsSinceProgressLog = 0;
+    }
+  }
+
+  private void onRecovered() {
     failedEventPositions.clear();
+
+    if (lastSourceEventPosition > snapshotPosition) {
+      LOG.info(LOG_STMT_REPROCESSING_FINISHED, lastSourceEventPosition);
+
+      // reset the position to the first event where the processing should start
+      logStreamReader.seekToNextEvent(lastSourceEventPosition);
+      recoveryFuture.complete(lastSourceEventPosition);
+    } else {
+      logStreamReader.seekToNextEvent(snapshotPosition);
+      recoveryFuture.complete(
+          snapshotPosition > 0 ? snapshotPosition : StreamProcessor.UNSET_POSITION);
+    }
   }
 
   private void verifyRecordMatchesToReprocessing(final TypedRecord<?> currentEvent) {
@@ -92,6 +92,11 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
     return actorName;
   }
 
+  @Override
+  public int getAffinityKey() {
+    return partitionId;
+  }
+
   @Override
   protected void onActorStarting() {
     actor.runOnCompletionBlockingCurrentPhase(
@@ -240,6 +245,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
     recordProcessorMap.values().forEachRemaining(lifecycleAwareListeners::add);
 
     processingContext.recordProcessorMap(recordProcessorMap);
+    processingContext.onIdleListener(
+        () -> lifecycleAwareListeners.forEach(StreamProcessorLifecycleAware::onIdle));
   }
 
   private long recoverFromSnapshot() {
@@ -262,6 +269,11 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
   private ZeebeState recoverState() {
     final DbContext dbContext = zeebeDb.createContext();
     final ZeebeState zeebeState = new ZeebeState(partitionId, zeebeDb, dbContext);
+    zeebeState
+        .getWorkflowState()
+        .getElementInstanceState()
+        .getVariablesState()
+        .setLargeValueThreshold(processingContext.getLargeVariableThreshold());
 
     processingContext.dbContext(dbContext);
     processingContext.zeebeState(zeebeState);
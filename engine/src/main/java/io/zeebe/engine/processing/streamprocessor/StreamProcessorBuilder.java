@@ -75,6 +75,11 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder largeVariableThreshold(final int largeVariableThreshold) {
+    processingContext.setLargeVariableThreshold(largeVariableThreshold);
+    return this;
+  }
+
   public TypedRecordProcessorFactory getTypedRecordProcessorFactory() {
     return typedRecordProcessorFactory;
   }
@@ -29,4 +29,10 @@ public interface StreamProcessorLifecycleAware {
    * called before.
    */
   default void onResumed() {}
+
+  /**
+   * Callback which is called when the processing caught up with the log, i.e. there is currently
+   * no further record to process. Can be used to flush what was collected while processing.
+   */
+  default void onIdle() {}
 }
@@ -133,4 +133,8 @@ public final class ReprocessingStreamWriter implements TypedStreamWriter {
             record.getKey() == recordKey
                 && record.getSourceRecordPosition() == sourceRecordPosition);
   }
+
+  public void removeRecordsAfter(final long sourceRecordPosition) {
+    records.removeIf(record -> record.getSourceRecordPosition() > sourceRecordPosition);
+  }
 }
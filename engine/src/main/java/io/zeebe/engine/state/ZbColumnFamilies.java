@@ -81,5 +81,9 @@ public enum ZbColumnFamilies {
 
   EXPORTER,
 
-  AWAIT_WORKLOW_RESULT
+  AWAIT_WORKLOW_RESULT,
+
+  // large variable values, stored once by their hash
+  VARIABLE_VALUES,
+  VARIABLE_VALUE_REFERENCES
 }
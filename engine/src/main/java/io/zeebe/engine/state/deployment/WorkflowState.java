@@ -33,11 +33,12 @@ public final class WorkflowState {
   public WorkflowState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final DbContext dbContext,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final int partitionId) {
     versionManager = new NextValueManager(zeebeDb, dbContext, ZbColumnFamilies.WORKFLOW_VERSION);
     workflowPersistenceCache = new WorkflowPersistenceCache(zeebeDb, dbContext);
     timerInstanceState = new TimerInstanceState(zeebeDb, dbContext);
-    elementInstanceState = new ElementInstanceState(zeebeDb, dbContext, keyGenerator);
+    elementInstanceState = new ElementInstanceState(zeebeDb, dbContext, keyGenerator, partitionId);
     eventScopeInstanceState = new EventScopeInstanceState(zeebeDb, dbContext);
   }
 
@@ -53,7 +53,8 @@ public final class ElementInstanceState {
   public ElementInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final DbContext dbContext,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final int partitionId) {
 
     elementInstanceKey = new DbLong();
     parentKey = new DbLong();
@@ -87,7 +88,7 @@ public final class ElementInstanceState {
             recordParentStateRecordKey,
             DbNil.INSTANCE);
 
-    variablesState = new VariablesState(zeebeDb, dbContext, keyGenerator);
+    variablesState = new VariablesState(zeebeDb, dbContext, keyGenerator, partitionId);
     awaitResultMetadata = new AwaitWorkflowInstanceResultMetadata();
     awaitWorkflowInstanceResultMetadataColumnFamily =
         zeebeDb.createColumnFamily(
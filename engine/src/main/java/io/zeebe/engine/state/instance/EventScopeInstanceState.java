@@ -14,7 +14,6 @@ import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.engine.state.ZbColumnFamilies;
 import java.util.Collection;
-import java.util.function.BiConsumer;
 import org.agrona.DirectBuffer;
 
 public final class EventScopeInstanceState {
@@ -119,10 +118,7 @@ public final class EventScopeInstanceState {
   public void deleteInstance(final long eventScopeKey) {
     eventTriggerScopeKey.wrapLong(eventScopeKey);
 
-    eventTriggerColumnFamily.whileEqualPrefix(
-        eventTriggerScopeKey,
-        (BiConsumer<DbCompositeKey<DbLong, DbLong>, EventTrigger>)
-            (key, value) -> deleteTrigger(key));
+    eventTriggerColumnFamily.deletePrefix(eventTriggerScopeKey);
 
     this.eventScopeKey.wrapLong(eventScopeKey);
     eventScopeInstanceColumnFamily.delete(this.eventScopeKey);
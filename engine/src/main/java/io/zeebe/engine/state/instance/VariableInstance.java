@@ -12,14 +12,18 @@ import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.msgpack.property.BinaryProperty;
 import io.zeebe.msgpack.property.LongProperty;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class VariableInstance extends UnpackedObject implements DbValue {
 
   private final LongProperty keyProp = new LongProperty("key");
   private final BinaryProperty valueProp = new BinaryProperty("value");
+  // the hash of the value, if the value is stored separately because it is large
+  private final BinaryProperty valueReferenceProp =
+      new BinaryProperty("valueReference", new UnsafeBuffer(0, 0));
 
   public VariableInstance() {
-    declareProperty(keyProp).declareProperty(valueProp);
+    declareProperty(keyProp).declareProperty(valueProp).declareProperty(valueReferenceProp);
   }
 
   public long getKey() {
@@ -39,4 +43,17 @@ public final class VariableInstance extends UnpackedObject implements DbValue {
   public DirectBuffer getValue() {
     return valueProp.getValue();
   }
+
+  public VariableInstance setValueReference(final DirectBuffer valueHash) {
+    valueReferenceProp.setValue(valueHash);
+    return this;
+  }
+
+  public DirectBuffer getValueReference() {
+    return valueReferenceProp.getValue();
+  }
+
+  public boolean hasValueReference() {
+    return getValueReference().capacity() > 0;
+  }
 }
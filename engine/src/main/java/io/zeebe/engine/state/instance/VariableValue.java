@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import io.zeebe.db.DbValue;
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.msgpack.property.BinaryProperty;
+import org.agrona.DirectBuffer;
+
+public final class VariableValue extends UnpackedObject implements DbValue {
+  private final BinaryProperty valueProp = new BinaryProperty("value");
+
+  public VariableValue() {
+    declareProperty(valueProp);
+  }
+
+  public DirectBuffer getValue() {
+    return valueProp.getValue();
+  }
+
+  public void setValue(final DirectBuffer value, final int offset, final int length) {
+    valueProp.setValue(value, offset, length);
+  }
+}
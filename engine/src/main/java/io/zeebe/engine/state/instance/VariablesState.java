@@ -13,12 +13,15 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.metrics.VariableMetrics;
 import io.zeebe.engine.state.KeyGenerator;
 import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.msgpack.spec.MsgPackReader;
 import io.zeebe.msgpack.spec.MsgPackToken;
 import io.zeebe.msgpack.spec.MsgPackWriter;
 import io.zeebe.util.buffer.BufferUtil;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.function.BiConsumer;
@@ -29,12 +32,16 @@ import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
 import org.agrona.collections.Int2IntHashMap.EntryIterator;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class VariablesState {
 
   public static final int NO_PARENT = -1;
+  private static final long UNRESOLVED_SCOPE = -2;
+  private static final String VALUE_HASH_ALGORITHM = "SHA-256";
+  private static final DirectBuffer EMPTY_VALUE = new UnsafeBuffer(0, 0);
 
   private final MsgPackReader reader = new MsgPackReader();
   private final MsgPackWriter writer = new MsgPackWriter();
@@ -57,8 +64,24 @@ public class VariablesState {
   private final ColumnFamily<DbLong, TemporaryVariables> temporaryVariableStoreColumnFamily;
   private final TemporaryVariables temporaryVariables = new TemporaryVariables();
 
+  // (value hash) => (large variable value)
+  private final ColumnFamily<DbString, VariableValue> valuesColumnFamily;
+  private final VariableValue variableValue = new VariableValue();
+  private final DbString valueHashKey = new DbString();
+
+  // (value hash) => (count of variables which refer to the value)
+  private final ColumnFamily<DbString, DbLong> valueReferencesColumnFamily;
+  private final DbLong valueReferences = new DbLong();
+
   private final VariableInstance newVariable = new VariableInstance();
   private final DirectBuffer variableNameView = new UnsafeBuffer(0, 0);
+  private final DirectBuffer newValueView = new UnsafeBuffer(0, 0);
+
+  // storing large values once by their hash
+  private final MessageDigest valueDigest;
+  private final UnsafeBuffer valueHash = new UnsafeBuffer(0, 0);
+  private byte[] hashInput = new byte[0];
+  private int largeValueThreshold = 0;
 
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
@@ -66,7 +89,9 @@ public class VariablesState {
 
   // setting variables
   private final IndexedDocument indexedDocument = new IndexedDocument();
+  private final LongArrayList documentScopes = new LongArrayList();
   private final KeyGenerator keyGenerator;
+  private final VariableMetrics metrics;
 
   private VariableListener listener;
   private int variableCount = 0;
@@ -74,8 +99,10 @@ public class VariablesState {
   public VariablesState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final DbContext dbContext,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final int partitionId) {
     this.keyGenerator = keyGenerator;
+    metrics = new VariableMetrics(partitionId);
 
     childKey = new DbLong();
     childParentColumnFamily =
@@ -92,6 +119,34 @@ public class VariablesState {
     temporaryVariableStoreColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.TEMPORARY_VARIABLE_STORE, dbContext, scopeKey, temporaryVariables);
+
+    valuesColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.VARIABLE_VALUES, dbContext, valueHashKey, variableValue);
+    valueReferencesColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.VARIABLE_VALUE_REFERENCES, dbContext, valueHashKey, valueReferences);
+
+    try {
+      valueDigest = MessageDigest.getInstance(VALUE_HASH_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to hash variable values with %s, but failed", VALUE_HASH_ALGORITHM),
+          e);
+    }
+  }
+
+  /**
+   * Variable values of at least the given length (in bytes) are stored only once by their hash,
+   * and the variables refer to the stored value. Variables which share a large value, e.g. a
+   * document which is propagated to many scopes, don't store a copy each.
+   *
+   * @param largeValueThreshold the minimum length of a large value, or a value {@code <= 0} to
+   *     store all values in the variables
+   */
+  public void setLargeValueThreshold(final int largeValueThreshold) {
+    this.largeValueThreshold = largeValueThreshold;
   }
 
   public void setVariablesLocalFromDocument(
@@ -99,6 +154,8 @@ public class VariablesState {
     reader.wrap(document, 0, document.capacity());
 
     final int variables = reader.readMapHeader();
+    final long rootScopeKey =
+        variables > 0 && listener != null ? getRootScopeKey(scopeKey) : UNRESOLVED_SCOPE;
 
     for (int i = 0; i < variables; i++) {
       final MsgPackToken variableName = reader.readToken();
@@ -109,12 +166,13 @@ public class VariablesState {
       reader.skipValue();
       final int valueLength = reader.getOffset() - valueOffset;
 
+      final VariableInstance currentVariable =
+          getVariableLocal(scopeKey, document, nameOffset, nameLength);
       setVariableLocal(
           scopeKey,
+          rootScopeKey,
           workflowKey,
-          document,
-          nameOffset,
-          nameLength,
+          currentVariable,
           document,
           valueOffset,
           valueLength);
@@ -149,62 +207,175 @@ public class VariablesState {
       final DirectBuffer value,
       final int valueOffset,
       final int valueLength) {
-
-    newVariable.reset();
-    newVariable.setValue(value, valueOffset, valueLength);
-
     final VariableInstance currentVariable =
         getVariableLocal(scopeKey, name, nameOffset, nameLength);
+    setVariableLocal(
+        scopeKey,
+        UNRESOLVED_SCOPE,
+        workflowKey,
+        currentVariable,
+        value,
+        valueOffset,
+        valueLength);
+  }
+
+  /**
+   * Creates or updates the variable whose key was wrapped by the lookup of the current variable.
+   * The variable is only written if its value changed.
+   *
+   * @param rootScopeKey the root scope of the given scope, or {@link #UNRESOLVED_SCOPE} to resolve
+   *     it when needed
+   * @param currentVariable the current variable in the scope, or {@code null} if it doesn't exist
+   */
+  private void setVariableLocal(
+      final long scopeKey,
+      final long rootScopeKey,
+      final long workflowKey,
+      final VariableInstance currentVariable,
+      final DirectBuffer value,
+      final int valueOffset,
+      final int valueLength) {
+
+    newValueView.wrap(value, valueOffset, valueLength);
+    final boolean isLargeValue = largeValueThreshold > 0 && valueLength >= largeValueThreshold;
+
+    newVariable.reset();
+    if (isLargeValue) {
+      hashValue(newValueView);
+      newVariable.setValue(EMPTY_VALUE, 0, 0).setValueReference(valueHash);
+    } else {
+      newVariable.setValue(value, valueOffset, valueLength);
+    }
 
     if (currentVariable == null) {
+      if (isLargeValue) {
+        acquireValue(valueHash, newValueView);
+      }
+
       newVariable.setKey(keyGenerator.nextKey());
       variablesColumnFamily.put(scopeKeyVariableNameKey, newVariable);
+      metrics.variableCreated();
 
       if (listener != null) {
-        final long rootScopeKey = getRootScopeKey(scopeKey);
         listener.onCreate(
             newVariable.getKey(),
             workflowKey,
             variableName.getBuffer(),
-            newVariable.getValue(),
+            newValueView,
             scopeKey,
-            rootScopeKey);
+            resolveRootScopeKey(scopeKey, rootScopeKey));
+      }
+
+    } else if (hasValueChanged(currentVariable, isLargeValue)) {
+      // the current variable is not overwritten by the following lookups, since those are done in
+      // other column families
+      if (isLargeValue) {
+        acquireValue(valueHash, newValueView);
+      }
+      if (currentVariable.hasValueReference()) {
+        releaseValue(currentVariable.getValueReference());
       }
 
-    } else if (!BufferUtil.equals(currentVariable.getValue(), newVariable.getValue())) {
       newVariable.setKey(currentVariable.getKey());
       variablesColumnFamily.put(scopeKeyVariableNameKey, newVariable);
+      metrics.variableUpdated();
 
       if (listener != null) {
-        final long rootScopeKey = getRootScopeKey(scopeKey);
         listener.onUpdate(
             newVariable.getKey(),
             workflowKey,
             variableName.getBuffer(),
-            newVariable.getValue(),
+            newValueView,
             scopeKey,
-            rootScopeKey);
+            resolveRootScopeKey(scopeKey, rootScopeKey));
       }
 
     } else {
       // not updated
+      metrics.variableSkipped();
     }
   }
 
-  private boolean hasVariableLocal(
-      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
-    this.scopeKey.wrapLong(scopeKey);
-    variableNameView.wrap(name, nameOffset, nameLength);
-    variableName.wrapBuffer(variableNameView);
+  private boolean hasValueChanged(
+      final VariableInstance currentVariable, final boolean isLargeValue) {
+    if (isLargeValue && currentVariable.hasValueReference()) {
+      return !BufferUtil.equals(currentVariable.getValueReference(), valueHash);
+    }
 
-    return variablesColumnFamily.exists(scopeKeyVariableNameKey);
+    return !BufferUtil.equals(resolveValue(currentVariable), newValueView);
+  }
+
+  private void hashValue(final DirectBuffer value) {
+    final int length = value.capacity();
+    final byte[] array = value.byteArray();
+
+    if (array != null) {
+      valueDigest.update(array, value.wrapAdjustment(), length);
+    } else {
+      if (hashInput.length < length) {
+        hashInput = new byte[length];
+      }
+      value.getBytes(0, hashInput, 0, length);
+      valueDigest.update(hashInput, 0, length);
+    }
+
+    valueHash.wrap(valueDigest.digest());
+  }
+
+  /** Stores the value if it is not stored yet, and counts the new reference to it. */
+  private void acquireValue(final DirectBuffer hash, final DirectBuffer value) {
+    valueHashKey.wrapBuffer(hash);
+
+    final DbLong references = valueReferencesColumnFamily.get(valueHashKey);
+    final long referenceCount = references != null ? references.getValue() : 0;
+
+    if (referenceCount == 0) {
+      variableValue.setValue(value, 0, value.capacity());
+      valuesColumnFamily.put(valueHashKey, variableValue);
+    }
+
+    valueReferences.wrapLong(referenceCount + 1);
+    valueReferencesColumnFamily.put(valueHashKey, valueReferences);
+  }
+
+  /** Removes a reference to the value, and the value itself if it was the last reference. */
+  private void releaseValue(final DirectBuffer hash) {
+    valueHashKey.wrapBuffer(hash);
+
+    final DbLong references = valueReferencesColumnFamily.get(valueHashKey);
+    final long referenceCount = references != null ? references.getValue() : 0;
+
+    if (referenceCount > 1) {
+      valueReferences.wrapLong(referenceCount - 1);
+      valueReferencesColumnFamily.put(valueHashKey, valueReferences);
+    } else {
+      valueReferencesColumnFamily.delete(valueHashKey);
+      valuesColumnFamily.delete(valueHashKey);
+    }
+  }
+
+  private DirectBuffer resolveValue(final VariableInstance variable) {
+    if (!variable.hasValueReference()) {
+      return variable.getValue();
+    }
+
+    valueHashKey.wrapBuffer(variable.getValueReference());
+    final VariableValue value = valuesColumnFamily.get(valueHashKey);
+    if (value == null) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to find the value of variable with key %d, but it is not stored",
+              variable.getKey()));
+    }
+
+    return value.getValue();
   }
 
   public DirectBuffer getVariableLocal(final long scopeKey, final DirectBuffer name) {
     final VariableInstance variable = getVariableLocal(scopeKey, name, 0, name.capacity());
 
     if (variable != null) {
-      return variable.getValue();
+      return resolveValue(variable);
     } else {
       return null;
     }
@@ -250,7 +421,7 @@ public class VariablesState {
           getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
 
       if (variable != null) {
-        return variable.getValue();
+        return resolveValue(variable);
       }
 
       currentScopeKey = getParent(currentScopeKey);
@@ -267,30 +438,35 @@ public class VariablesState {
       return;
     }
 
+    // 2. resolve the scope hierarchy once, from the given scope up to the root scope
+    documentScopes.clear();
     long currentScope = scopeKey;
-    long parentScope;
+    do {
+      documentScopes.addLong(currentScope);
+      currentScope = getParent(currentScope);
+    } while (currentScope > 0);
+
+    final int rootScopeIndex = documentScopes.size() - 1;
+    final long rootScopeKey = documentScopes.getLong(rootScopeIndex);
 
-    // 2. overwrite any variables in the scope hierarchy
-    while ((parentScope = getParent(currentScope)) > 0) {
+    // 3. overwrite any variables in the scope hierarchy, with one lookup per scope and variable
+    for (int i = 0; i < rootScopeIndex && indexedDocument.hasEntries(); i++) {
+      final long scope = documentScopes.getLong(i);
       final DocumentEntryIterator entryIterator = indexedDocument.iterator();
 
       while (entryIterator.hasNext()) {
         entryIterator.next();
 
-        final boolean hasVariable =
-            hasVariableLocal(
-                currentScope,
-                document,
-                entryIterator.getNameOffset(),
-                entryIterator.getNameLength());
+        final VariableInstance currentVariable =
+            getVariableLocal(
+                scope, document, entryIterator.getNameOffset(), entryIterator.getNameLength());
 
-        if (hasVariable) {
+        if (currentVariable != null) {
           setVariableLocal(
-              currentScope,
+              scope,
+              rootScopeKey,
               workflowKey,
-              document,
-              entryIterator.getNameOffset(),
-              entryIterator.getNameLength(),
+              currentVariable,
               document,
               entryIterator.getValueOffset(),
               entryIterator.getValueLength());
@@ -298,21 +474,25 @@ public class VariablesState {
           entryIterator.remove();
         }
       }
-      currentScope = parentScope;
     }
 
-    // 3. set remaining variables on top scope
+    // 4. set remaining variables on top scope
     final DocumentEntryIterator entryIterator = indexedDocument.iterator();
 
     while (entryIterator.hasNext()) {
       entryIterator.next();
 
+      final VariableInstance currentVariable =
+          getVariableLocal(
+              rootScopeKey,
+              document,
+              entryIterator.getNameOffset(),
+              entryIterator.getNameLength());
       setVariableLocal(
-          currentScope,
+          rootScopeKey,
+          rootScopeKey,
           workflowKey,
-          document,
-          entryIterator.getNameOffset(),
-          entryIterator.getNameLength(),
+          currentVariable,
           document,
           entryIterator.getValueOffset(),
           entryIterator.getValueLength());
@@ -339,7 +519,7 @@ public class VariablesState {
         (name, value) -> {
           final DirectBuffer variableNameBuffer = name.getBuffer();
           writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(resolveValue(value));
 
           // must create a new name wrapper, because we keep them all in the hashset at the same
           // time
@@ -369,7 +549,7 @@ public class VariablesState {
         name -> variablesToCollect.contains(name.getBuffer()),
         (name, value) -> {
           writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(resolveValue(value));
 
           variablesToCollect.remove(name.getBuffer());
         },
@@ -394,7 +574,7 @@ public class VariablesState {
         name -> true,
         (name, value) -> {
           writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(resolveValue(value));
 
           variableCount += 1;
         },
@@ -473,10 +653,22 @@ public class VariablesState {
   }
 
   public void removeAllVariables(final long scopeKey) {
+    if (valueReferencesColumnFamily.isEmpty()) {
+      // no variable refers to a stored value which must be released
+      this.scopeKey.wrapLong(scopeKey);
+      variablesColumnFamily.deletePrefix(this.scopeKey);
+      return;
+    }
+
     visitVariablesLocal(
         scopeKey,
         dbString -> true,
-        (dbString, variable1) -> variablesColumnFamily.delete(scopeKeyVariableNameKey),
+        (dbString, variable) -> {
+          if (variable.hasValueReference()) {
+            releaseValue(variable.getValueReference());
+          }
+          variablesColumnFamily.delete(scopeKeyVariableNameKey);
+        },
         () -> false);
   }
 
@@ -501,7 +693,9 @@ public class VariablesState {
   public boolean isEmpty() {
     return variablesColumnFamily.isEmpty()
         && childParentColumnFamily.isEmpty()
-        && temporaryVariableStoreColumnFamily.isEmpty();
+        && temporaryVariableStoreColumnFamily.isEmpty()
+        && valuesColumnFamily.isEmpty()
+        && valueReferencesColumnFamily.isEmpty();
   }
 
   public void setListener(final VariableListener listener) {
@@ -512,6 +706,10 @@ public class VariablesState {
     this.listener = listener;
   }
 
+  private long resolveRootScopeKey(final long scopeKey, final long rootScopeKey) {
+    return rootScopeKey != UNRESOLVED_SCOPE ? rootScopeKey : getRootScopeKey(scopeKey);
+  }
+
   private long getRootScopeKey(final long scopeKey) {
     long rootScopeKey = scopeKey;
     long currentScopeKey = scopeKey;
@@ -262,6 +262,43 @@ public final class MessageState {
         });
   }
 
+  /**
+   * Visits the messages with the given name and correlation key in the order they were published,
+   * but only the ones which are not correlated to the given workflow yet and whose deadline is
+   * after the given timestamp. The correlation is checked on the keys, so the messages which are
+   * already correlated to the workflow are skipped without reading them.
+   */
+  public void visitCorrelatableMessages(
+      final DirectBuffer name,
+      final DirectBuffer correlationKey,
+      final DirectBuffer bpmnProcessId,
+      final long timestamp,
+      final MessageVisitor visitor) {
+    ensureNotNullOrEmpty("BPMN process id", bpmnProcessId);
+
+    messageName.wrapBuffer(name);
+    this.correlationKey.wrapBuffer(correlationKey);
+    bpmnProcessIdKey.wrapBuffer(bpmnProcessId);
+
+    nameCorrelationMessageColumnFamily.whileEqualPrefix(
+        nameAndCorrelationKey,
+        (compositeKey, nil) -> {
+          final long messageKey = compositeKey.getSecond().getValue();
+          this.messageKey.wrapLong(messageKey);
+          if (correlatedMessageColumnFamily.exists(messageBpmnProcessIdKey)) {
+            return true;
+          }
+
+          final Message message = getMessage(messageKey);
+          return message.getDeadline() <= timestamp || visitor.visit(message);
+        });
+  }
+
+  public boolean existMessage(final long messageKey) {
+    this.messageKey.wrapLong(messageKey);
+    return messageColumnFamily.exists(this.messageKey);
+  }
+
   public Message getMessage(final long messageKey) {
     this.messageKey.wrapLong(messageKey);
     return messageColumnFamily.get(this.messageKey);
@@ -269,15 +306,38 @@ public final class MessageState {
 
   public void visitMessagesWithDeadlineBefore(final long timestamp, final MessageVisitor visitor) {
     deadlineColumnFamily.whileTrue(
-        ((compositeKey, zbNil) -> {
-          final long deadline = compositeKey.getFirst().getValue();
-          if (deadline <= timestamp) {
-            final long messageKey = compositeKey.getSecond().getValue();
-            final Message message = getMessage(messageKey);
-            return visitor.visit(message);
-          }
-          return false;
-        }));
+        (compositeKey, zbNil) -> visitMessageWithDeadlineBefore(timestamp, compositeKey, visitor));
+  }
+
+  /**
+   * Visits the messages with a deadline before the given timestamp, ordered by deadline and key,
+   * like {@link #visitMessagesWithDeadlineBefore(long, MessageVisitor)}. The visit starts at the
+   * given deadline and message key instead of the earliest deadline.
+   */
+  public void visitMessagesWithDeadlineBefore(
+      final long timestamp,
+      final long startDeadline,
+      final long startMessageKey,
+      final MessageVisitor visitor) {
+    deadline.wrapLong(startDeadline);
+    messageKey.wrapLong(startMessageKey);
+
+    deadlineColumnFamily.whileTrue(
+        deadlineMessageKey,
+        (compositeKey, zbNil) -> visitMessageWithDeadlineBefore(timestamp, compositeKey, visitor));
+  }
+
+  private boolean visitMessageWithDeadlineBefore(
+      final long timestamp,
+      final DbCompositeKey<DbLong, DbLong> compositeKey,
+      final MessageVisitor visitor) {
+    final long deadline = compositeKey.getFirst().getValue();
+    if (deadline <= timestamp) {
+      final long messageKey = compositeKey.getSecond().getValue();
+      final Message message = getMessage(messageKey);
+      return visitor.visit(message);
+    }
+    return false;
   }
 
   public boolean exist(
@@ -312,11 +372,7 @@ public final class MessageState {
     deadline.wrapLong(message.getDeadline());
     deadlineColumnFamily.delete(deadlineMessageKey);
 
-    correlatedMessageColumnFamily.whileEqualPrefix(
-        messageKey,
-        ((compositeKey, zbNil) -> {
-          correlatedMessageColumnFamily.delete(compositeKey);
-        }));
+    correlatedMessageColumnFamily.deletePrefix(messageKey);
   }
 
   @FunctionalInterface
@@ -0,0 +1,196 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.message;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import io.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.zeebe.engine.state.message.Message;
+import io.zeebe.engine.state.message.MessageState;
+import io.zeebe.engine.util.ZeebeStateRule;
+import io.zeebe.protocol.record.intent.MessageIntent;
+import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+public final class MessageTimeToLiveCheckerTest {
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  @Mock private ActorControl actor;
+  @Mock private TypedCommandWriter writer;
+
+  private MessageState messageState;
+  private MessageTimeToLiveChecker checker;
+
+  @Before
+  public void setUp() {
+    initMocks(this);
+    when(writer.flush()).thenReturn(1L);
+
+    messageState = stateRule.getZeebeState().getMessageState();
+    checker = new MessageTimeToLiveChecker(actor, writer, messageState);
+  }
+
+  @Test
+  public void shouldStopAtMaxDeletionsPerRun() {
+    // given
+    putExpiredMessages(MessageTimeToLiveChecker.MAX_DELETIONS_PER_RUN + 1);
+
+    // when
+    checker.run();
+
+    // then
+    verify(writer, times(MessageTimeToLiveChecker.MAX_DELETIONS_PER_RUN))
+        .appendFollowUpCommand(anyLong(), eq(MessageIntent.DELETE), any());
+    verify(actor).runDelayed(eq(Duration.ZERO), any());
+    assertThat(checker.getPendingDeletions())
+        .isEqualTo(MessageTimeToLiveChecker.MAX_DELETIONS_PER_RUN);
+  }
+
+  @Test
+  public void shouldResumeOnNextRun() {
+    // given
+    putExpiredMessages(MessageTimeToLiveChecker.MAX_DELETIONS_PER_RUN + 1);
+    checker.run();
+
+    final ArgumentCaptor<Runnable> nextRunCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(actor).runDelayed(eq(Duration.ZERO), nextRunCaptor.capture());
+
+    // when
+    nextRunCaptor.getValue().run();
+
+    // then
+    verify(writer, times(MessageTimeToLiveChecker.MAX_DELETIONS_PER_RUN + 1))
+        .appendFollowUpCommand(anyLong(), eq(MessageIntent.DELETE), any());
+    verify(writer)
+        .appendFollowUpCommand(
+            eq((long) MessageTimeToLiveChecker.MAX_DELETIONS_PER_RUN + 1),
+            eq(MessageIntent.DELETE),
+            any());
+    assertThat(checker.getPendingDeletions())
+        .isEqualTo(MessageTimeToLiveChecker.MAX_DELETIONS_PER_RUN + 1);
+  }
+
+  @Test
+  public void shouldContinueAtLastVisitedMessageOnNextRun() {
+    // given
+    final int count = MessageTimeToLiveChecker.MAX_DELETIONS_PER_RUN + 1;
+    putExpiredMessages(count);
+    checker.run();
+
+    final ArgumentCaptor<Runnable> nextRunCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(actor).runDelayed(eq(Duration.ZERO), nextRunCaptor.capture());
+
+    // an expired message before the last visited one is not visited by the continued run
+    putExpiredMessage(count + 1, 0);
+
+    // when
+    nextRunCaptor.getValue().run();
+
+    // then
+    verify(writer).appendFollowUpCommand(eq((long) count), eq(MessageIntent.DELETE), any());
+    verify(writer, never())
+        .appendFollowUpCommand(eq((long) count + 1), eq(MessageIntent.DELETE), any());
+  }
+
+  @Test
+  public void shouldStartAtEarliestDeadlineAfterVisitingAllMessages() {
+    // given
+    final int count = MessageTimeToLiveChecker.MAX_DELETIONS_PER_RUN + 1;
+    putExpiredMessages(count);
+    checker.run();
+
+    final ArgumentCaptor<Runnable> nextRunCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(actor).runDelayed(eq(Duration.ZERO), nextRunCaptor.capture());
+    putExpiredMessage(count + 1, 0);
+    nextRunCaptor.getValue().run();
+
+    // when
+    checker.run();
+
+    // then
+    verify(writer).appendFollowUpCommand(eq((long) count + 1), eq(MessageIntent.DELETE), any());
+    assertThat(checker.getPendingDeletions()).isEqualTo(count + 1);
+  }
+
+  @Test
+  public void shouldNotWriteDeleteAgainForPendingDeletion() {
+    // given
+    putExpiredMessages(1);
+    checker.run();
+
+    // when
+    checker.run();
+
+    // then
+    verify(writer, times(1)).appendFollowUpCommand(eq(1L), eq(MessageIntent.DELETE), any());
+    assertThat(checker.getPendingDeletions()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldForgetPendingDeletionOnceMessageIsDeleted() {
+    // given
+    putExpiredMessages(1);
+    checker.run();
+
+    // when
+    messageState.remove(1L);
+    checker.run();
+
+    // then
+    verify(writer, times(1)).appendFollowUpCommand(eq(1L), eq(MessageIntent.DELETE), any());
+    assertThat(checker.getPendingDeletions()).isZero();
+  }
+
+  @Test
+  public void shouldNotRememberDeletionIfWriteFailed() {
+    // given
+    when(writer.flush()).thenReturn(-1L);
+    putExpiredMessages(1);
+
+    // when
+    checker.run();
+
+    // then
+    assertThat(checker.getPendingDeletions()).isZero();
+    verify(actor, never()).runDelayed(any(), any());
+  }
+
+  private void putExpiredMessages(final int count) {
+    for (int key = 1; key <= count; key++) {
+      putExpiredMessage(key, key);
+    }
+  }
+
+  private void putExpiredMessage(final long key, final long deadline) {
+    messageState.put(
+        new Message(
+            key,
+            wrapString("message"),
+            wrapString("correlation-" + key),
+            wrapString(""),
+            new UnsafeBuffer(0, 0),
+            1_000L,
+            deadline));
+  }
+}
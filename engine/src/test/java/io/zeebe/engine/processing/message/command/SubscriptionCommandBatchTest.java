@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.message.command;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class SubscriptionCommandBatchTest {
+
+  @Test
+  public void shouldEncodeDecodeCommands() {
+    // given
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    batch.add(closeCommand(1L, "a"));
+    batch.add(closeCommand(2L, "message"));
+    batch.add(closeCommand(3L, ""));
+
+    // when
+    final DirectBuffer encoded = write(batch);
+    final SubscriptionCommandBatch decoded = new SubscriptionCommandBatch();
+    decoded.wrap(encoded, 0, encoded.capacity());
+
+    // then
+    final List<CloseMessageSubscriptionCommand> commands = new ArrayList<>();
+    decoded.forEachCommand(
+        command -> {
+          final CloseMessageSubscriptionCommand closeCommand =
+              new CloseMessageSubscriptionCommand();
+          closeCommand.wrap(BufferUtil.cloneBuffer(command));
+          commands.add(closeCommand);
+        });
+
+    assertThat(commands)
+        .extracting(CloseMessageSubscriptionCommand::getWorkflowInstanceKey)
+        .containsExactly(1L, 2L, 3L);
+    assertThat(commands)
+        .extracting(c -> BufferUtil.bufferAsString(c.getMessageName()))
+        .containsExactly("a", "message", "");
+  }
+
+  @Test
+  public void shouldWriteSingleCommandWithoutBatchFraming() {
+    // given
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    final CloseMessageSubscriptionCommand command = closeCommand(1L, "message");
+    batch.add(command);
+
+    // when
+    final DirectBuffer single = write(batch.getSingleCommand());
+
+    // then
+    assertThat(single).isEqualTo(write(command));
+  }
+
+  @Test
+  public void shouldNotReturnSingleCommandOfLargerBatch() {
+    // given
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    batch.add(closeCommand(1L, "a"));
+    batch.add(closeCommand(2L, "b"));
+
+    // when - then
+    assertThatThrownBy(batch::getSingleCommand).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void shouldBeEmptyAfterReset() {
+    // given
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    batch.add(closeCommand(1L, "message"));
+
+    // when
+    batch.reset();
+
+    // then
+    assertThat(batch.isEmpty()).isTrue();
+    assertThat(batch.getCommandsLength()).isZero();
+  }
+
+  private static CloseMessageSubscriptionCommand closeCommand(
+      final long workflowInstanceKey, final String messageName) {
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setSubscriptionPartitionId(1);
+    command.setWorkflowInstanceKey(workflowInstanceKey);
+    command.setElementInstanceKey(workflowInstanceKey + 1);
+    command.setMessageName(wrapString(messageName));
+    return command;
+  }
+
+  private static DirectBuffer write(final BufferWriter writer) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[writer.getLength()]);
+    writer.write(buffer, 0);
+    return buffer;
+  }
+}
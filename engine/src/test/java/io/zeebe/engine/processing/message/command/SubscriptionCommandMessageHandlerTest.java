@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.message.command;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class SubscriptionCommandMessageHandlerTest {
+
+  private LogStreamBatchWriter batchWriter;
+  private LogEntryBuilder entryBuilder;
+  private SubscriptionCommandMessageHandler handler;
+
+  @Before
+  public void setUp() {
+    batchWriter = mock(LogStreamBatchWriter.class);
+    entryBuilder = mock(LogEntryBuilder.class, RETURNS_SELF);
+    when(entryBuilder.done()).thenReturn(batchWriter);
+    when(batchWriter.event()).thenReturn(entryBuilder);
+
+    handler = new SubscriptionCommandMessageHandler(Runnable::run, partitionId -> batchWriter);
+  }
+
+  @Test
+  public void shouldAppendCommandsOfBatchAtOnce() {
+    // given
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    batch.add(closeCommand(1L));
+    batch.add(closeCommand(2L));
+    batch.add(closeCommand(3L));
+
+    // when
+    handler.apply(write(batch)).join();
+
+    // then
+    verify(entryBuilder, times(3)).valueWriter(any());
+    verify(batchWriter, times(3)).event();
+    verify(batchWriter, times(1)).tryWrite();
+  }
+
+  @Test
+  public void shouldAppendSingleCommand() {
+    // when
+    handler.apply(write(closeCommand(1L))).join();
+
+    // then
+    verify(batchWriter, times(1)).event();
+    verify(batchWriter, times(1)).tryWrite();
+  }
+
+  private static CloseMessageSubscriptionCommand closeCommand(final long workflowInstanceKey) {
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setSubscriptionPartitionId(1);
+    command.setWorkflowInstanceKey(workflowInstanceKey);
+    command.setElementInstanceKey(workflowInstanceKey + 1);
+    command.setMessageName(wrapString("message"));
+    return command;
+  }
+
+  private static byte[] write(final BufferWriter writer) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[writer.getLength()]);
+    writer.write(buffer, 0);
+    return buffer.byteArray();
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.message.command;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ScheduledTimer;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public final class SubscriptionCommandSenderTest {
+
+  private static final int RECEIVER_PARTITION = 2;
+
+  private final List<DirectBuffer> sentMessages = new ArrayList<>();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private boolean sendSucceeds = true;
+  private PartitionCommandSender partitionCommandSender;
+  private ActorControl actor;
+  private SubscriptionCommandSender sender;
+
+  @Before
+  public void setUp() {
+    partitionCommandSender = mock(PartitionCommandSender.class);
+    when(partitionCommandSender.sendCommand(anyInt(), any()))
+        .thenAnswer(
+            invocation -> {
+              if (!sendSucceeds) {
+                return false;
+              }
+              final BufferWriter writer = invocation.getArgument(1);
+              final UnsafeBuffer buffer = new UnsafeBuffer(new byte[writer.getLength()]);
+              writer.write(buffer, 0);
+              sentMessages.add(buffer);
+              return true;
+            });
+
+    actor = mock(ActorControl.class);
+    when(actor.runDelayed(any(), any())).thenReturn(mock(ScheduledTimer.class));
+    final ReadonlyProcessingContext context = mock(ReadonlyProcessingContext.class);
+    when(context.getActor()).thenReturn(actor);
+
+    sender = new SubscriptionCommandSender(1, partitionCommandSender);
+    sender.onRecovered(context);
+  }
+
+  @Test
+  public void shouldSendCollectedCommandsAsBatchOnIdle() {
+    // given
+    closeMessageSubscription(1L, "a");
+    closeMessageSubscription(2L, "b");
+    closeMessageSubscription(3L, "c");
+    assertThat(sentMessages).isEmpty();
+
+    // when
+    sender.onIdle();
+
+    // then
+    assertThat(sentMessages).hasSize(1);
+    assertThat(commandCount(sentMessages.get(0))).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldSendSingleCommandWithoutBatchFraming() {
+    // given
+    closeMessageSubscription(1L, "a");
+
+    // when
+    sender.onIdle();
+
+    // then
+    assertThat(sentMessages).hasSize(1);
+    headerDecoder.wrap(sentMessages.get(0), 0);
+    assertThat(headerDecoder.templateId())
+        .isEqualTo(CloseMessageSubscriptionDecoder.TEMPLATE_ID);
+  }
+
+  @Test
+  public void shouldFlushOutboxIfMaxBatchLengthIsReached() {
+    // given
+    // leave room for the fixed length part of the commands
+    final String messageName = "x".repeat(SubscriptionCommandSender.MAX_BATCH_LENGTH / 4 - 64);
+    for (int i = 0; i < 4; i++) {
+      closeMessageSubscription(i, messageName);
+    }
+    assertThat(sentMessages).isEmpty();
+
+    // when
+    closeMessageSubscription(4L, messageName);
+
+    // then
+    assertThat(sentMessages).hasSize(1);
+    assertThat(commandCount(sentMessages.get(0))).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldFlushOutboxAfterDelay() {
+    // given
+    closeMessageSubscription(1L, "a");
+    closeMessageSubscription(2L, "b");
+
+    // when
+    final ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(actor)
+        .runDelayed(eq(SubscriptionCommandSender.MAX_FLUSH_DELAY), flushCaptor.capture());
+    flushCaptor.getValue().run();
+
+    // then
+    assertThat(sentMessages).hasSize(1);
+    assertThat(commandCount(sentMessages.get(0))).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldKeepCommandsIfOutboxCannotBeSent() {
+    // given
+    sendSucceeds = false;
+    closeMessageSubscription(1L, "a");
+    closeMessageSubscription(2L, "b");
+
+    // when
+    sender.onIdle();
+
+    // then
+    final ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(actor, times(2))
+        .runDelayed(eq(SubscriptionCommandSender.MAX_FLUSH_DELAY), flushCaptor.capture());
+
+    assertThat(sentMessages).isEmpty();
+
+    sendSucceeds = true;
+    flushCaptor.getValue().run();
+
+    assertThat(sentMessages).hasSize(1);
+    assertThat(commandCount(sentMessages.get(0))).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldRejectCommandIfFullOutboxCannotBeSent() {
+    // given
+    sendSucceeds = false;
+    final String messageName = "x".repeat(SubscriptionCommandSender.MAX_BATCH_LENGTH / 2);
+    assertThat(closeMessageSubscription(1L, messageName)).isTrue();
+
+    // when
+    final boolean accepted = closeMessageSubscription(2L, messageName);
+
+    // then
+    assertThat(accepted).isFalse();
+    verify(partitionCommandSender).sendCommand(eq(RECEIVER_PARTITION), any());
+  }
+
+  @Test
+  public void shouldDiscardCollectedCommandsOnClose() {
+    // given
+    closeMessageSubscription(1L, "a");
+
+    // when
+    sender.onClose();
+    sender.flush();
+
+    // then
+    verify(partitionCommandSender, never()).sendCommand(anyInt(), any());
+  }
+
+  private boolean closeMessageSubscription(final long workflowInstanceKey, final String name) {
+    return sender.closeMessageSubscription(
+        RECEIVER_PARTITION, workflowInstanceKey, workflowInstanceKey + 1, wrapString(name));
+  }
+
+  private int commandCount(final DirectBuffer message) {
+    headerDecoder.wrap(message, 0);
+    assertThat(headerDecoder.templateId()).isEqualTo(SubscriptionCommandBatchDecoder.TEMPLATE_ID);
+
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    batch.wrap(message, 0, message.capacity());
+    final int[] count = {0};
+    batch.forEachCommand(command -> count[0]++);
+    return count[0];
+  }
+}
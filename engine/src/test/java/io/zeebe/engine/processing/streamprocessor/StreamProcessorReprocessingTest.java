@@ -14,19 +14,24 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.zeebe.engine.util.Records;
 import io.zeebe.engine.util.StreamProcessorRule;
 import io.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.ErrorIntent;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
 import io.zeebe.test.util.stream.StreamWrapper;
 import java.util.ArrayList;
@@ -393,6 +398,148 @@ public final class StreamProcessorReprocessingTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  public void shouldCommitReprocessedRecordsInBatches() {
+    // given
+    final long firstEvent = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 1);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 1, firstEvent);
+    final long secondEvent = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 2);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 2, secondEvent);
+    final long thirdEvent = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 3);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 3, thirdEvent);
+    waitUntil(() -> streamProcessorRule.events().onlyWorkflowInstanceRecords().count() == 6);
+
+    // when
+    final TypedRecordProcessor<?> typedRecordProcessor = mock(TypedRecordProcessor.class);
+    startStreamProcessorWithTransactionSize(2, typedRecordProcessor);
+
+    // then
+    verify(typedRecordProcessor, TIMEOUT.times(1)).onRecovered(any());
+    // the committed records are not reprocessed again at the end of the log
+    verify(typedRecordProcessor, times(1))
+        .processRecord(eq(firstEvent), any(), any(), any(), any());
+    verify(typedRecordProcessor, times(1))
+        .processRecord(eq(secondEvent), any(), any(), any(), any());
+    verify(typedRecordProcessor, atLeastOnce())
+        .processRecord(eq(thirdEvent), any(), any(), any(), any());
+  }
+
+  @Test
+  public void shouldReprocessRecordsAfterLastSourceOnProcessing() {
+    // given
+    final long firstEvent = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 1);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 1, firstEvent);
+    final long lastSourceEvent =
+        streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 2);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 2, lastSourceEvent);
+    final long thirdEvent = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 3);
+    final long fourthEvent = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 4);
+    waitUntil(() -> streamProcessorRule.events().onlyWorkflowInstanceRecords().count() == 6);
+
+    // when
+    final TypedRecordProcessor<?> typedRecordProcessor = mock(TypedRecordProcessor.class);
+    startStreamProcessorWithTransactionSize(2, typedRecordProcessor);
+
+    // then
+    final InOrder inOrder = inOrder(typedRecordProcessor);
+    inOrder.verify(typedRecordProcessor, TIMEOUT.times(1)).onRecovered(any());
+    inOrder
+        .verify(typedRecordProcessor, TIMEOUT.times(1))
+        .processRecord(eq(thirdEvent), any(), any(), any(), any());
+    inOrder
+        .verify(typedRecordProcessor, TIMEOUT.times(1))
+        .processRecord(eq(fourthEvent), any(), any(), any(), any());
+
+    // only the records since the last commit are reprocessed again at the end of the log
+    verify(typedRecordProcessor, times(1))
+        .processRecord(eq(firstEvent), any(), any(), any(), any());
+  }
+
+  @Test
+  public void shouldBlacklistInstanceOfFailedEventInTransaction() {
+    // given
+    final long firstEvent = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 1);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 1, firstEvent);
+    final long failedEvent = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 2);
+    streamProcessorRule.writeEventWithSource(
+        ErrorIntent.CREATED, Records.error(2, failedEvent), failedEvent);
+    final long blacklistedEvent =
+        streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 2);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(
+        ELEMENT_ACTIVATED, 1, blacklistedEvent);
+    waitUntil(() -> streamProcessorRule.events().onlyWorkflowInstanceRecords().count() == 5);
+
+    // when
+    final TypedRecordProcessor<?> typedRecordProcessor = mock(TypedRecordProcessor.class);
+    startStreamProcessorWithTransactionSize(
+        ReProcessingStateMachine.TRANSACTION_BATCH_SIZE, typedRecordProcessor);
+
+    // then
+    verify(typedRecordProcessor, TIMEOUT.times(1)).onRecovered(any());
+    verify(typedRecordProcessor, never())
+        .processRecord(eq(blacklistedEvent), any(), any(), any(), any());
+  }
+
+  @Test
+  public void shouldBlacklistInstanceIfProcessorFailsAgain() {
+    // given
+    final long firstEvent = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 1);
+    final long failedEvent = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 2);
+    streamProcessorRule.writeEventWithSource(
+        ErrorIntent.CREATED, Records.error(2, failedEvent), failedEvent);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 1, firstEvent);
+    waitUntil(
+        () ->
+            streamProcessorRule
+                .events()
+                .onlyWorkflowInstanceRecords()
+                .withIntent(ELEMENT_ACTIVATED)
+                .exists());
+
+    // when
+    final TypedRecordProcessor<?> typedRecordProcessor = mock(TypedRecordProcessor.class);
+    doThrow(new RuntimeException("expected"))
+        .when(typedRecordProcessor)
+        .processRecord(eq(failedEvent), any(), any(), any(), any());
+    startStreamProcessorWithTransactionSize(
+        ReProcessingStateMachine.TRANSACTION_BATCH_SIZE, typedRecordProcessor);
+
+    // then
+    verify(typedRecordProcessor, TIMEOUT.times(1)).onRecovered(any());
+    verify(typedRecordProcessor, times(1))
+        .processRecord(eq(failedEvent), any(), any(), any(), any());
+  }
+
+  @Test
+  public void shouldFailReprocessingIfProcessorFailsRepeatedly() {
+    // given
+    final long firstEvent = streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 1);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 1, firstEvent);
+    waitUntil(
+        () ->
+            streamProcessorRule
+                .events()
+                .onlyWorkflowInstanceRecords()
+                .withIntent(ELEMENT_ACTIVATED)
+                .exists());
+
+    // when
+    final TypedRecordProcessor<?> typedRecordProcessor = mock(TypedRecordProcessor.class);
+    doThrow(new RuntimeException("expected"))
+        .when(typedRecordProcessor)
+        .processRecord(anyLong(), any(), any(), any(), any());
+    final StreamProcessor streamProcessor =
+        startStreamProcessorWithTransactionSize(
+            ReProcessingStateMachine.TRANSACTION_BATCH_SIZE, typedRecordProcessor);
+
+    // then
+    verify(typedRecordProcessor, TIMEOUT.times(1)).onFailed();
+    assertThat(streamProcessor.isFailed()).isTrue();
+    verify(typedRecordProcessor, times(ReProcessingStateMachine.MAX_PROCESSING_RETRIES + 1))
+        .processRecord(eq(firstEvent), any(), any(), any(), any());
+    verify(typedRecordProcessor, never()).onRecovered(any());
+  }
+
   @Test
   public void shouldIgnoreRecordWhenNoProcessorExistForThisType() {
     // given
@@ -685,4 +832,14 @@ public final class StreamProcessorReprocessingTest {
 
     assertThat(streamProcessor.getLastProcessedPositionAsync().get()).isEqualTo(snapshotPosition);
   }
+
+  private StreamProcessor startStreamProcessorWithTransactionSize(
+      final int transactionSize, final TypedRecordProcessor<?> typedRecordProcessor) {
+    return streamProcessorRule.startTypedStreamProcessor(
+        context -> {
+          context.setReprocessingTransactionSize(transactionSize);
+          return TypedRecordProcessors.processors(context.getZeebeState().getKeyGenerator())
+              .onEvent(ValueType.WORKFLOW_INSTANCE, ELEMENT_ACTIVATING, typedRecordProcessor);
+        });
+  }
 }
@@ -16,7 +16,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
 import io.zeebe.engine.processing.streamprocessor.TypedRecord;
+import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.instance.VariablesState.VariableListener;
 import io.zeebe.engine.util.ZeebeStateRule;
@@ -74,6 +77,7 @@ public final class VariableStateTest {
     elementInstanceState.removeInstance(child);
     elementInstanceState.removeInstance(parent);
     listener.reset();
+    variablesState.setLargeValueThreshold(0);
   }
 
   @Test
@@ -632,6 +636,107 @@ public final class VariableStateTest {
     assertThat(listener.updated.get(0).rootScopeKey).isEqualTo(parentScope);
   }
 
+  @Test
+  public void shouldOnlyWriteChangedVariablesFromDocumentInHierarchy() {
+    // given
+    final long grandparent = parent;
+    final long parent = child;
+    final long child = child2;
+    declareScope(grandparent);
+    declareScope(grandparent, parent);
+    declareScope(parent, child);
+
+    setVariablesLocalFromDocument(grandparent, asMsgPack("{'a':1}"));
+    setVariablesLocalFromDocument(parent, asMsgPack("{'b':2}"));
+    listener.reset();
+
+    // when
+    setVariablesFromDocument(child, asMsgPack("{'a':1, 'b':3, 'c':4}"));
+
+    // then
+    assertThat(listener.updated).hasSize(1);
+    assertThat(listener.updated.get(0).name).isEqualTo("b");
+    assertThat(listener.updated.get(0).variableScopeKey).isEqualTo(parent);
+    assertThat(listener.updated.get(0).rootScopeKey).isEqualTo(grandparent);
+
+    assertThat(listener.created).hasSize(1);
+    assertThat(listener.created.get(0).name).isEqualTo("c");
+    assertThat(listener.created.get(0).variableScopeKey).isEqualTo(grandparent);
+    assertThat(listener.created.get(0).rootScopeKey).isEqualTo(grandparent);
+  }
+
+  @Test
+  public void shouldResolveLargeVariableValues() {
+    // given
+    variablesState.setLargeValueThreshold(8);
+    declareScope(parent);
+    declareScope(parent, child);
+
+    final DirectBuffer largeValue = asMsgPack("{'x':'large value'}");
+
+    // when
+    setVariableLocal(parent, wrapString("a"), largeValue);
+    setVariableLocal(child, wrapString("a"), largeValue);
+    setVariableLocal(child, wrapString("b"), asMsgPack("1"));
+
+    // then
+    assertThat(variablesState.getVariableLocal(parent, wrapString("a"))).isEqualTo(largeValue);
+    assertThat(variablesState.getVariable(child, wrapString("a"))).isEqualTo(largeValue);
+    assertEquality(
+        variablesState.getVariablesLocalAsDocument(child), "{'a':{'x':'large value'}, 'b':1}");
+
+    assertThat(listener.created).hasSize(3);
+    assertThat(listener.created.get(1).value).isEqualTo(BufferUtil.bufferAsArray(largeValue));
+  }
+
+  @Test
+  public void shouldUpdateLargeVariableValue() {
+    // given
+    variablesState.setLargeValueThreshold(8);
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("{'x':'large value'}"));
+    listener.reset();
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("{'x':'large value'}"));
+    setVariableLocal(parent, wrapString("a"), asMsgPack("{'x':'other value'}"));
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    // then
+    assertThat(listener.updated).hasSize(2);
+    assertEquality(variablesState.getVariablesLocalAsDocument(parent), "{'a':1}");
+  }
+
+  @Test
+  public void shouldStoreLargeVariableValueOnceForAllReferences() throws Exception {
+    try (final ZeebeDb<ZbColumnFamilies> db = ZEEBE_STATE_RULE.createNewDb()) {
+      // given
+      final DbContext dbContext = db.createContext();
+      final VariablesState state =
+          new VariablesState(db, dbContext, ZEEBE_STATE_RULE.getKeyGenerator(), 1);
+      state.setLargeValueThreshold(8);
+
+      final DirectBuffer largeValue = asMsgPack("{'x':'large value'}");
+      state.setVariableLocal(parent, WORKFLOW_KEY, wrapString("a"), largeValue);
+      state.setVariableLocal(child, WORKFLOW_KEY, wrapString("a"), largeValue);
+
+      // when
+      state.removeScope(parent);
+
+      // then
+      assertThat(state.getVariableLocal(child, wrapString("a"))).isEqualTo(largeValue);
+      assertThat(db.isEmpty(ZbColumnFamilies.VARIABLE_VALUES, dbContext)).isFalse();
+
+      // when
+      state.removeScope(child);
+
+      // then
+      assertThat(db.isEmpty(ZbColumnFamilies.VARIABLE_VALUES, dbContext)).isTrue();
+      assertThat(db.isEmpty(ZbColumnFamilies.VARIABLE_VALUE_REFERENCES, dbContext)).isTrue();
+      assertThat(state.isEmpty()).isTrue();
+    }
+  }
+
   @Test
   public void shouldSetTemporaryVariables() {
     // when
@@ -178,6 +178,83 @@ public final class MessageStateTest {
     assertThat(keys).isEmpty();
   }
 
+  @Test
+  public void shouldVisitCorrelatableMessages() {
+    // given
+    messageState.put(createMessage(1L, "name", "correlationKey", "{}", "nr1", 2_000));
+    messageState.put(createMessage(2L, "name", "correlationKey", "{}", "nr2", 2_000));
+    messageState.put(createMessage(3L, "name", "correlationKey", "{}", "nr3", 2_000));
+    messageState.putMessageCorrelation(1L, wrapString("wf"));
+    messageState.putMessageCorrelation(2L, wrapString("otherWf"));
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    messageState.visitCorrelatableMessages(
+        wrapString("name"),
+        wrapString("correlationKey"),
+        wrapString("wf"),
+        1_000,
+        m -> keys.add(m.getKey()));
+
+    // then
+    assertThat(keys).containsExactly(2L, 3L);
+  }
+
+  @Test
+  public void shouldNotVisitExpiredCorrelatableMessages() {
+    // given
+    messageState.put(createMessage(1L, "name", "correlationKey", "{}", "nr1", 1_000));
+    messageState.put(createMessage(2L, "name", "correlationKey", "{}", "nr2", 2_000));
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    messageState.visitCorrelatableMessages(
+        wrapString("name"),
+        wrapString("correlationKey"),
+        wrapString("wf"),
+        1_000,
+        m -> keys.add(m.getKey()));
+
+    // then
+    assertThat(keys).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldVisitCorrelatableMessagesUntilStop() {
+    // given
+    messageState.put(createMessage(1L, "name", "correlationKey", "{}", "nr1", 2_000));
+    messageState.put(createMessage(2L, "name", "correlationKey", "{}", "nr2", 2_000));
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    messageState.visitCorrelatableMessages(
+        wrapString("name"),
+        wrapString("correlationKey"),
+        wrapString("wf"),
+        1_000,
+        m -> {
+          keys.add(m.getKey());
+          return false;
+        });
+
+    // then
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldExistMessage() {
+    // given
+    messageState.put(createMessage(1L, "name", "correlationKey"));
+    messageState.put(createMessage(2L, "name", "correlationKey"));
+
+    // when
+    messageState.remove(2L);
+
+    // then
+    assertThat(messageState.existMessage(1L)).isTrue();
+    assertThat(messageState.existMessage(2L)).isFalse();
+  }
+
   @Test
   public void shouldNotVisitMessagesBeforeTime() {
     // given
@@ -233,6 +310,23 @@ public final class MessageStateTest {
     assertThat(readMessage).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldVisitMessagesBeforeTimeStartingAtDeadlineAndKey() {
+    // given
+    messageState.put(createMessage(1L, "name", "correlationKey", "{}", "nr1", 1000));
+    messageState.put(createMessage(2L, "name", "correlationKey", "{}", "nr2", 1000));
+    messageState.put(createMessage(3L, "name", "correlationKey", "{}", "nr3", 2000));
+    messageState.put(createMessage(4L, "name", "correlationKey", "{}", "nr4", 3000));
+
+    // when
+    final List<Long> readMessages = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBefore(
+        2500, 1000, 2L, m -> readMessages.add(m.getKey()));
+
+    // then
+    assertThat(readMessages).containsExactly(2L, 3L);
+  }
+
   @Test
   public void shouldRemoveMessage() {
     // given
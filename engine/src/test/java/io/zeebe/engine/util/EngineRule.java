@@ -194,7 +194,7 @@ public final class EngineRule extends ExternalResource {
           subscriptionHandlers.put(
               partitionId,
               new SubscriptionCommandMessageHandler(
-                  subscriptionHandlerExecutor::submit, environmentRule::getLogStreamRecordWriter));
+                  subscriptionHandlerExecutor::submit, environmentRule::getLogStreamBatchWriter));
         });
   }
 
@@ -16,6 +16,7 @@ import io.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
 import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.record.RecordType;
@@ -44,6 +45,11 @@ public class StreamProcessingComposite {
     return streams.getLogStreamRecordWriter(logName);
   }
 
+  public LogStreamBatchWriter getLogStreamBatchWriter(final int partitionId) {
+    final String logName = getLogName(partitionId);
+    return streams.getLogStreamBatchWriter(logName);
+  }
+
   public StreamProcessor startTypedStreamProcessor(final StreamProcessorTestFactory factory) {
     return startTypedStreamProcessor(factory, r -> {});
   }
@@ -124,6 +130,17 @@ public class StreamProcessingComposite {
         .write();
   }
 
+  public long writeEventWithSource(
+      final Intent intent, final UnpackedObject value, final long sourceEventPosition) {
+    return streams
+        .newRecord(getLogName(partitionId))
+        .event(value)
+        .recordType(RecordType.EVENT)
+        .sourceRecordPosition(sourceEventPosition)
+        .intent(intent)
+        .write();
+  }
+
   public long writeWorkflowInstanceEvent(
       final WorkflowInstanceIntent intent, final int instanceKey) {
     return streams
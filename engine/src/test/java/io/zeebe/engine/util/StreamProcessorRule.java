@@ -17,6 +17,7 @@ import io.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.util.StreamProcessingComposite.StreamProcessorTestFactory;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.util.SynchronousLogStream;
 import io.zeebe.msgpack.UnpackedObject;
@@ -115,6 +116,10 @@ public final class StreamProcessorRule implements TestRule {
     return streamProcessingComposite.getLogStreamRecordWriter(partitionId);
   }
 
+  public LogStreamBatchWriter getLogStreamBatchWriter(final int partitionId) {
+    return streamProcessingComposite.getLogStreamBatchWriter(partitionId);
+  }
+
   public StreamProcessor startTypedStreamProcessor(final StreamProcessorTestFactory factory) {
     return streamProcessingComposite.startTypedStreamProcessor(factory, r -> {});
   }
@@ -194,6 +199,11 @@ public final class StreamProcessorRule implements TestRule {
         intent, instanceKey, sourceEventPosition);
   }
 
+  public long writeEventWithSource(
+      final Intent intent, final UnpackedObject value, final long sourceEventPosition) {
+    return streamProcessingComposite.writeEventWithSource(intent, value, sourceEventPosition);
+  }
+
   public long writeWorkflowInstanceEvent(
       final WorkflowInstanceIntent intent, final int instanceKey) {
     return streamProcessingComposite.writeWorkflowInstanceEvent(intent, instanceKey);
@@ -10,34 +10,48 @@ package io.zeebe.gateway;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.zeebe.gateway.cmd.BrokerErrorException;
+import io.zeebe.gateway.cmd.BrokerRejectionException;
+import io.zeebe.gateway.cmd.NoTopologyAvailableException;
+import io.zeebe.gateway.grpc.GrpcErrorMapper;
 import io.zeebe.gateway.grpc.ServerStreamObserver;
 import io.zeebe.gateway.impl.broker.BrokerClient;
+import io.zeebe.gateway.impl.broker.BrokerResponseConsumer;
 import io.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.zeebe.gateway.impl.broker.request.BrokerExecuteCommand;
+import io.zeebe.gateway.impl.broker.request.BrokerExecuteCommandBatchRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
-import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
-import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo.Builder;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
-import io.zeebe.gateway.protocol.GatewayOuterClass.Partition;
-import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerHealth;
-import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -47,18 +61,30 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
-import io.zeebe.util.VersionUtil;
+import io.zeebe.protocol.impl.SubscriptionUtil;
+import io.zeebe.util.buffer.BufferUtil;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.agrona.DirectBuffer;
 
 public final class EndpointManager {
 
+  /** The maximum number of items of a batch request, a larger batch is rejected. */
+  public static final int MAX_BATCH_SIZE = 1_000;
+
+  private final GrpcErrorMapper errorMapper = new GrpcErrorMapper();
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
   private final RequestRetryHandler requestRetryHandler;
+  private final TopologyResponseCache topologyResponseCache;
 
   public EndpointManager(
       final BrokerClient brokerClient, final ActivateJobsHandler activateJobsHandler) {
@@ -66,65 +92,7 @@ public final class EndpointManager {
     topologyManager = brokerClient.getTopologyManager();
     this.activateJobsHandler = activateJobsHandler;
     requestRetryHandler = new RequestRetryHandler(brokerClient, topologyManager);
-  }
-
-  private void addBrokerInfo(
-      final Builder brokerInfo, final Integer brokerId, final BrokerClusterState topology) {
-    final String[] addressParts = topology.getBrokerAddress(brokerId).split(":");
-
-    brokerInfo
-        .setNodeId(brokerId)
-        .setHost(addressParts[0])
-        .setPort(Integer.parseInt(addressParts[1]))
-        .setVersion(topology.getBrokerVersion(brokerId));
-  }
-
-  private void addPartitionInfoToBrokerInfo(
-      final Builder brokerInfo, final Integer brokerId, final BrokerClusterState topology) {
-    topology
-        .getPartitions()
-        .forEach(
-            partitionId -> {
-              final Partition.Builder partitionBuilder =
-                  Partition.newBuilder().setPartitionId(partitionId);
-
-              if (!setRole(brokerId, partitionId, topology, partitionBuilder)) {
-                return;
-              }
-              if (topology.isPartitionHealthy(brokerId, partitionId)) {
-                partitionBuilder.setHealth(PartitionBrokerHealth.HEALTHY);
-              } else {
-                partitionBuilder.setHealth(PartitionBrokerHealth.UNHEALTHY);
-              }
-              brokerInfo.addPartitions(partitionBuilder);
-            });
-  }
-
-  /**
-   * Sets the broker's partition role in the Partition.Builder
-   *
-   * @return true if it could set the role. False if no role was could be found.
-   */
-  private boolean setRole(
-      final Integer brokerId,
-      final Integer partitionId,
-      final BrokerClusterState topology,
-      final Partition.Builder partitionBuilder) {
-    final int partitionLeader = topology.getLeaderForPartition(partitionId);
-    final List<Integer> partitionFollowers = topology.getFollowersForPartition(partitionId);
-    final List<Integer> partitionInactives = topology.getInactiveNodesForPartition(partitionId);
-
-    if (partitionLeader == brokerId) {
-      partitionBuilder.setRole(PartitionBrokerRole.LEADER);
-    } else if (partitionFollowers != null && partitionFollowers.contains(brokerId)) {
-      partitionBuilder.setRole(PartitionBrokerRole.FOLLOWER);
-    } else if (partitionInactives != null && partitionInactives.contains(brokerId)) {
-      partitionBuilder.setRole(PartitionBrokerRole.INACTIVE);
-    } else {
-      return false;
-    }
-
-    return true;
+    topologyResponseCache = new TopologyResponseCache(topologyManager);
   }
 
   public void activateJobs(
@@ -153,6 +121,21 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    sendBatchRequest(
+        request.getRequestsList(),
+        RequestMapper::toCompleteJobRequest,
+        brokerClient::sendRequestWithRetry,
+        (item, key, response) ->
+            CompleteJobsResult.newBuilder().setJobKey(item.getJobKey()).build(),
+        (item, error) ->
+            CompleteJobsResult.newBuilder().setJobKey(item.getJobKey()).setError(error).build(),
+        results -> CompleteJobsResponse.newBuilder().addAllResults(results).build(),
+        responseObserver);
+  }
+
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
       final ServerStreamObserver<CreateWorkflowInstanceResponse> responseObserver) {
@@ -163,6 +146,22 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void createWorkflowInstances(
+      final CreateWorkflowInstancesRequest request,
+      final ServerStreamObserver<CreateWorkflowInstancesResponse> responseObserver) {
+    sendBatchRequest(
+        request.getRequestsList(),
+        RequestMapper::toCreateWorkflowInstanceRequest,
+        requestRetryHandler::sendRequest,
+        (item, key, response) ->
+            CreateWorkflowInstancesResult.newBuilder()
+                .setResponse(ResponseMapper.toCreateWorkflowInstanceResponse(key, response))
+                .build(),
+        (item, error) -> CreateWorkflowInstancesResult.newBuilder().setError(error).build(),
+        results -> CreateWorkflowInstancesResponse.newBuilder().addAllResults(results).build(),
+        responseObserver);
+  }
+
   public void createWorkflowInstanceWithResult(
       final CreateWorkflowInstanceWithResultRequest request,
       final ServerStreamObserver<CreateWorkflowInstanceWithResultResponse> responseObserver) {
@@ -223,6 +222,22 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final ServerStreamObserver<PublishMessagesResponse> responseObserver) {
+    sendBatchRequest(
+        request.getRequestsList(),
+        RequestMapper::toPublishMessageRequest,
+        brokerClient::sendRequestWithRetry,
+        (item, key, response) ->
+            PublishMessagesResult.newBuilder()
+                .setResponse(ResponseMapper.toPublishMessageResponse(key, response))
+                .build(),
+        (item, error) -> PublishMessagesResult.newBuilder().setError(error).build(),
+        results -> PublishMessagesResponse.newBuilder().addAllResults(results).build(),
+        responseObserver);
+  }
+
   public void resolveIncident(
       final ResolveIncidentRequest request,
       final ServerStreamObserver<ResolveIncidentResponse> responseObserver) {
@@ -244,45 +259,23 @@ public final class EndpointManager {
   }
 
   public void topology(final ServerStreamObserver<TopologyResponse> responseObserver) {
-    final TopologyResponse.Builder topologyResponseBuilder = TopologyResponse.newBuilder();
-    final BrokerClusterState topology = topologyManager.getTopology();
+    final TopologyResponse response = topologyResponseCache.getResponse();
 
-    if (topology == null) {
+    if (response == null) {
       final StatusRuntimeException error =
           Status.UNAVAILABLE.augmentDescription("No brokers available").asRuntimeException();
       responseObserver.onError(error);
       return;
     }
 
-    topologyResponseBuilder
-        .setClusterSize(topology.getClusterSize())
-        .setPartitionsCount(topology.getPartitionsCount())
-        .setReplicationFactor(topology.getReplicationFactor());
-
-    final String gatewayVersion = VersionUtil.getVersion();
-    if (gatewayVersion != null && !gatewayVersion.isBlank()) {
-      topologyResponseBuilder.setGatewayVersion(gatewayVersion);
-    }
-
-    final ArrayList<BrokerInfo> brokers = new ArrayList<>();
-
-    topology
-        .getBrokers()
-        .forEach(
-            brokerId -> {
-              final Builder brokerInfo = BrokerInfo.newBuilder();
-              addBrokerInfo(brokerInfo, brokerId, topology);
-              addPartitionInfoToBrokerInfo(brokerInfo, brokerId, topology);
-
-              brokers.add(brokerInfo.build());
-            });
-
-    topologyResponseBuilder.addAllBrokers(brokers);
-    final TopologyResponse response = topologyResponseBuilder.build();
     responseObserver.onNext(response);
     responseObserver.onCompleted();
   }
 
+  public void watchTopology(final ServerStreamObserver<TopologyResponse> responseObserver) {
+    topologyResponseCache.watch(responseObserver);
+  }
+
   public void updateJobRetries(
       final UpdateJobRetriesRequest request,
       final ServerStreamObserver<UpdateJobRetriesResponse> responseObserver) {
@@ -355,6 +348,145 @@ public final class EndpointManager {
         timeout);
   }
 
+  /**
+   * Sends the items of a batch request as one broker request per partition, whose commands the
+   * broker appends to the log of the partition together. The partition of an item is taken from
+   * its key or, for a message, from its correlation key; the items without a partition are sent
+   * together to the partition picked by the sender. The call completes once all items completed; a
+   * failed item is reported in its result and does not fail the call. A batch with more than {@link
+   * #MAX_BATCH_SIZE} items is rejected without sending any of them.
+   *
+   * <p>Only the whole request to a partition is retried by the sender, an item which is rejected
+   * with an error by the broker is not retried on another partition.
+   */
+  private <GrpcItemT, BrokerResponseT, ResultT, GrpcResponseT> void sendBatchRequest(
+      final List<GrpcItemT> items,
+      final Function<GrpcItemT, BrokerExecuteCommand<BrokerResponseT>> requestMapper,
+      final BatchSender<BrokerResponseT> sender,
+      final BatchItemResponseMapper<GrpcItemT, BrokerResponseT, ResultT> itemResponseMapper,
+      final BatchItemErrorMapper<GrpcItemT, ResultT> itemErrorMapper,
+      final Function<List<ResultT>, GrpcResponseT> batchResponseMapper,
+      final ServerStreamObserver<GrpcResponseT> streamObserver) {
+    if (items.size() > MAX_BATCH_SIZE) {
+      final StatusRuntimeException error =
+          Status.INVALID_ARGUMENT
+              .augmentDescription(
+                  String.format(
+                      "Expected to send at most %d requests in a batch, but got %d",
+                      MAX_BATCH_SIZE, items.size()))
+              .asRuntimeException();
+      streamObserver.onError(error);
+      return;
+    }
+
+    final List<CompletableFuture<ResultT>> results = new ArrayList<>(items.size());
+    final Map<Integer, PartitionBatch<GrpcItemT, BrokerResponseT, ResultT>> batches =
+        new LinkedHashMap<>();
+
+    for (final GrpcItemT item : items) {
+      final CompletableFuture<ResultT> result = new CompletableFuture<>();
+      results.add(result);
+
+      final BrokerExecuteCommand<BrokerResponseT> command;
+      final int partitionId;
+      try {
+        command = requestMapper.apply(item);
+        partitionId = determineBatchPartition(command);
+      } catch (final Exception e) {
+        result.complete(itemErrorMapper.apply(item, toBatchItemError(e)));
+        continue;
+      }
+
+      batches.computeIfAbsent(partitionId, id -> new PartitionBatch<>()).add(item, command, result);
+    }
+
+    batches.forEach(
+        (partitionId, batch) ->
+            sendPartitionBatch(partitionId, batch, sender, itemResponseMapper, itemErrorMapper));
+
+    CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+        .thenApply(
+            ignored ->
+                batchResponseMapper.apply(
+                    results.stream().map(CompletableFuture::join).collect(Collectors.toList())))
+        .whenComplete(
+            (response, error) -> {
+              if (error == null) {
+                streamObserver.onNext(response);
+                streamObserver.onCompleted();
+              } else {
+                streamObserver.onError(error);
+              }
+            });
+  }
+
+  private int determineBatchPartition(final BrokerExecuteCommand<?> command) {
+    if (command.addressesSpecificPartition()) {
+      return command.getPartitionId();
+    } else if (command instanceof BrokerPublishMessageRequest) {
+      final BrokerClusterState topology = topologyManager.getTopology();
+      final DirectBuffer correlationKey =
+          ((BrokerPublishMessageRequest) command).getCorrelationKey();
+      if (topology == null || topology.getPartitionsCount() == 0) {
+        throw new NoTopologyAvailableException(
+            String.format(
+                "Expected to pick partition for message with correlation key '%s', but no topology is available",
+                BufferUtil.bufferAsString(correlationKey)));
+      }
+
+      return SubscriptionUtil.getSubscriptionPartitionId(
+          correlationKey, topology.getPartitionsCount());
+    } else {
+      return BrokerClusterState.PARTITION_ID_NULL;
+    }
+  }
+
+  private <GrpcItemT, BrokerResponseT, ResultT> void sendPartitionBatch(
+      final int partitionId,
+      final PartitionBatch<GrpcItemT, BrokerResponseT, ResultT> batch,
+      final BatchSender<BrokerResponseT> sender,
+      final BatchItemResponseMapper<GrpcItemT, BrokerResponseT, ResultT> itemResponseMapper,
+      final BatchItemErrorMapper<GrpcItemT, ResultT> itemErrorMapper) {
+    if (partitionId != BrokerClusterState.PARTITION_ID_NULL) {
+      batch.request.setPartitionId(partitionId);
+    }
+
+    sender.send(
+        batch.request,
+        (key, responses) -> {
+          for (int i = 0; i < responses.size(); i++) {
+            final GrpcItemT item = batch.items.get(i);
+            final BrokerResponse<BrokerResponseT> response = responses.get(i);
+
+            final ResultT result;
+            if (response.isResponse()) {
+              result = itemResponseMapper.apply(item, response.getKey(), response.getResponse());
+            } else if (response.isRejection()) {
+              final var rejection = new BrokerRejectionException(response.getRejection());
+              result = itemErrorMapper.apply(item, toBatchItemError(rejection));
+            } else {
+              final var error = new BrokerErrorException(response.getError());
+              result = itemErrorMapper.apply(item, toBatchItemError(error));
+            }
+            batch.results.get(i).complete(result);
+          }
+        },
+        error -> {
+          final BatchItemError itemError = toBatchItemError(error);
+          for (int i = 0; i < batch.items.size(); i++) {
+            batch.results.get(i).complete(itemErrorMapper.apply(batch.items.get(i), itemError));
+          }
+        });
+  }
+
+  private BatchItemError toBatchItemError(final Throwable error) {
+    final com.google.rpc.Status status = errorMapper.mapErrorToStatus(error);
+    return BatchItemError.newBuilder()
+        .setCode(status.getCode())
+        .setMessage(status.getMessage())
+        .build();
+  }
+
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
       final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
       final ServerStreamObserver<GrpcResponseT> streamObserver,
@@ -364,4 +496,39 @@ public final class EndpointManager {
     streamObserver.onNext(grpcResponse);
     streamObserver.onCompleted();
   }
+
+  @FunctionalInterface
+  private interface BatchSender<BrokerResponseT> {
+    void send(
+        BrokerRequest<List<BrokerResponse<BrokerResponseT>>> request,
+        BrokerResponseConsumer<List<BrokerResponse<BrokerResponseT>>> responseConsumer,
+        Consumer<Throwable> throwableConsumer);
+  }
+
+  @FunctionalInterface
+  private interface BatchItemResponseMapper<GrpcItemT, BrokerResponseT, ResultT> {
+    ResultT apply(GrpcItemT item, long key, BrokerResponseT response);
+  }
+
+  @FunctionalInterface
+  private interface BatchItemErrorMapper<GrpcItemT, ResultT> {
+    ResultT apply(GrpcItemT item, BatchItemError error);
+  }
+
+  /** The items of a batch request which are sent to the same partition, in their order. */
+  private static final class PartitionBatch<GrpcItemT, BrokerResponseT, ResultT> {
+    private final BrokerExecuteCommandBatchRequest<BrokerResponseT> request =
+        new BrokerExecuteCommandBatchRequest<>();
+    private final List<GrpcItemT> items = new ArrayList<>();
+    private final List<CompletableFuture<ResultT>> results = new ArrayList<>();
+
+    private void add(
+        final GrpcItemT item,
+        final BrokerExecuteCommand<BrokerResponseT> command,
+        final CompletableFuture<ResultT> result) {
+      request.addCommand(command);
+      items.add(item);
+      results.add(result);
+    }
+  }
 }
@@ -16,16 +16,22 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -36,6 +42,7 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.WatchTopologyRequest;
 
 public class GatewayGrpcService extends GatewayImplBase {
   private final EndpointManager endpointManager;
@@ -68,6 +75,14 @@ public class GatewayGrpcService extends GatewayImplBase {
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    endpointManager.completeJobs(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
@@ -76,6 +91,14 @@ public class GatewayGrpcService extends GatewayImplBase {
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void createWorkflowInstances(
+      final CreateWorkflowInstancesRequest request,
+      final StreamObserver<CreateWorkflowInstancesResponse> responseObserver) {
+    endpointManager.createWorkflowInstances(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void createWorkflowInstanceWithResult(
       final CreateWorkflowInstanceWithResultRequest request,
@@ -113,6 +136,14 @@ public class GatewayGrpcService extends GatewayImplBase {
         request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final StreamObserver<PublishMessagesResponse> responseObserver) {
+    endpointManager.publishMessages(
+        request, ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void resolveIncident(
       final ResolveIncidentRequest request,
@@ -135,6 +166,13 @@ public class GatewayGrpcService extends GatewayImplBase {
     endpointManager.topology(ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
   }
 
+  @Override
+  public void watchTopology(
+      final WatchTopologyRequest request,
+      final StreamObserver<TopologyResponse> responseObserver) {
+    endpointManager.watchTopology(ErrorMappingStreamObserver.ofStreamObserver(responseObserver));
+  }
+
   @Override
   public void updateJobRetries(
       final UpdateJobRetriesRequest request,
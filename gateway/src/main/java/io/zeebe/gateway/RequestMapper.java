@@ -7,6 +7,7 @@
  */
 package io.zeebe.gateway;
 
+import com.google.protobuf.ByteString;
 import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCancelWorkflowInstanceRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
@@ -58,7 +59,8 @@ public final class RequestMapper {
     brokerRequest
         .setMessageId(grpcRequest.getMessageId())
         .setTimeToLive(grpcRequest.getTimeToLive())
-        .setVariables(ensureJsonSet(grpcRequest.getVariables()));
+        .setVariables(
+            ensureVariablesSet(grpcRequest.getVariables(), grpcRequest.getVariablesMsgPack()));
 
     return brokerRequest;
   }
@@ -81,7 +83,8 @@ public final class RequestMapper {
   public static BrokerCompleteJobRequest toCompleteJobRequest(
       final CompleteJobRequest grpcRequest) {
     return new BrokerCompleteJobRequest(
-        grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
+        grpcRequest.getJobKey(),
+        ensureVariablesSet(grpcRequest.getVariables(), grpcRequest.getVariablesMsgPack()));
   }
 
   public static BrokerCreateWorkflowInstanceRequest toCreateWorkflowInstanceRequest(
@@ -93,7 +96,8 @@ public final class RequestMapper {
         .setBpmnProcessId(grpcRequest.getBpmnProcessId())
         .setKey(grpcRequest.getWorkflowKey())
         .setVersion(grpcRequest.getVersion())
-        .setVariables(ensureJsonSet(grpcRequest.getVariables()));
+        .setVariables(
+            ensureVariablesSet(grpcRequest.getVariables(), grpcRequest.getVariablesMsgPack()));
 
     return brokerRequest;
   }
@@ -109,7 +113,7 @@ public final class RequestMapper {
         .setBpmnProcessId(request.getBpmnProcessId())
         .setKey(request.getWorkflowKey())
         .setVersion(request.getVersion())
-        .setVariables(ensureJsonSet(request.getVariables()))
+        .setVariables(ensureVariablesSet(request.getVariables(), request.getVariablesMsgPack()))
         .setFetchVariables(grpcRequest.getFetchVariablesList());
 
     return brokerRequest;
@@ -130,7 +134,8 @@ public final class RequestMapper {
     final BrokerSetVariablesRequest brokerRequest = new BrokerSetVariablesRequest();
 
     brokerRequest.setElementInstanceKey(grpcRequest.getElementInstanceKey());
-    brokerRequest.setVariables(ensureJsonSet(grpcRequest.getVariables()));
+    brokerRequest.setVariables(
+        ensureVariablesSet(grpcRequest.getVariables(), grpcRequest.getVariablesMsgPack()));
     brokerRequest.setLocal(grpcRequest.getLocal());
 
     return brokerRequest;
@@ -142,7 +147,8 @@ public final class RequestMapper {
         .setTimeout(grpcRequest.getTimeout())
         .setWorker(grpcRequest.getWorker())
         .setMaxJobsToActivate(grpcRequest.getMaxJobsToActivate())
-        .setVariables(grpcRequest.getFetchVariableList());
+        .setVariables(grpcRequest.getFetchVariableList())
+        .setMsgPackVariables(grpcRequest.getMsgPackVariables());
   }
 
   public static BrokerResolveIncidentRequest toResolveIncidentRequest(
@@ -150,6 +156,15 @@ public final class RequestMapper {
     return new BrokerResolveIncidentRequest(grpcRequest.getIncidentKey());
   }
 
+  private static DirectBuffer ensureVariablesSet(final String json, final ByteString msgPack) {
+    if (!msgPack.isEmpty()) {
+      // already encoded by the client, the broker request validates that the root is a map
+      return new UnsafeBuffer(msgPack.toByteArray());
+    }
+
+    return ensureJsonSet(json);
+  }
+
   private static DirectBuffer ensureJsonSet(final String value) {
     if (value == null || value.trim().isEmpty()) {
       return DocumentValue.EMPTY_DOCUMENT;
@@ -10,6 +10,7 @@ package io.zeebe.gateway;
 import static io.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.protobuf.UnsafeByteOperations;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
@@ -113,7 +114,7 @@ public final class ResponseMapper {
   }
 
   public static ActivateJobsResponse toActivateJobsResponse(
-      final long key, final JobBatchRecord brokerResponse) {
+      final long key, final JobBatchRecord brokerResponse, final boolean msgPackVariables) {
     final ActivateJobsResponse.Builder responseBuilder = ActivateJobsResponse.newBuilder();
 
     final Iterator<LongValue> jobKeys = brokerResponse.jobKeys().iterator();
@@ -122,7 +123,7 @@ public final class ResponseMapper {
     while (jobKeys.hasNext() && jobs.hasNext()) {
       final LongValue jobKey = jobKeys.next();
       final JobRecord job = jobs.next();
-      final ActivatedJob activatedJob =
+      final ActivatedJob.Builder activatedJob =
           ActivatedJob.newBuilder()
               .setKey(jobKey.getValue())
               .setType(bufferAsString(job.getTypeBuffer()))
@@ -135,9 +136,14 @@ public final class ResponseMapper {
               .setCustomHeaders(bufferAsJson(job.getCustomHeadersBuffer()))
               .setWorker(bufferAsString(job.getWorkerBuffer()))
               .setRetries(job.getRetries())
-              .setDeadline(job.getDeadline())
-              .setVariables(bufferAsJson(job.getVariablesBuffer()))
-              .build();
+              .setDeadline(job.getDeadline());
+
+      if (msgPackVariables) {
+        activatedJob.setVariablesMsgPack(
+            UnsafeByteOperations.unsafeWrap(bufferAsArray(job.getVariablesBuffer())));
+      } else {
+        activatedJob.setVariables(bufferAsJson(job.getVariablesBuffer()));
+      }
 
       responseBuilder.addJobs(activatedJob);
     }
@@ -0,0 +1,205 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway;
+
+import io.zeebe.gateway.grpc.ServerStreamObserver;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
+import io.zeebe.gateway.protocol.GatewayOuterClass.Partition;
+import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerHealth;
+import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
+import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
+import io.zeebe.util.VersionUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the topology response for the current cluster state. The response is built once per
+ * version of the state, by the first request which sees that version; concurrent requests for the
+ * same version wait for that build instead of building their own response. Requests are served on
+ * the calling thread, without going through the topology manager actor.
+ *
+ * <p>Watchers are sent the current response once they subscribe, and again whenever the topology
+ * manager publishes a state which results in a different response.
+ */
+final class TopologyResponseCache {
+
+  private final BrokerTopologyManager topologyManager;
+  private final String gatewayVersion;
+  private final AtomicReference<CachedResponse> cachedResponse = new AtomicReference<>();
+  private final List<ServerStreamObserver<TopologyResponse>> watchers = new ArrayList<>();
+  private TopologyResponse lastPublishedResponse;
+
+  TopologyResponseCache(final BrokerTopologyManager topologyManager) {
+    this.topologyManager = topologyManager;
+    gatewayVersion = VersionUtil.getVersion();
+    topologyManager.addTopologyListener(topology -> publish());
+  }
+
+  /** @return the response for the current topology, or null if the topology is not known yet */
+  TopologyResponse getResponse() {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    if (topology == null) {
+      return null;
+    }
+
+    final long version = topology.getVersion();
+    return cachedResponse
+        .updateAndGet(
+            cached ->
+                cached != null && cached.isFor(topology, version)
+                    ? cached
+                    : new CachedResponse(topology, version))
+        .get();
+  }
+
+  /**
+   * Adds a watcher, which is immediately sent the current response if the topology is known.
+   * Cancelled watchers are removed on the next topology update.
+   */
+  synchronized void watch(final ServerStreamObserver<TopologyResponse> watcher) {
+    watchers.add(watcher);
+
+    if (!publish() && lastPublishedResponse != null) {
+      watcher.onNext(lastPublishedResponse);
+    }
+  }
+
+  /** @return true if a new response was sent to all watchers, false if there was nothing new */
+  private synchronized boolean publish() {
+    watchers.removeIf(ServerStreamObserver::isCancelled);
+
+    final TopologyResponse response = getResponse();
+    if (response == null || response.equals(lastPublishedResponse)) {
+      return false;
+    }
+
+    lastPublishedResponse = response;
+    watchers.forEach(watcher -> watcher.onNext(response));
+    return true;
+  }
+
+  private TopologyResponse buildResponse(final BrokerClusterState topology) {
+    final TopologyResponse.Builder topologyResponseBuilder =
+        TopologyResponse.newBuilder()
+            .setClusterSize(topology.getClusterSize())
+            .setPartitionsCount(topology.getPartitionsCount())
+            .setReplicationFactor(topology.getReplicationFactor());
+
+    if (gatewayVersion != null && !gatewayVersion.isBlank()) {
+      topologyResponseBuilder.setGatewayVersion(gatewayVersion);
+    }
+
+    topology
+        .getBrokers()
+        .forEach(
+            brokerId -> {
+              final BrokerInfo.Builder brokerInfo = BrokerInfo.newBuilder();
+              addBrokerInfo(brokerInfo, brokerId, topology);
+              addPartitionInfoToBrokerInfo(brokerInfo, brokerId, topology);
+
+              topologyResponseBuilder.addBrokers(brokerInfo);
+            });
+
+    return topologyResponseBuilder.build();
+  }
+
+  private void addBrokerInfo(
+      final BrokerInfo.Builder brokerInfo,
+      final Integer brokerId,
+      final BrokerClusterState topology) {
+    final String[] addressParts = topology.getBrokerAddress(brokerId).split(":");
+
+    brokerInfo
+        .setNodeId(brokerId)
+        .setHost(addressParts[0])
+        .setPort(Integer.parseInt(addressParts[1]))
+        .setVersion(topology.getBrokerVersion(brokerId));
+
+    final String gatewayAddress = topology.getBrokerGatewayAddress(brokerId);
+    if (gatewayAddress != null) {
+      brokerInfo.setGatewayAddress(gatewayAddress);
+    }
+  }
+
+  private void addPartitionInfoToBrokerInfo(
+      final BrokerInfo.Builder brokerInfo,
+      final Integer brokerId,
+      final BrokerClusterState topology) {
+    topology
+        .getPartitions()
+        .forEach(
+            partitionId -> {
+              final Partition.Builder partitionBuilder =
+                  Partition.newBuilder().setPartitionId(partitionId);
+
+              if (!setRole(brokerId, partitionId, topology, partitionBuilder)) {
+                return;
+              }
+              if (topology.isPartitionHealthy(brokerId, partitionId)) {
+                partitionBuilder.setHealth(PartitionBrokerHealth.HEALTHY);
+              } else {
+                partitionBuilder.setHealth(PartitionBrokerHealth.UNHEALTHY);
+              }
+              brokerInfo.addPartitions(partitionBuilder);
+            });
+  }
+
+  /**
+   * Sets the broker's partition role in the Partition.Builder
+   *
+   * @return true if it could set the role. False if no role was could be found.
+   */
+  private boolean setRole(
+      final Integer brokerId,
+      final Integer partitionId,
+      final BrokerClusterState topology,
+      final Partition.Builder partitionBuilder) {
+    final int partitionLeader = topology.getLeaderForPartition(partitionId);
+    final List<Integer> partitionFollowers = topology.getFollowersForPartition(partitionId);
+    final List<Integer> partitionInactives = topology.getInactiveNodesForPartition(partitionId);
+
+    if (partitionLeader == brokerId) {
+      partitionBuilder.setRole(PartitionBrokerRole.LEADER);
+    } else if (partitionFollowers != null && partitionFollowers.contains(brokerId)) {
+      partitionBuilder.setRole(PartitionBrokerRole.FOLLOWER);
+    } else if (partitionInactives != null && partitionInactives.contains(brokerId)) {
+      partitionBuilder.setRole(PartitionBrokerRole.INACTIVE);
+    } else {
+      return false;
+    }
+
+    return true;
+  }
+
+  private final class CachedResponse {
+
+    private final BrokerClusterState topology;
+    private final long version;
+    private TopologyResponse response;
+
+    private CachedResponse(final BrokerClusterState topology, final long version) {
+      this.topology = topology;
+      this.version = version;
+    }
+
+    private boolean isFor(final BrokerClusterState topology, final long version) {
+      return this.topology == topology && this.version == version;
+    }
+
+    private synchronized TopologyResponse get() {
+      if (response == null) {
+        response = buildResponse(topology);
+      }
+
+      return response;
+    }
+  }
+}
@@ -38,6 +38,14 @@ public final class GrpcErrorMapper {
     return StatusProto.toStatusRuntimeException(mapErrorToStatus(error, logger));
   }
 
+  /**
+   * Maps the given error to the status which would be returned for it, e.g. to report the failure
+   * of a single item of a batch request without failing the whole call.
+   */
+  public Status mapErrorToStatus(final Throwable error) {
+    return mapErrorToStatus(error, Loggers.GATEWAY_LOGGER);
+  }
+
   private Status mapErrorToStatus(final Throwable error, final Logger logger) {
     return mapErrorToStatus(error, error, logger);
   }
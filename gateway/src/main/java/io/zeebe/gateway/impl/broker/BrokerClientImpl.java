@@ -27,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 
@@ -39,7 +40,8 @@ public final class BrokerClientImpl implements BrokerClient {
   private final BrokerTopologyManagerImpl topologyManager;
   private final AtomixCluster atomixCluster;
   private final boolean ownsActorScheduler;
-  private final BrokerRequestManager requestManager;
+  private final BrokerRequestManager[] requestManagers;
+  private final AtomicInteger nextRequestManager = new AtomicInteger();
   private boolean isClosed;
   private Subscription jobAvailableSubscription;
 
@@ -89,13 +91,34 @@ public final class BrokerClientImpl implements BrokerClient {
     final var messagingService = atomixCluster.getMessagingService();
     final var atomixTransportAdapter = new AtomixClientTransportAdapter(messagingService);
     actorScheduler.submitActor(atomixTransportAdapter);
-    requestManager =
-        new BrokerRequestManager(
-            atomixTransportAdapter,
-            topologyManager,
-            new RoundRobinDispatchStrategy(topologyManager),
-            clusterCfg.getRequestTimeout());
-    actorScheduler.submitActor(requestManager);
+    final var dispatchStrategy = new LoadAwareDispatchStrategy(topologyManager);
+    requestManagers =
+        new BrokerRequestManager[configuration.getThreads().getEffectiveRequestShards()];
+    for (int shard = 0; shard < requestManagers.length; shard++) {
+      requestManagers[shard] =
+          new BrokerRequestManager(
+              atomixTransportAdapter,
+              topologyManager,
+              dispatchStrategy,
+              clusterCfg.getRequestTimeout(),
+              shard);
+      actorScheduler.submitActor(requestManagers[shard]);
+    }
+  }
+
+  /**
+   * Requests which address a specific partition are always handled by the same request manager,
+   * such that their order is kept. All other requests are spread round robin over the request
+   * managers.
+   */
+  private BrokerRequestManager selectRequestManager(final BrokerRequest<?> request) {
+    final int shard;
+    if (request.addressesSpecificPartition()) {
+      shard = request.getPartitionId() % requestManagers.length;
+    } else {
+      shard = Math.floorMod(nextRequestManager.getAndIncrement(), requestManagers.length);
+    }
+    return requestManagers[shard];
   }
 
   @Override
@@ -131,25 +154,25 @@ public final class BrokerClientImpl implements BrokerClient {
 
   @Override
   public <T> CompletableFuture<BrokerResponse<T>> sendRequest(final BrokerRequest<T> request) {
-    return requestManager.sendRequest(request);
+    return selectRequestManager(request).sendRequest(request);
   }
 
   @Override
   public <T> CompletableFuture<BrokerResponse<T>> sendRequest(
       final BrokerRequest<T> request, final Duration requestTimeout) {
-    return requestManager.sendRequest(request, requestTimeout);
+    return selectRequestManager(request).sendRequest(request, requestTimeout);
   }
 
   @Override
   public <T> CompletableFuture<BrokerResponse<T>> sendRequestWithRetry(
       final BrokerRequest<T> request) {
-    return requestManager.sendRequestWithRetry(request);
+    return selectRequestManager(request).sendRequestWithRetry(request);
   }
 
   @Override
   public <T> CompletableFuture<BrokerResponse<T>> sendRequestWithRetry(
       final BrokerRequest<T> request, final Duration requestTimeout) {
-    return requestManager.sendRequestWithRetry(request, requestTimeout);
+    return selectRequestManager(request).sendRequestWithRetry(request, requestTimeout);
   }
 
   @Override
@@ -157,7 +180,7 @@ public final class BrokerClientImpl implements BrokerClient {
       final BrokerRequest<T> request,
       final BrokerResponseConsumer<T> responseConsumer,
       final Consumer<Throwable> throwableConsumer) {
-    requestManager
+    selectRequestManager(request)
         .sendRequestWithRetry(request)
         .whenComplete(
             (response, error) -> {
@@ -195,7 +218,7 @@ public final class BrokerClientImpl implements BrokerClient {
       final Consumer<Throwable> throwableConsumer,
       final Duration requestTimeout) {
 
-    requestManager
+    selectRequestManager(request)
         .sendRequestWithRetry(request, requestTimeout)
         .whenComplete(
             (response, error) -> {
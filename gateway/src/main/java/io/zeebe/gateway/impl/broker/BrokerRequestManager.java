@@ -7,6 +7,7 @@
  */
 package io.zeebe.gateway.impl.broker;
 
+import io.prometheus.client.Histogram;
 import io.zeebe.gateway.cmd.BrokerErrorException;
 import io.zeebe.gateway.cmd.BrokerRejectionException;
 import io.zeebe.gateway.cmd.BrokerResponseException;
@@ -41,20 +42,39 @@ final class BrokerRequestManager extends Actor {
   private static final TransportRequestSender SENDER_WITH_RETRY =
       (c, s, r, t) -> c.sendRequestWithRetry(s, BrokerRequestManager::responseValidation, r, t);
   private static final TransportRequestSender SENDER_WITHOUT_RETRY = ClientTransport::sendRequest;
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
   private final ClientTransport clientTransport;
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManagerImpl topologyManager;
   private final Duration requestTimeout;
+  private final int shard;
+  private final Histogram.Child queueingDelay;
 
   BrokerRequestManager(
       final ClientTransport clientTransport,
       final BrokerTopologyManagerImpl topologyManager,
       final RequestDispatchStrategy dispatchStrategy,
       final Duration requestTimeout) {
+    this(clientTransport, topologyManager, dispatchStrategy, requestTimeout, 0);
+  }
+
+  BrokerRequestManager(
+      final ClientTransport clientTransport,
+      final BrokerTopologyManagerImpl topologyManager,
+      final RequestDispatchStrategy dispatchStrategy,
+      final Duration requestTimeout,
+      final int shard) {
     this.clientTransport = clientTransport;
     this.dispatchStrategy = dispatchStrategy;
     this.topologyManager = topologyManager;
     this.requestTimeout = requestTimeout;
+    this.shard = shard;
+    queueingDelay = GatewayMetrics.getRequestQueueingDelay(shard);
+  }
+
+  @Override
+  public String getName() {
+    return "BrokerRequestManager-" + shard;
   }
 
   private static boolean responseValidation(final DirectBuffer responseContent) {
@@ -102,7 +122,12 @@ final class BrokerRequestManager extends Actor {
       final Duration requestTimeout) {
     final CompletableFuture<BrokerResponse<T>> responseFuture = new CompletableFuture<>();
     request.serializeValue();
-    actor.run(() -> sendRequestInternal(request, responseFuture, sender, requestTimeout));
+    final long enqueuedAt = System.nanoTime();
+    actor.run(
+        () -> {
+          queueingDelay.observe((System.nanoTime() - enqueuedAt) / NANOS_PER_SECOND);
+          sendRequestInternal(request, responseFuture, sender, requestTimeout);
+        });
     return responseFuture;
   }
 
@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker;
+
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Return the next partition using a round robin strategy, but skips the partitions where there is
+ * no leader at the moment. Partitions whose leader reports a load of at least {@link
+ * #HOT_PARTITION_LOAD} percent are skipped as well, as long as there is another partition which is
+ * not as loaded. If all partitions are hot, the least loaded one is returned.
+ */
+public final class LoadAwareDispatchStrategy implements RequestDispatchStrategy {
+
+  static final int HOT_PARTITION_LOAD = 80;
+
+  private final BrokerTopologyManager topologyManager;
+  private final AtomicInteger partitions = new AtomicInteger(0);
+
+  public LoadAwareDispatchStrategy(final BrokerTopologyManager topologyManager) {
+    this.topologyManager = topologyManager;
+  }
+
+  @Override
+  public int determinePartition() {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    int leastLoadedPartition = BrokerClusterState.PARTITION_ID_NULL;
+    int leastLoad = Integer.MAX_VALUE;
+
+    if (topology != null) {
+      for (int i = 0; i < topology.getPartitionsCount(); i++) {
+        final int offset = partitions.getAndIncrement();
+        final int partition = topology.getPartition(offset);
+        if (topology.getLeaderForPartition(partition) == BrokerClusterState.NODE_ID_NULL) {
+          continue;
+        }
+
+        final int load = topology.getPartitionLoad(partition);
+        if (load < HOT_PARTITION_LOAD) {
+          return partition;
+        } else if (load < leastLoad) {
+          leastLoad = load;
+          leastLoadedPartition = partition;
+        }
+      }
+    }
+
+    return leastLoadedPartition;
+  }
+}
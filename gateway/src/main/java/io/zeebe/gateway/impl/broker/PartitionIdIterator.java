@@ -11,10 +11,17 @@ import static io.zeebe.protocol.Protocol.START_PARTITION_ID;
 
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.PrimitiveIterator.OfInt;
+import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
+import org.agrona.collections.IntArrayList;
 
+/**
+ * Iterates over the partitions with a leader, starting at the given partition. Partitions matching
+ * the optional deprioritization predicate are returned after all others.
+ */
 public final class PartitionIdIterator implements Iterator<Integer> {
 
   private final OfInt iterator;
@@ -24,12 +31,29 @@ public final class PartitionIdIterator implements Iterator<Integer> {
       final int startPartitionId,
       final int partitionsCount,
       final BrokerTopologyManager topologyManager) {
+    this(startPartitionId, partitionsCount, topologyManager, p -> false);
+  }
+
+  public PartitionIdIterator(
+      final int startPartitionId,
+      final int partitionsCount,
+      final BrokerTopologyManager topologyManager,
+      final IntPredicate isDeprioritized) {
+    final IntArrayList preferred = new IntArrayList();
+    final IntArrayList deprioritized = new IntArrayList();
+    for (int index = 0; index < partitionsCount; index++) {
+      final int partitionId =
+          (index + startPartitionId - START_PARTITION_ID) % partitionsCount + START_PARTITION_ID;
+      if (isDeprioritized.test(partitionId)) {
+        deprioritized.addInt(partitionId);
+      } else {
+        preferred.addInt(partitionId);
+      }
+    }
+
     iterator =
-        IntStream.range(0, partitionsCount)
-            .map(
-                index ->
-                    (index + startPartitionId - START_PARTITION_ID) % partitionsCount
-                        + START_PARTITION_ID)
+        IntStream.concat(
+                Arrays.stream(preferred.toIntArray()), Arrays.stream(deprioritized.toIntArray()))
             .filter(p -> hasLeader(topologyManager, p))
             .iterator();
   }
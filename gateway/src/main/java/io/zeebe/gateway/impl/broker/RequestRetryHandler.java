@@ -30,13 +30,13 @@ import java.util.function.Function;
 public final class RequestRetryHandler {
 
   private final BrokerClient brokerClient;
-  private final RequestDispatchStrategy roundRobinDispatchStrategy;
+  private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManager topologyManager;
 
   public RequestRetryHandler(
       final BrokerClient brokerClient, final BrokerTopologyManager topologyManager) {
     this.brokerClient = brokerClient;
-    roundRobinDispatchStrategy = new RoundRobinDispatchStrategy(topologyManager);
+    dispatchStrategy = new LoadAwareDispatchStrategy(topologyManager);
     this.topologyManager = topologyManager;
   }
 
@@ -140,7 +140,7 @@ public final class RequestRetryHandler {
   }
 
   private PartitionIdIterator partitionIdIteratorForType(final int partitionsCount) {
-    final int nextPartitionId = roundRobinDispatchStrategy.determinePartition();
+    final int nextPartitionId = dispatchStrategy.determinePartition();
     return new PartitionIdIterator(nextPartitionId, partitionsCount, topologyManager);
   }
 }
@@ -43,5 +43,20 @@ public interface BrokerClusterState {
 
   String getBrokerVersion(int brokerId);
 
+  /** @return the address of the gateway embedded in the broker, or null if it has none */
+  String getBrokerGatewayAddress(int brokerId);
+
   boolean isPartitionHealthy(int brokerId, int partition);
+
+  /**
+   * @return the load of the partition as reported by its leader, in percent of the leader's
+   *     in-flight request limit, or 0 if unknown
+   */
+  int getPartitionLoad(int partition);
+
+  /**
+   * @return a number which increases with every modification of the state; a state copied from
+   *     another one continues with the version of its origin
+   */
+  long getVersion();
 }
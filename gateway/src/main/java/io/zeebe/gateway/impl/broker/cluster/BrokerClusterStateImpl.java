@@ -11,6 +11,7 @@ import static org.agrona.collections.IntArrayList.DEFAULT_NULL_VALUE;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
 import org.agrona.collections.Int2IntHashMap;
 import org.agrona.collections.Int2ObjectHashMap;
@@ -23,25 +24,38 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
   private final Int2ObjectHashMap<List<Integer>> partitionFollowers;
   private final Int2ObjectHashMap<List<Integer>> partitionInactiveNodes;
   private final Int2ObjectHashMap<IntArrayList> healthyPartitionsPerBroker;
+  private final Int2IntHashMap partitionLoads;
   private final Int2ObjectHashMap<String> brokerAddresses;
   private final Int2ObjectHashMap<String> brokerVersions;
+  private final Int2ObjectHashMap<String> brokerGatewayAddresses;
   private final IntArrayList brokers;
   private final IntArrayList partitions;
   private final Random randomBroker;
   private int clusterSize;
   private int partitionsCount;
   private int replicationFactor;
+  private long version;
 
   public BrokerClusterStateImpl(final BrokerClusterStateImpl topology) {
     this();
     if (topology != null) {
       partitionLeaders.putAll(topology.partitionLeaders);
       partitionLeaderTerms.putAll(topology.partitionLeaderTerms);
-      partitionFollowers.putAll(topology.partitionFollowers);
-      healthyPartitionsPerBroker.putAll(topology.healthyPartitionsPerBroker);
+      partitionLoads.putAll(topology.partitionLoads);
       brokerAddresses.putAll(topology.brokerAddresses);
       brokerVersions.putAll(topology.brokerVersions);
-      partitionInactiveNodes.putAll(topology.partitionInactiveNodes);
+      brokerGatewayAddresses.putAll(topology.brokerGatewayAddresses);
+
+      // the lists are copied, such that changes of this state don't modify the given state
+      copyNodes(topology.partitionFollowers, partitionFollowers);
+      copyNodes(topology.partitionInactiveNodes, partitionInactiveNodes);
+      for (final var entry : topology.healthyPartitionsPerBroker.entrySet()) {
+        final IntArrayList healthyPartitions = entry.getValue();
+        healthyPartitionsPerBroker.put(
+            entry.getKey(),
+            new IntArrayList(
+                healthyPartitions.toIntArray(), healthyPartitions.size(), DEFAULT_NULL_VALUE));
+      }
 
       brokers.addAll(topology.brokers);
       partitions.addAll(topology.partitions);
@@ -49,6 +63,7 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
       clusterSize = topology.clusterSize;
       partitionsCount = topology.partitionsCount;
       replicationFactor = topology.replicationFactor;
+      version = topology.version;
     }
   }
 
@@ -58,24 +73,31 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     partitionFollowers = new Int2ObjectHashMap<>();
     partitionInactiveNodes = new Int2ObjectHashMap<>();
     healthyPartitionsPerBroker = new Int2ObjectHashMap<>();
+    partitionLoads = new Int2IntHashMap(0);
     brokerAddresses = new Int2ObjectHashMap<>();
     brokerVersions = new Int2ObjectHashMap<>();
+    brokerGatewayAddresses = new Int2ObjectHashMap<>();
     brokers = new IntArrayList(5, NODE_ID_NULL);
     partitions = new IntArrayList(32, PARTITION_ID_NULL);
     randomBroker = new Random();
   }
 
   public void setPartitionLeader(final int partitionId, final int leaderId, final long term) {
-    if (partitionLeaderTerms.getOrDefault(partitionId, -1L) <= term) {
-      partitionLeaders.put(partitionId, leaderId);
-      partitionLeaderTerms.put(partitionId, Long.valueOf(term));
-      final List<Integer> followers = partitionFollowers.get(partitionId);
-      if (followers != null) {
-        followers.removeIf(follower -> follower == leaderId);
+    final long previousTerm = partitionLeaderTerms.getOrDefault(partitionId, -1L);
+    if (previousTerm <= term) {
+      final int previousLeader = partitionLeaders.put(partitionId, leaderId);
+      if (previousLeader != leaderId) {
+        partitionLoads.remove(partitionId);
       }
-      final List<Integer> inactives = partitionInactiveNodes.get(partitionId);
-      if (inactives != null) {
-        inactives.removeIf(inactive -> inactive == leaderId);
+      partitionLeaderTerms.put(partitionId, Long.valueOf(term));
+
+      final boolean removedFollower = removeNode(partitionFollowers, partitionId, leaderId);
+      final boolean removedInactive = removeNode(partitionInactiveNodes, partitionId, leaderId);
+      if (previousLeader != leaderId
+          || previousTerm != term
+          || removedFollower
+          || removedInactive) {
+        version++;
       }
     }
   }
@@ -85,41 +107,71 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     if (brokerHealthyPartitions != null) {
       if (!brokerHealthyPartitions.containsInt(partitionId)) {
         brokerHealthyPartitions.add(partitionId);
+        version++;
       }
     } else {
       healthyPartitionsPerBroker.put(
           brokerId, new IntArrayList(new int[] {partitionId}, 1, DEFAULT_NULL_VALUE));
+      version++;
     }
   }
 
   public void setPartitionUnhealthy(final int brokerId, final int partitionId) {
     final IntArrayList brokerHealthyPartitions = healthyPartitionsPerBroker.get(brokerId);
-    if (brokerHealthyPartitions != null && brokerHealthyPartitions.containsInt(partitionId)) {
-      brokerHealthyPartitions.removeInt(partitionId);
+    if (brokerHealthyPartitions != null && brokerHealthyPartitions.removeInt(partitionId)) {
+      version++;
+    }
+  }
+
+  /** Sets the load of the partition, if the given broker is its current leader. */
+  public void setPartitionLoad(final int brokerId, final int partitionId, final int load) {
+    if (partitionLeaders.get(partitionId) == brokerId) {
+      // a missing load is read as 0, which is also the missing value of the map
+      final int previousLoad =
+          load == 0 ? partitionLoads.remove(partitionId) : partitionLoads.put(partitionId, load);
+      if (previousLoad != load) {
+        version++;
+      }
     }
   }
 
   public void addPartitionFollower(final int partitionId, final int followerId) {
-    partitionFollowers.computeIfAbsent(partitionId, ArrayList::new).add(followerId);
-    partitionLeaders.remove(partitionId, followerId);
-    final List<Integer> inactives = partitionInactiveNodes.get(partitionId);
-    if (inactives != null) {
-      inactives.removeIf(inactive -> inactive == followerId);
+    final List<Integer> followers = partitionFollowers.computeIfAbsent(partitionId, ArrayList::new);
+    boolean changed = false;
+    if (!followers.contains(followerId)) {
+      followers.add(followerId);
+      changed = true;
+    }
+    if (partitionLeaders.remove(partitionId, followerId)) {
+      partitionLoads.remove(partitionId);
+      changed = true;
+    }
+    if (removeNode(partitionInactiveNodes, partitionId, followerId) || changed) {
+      version++;
     }
   }
 
   public void addPartitionInactive(final int partitionId, final int brokerId) {
-    partitionInactiveNodes.computeIfAbsent(partitionId, ArrayList::new).add(brokerId);
-    partitionLeaders.remove(partitionId, brokerId);
-    final List<Integer> followers = partitionFollowers.get(partitionId);
-    if (followers != null) {
-      followers.removeIf(follower -> follower == brokerId);
+    final List<Integer> inactives =
+        partitionInactiveNodes.computeIfAbsent(partitionId, ArrayList::new);
+    boolean changed = false;
+    if (!inactives.contains(brokerId)) {
+      inactives.add(brokerId);
+      changed = true;
+    }
+    if (partitionLeaders.remove(partitionId, brokerId)) {
+      partitionLoads.remove(partitionId);
+      changed = true;
+    }
+    if (removeNode(partitionFollowers, partitionId, brokerId) || changed) {
+      version++;
     }
   }
 
   public void addPartitionIfAbsent(final int partitionId) {
-    if (!partitions.contains(partitionId)) {
+    if (!partitions.containsInt(partitionId)) {
       partitions.addInt(partitionId);
+      version++;
     }
   }
 
@@ -128,44 +180,81 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
       brokerAddresses.put(nodeId, "");
       brokerVersions.put(nodeId, "");
       brokers.addInt(nodeId);
+      version++;
     }
   }
 
   public void setBrokerAddressIfPresent(final int brokerId, final String address) {
-    brokerAddresses.computeIfPresent(brokerId, (k, v) -> address);
+    final String previousAddress = brokerAddresses.get(brokerId);
+    if (previousAddress != null && !previousAddress.equals(address)) {
+      brokerAddresses.put(brokerId, address);
+      version++;
+    }
   }
 
   public void setBrokerVersionIfPresent(final int brokerId, final String version) {
-    brokerVersions.computeIfPresent(brokerId, (k, v) -> version);
+    if (brokerVersions.containsKey(brokerId)
+        && !Objects.equals(brokerVersions.get(brokerId), version)) {
+      brokerVersions.put(brokerId, version);
+      this.version++;
+    }
+  }
+
+  /** Sets the address of the gateway embedded in the broker, if the broker is known. */
+  public void setBrokerGatewayAddressIfPresent(final int brokerId, final String address) {
+    if (brokerAddresses.containsKey(brokerId)
+        && !Objects.equals(brokerGatewayAddresses.put(brokerId, address), address)) {
+      version++;
+    }
   }
 
   public void removeBroker(final int brokerId) {
+    if (!brokers.containsInt(brokerId)) {
+      return;
+    }
+
+    version++;
     brokerAddresses.remove(brokerId);
     brokerVersions.remove(brokerId);
+    brokerGatewayAddresses.remove(brokerId);
     brokers.removeInt(brokerId);
     partitions.forEachOrderedInt(
         partitionId -> {
           if (partitionLeaders.get(partitionId) == brokerId) {
             partitionLeaders.remove(partitionId);
+            partitionLoads.remove(partitionId);
           }
-          final List<Integer> followers = partitionFollowers.get(partitionId);
-          if (followers != null) {
-            followers.remove(Integer.valueOf(brokerId));
-          }
-          final List<Integer> inactive = partitionInactiveNodes.get(partitionId);
-          if (inactive != null) {
-            inactive.removeIf(id -> id == brokerId);
-          }
+          removeNode(partitionFollowers, partitionId, brokerId);
+          removeNode(partitionInactiveNodes, partitionId, brokerId);
         });
   }
 
+  private static void copyNodes(
+      final Int2ObjectHashMap<List<Integer>> source,
+      final Int2ObjectHashMap<List<Integer>> target) {
+    for (final var entry : source.entrySet()) {
+      target.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+    }
+  }
+
+  private static boolean removeNode(
+      final Int2ObjectHashMap<List<Integer>> nodesPerPartition,
+      final int partitionId,
+      final int nodeId) {
+    final List<Integer> nodes = nodesPerPartition.get(partitionId);
+    return nodes != null && nodes.removeIf(node -> node == nodeId);
+  }
+
   @Override
   public int getClusterSize() {
     return clusterSize;
   }
 
   public void setClusterSize(final int clusterSize) {
-    this.clusterSize = clusterSize;
+    if (this.clusterSize != clusterSize) {
+      this.clusterSize = clusterSize;
+      version++;
+    }
   }
 
   @Override
@@ -174,7 +263,10 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
   }
 
   public void setPartitionsCount(final int partitionsCount) {
-    this.partitionsCount = partitionsCount;
+    if (this.partitionsCount != partitionsCount) {
+      this.partitionsCount = partitionsCount;
+      version++;
+    }
   }
 
   @Override
@@ -183,7 +275,10 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
   }
 
   public void setReplicationFactor(final int replicationFactor) {
-    this.replicationFactor = replicationFactor;
+    if (this.replicationFactor != replicationFactor) {
+      this.replicationFactor = replicationFactor;
+      version++;
+    }
   }
 
   @Override
@@ -239,6 +334,11 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     return brokerVersions.get(brokerId);
   }
 
+  @Override
+  public String getBrokerGatewayAddress(final int brokerId) {
+    return brokerGatewayAddresses.get(brokerId);
+  }
+
   @Override
   public boolean isPartitionHealthy(final int brokerId, final int partition) {
     final IntArrayList brokerHealthyPartitions = healthyPartitionsPerBroker.get(brokerId);
@@ -249,6 +349,16 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
     }
   }
 
+  @Override
+  public int getPartitionLoad(final int partition) {
+    return partitionLoads.get(partition);
+  }
+
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
   @Override
   public String toString() {
     return "BrokerClusterStateImpl{"
@@ -264,6 +374,8 @@ public final class BrokerClusterStateImpl implements BrokerClusterState {
         + partitionsCount
         + ", replicationFactor="
         + replicationFactor
+        + ", version="
+        + version
         + '}';
   }
 }
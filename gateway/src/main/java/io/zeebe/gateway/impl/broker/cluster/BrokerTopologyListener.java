@@ -0,0 +1,20 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker.cluster;
+
+@FunctionalInterface
+public interface BrokerTopologyListener {
+
+  /**
+   * Invoked by the topology manager after it replaced the known cluster state. The state must not
+   * be modified by the listener.
+   *
+   * @param topology the new cluster state
+   */
+  void onTopologyUpdated(BrokerClusterState topology);
+}
@@ -10,4 +10,11 @@ package io.zeebe.gateway.impl.broker.cluster;
 public interface BrokerTopologyManager {
 
   BrokerClusterState getTopology();
+
+  /**
+   * Registers a listener which is notified whenever the known cluster state is replaced.
+   *
+   * @param listener the listener to add
+   */
+  void addTopologyListener(BrokerTopologyListener listener);
 }
@@ -17,7 +17,9 @@ import io.zeebe.gateway.Loggers;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.zeebe.util.sched.Actor;
 import java.time.Duration;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -30,6 +32,7 @@ public final class BrokerTopologyManagerImpl extends Actor
   protected final AtomicReference<BrokerClusterStateImpl> topology;
   private final Supplier<Set<Member>> membersSupplier;
   private final GatewayTopologyMetrics topologyMetrics = new GatewayTopologyMetrics();
+  private final List<BrokerTopologyListener> topologyListeners = new CopyOnWriteArrayList<>();
 
   public BrokerTopologyManagerImpl(final Supplier<Set<Member>> membersSupplier) {
     this.membersSupplier = membersSupplier;
@@ -46,6 +49,29 @@ public final class BrokerTopologyManagerImpl extends Actor
     this.topology.set(topology);
   }
 
+  @Override
+  public void addTopologyListener(final BrokerTopologyListener listener) {
+    topologyListeners.add(listener);
+  }
+
+  private void updateTopology(final BrokerClusterStateImpl newTopology) {
+    final BrokerClusterStateImpl currentTopology = topology.get();
+    if (currentTopology != null && currentTopology.getVersion() == newTopology.getVersion()) {
+      // nothing changed, keep the current state such that the cached responses stay valid
+      return;
+    }
+
+    topology.set(newTopology);
+
+    for (final BrokerTopologyListener listener : topologyListeners) {
+      try {
+        listener.onTopologyUpdated(newTopology);
+      } catch (final Exception e) {
+        LOG.warn("Failed to notify topology listener {}", listener, e);
+      }
+    }
+  }
+
   private void checkForMissingEvents() {
     final Set<Member> members = membersSupplier.get();
     if (members == null || members.isEmpty()) {
@@ -60,7 +86,7 @@ public final class BrokerTopologyManagerImpl extends Actor
         processProperties(brokerInfo, newTopology);
       }
     }
-    topology.set(newTopology);
+    updateTopology(newTopology);
   }
 
   @Override
@@ -115,7 +141,7 @@ public final class BrokerTopologyManagerImpl extends Actor
                 break;
             }
 
-            topology.set(newTopology);
+            updateTopology(newTopology);
             updateMetrics(newTopology);
           });
     }
@@ -143,12 +169,21 @@ public final class BrokerTopologyManagerImpl extends Actor
         partition -> newTopology.setPartitionHealthy(nodeId, partition),
         partition -> newTopology.setPartitionUnhealthy(nodeId, partition));
 
+    distributedBrokerInfo
+        .getPartitionLoads()
+        .forEach((partition, load) -> newTopology.setPartitionLoad(nodeId, partition, load));
+
     final String clientAddress = distributedBrokerInfo.getCommandApiAddress();
     if (clientAddress != null) {
       newTopology.setBrokerAddressIfPresent(nodeId, clientAddress);
     }
 
     newTopology.setBrokerVersionIfPresent(nodeId, distributedBrokerInfo.getVersion());
+
+    final String gatewayAddress = distributedBrokerInfo.getGatewayAddress();
+    if (gatewayAddress != null) {
+      newTopology.setBrokerGatewayAddressIfPresent(nodeId, gatewayAddress);
+    }
   }
 
   private void updateMetrics(final BrokerClusterState topology) {
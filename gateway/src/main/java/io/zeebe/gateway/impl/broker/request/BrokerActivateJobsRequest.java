@@ -19,6 +19,7 @@ import org.agrona.DirectBuffer;
 public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBatchRecord> {
 
   private final JobBatchRecord requestDto = new JobBatchRecord();
+  private boolean msgPackVariables;
 
   public BrokerActivateJobsRequest(final String jobType) {
     super(ValueType.JOB_BATCH, JobBatchIntent.ACTIVATE);
@@ -49,6 +50,19 @@ public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBat
     return this;
   }
 
+  /**
+   * @param msgPackVariables if true, the variables of the activated jobs are passed to the client
+   *     as MessagePack instead of being converted to JSON
+   */
+  public BrokerActivateJobsRequest setMsgPackVariables(final boolean msgPackVariables) {
+    this.msgPackVariables = msgPackVariables;
+    return this;
+  }
+
+  public boolean isMsgPackVariables() {
+    return msgPackVariables;
+  }
+
   @Override
   public JobBatchRecord getRequestWriter() {
     return requestDto;
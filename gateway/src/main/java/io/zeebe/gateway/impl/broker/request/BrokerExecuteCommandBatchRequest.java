@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker.request;
+
+import io.zeebe.gateway.cmd.IllegalBrokerResponseException;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Sends several commands to the same partition in one request. The broker appends them to the log
+ * together and responds with one result per command, which is read by the command itself.
+ */
+public final class BrokerExecuteCommandBatchRequest<T>
+    extends BrokerRequest<List<BrokerResponse<T>>> {
+
+  private final ExecuteCommandBatchRequest request = new ExecuteCommandBatchRequest();
+  private final ExecuteCommandBatchResponse response = new ExecuteCommandBatchResponse();
+  private final List<BrokerExecuteCommand<T>> commands = new ArrayList<>();
+  private String type = "BATCH";
+
+  public BrokerExecuteCommandBatchRequest() {
+    super(
+        ExecuteCommandBatchResponseDecoder.SCHEMA_ID,
+        ExecuteCommandBatchResponseDecoder.TEMPLATE_ID);
+  }
+
+  public BrokerExecuteCommandBatchRequest<T> addCommand(final BrokerExecuteCommand<T> command) {
+    if (commands.isEmpty()) {
+      type = "BATCH#" + command.getType();
+    }
+
+    commands.add(command);
+    request.addCommand(command.request);
+    return this;
+  }
+
+  public List<BrokerExecuteCommand<T>> getCommands() {
+    return commands;
+  }
+
+  @Override
+  public int getPartitionId() {
+    return request.getPartitionId();
+  }
+
+  @Override
+  public void setPartitionId(final int partitionId) {
+    request.setPartitionId(partitionId);
+    commands.forEach(command -> command.setPartitionId(partitionId));
+  }
+
+  @Override
+  public boolean addressesSpecificPartition() {
+    return getPartitionId() != ExecuteCommandBatchRequestEncoder.partitionIdNullValue();
+  }
+
+  @Override
+  public boolean requiresPartitionId() {
+    return true;
+  }
+
+  @Override
+  public BufferWriter getRequestWriter() {
+    return null;
+  }
+
+  @Override
+  public void serializeValue() {
+    commands.forEach(BrokerRequest::serializeValue);
+  }
+
+  @Override
+  protected void setSerializedValue(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException("the values are serialized by the commands");
+  }
+
+  @Override
+  protected void wrapResponse(final DirectBuffer buffer) {
+    response.wrap(buffer, 0, buffer.capacity());
+  }
+
+  @Override
+  protected BrokerResponse<List<BrokerResponse<T>>> readResponse() {
+    final List<DirectBuffer> results = response.getResults();
+    if (results.size() != commands.size()) {
+      throw new IllegalBrokerResponseException(
+          String.format(
+              "Expected a result for each of the %d commands of the batch, but got %d",
+              commands.size(), results.size()));
+    }
+
+    final List<BrokerResponse<T>> responses = new ArrayList<>(results.size());
+    for (int i = 0; i < results.size(); i++) {
+      responses.add(commands.get(i).getResponse(results.get(i)));
+    }
+
+    return new BrokerResponse<>(responses, response.getPartitionId(), -1);
+  }
+
+  @Override
+  protected List<BrokerResponse<T>> toResponseDto(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException("the responses are read by the commands");
+  }
+
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  @Override
+  public int getLength() {
+    return request.getLength();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    request.write(buffer, offset);
+  }
+}
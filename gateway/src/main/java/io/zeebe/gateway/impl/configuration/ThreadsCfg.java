@@ -14,6 +14,7 @@ import java.util.Objects;
 public final class ThreadsCfg {
 
   private int managementThreads = DEFAULT_MANAGEMENT_THREADS;
+  private int requestShards = 0;
 
   public int getManagementThreads() {
     return managementThreads;
@@ -24,9 +25,23 @@ public final class ThreadsCfg {
     return this;
   }
 
+  public int getRequestShards() {
+    return requestShards;
+  }
+
+  public ThreadsCfg setRequestShards(final int requestShards) {
+    this.requestShards = requestShards;
+    return this;
+  }
+
+  /** @return the number of request shards, which is one per management thread if not set */
+  public int getEffectiveRequestShards() {
+    return requestShards > 0 ? requestShards : Math.max(1, managementThreads);
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(managementThreads);
+    return Objects.hash(managementThreads, requestShards);
   }
 
   @Override
@@ -38,11 +53,16 @@ public final class ThreadsCfg {
       return false;
     }
     final ThreadsCfg that = (ThreadsCfg) o;
-    return managementThreads == that.managementThreads;
+    return managementThreads == that.managementThreads && requestShards == that.requestShards;
   }
 
   @Override
   public String toString() {
-    return "ThreadsCfg{" + "managementThreads=" + managementThreads + '}';
+    return "ThreadsCfg{"
+        + "managementThreads="
+        + managementThreads
+        + ", requestShards="
+        + requestShards
+        + '}';
   }
 }
@@ -127,6 +127,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
 
   private void onNotification(final String jobType) {
     LOG.trace("Received jobs available notification for type {}.", jobType);
+    activateJobsHandler.onJobsAvailable(jobType);
 
     actor.run(() -> resetFailedAttemptsAndHandlePendingRequests(jobType));
   }
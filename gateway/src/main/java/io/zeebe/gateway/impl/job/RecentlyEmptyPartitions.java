@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers per job type the partitions which recently returned no jobs, such that job activation
+ * can ask the other partitions first. A partition is forgotten when it returns jobs again, when
+ * jobs of the type become available, or after a time to live, as the gateway may miss a jobs
+ * available notification.
+ */
+final class RecentlyEmptyPartitions {
+
+  private static final Duration TIME_TO_LIVE = Duration.ofSeconds(5);
+
+  private final Map<String, Map<Integer, Long>> emptyPartitionsPerType = new ConcurrentHashMap<>();
+  private final LongSupplier clock;
+
+  RecentlyEmptyPartitions() {
+    this(System::currentTimeMillis);
+  }
+
+  RecentlyEmptyPartitions(final LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  void markEmpty(final String jobType, final int partitionId) {
+    emptyPartitionsPerType
+        .computeIfAbsent(jobType, t -> new ConcurrentHashMap<>())
+        .put(partitionId, clock.getAsLong());
+  }
+
+  void markNotEmpty(final String jobType, final int partitionId) {
+    final Map<Integer, Long> emptyPartitions = emptyPartitionsPerType.get(jobType);
+    if (emptyPartitions != null) {
+      emptyPartitions.remove(partitionId);
+    }
+  }
+
+  boolean isEmpty(final String jobType, final int partitionId) {
+    final Map<Integer, Long> emptyPartitions = emptyPartitionsPerType.get(jobType);
+    if (emptyPartitions == null) {
+      return false;
+    }
+
+    final Long markedAt = emptyPartitions.get(partitionId);
+    if (markedAt == null) {
+      return false;
+    } else if (clock.getAsLong() - markedAt >= TIME_TO_LIVE.toMillis()) {
+      emptyPartitions.remove(partitionId, markedAt);
+      return false;
+    }
+
+    return true;
+  }
+
+  void clear(final String jobType) {
+    emptyPartitionsPerType.remove(jobType);
+  }
+}
@@ -30,12 +30,14 @@ import java.util.function.Consumer;
 
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
- * partition-IDs to determine the next partition to use.
+ * partition-IDs to determine the next partition to use. Partitions which recently had no jobs of
+ * the type are asked last.
  */
 public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler {
 
   private final Map<String, RequestDispatchStrategy> jobTypeToNextPartitionId =
       new ConcurrentHashMap<>();
+  private final RecentlyEmptyPartitions recentlyEmptyPartitions = new RecentlyEmptyPartitions();
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
 
@@ -127,10 +129,15 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
                 if (error == null) {
                   final ActivateJobsResponse grpcResponse =
                       ResponseMapper.toActivateJobsResponse(
-                          response.getKey(), response.getResponse());
+                          response.getKey(),
+                          response.getResponse(),
+                          request.isMsgPackVariables());
                   final int jobsCount = grpcResponse.getJobsCount();
                   if (jobsCount > 0) {
+                    recentlyEmptyPartitions.markNotEmpty(jobType, partitionId);
                     onResponse.accept(grpcResponse);
+                  } else if (!response.getResponse().getTruncated()) {
+                    recentlyEmptyPartitions.markEmpty(jobType, partitionId);
                   }
 
                   activateJobs(
@@ -170,6 +177,11 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
     }
   }
 
+  /** Should be called when jobs of the given type became available on any partition. */
+  public void onJobsAvailable(final String jobType) {
+    recentlyEmptyPartitions.clear(jobType);
+  }
+
   private boolean isRejection(final Throwable error) {
     return error != null && BrokerRejectionException.class.isAssignableFrom(error.getClass());
   }
@@ -198,6 +210,9 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
         jobTypeToNextPartitionId.computeIfAbsent(
             jobType, t -> new RoundRobinDispatchStrategy(topologyManager));
     return new PartitionIdIterator(
-        nextPartitionSupplier.determinePartition(), partitionsCount, topologyManager);
+        nextPartitionSupplier.determinePartition(),
+        partitionsCount,
+        topologyManager,
+        partitionId -> recentlyEmptyPartitions.isEmpty(jobType, partitionId));
   }
 }
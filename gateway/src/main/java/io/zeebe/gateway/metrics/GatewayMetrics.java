@@ -36,8 +36,21 @@ public final class GatewayMetrics {
           .labelNames("partition", "requestType")
           .register();
 
+  private static final Histogram REQUEST_QUEUEING_DELAY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("gateway_request_queueing_delay")
+          .help("Time a request waits in the gateway until its request manager picks it up")
+          .buckets(0.000_01, 0.000_05, 0.000_1, 0.000_5, 0.001, 0.005, 0.01, 0.05, 0.1)
+          .labelNames("shard")
+          .register();
+
   private GatewayMetrics() {}
 
+  public static Histogram.Child getRequestQueueingDelay(final int shard) {
+    return REQUEST_QUEUEING_DELAY.labels(Integer.toString(shard));
+  }
+
   public static void registerSuccessfulRequest(
       final long partition, final String requestType, final long latencyMs) {
     REQUEST_LATENCY.labels(Long.toString(partition), requestType).observe(latencyMs / 1000f);
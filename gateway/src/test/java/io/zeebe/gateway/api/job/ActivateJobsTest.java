@@ -29,6 +29,7 @@ import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.zeebe.protocol.record.RejectionType;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.test.util.JsonUtil;
+import io.zeebe.test.util.MsgPackUtil;
 import io.zeebe.util.buffer.BufferUtil;
 import java.time.Duration;
 import java.util.Arrays;
@@ -120,6 +121,33 @@ public final class ActivateJobsTest extends GatewayTest {
         .containsExactlyInAnyOrderElementsOf(fetchVariables);
   }
 
+  @Test
+  public void shouldReturnMsgPackVariables() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+
+    final String jobType = "testJob";
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder()
+            .setType(jobType)
+            .setMaxJobsToActivate(1)
+            .setMsgPackVariables(true)
+            .build();
+
+    stub.addAvailableJobs(jobType, 1);
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    assertThat(responses.hasNext()).isTrue();
+
+    final ActivatedJob job = responses.next().getJobs(0);
+    assertThat(job.getVariables()).isEmpty();
+    MsgPackUtil.assertEquality(job.getVariablesMsgPack().toByteArray(), stub.getVariables());
+  }
+
   @Test
   public void shouldActivateJobsRoundRobin() {
     // given
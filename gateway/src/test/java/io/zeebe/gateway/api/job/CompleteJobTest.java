@@ -9,6 +9,7 @@ package io.zeebe.gateway.api.job;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.protobuf.ByteString;
 import io.zeebe.gateway.api.util.GatewayTest;
 import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
@@ -18,6 +19,7 @@ import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.test.util.JsonUtil;
 import io.zeebe.test.util.MsgPackUtil;
+import io.zeebe.util.buffer.BufferUtil;
 import java.util.Collections;
 import org.junit.Test;
 
@@ -49,6 +51,32 @@ public final class CompleteJobTest extends GatewayTest {
     MsgPackUtil.assertEqualityExcluding(brokerRequestValue.getVariablesBuffer(), variables);
   }
 
+  @Test
+  public void shouldPassMsgPackVariablesWithoutConversion() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    stub.registerWith(brokerClient);
+
+    final String variables = JsonUtil.toJson(Collections.singletonMap("key", "value"));
+    final byte[] msgPack = MsgPackUtil.asMsgPackReturnArray(variables);
+
+    final CompleteJobRequest request =
+        CompleteJobRequest.newBuilder()
+            .setJobKey(stub.getKey())
+            .setVariables("{\"ignored\": true}")
+            .setVariablesMsgPack(ByteString.copyFrom(msgPack))
+            .build();
+
+    // when
+    client.completeJob(request);
+
+    // then
+    final BrokerCompleteJobRequest brokerRequest = brokerClient.getSingleBrokerRequest();
+    final JobRecord brokerRequestValue = brokerRequest.getRequestWriter();
+    assertThat(BufferUtil.bufferAsArray(brokerRequestValue.getVariablesBuffer()))
+        .isEqualTo(msgPack);
+  }
+
   @Test
   public void shouldConvertEmptyVariables() {
     // given
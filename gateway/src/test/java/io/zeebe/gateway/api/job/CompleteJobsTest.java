@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.google.rpc.Code;
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerExecuteCommand;
+import io.zeebe.gateway.impl.broker.request.BrokerExecuteCommandBatchRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import java.util.List;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  private static final long REJECTED_JOB_KEY = 2;
+
+  @Test
+  public void shouldCompleteAllJobs() {
+    // given
+    new CompleteJobStub().registerWith(brokerClient);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(1))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(3))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobsResult::getJobKey, CompleteJobsResult::hasError)
+        .containsExactly(tuple(1L, false), tuple(3L, false));
+  }
+
+  @Test
+  public void shouldSendOneBatchRequestPerPartition() {
+    // given
+    new CompleteJobStub().registerWith(brokerClient);
+
+    final long firstJobOnPartitionOne = Protocol.encodePartitionId(1, 1);
+    final long jobOnPartitionTwo = Protocol.encodePartitionId(2, 2);
+    final long secondJobOnPartitionOne = Protocol.encodePartitionId(1, 3);
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(firstJobOnPartitionOne))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(jobOnPartitionTwo))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(secondJobOnPartitionOne))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobsResult::getJobKey)
+        .containsExactly(firstJobOnPartitionOne, jobOnPartitionTwo, secondJobOnPartitionOne);
+
+    final List<BrokerRequest> brokerRequests = brokerClient.getBrokerRequests();
+    assertThat(brokerRequests).extracting(BrokerRequest::getPartitionId).containsExactly(1, 2);
+    assertThat(((BrokerExecuteCommandBatchRequest<?>) brokerRequests.get(0)).getCommands())
+        .extracting(BrokerExecuteCommand::getKey)
+        .containsExactly(firstJobOnPartitionOne, secondJobOnPartitionOne);
+    assertThat(((BrokerExecuteCommandBatchRequest<?>) brokerRequests.get(1)).getCommands())
+        .extracting(BrokerExecuteCommand::getKey)
+        .containsExactly(jobOnPartitionTwo);
+  }
+
+  @Test
+  public void shouldReportFailedJobsWithoutFailingTheBatch() {
+    // given
+    brokerClient.registerHandler(
+        BrokerCompleteJobRequest.class,
+        (RequestHandler<BrokerCompleteJobRequest, BrokerResponse<JobRecord>>)
+            request -> {
+              if (request.getKey() == REJECTED_JOB_KEY) {
+                return new BrokerRejectionResponse<>(
+                    new BrokerRejection(
+                        JobIntent.COMPLETE, REJECTED_JOB_KEY, RejectionType.NOT_FOUND, "expected"));
+              }
+              return new BrokerResponse<>(new JobRecord(), 0, request.getKey());
+            });
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(1))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(REJECTED_JOB_KEY))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(3))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList()).hasSize(3);
+    assertThat(response.getResults(0).hasError()).isFalse();
+    assertThat(response.getResults(1).getJobKey()).isEqualTo(REJECTED_JOB_KEY);
+    assertThat(response.getResults(1).getError().getCode()).isEqualTo(Code.NOT_FOUND_VALUE);
+    assertThat(response.getResults(1).getError().getMessage()).contains("expected");
+    assertThat(response.getResults(2).hasError()).isFalse();
+  }
+}
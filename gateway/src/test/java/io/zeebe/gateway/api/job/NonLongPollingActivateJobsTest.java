@@ -10,10 +10,16 @@ package io.zeebe.gateway.api.job;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.gateway.impl.configuration.GatewayCfg;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -60,4 +66,40 @@ public final class NonLongPollingActivateJobsTest extends GatewayTest {
     // then no jobs activated
     assertThat(responses.hasNext()).isFalse();
   }
+
+  @Test
+  public void shouldAskRecentlyEmptyPartitionsLast() {
+    // given
+    final String jobType = "testJob";
+    final int partitionWithJobs = Protocol.START_PARTITION_ID + 4;
+    final ActivateJobsStub jobsStub = new ActivateJobsStub();
+    jobsStub.addAvailableJobs(jobType, 100);
+    final ActivateJobsStub noJobsStub = new ActivateJobsStub();
+    final List<Integer> requestedPartitions = new ArrayList<>();
+
+    brokerClient.registerHandler(
+        BrokerActivateJobsRequest.class,
+        (RequestHandler<BrokerActivateJobsRequest, BrokerResponse<JobBatchRecord>>)
+            request -> {
+              requestedPartitions.add(request.getPartitionId());
+              return request.getPartitionId() == partitionWithJobs
+                  ? jobsStub.handle(request)
+                  : noJobsStub.handle(request);
+            });
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder().setType(jobType).setMaxJobsToActivate(1).build();
+
+    // the first request has to ask all partitions until it finds a job
+    client.activateJobs(request).forEachRemaining(response -> {});
+    requestedPartitions.clear();
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    assertThat(responses.hasNext()).isTrue();
+    responses.forEachRemaining(response -> {});
+    assertThat(requestedPartitions).containsExactly(partitionWithJobs);
+  }
 }
@@ -10,12 +10,15 @@ package io.zeebe.gateway.api.topology;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.api.util.StubbedTopologyManager;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerHealth;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.WatchTopologyRequest;
+import java.util.Iterator;
 import java.util.Optional;
 import org.junit.Test;
 
@@ -104,4 +107,41 @@ public final class TopologyTest extends GatewayTest {
     assertThat(partition).isPresent();
     assertThat(partition.get().getRole()).isEqualTo(PartitionBrokerRole.INACTIVE);
   }
+
+  @Test
+  public void shouldRespondWithChangedTopology() {
+    // given
+    final var topology = (BrokerClusterStateImpl) brokerClient.getTopologyManager().getTopology();
+    final var initialResponse = client.topology(TopologyRequest.newBuilder().build());
+
+    // when
+    topology.setPartitionHealthy(0, 1);
+    final var response = client.topology(TopologyRequest.newBuilder().build());
+
+    // then
+    assertThat(initialResponse.getBrokers(0).getPartitions(0).getHealth())
+        .isEqualTo(PartitionBrokerHealth.UNHEALTHY);
+    assertThat(response.getBrokers(0).getPartitions(0).getHealth())
+        .isEqualTo(PartitionBrokerHealth.HEALTHY);
+  }
+
+  @Test
+  public void shouldStreamTopologyChanges() {
+    // given
+    final var topologyManager = (StubbedTopologyManager) brokerClient.getTopologyManager();
+    final var topology = (BrokerClusterStateImpl) topologyManager.getTopology();
+    final Iterator<TopologyResponse> responses =
+        client.watchTopology(WatchTopologyRequest.newBuilder().build());
+    final TopologyResponse initialResponse = responses.next();
+
+    // when
+    topology.setPartitionHealthy(0, 1);
+    topologyManager.notifyTopologyUpdated();
+
+    // then
+    assertThat(initialResponse.getBrokers(0).getPartitions(0).getHealth())
+        .isEqualTo(PartitionBrokerHealth.UNHEALTHY);
+    assertThat(responses.next().getBrokers(0).getPartitions(0).getHealth())
+        .isEqualTo(PartitionBrokerHealth.HEALTHY);
+  }
 }
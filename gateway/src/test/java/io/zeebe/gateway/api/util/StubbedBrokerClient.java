@@ -16,6 +16,8 @@ import io.zeebe.gateway.cmd.IllegalBrokerResponseException;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.BrokerResponseConsumer;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.zeebe.gateway.impl.broker.request.BrokerExecuteCommand;
+import io.zeebe.gateway.impl.broker.request.BrokerExecuteCommandBatchRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.protocol.Protocol;
@@ -77,8 +79,7 @@ public final class StubbedBrokerClient implements BrokerClient {
       final Consumer<Throwable> throwableConsumer) {
     brokerRequests.add(request);
     try {
-      final RequestHandler requestHandler = requestHandlers.get(request.getClass());
-      final BrokerResponse<T> response = requestHandler.handle(request);
+      final BrokerResponse<T> response = handle(request);
       try {
         if (response.isResponse()) {
           responseConsumer.accept(response.getKey(), response.getResponse());
@@ -99,6 +100,25 @@ public final class StubbedBrokerClient implements BrokerClient {
     }
   }
 
+  private <T> BrokerResponse<T> handle(final BrokerRequest<T> request) throws Exception {
+    if (request instanceof BrokerExecuteCommandBatchRequest) {
+      return (BrokerResponse<T>) handleBatch((BrokerExecuteCommandBatchRequest<?>) request);
+    }
+
+    final RequestHandler requestHandler = requestHandlers.get(request.getClass());
+    return requestHandler.handle(request);
+  }
+
+  private <T> BrokerResponse<List<BrokerResponse<T>>> handleBatch(
+      final BrokerExecuteCommandBatchRequest<T> request) throws Exception {
+    final List<BrokerResponse<T>> responses = new ArrayList<>();
+    for (final BrokerExecuteCommand<T> command : request.getCommands()) {
+      final RequestHandler requestHandler = requestHandlers.get(command.getClass());
+      responses.add((BrokerResponse<T>) requestHandler.handle(command));
+    }
+    return new BrokerResponse<>(responses, request.getPartitionId(), -1);
+  }
+
   @Override
   public BrokerTopologyManager getTopologyManager() {
     return topologyManager;
@@ -120,6 +140,10 @@ public final class StubbedBrokerClient implements BrokerClient {
     jobsAvailableHandler.accept(type);
   }
 
+  public List<BrokerRequest> getBrokerRequests() {
+    return brokerRequests;
+  }
+
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
     assertThat(brokerRequests).hasSize(1);
     return (T) brokerRequests.get(0);
@@ -11,11 +11,15 @@ import static io.zeebe.protocol.Protocol.START_PARTITION_ID;
 
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
+import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyListener;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public final class StubbedTopologyManager implements BrokerTopologyManager {
 
   private final BrokerClusterStateImpl clusterState;
+  private final List<BrokerTopologyListener> topologyListeners = new CopyOnWriteArrayList<>();
 
   StubbedTopologyManager() {
     this(8);
@@ -36,4 +40,13 @@ public final class StubbedTopologyManager implements BrokerTopologyManager {
   public BrokerClusterState getTopology() {
     return clusterState;
   }
+
+  @Override
+  public void addTopologyListener(final BrokerTopologyListener listener) {
+    topologyListeners.add(listener);
+  }
+
+  public void notifyTopologyUpdated() {
+    topologyListeners.forEach(listener -> listener.onTopologyUpdated(clusterState));
+  }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.rpc.Code;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.zeebe.gateway.EndpointManager;
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.zeebe.gateway.impl.broker.request.BrokerCreateWorkflowInstanceRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResult;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceCreationRecord;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.intent.WorkflowInstanceCreationIntent;
+import java.util.Collections;
+import org.junit.Test;
+
+public final class CreateWorkflowInstancesTest extends GatewayTest {
+
+  private static final long UNKNOWN_WORKFLOW_KEY = 999;
+
+  @Test
+  public void shouldCreateAllWorkflowInstances() {
+    // given
+    final CreateWorkflowInstanceStub stub = new CreateWorkflowInstanceStub();
+    stub.registerWith(brokerClient);
+
+    final CreateWorkflowInstancesRequest request =
+        CreateWorkflowInstancesRequest.newBuilder()
+            .addRequests(createInstance(stub.getWorkflowKey()))
+            .addRequests(createInstance(stub.getWorkflowKey()))
+            .build();
+
+    // when
+    final CreateWorkflowInstancesResponse response = client.createWorkflowInstances(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CreateWorkflowInstancesResult::getResponse)
+        .extracting(CreateWorkflowInstanceResponse::getWorkflowInstanceKey)
+        .containsExactly(stub.getWorkflowInstanceKey(), stub.getWorkflowInstanceKey());
+    assertThat(response.getResultsList()).noneMatch(CreateWorkflowInstancesResult::hasError);
+  }
+
+  @Test
+  public void shouldReportRejectedInstancesWithoutFailingTheBatch() {
+    // given
+    final CreateWorkflowInstanceStub stub = new CreateWorkflowInstanceStub();
+    brokerClient.registerHandler(
+        BrokerCreateWorkflowInstanceRequest.class,
+        (RequestHandler<
+                BrokerCreateWorkflowInstanceRequest,
+                BrokerResponse<WorkflowInstanceCreationRecord>>)
+            request -> {
+              if (request.getRequestWriter().getWorkflowKey() == UNKNOWN_WORKFLOW_KEY) {
+                return new BrokerRejectionResponse<>(
+                    new BrokerRejection(
+                        WorkflowInstanceCreationIntent.CREATE,
+                        UNKNOWN_WORKFLOW_KEY,
+                        RejectionType.NOT_FOUND,
+                        "expected"));
+              }
+              return stub.handle(request);
+            });
+
+    final CreateWorkflowInstancesRequest request =
+        CreateWorkflowInstancesRequest.newBuilder()
+            .addRequests(createInstance(stub.getWorkflowKey()))
+            .addRequests(createInstance(UNKNOWN_WORKFLOW_KEY))
+            .build();
+
+    // when
+    final CreateWorkflowInstancesResponse response = client.createWorkflowInstances(request);
+
+    // then
+    assertThat(response.getResultsList()).hasSize(2);
+    assertThat(response.getResults(0).getResponse().getWorkflowInstanceKey())
+        .isEqualTo(stub.getWorkflowInstanceKey());
+    assertThat(response.getResults(1).hasResponse()).isFalse();
+    assertThat(response.getResults(1).getError().getCode()).isEqualTo(Code.NOT_FOUND_VALUE);
+    assertThat(response.getResults(1).getError().getMessage()).contains("expected");
+  }
+
+  @Test
+  public void shouldRejectBatchWithTooManyRequests() {
+    // given
+    new CreateWorkflowInstanceStub().registerWith(brokerClient);
+
+    final CreateWorkflowInstancesRequest request =
+        CreateWorkflowInstancesRequest.newBuilder()
+            .addAllRequests(
+                Collections.nCopies(
+                    EndpointManager.MAX_BATCH_SIZE + 1,
+                    createInstance(CreateWorkflowInstanceStub.WORKFLOW_KEY)))
+            .build();
+
+    // when - then
+    assertThatThrownBy(() -> client.createWorkflowInstances(request))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+  }
+
+  private static CreateWorkflowInstanceRequest createInstance(final long workflowKey) {
+    return CreateWorkflowInstanceRequest.newBuilder().setWorkflowKey(workflowKey).build();
+  }
+}
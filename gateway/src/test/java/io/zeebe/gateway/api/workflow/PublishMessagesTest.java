@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.workflow;
+
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.google.rpc.Code;
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResult;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.intent.MessageIntent;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends GatewayTest {
+
+  private static final String REJECTED_MESSAGE_ID = "rejected";
+
+  @Test
+  public void shouldPublishAllMessages() {
+    // given
+    new PublishMessageStub().registerWith(brokerClient);
+
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addRequests(message("a"))
+            .addRequests(message("b"))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(PublishMessagesResult::hasResponse, PublishMessagesResult::hasError)
+        .containsExactly(tuple(true, false), tuple(true, false));
+  }
+
+  @Test
+  public void shouldReportRejectedMessagesWithoutFailingTheBatch() {
+    // given
+    brokerClient.registerHandler(
+        BrokerPublishMessageRequest.class,
+        (RequestHandler<BrokerPublishMessageRequest, BrokerResponse<Void>>)
+            request -> {
+              final String messageId =
+                  bufferAsString(request.getRequestWriter().getMessageIdBuffer());
+              if (REJECTED_MESSAGE_ID.equals(messageId)) {
+                return new BrokerRejectionResponse<>(
+                    new BrokerRejection(
+                        MessageIntent.PUBLISH, 1, RejectionType.ALREADY_EXISTS, "expected"));
+              }
+              return new BrokerResponse<>(null);
+            });
+
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addRequests(message("a"))
+            .addRequests(message(REJECTED_MESSAGE_ID))
+            .addRequests(message("b"))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResultsList()).hasSize(3);
+    assertThat(response.getResults(0).hasResponse()).isTrue();
+    assertThat(response.getResults(1).hasResponse()).isFalse();
+    assertThat(response.getResults(1).getError().getCode()).isEqualTo(Code.ALREADY_EXISTS_VALUE);
+    assertThat(response.getResults(1).getError().getMessage()).contains("expected");
+    assertThat(response.getResults(2).hasResponse()).isTrue();
+  }
+
+  private static PublishMessageRequest message(final String messageId) {
+    return PublishMessageRequest.newBuilder()
+        .setName("message")
+        .setCorrelationKey("correlate")
+        .setMessageId(messageId)
+        .build();
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.broker;
+
+import static io.zeebe.protocol.Protocol.START_PARTITION_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.gateway.impl.broker.LoadAwareDispatchStrategy;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class LoadAwareDispatchStrategyTest {
+
+  private static final int PARTITIONS_COUNT = 3;
+  private static final int BROKER_ID = 0;
+
+  private final BrokerClusterStateImpl topology = new BrokerClusterStateImpl();
+  private final LoadAwareDispatchStrategy strategy = new LoadAwareDispatchStrategy(() -> topology);
+
+  @Before
+  public void setUp() {
+    topology.addBrokerIfAbsent(BROKER_ID);
+    for (int offset = 0; offset < PARTITIONS_COUNT; offset++) {
+      topology.addPartitionIfAbsent(START_PARTITION_ID + offset);
+      topology.setPartitionLeader(START_PARTITION_ID + offset, BROKER_ID, 1);
+    }
+    topology.setPartitionsCount(PARTITIONS_COUNT);
+  }
+
+  @Test
+  public void shouldDispatchRoundRobinWithoutLoad() {
+    // when
+    final List<Integer> partitions = determinePartitions(PARTITIONS_COUNT);
+
+    // then
+    assertThat(partitions)
+        .containsExactly(START_PARTITION_ID, START_PARTITION_ID + 1, START_PARTITION_ID + 2);
+  }
+
+  @Test
+  public void shouldSkipHotPartition() {
+    // given
+    topology.setPartitionLoad(BROKER_ID, START_PARTITION_ID + 1, 90);
+
+    // when
+    final List<Integer> partitions = determinePartitions(4);
+
+    // then
+    assertThat(partitions).doesNotContain(START_PARTITION_ID + 1);
+  }
+
+  @Test
+  public void shouldDispatchToLeastLoadedPartitionIfAllAreHot() {
+    // given
+    topology.setPartitionLoad(BROKER_ID, START_PARTITION_ID, 100);
+    topology.setPartitionLoad(BROKER_ID, START_PARTITION_ID + 1, 85);
+    topology.setPartitionLoad(BROKER_ID, START_PARTITION_ID + 2, 95);
+
+    // when
+    final int partition = strategy.determinePartition();
+
+    // then
+    assertThat(partition).isEqualTo(START_PARTITION_ID + 1);
+  }
+
+  @Test
+  public void shouldIgnoreLoadReportedByFormerLeader() {
+    // given
+    topology.setPartitionLoad(BROKER_ID, START_PARTITION_ID, 90);
+
+    // when
+    topology.addPartitionFollower(START_PARTITION_ID, BROKER_ID);
+    topology.setPartitionLeader(START_PARTITION_ID, 1, 2);
+
+    // then
+    assertThat(topology.getPartitionLoad(START_PARTITION_ID)).isZero();
+  }
+
+  private List<Integer> determinePartitions(final int count) {
+    final List<Integer> partitions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      partitions.add(strategy.determinePartition());
+    }
+    return partitions;
+  }
+}
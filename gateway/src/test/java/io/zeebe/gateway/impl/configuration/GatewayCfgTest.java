@@ -46,7 +46,7 @@ public final class GatewayCfgTest {
         .setCertificateChainPath("certificateChainPath")
         .setPrivateKeyPath("privateKeyPath");
     CUSTOM_CFG.getMonitoring().setEnabled(true).setHost("monitoringHost").setPort(1234);
-    CUSTOM_CFG.getThreads().setManagementThreads(100);
+    CUSTOM_CFG.getThreads().setManagementThreads(100).setRequestShards(8);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
   }
 
@@ -200,6 +200,19 @@ public final class GatewayCfgTest {
     assertThat(gatewayCfg).isEqualTo(expected);
   }
 
+  @Test
+  public void shouldUseOneRequestShardPerManagementThreadByDefault() {
+    // given
+    final ThreadsCfg threadsCfg = new ThreadsCfg().setManagementThreads(4);
+
+    // when
+    final int requestShards = threadsCfg.getEffectiveRequestShards();
+
+    // then
+    assertThat(requestShards).isEqualTo(4);
+    assertThat(threadsCfg.setRequestShards(2).getEffectiveRequestShards()).isEqualTo(2);
+  }
+
   @Test
   public void shouldInitializeMonitoringCfgWhenInitIsCalled() {
     // given
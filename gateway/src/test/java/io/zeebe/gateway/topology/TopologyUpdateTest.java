@@ -15,6 +15,7 @@ import io.atomix.cluster.ClusterMembershipEvent;
 import io.atomix.cluster.ClusterMembershipEvent.Type;
 import io.atomix.cluster.Member;
 import io.atomix.cluster.MemberConfig;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.zeebe.util.sched.clock.ControlledActorClock;
@@ -22,6 +23,7 @@ import io.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.awaitility.Awaitility;
 import org.junit.After;
 import org.junit.Before;
@@ -194,6 +196,29 @@ public final class TopologyUpdateTest {
     assertThat(topologyManager.getTopology().isPartitionHealthy(brokerId, partition)).isFalse();
   }
 
+  @Test
+  public void shouldUpdateTopologyOnPartitionLoad() {
+    // given
+    final int partition = 1;
+    final BrokerInfo broker = createBroker(0).setLeaderForPartition(partition, 1);
+    broker.setPartitionLoad(partition, 90);
+
+    // when
+    topologyManager.event(createMemberAddedEvent(broker));
+
+    // then
+    waitUntil(() -> topologyManager.getTopology() != null);
+    assertThat(topologyManager.getTopology().getPartitionLoad(partition)).isEqualTo(90);
+
+    // when
+    broker.setFollowerForPartition(partition);
+    topologyManager.event(createMemberUpdateEvent(broker));
+
+    // then
+    waitUntil(() -> topologyManager.getTopology().getPartitionLoad(partition) == 0);
+    assertThat(topologyManager.getTopology().getPartitionLoad(partition)).isZero();
+  }
+
   @Test
   public void shouldUpdateTopologyOnLeaderRemoval() {
     // given
@@ -257,6 +282,49 @@ public final class TopologyUpdateTest {
             });
   }
 
+  @Test
+  public void shouldNotUpdateTopologyIfNothingChanged() {
+    // given
+    final AtomicInteger updates = new AtomicInteger();
+    topologyManager.addTopologyListener(topology -> updates.incrementAndGet());
+
+    final BrokerInfo broker = createBroker(0).setLeaderForPartition(1, 1);
+    broker.setPartitionHealthy(1);
+    broker.setPartitionLoad(1, 50);
+    topologyManager.event(createMemberAddedEvent(broker));
+    waitUntil(() -> topologyManager.getTopology() != null);
+    final BrokerClusterState topology = topologyManager.getTopology();
+
+    // when
+    topologyManager.event(createMemberUpdateEvent(broker));
+    topologyManager.event(createMemberUpdateEvent(createBroker(1)));
+
+    // then
+    waitUntil(() -> topologyManager.getTopology().getBrokers().contains(1));
+    assertThat(updates).hasValue(2);
+    assertThat(topologyManager.getTopology().getVersion()).isGreaterThan(topology.getVersion());
+  }
+
+  @Test
+  public void shouldNotUpdateTopologyOnUnchangedPeriodicCheck() {
+    // given
+    final AtomicInteger updates = new AtomicInteger();
+    topologyManager.addTopologyListener(topology -> updates.incrementAndGet());
+
+    topologyManager.event(createMemberAddedEvent(createBroker(0).setFollowerForPartition(1)));
+    waitUntil(() -> topologyManager.getTopology() != null);
+
+    // when
+    actorClock.addTime(Duration.ofSeconds(10));
+    createMemberFromBrokerInfo(createBroker(1));
+    actorClock.addTime(Duration.ofSeconds(10));
+
+    // then
+    waitUntil(() -> topologyManager.getTopology().getBrokers().contains(1));
+    assertThat(updates).hasValue(2);
+    assertThat(topologyManager.getTopology().getFollowersForPartition(1)).containsExactly(0);
+  }
+
   private BrokerInfo createBroker(final int brokerId) {
     final BrokerInfo broker =
         new BrokerInfo()
@@ -30,6 +30,7 @@ import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
+import io.zeebe.util.trace.CommandTracer;
 import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.function.LongConsumer;
@@ -44,6 +45,7 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
       Map.of("vegas", new AppenderVegasCfg(), "gradient2", new AppenderGradient2Cfg());
 
   private final String name;
+  private final int partitionId;
   private final Subscription writeBufferSubscription;
   private final int maxAppendBlockSize;
   private final LogStorage logStorage;
@@ -52,6 +54,7 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
   private final Environment env;
   private final LoggedEventImpl positionReader = new LoggedEventImpl();
   private final AppenderMetrics appenderMetrics;
+  private final CommandTracer tracer;
   private FailureListener failureListener;
   private final ActorFuture<Void> closeFuture;
   private final LongConsumer commitPositionListener;
@@ -62,11 +65,14 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
       final LogStorage logStorage,
       final Subscription writeBufferSubscription,
       final int maxBlockSize,
+      final CommandTracer tracer,
       final LongConsumer commitPositionListener) {
     appenderMetrics = new AppenderMetrics(Integer.toString(partitionId));
+    this.tracer = tracer;
     this.commitPositionListener = commitPositionListener;
     env = new Environment();
     this.name = name;
+    this.partitionId = partitionId;
     this.logStorage = logStorage;
     this.writeBufferSubscription = writeBufferSubscription;
     maxAppendBlockSize = maxBlockSize;
@@ -136,6 +142,11 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
     return name;
   }
 
+  @Override
+  public int getAffinityKey() {
+    return partitionId;
+  }
+
   @Override
   protected void onActorStarting() {
     actor.consume(writeBufferSubscription, this::onWriteBufferAvailable);
@@ -221,6 +232,7 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
         () -> {
           appenderMetrics.setLastAppendedPosition(highestPosition);
           appenderMetrics.appendLatency(startTime, ActorClock.currentTimeMillis());
+          tracer.onAppended(highestPosition);
         });
   }
 
@@ -230,6 +242,7 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
           commitPositionListener.accept(highestPosition);
           appenderMetrics.setLastCommittedPosition(highestPosition);
           appenderMetrics.commitLatency(startTime, ActorClock.currentTimeMillis());
+          tracer.onCommitted(highestPosition);
         });
   }
 }
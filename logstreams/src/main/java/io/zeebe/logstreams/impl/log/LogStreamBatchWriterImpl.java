@@ -23,6 +23,7 @@ import static org.agrona.BitUtil.SIZE_OF_LONG;
 
 import io.zeebe.dispatcher.ClaimedFragmentBatch;
 import io.zeebe.dispatcher.Dispatcher;
+import io.zeebe.dispatcher.impl.log.LogBufferAppender;
 import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
 import io.zeebe.protocol.Protocol;
@@ -85,6 +86,13 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     return logWriteBuffer.getMaxFragmentLength();
   }
 
+  @Override
+  public boolean canWriteAdditionalEvent(final int length) {
+    final int count = eventCount + 1;
+    final int batchLength = eventLength + length + (count * HEADER_BLOCK_LENGTH);
+    return LogBufferAppender.claimedBatchLength(count, batchLength) < getMaxFragmentLength();
+  }
+
   @Override
   public void reset() {
     eventBufferOffset = 0;
@@ -14,11 +14,16 @@ import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.channel.ActorConditions;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
+import io.zeebe.util.trace.CommandTracer;
+import java.nio.file.Path;
 import java.util.Objects;
 
 public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private static final int MINIMUM_FRAGMENT_SIZE = 4 * 1024;
   private int maxFragmentSize = 1024 * 1024 * 4;
+  private int writeBufferSize = -1;
+  private Path writeBufferFile;
+  private CommandTracer commandTracer = CommandTracer.disabled();
   private int partitionId = -1;
   private ActorScheduler actorScheduler;
   private LogStorage logStorage;
@@ -37,6 +42,24 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withWriteBufferSize(final int writeBufferSize) {
+    this.writeBufferSize = writeBufferSize;
+    return this;
+  }
+
+  @Override
+  public LogStreamBuilder withWriteBufferFile(final Path writeBufferFile) {
+    this.writeBufferFile = writeBufferFile;
+    return this;
+  }
+
+  @Override
+  public LogStreamBuilder withCommandTracer(final CommandTracer commandTracer) {
+    this.commandTracer = commandTracer;
+    return this;
+  }
+
   @Override
   public LogStreamBuilder withLogStorage(final LogStorage logStorage) {
     this.logStorage = logStorage;
@@ -73,7 +96,10 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
             partitionId,
             nodeId,
             maxFragmentSize,
-            logStorage);
+            writeBufferSize,
+            writeBufferFile,
+            logStorage,
+            commandTracer);
 
     final var logstreamInstallFuture = new CompletableActorFuture<LogStream>();
     actorScheduler
@@ -93,6 +119,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private void validate() {
     Objects.requireNonNull(actorScheduler, "Must specify a actor scheduler");
     Objects.requireNonNull(logStorage, "Must specify a log storage");
+    Objects.requireNonNull(commandTracer, "Must specify a command tracer");
 
     if (maxFragmentSize < MINIMUM_FRAGMENT_SIZE) {
       throw new IllegalArgumentException(
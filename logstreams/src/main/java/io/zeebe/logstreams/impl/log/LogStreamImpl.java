@@ -24,8 +24,10 @@ import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.channel.ActorConditions;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
+import io.zeebe.util.trace.CommandTracer;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
@@ -41,12 +43,15 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
   private final String logName;
   private final int partitionId;
   private final int maxFrameLength;
+  private final int writeBufferSize;
+  private final Path writeBufferFile;
   private final ActorScheduler actorScheduler;
   private final List<LogStreamReader> readers;
   private final LogStreamReaderImpl reader;
   private final LogStorage logStorage;
   private final CompletableActorFuture<Void> closeFuture;
   private final int nodeId;
+  private final CommandTracer commandTracer;
   private ActorFuture<LogStorageAppender> appenderFuture;
   private Dispatcher writeBuffer;
   private LogStorageAppender appender;
@@ -62,7 +67,10 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
       final int partitionId,
       final int nodeId,
       final int maxFrameLength,
-      final LogStorage logStorage) {
+      final int writeBufferSize,
+      final Path writeBufferFile,
+      final LogStorage logStorage,
+      final CommandTracer commandTracer) {
     this.actorScheduler = actorScheduler;
     this.onCommitPositionUpdatedConditions = onCommitPositionUpdatedConditions;
     this.logName = logName;
@@ -72,7 +80,10 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
     actorName = buildActorName(nodeId, "LogStream-" + partitionId);
 
     this.maxFrameLength = maxFrameLength;
+    this.writeBufferSize = writeBufferSize;
+    this.writeBufferFile = writeBufferFile;
     this.logStorage = logStorage;
+    this.commandTracer = commandTracer;
     closeFuture = new CompletableActorFuture<>();
 
     try {
@@ -94,6 +105,11 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
     return partitionId;
   }
 
+  @Override
+  public CommandTracer getCommandTracer() {
+    return commandTracer;
+  }
+
   @Override
   public String getLogName() {
     return logName;
@@ -158,6 +174,11 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
     return actorName;
   }
 
+  @Override
+  public int getAffinityKey() {
+    return partitionId;
+  }
+
   @Override
   protected void onActorClosing() {
     LOG.info("On closing logstream {} close {} readers", logName, readers.size());
@@ -272,6 +293,8 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
     writeBuffer =
         Dispatchers.create(buildActorName(nodeId, "dispatcher-" + partitionId))
             .maxFragmentLength(maxFrameLength)
+            .bufferSize(writeBufferSize)
+            .bufferFile(writeBufferFile)
             .initialPosition(initialPosition)
             .name(logName + "-write-buffer")
             .actorScheduler(actorScheduler)
@@ -289,6 +312,7 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
                         logStorage,
                         subscription,
                         maxFrameLength,
+                        commandTracer,
                         this::setCommitPosition);
 
                 actorScheduler
@@ -10,12 +10,22 @@ package io.zeebe.logstreams.impl.log;
 import io.atomix.raft.zeebe.EntryValidator;
 import io.atomix.raft.zeebe.ValidationResult;
 import io.atomix.raft.zeebe.ZeebeEntry;
+import io.zeebe.logstreams.storage.atomix.CompressedEntryData;
+import io.zeebe.util.compression.PayloadCompressor;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.agrona.concurrent.UnsafeBuffer;
 
-public class ZeebeEntryValidator implements EntryValidator {
+public class ZeebeEntryValidator implements EntryValidator, AutoCloseable {
+  // the validator is shared by the raft threads of all partitions, each validation borrows a
+  // compressor from the pool; all compressors are released when the validator is closed
+  private final Queue<PayloadCompressor> compressors = new ConcurrentLinkedQueue<>();
+  private volatile boolean closed;
+
   @Override
   public ValidationResult validateEntry(final ZeebeEntry lastEntry, final ZeebeEntry entry) {
-    final UnsafeBuffer reader = new UnsafeBuffer(entry.data());
+    final UnsafeBuffer reader = new UnsafeBuffer(decompressIfNeeded(entry));
     long lastPosition = lastEntry != null ? lastEntry.highestPosition() : -1;
     int offset = 0;
 
@@ -34,4 +44,35 @@ public class ZeebeEntryValidator implements EntryValidator {
 
     return ValidationResult.success();
   }
+
+  private ByteBuffer decompressIfNeeded(final ZeebeEntry entry) {
+    if (!CompressedEntryData.isCompressed(entry.data())) {
+      return entry.data();
+    }
+
+    PayloadCompressor compressor = compressors.poll();
+    if (compressor == null) {
+      compressor = new PayloadCompressor(CompressedEntryData.METRICS);
+    }
+
+    try {
+      return CompressedEntryData.decompressIfNeeded(entry.data(), compressor);
+    } finally {
+      if (closed) {
+        compressor.close();
+      } else {
+        compressors.add(compressor);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+
+    PayloadCompressor compressor;
+    while ((compressor = compressors.poll()) != null) {
+      compressor.close();
+    }
+  }
 }
@@ -12,6 +12,7 @@ import io.zeebe.util.health.HealthMonitorable;
 import io.zeebe.util.sched.ActorCondition;
 import io.zeebe.util.sched.AsyncClosable;
 import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.trace.CommandTracer;
 
 /**
  * Represents a stream of events. New events are append to the end of the log. With {@link
@@ -30,6 +31,9 @@ public interface LogStream extends AsyncClosable, AutoCloseable, HealthMonitorab
   /** @return the partition id of the log stream */
   int getPartitionId();
 
+  /** @return the tracer of the sampled commands of the partition */
+  CommandTracer getCommandTracer();
+
   /**
    * Returns the name of the log stream.
    *
@@ -25,6 +25,15 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
 
   int getMaxFragmentLength();
 
+  /**
+   * Returns true if an additional log entry with the given length of metadata and value fits into
+   * the batch, together with the entries which are already added by {@link
+   * LogEntryBuilder#done()}. Otherwise, the batch must be written before the entry is added.
+   *
+   * @param length the length of the metadata and the value of the additional entry
+   */
+  boolean canWriteAdditionalEvent(int length);
+
   /** Discard all non-written batch data. */
   void reset();
 
@@ -10,6 +10,8 @@ package io.zeebe.logstreams.log;
 import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.trace.CommandTracer;
+import java.nio.file.Path;
 
 /** Builder pattern for the {@link LogStream} */
 public interface LogStreamBuilder {
@@ -31,6 +33,34 @@ public interface LogStreamBuilder {
    */
   LogStreamBuilder withMaxFragmentSize(int maxFragmentSize);
 
+  /**
+   * The size of the shared write buffer. A larger buffer lets writers continue while the appender
+   * is throttled, but it is at least big enough for fragments of the maximum fragment size.
+   *
+   * @param writeBufferSize the size of the write buffer in bytes, or a negative value to size it
+   *     by the maximum fragment size
+   * @return this builder
+   */
+  LogStreamBuilder withWriteBufferSize(int writeBufferSize);
+
+  /**
+   * The file to memory map the shared write buffer to. If not set, the buffer is allocated in
+   * direct memory.
+   *
+   * @param writeBufferFile the file of the write buffer, may be null
+   * @return this builder
+   */
+  LogStreamBuilder withWriteBufferFile(Path writeBufferFile);
+
+  /**
+   * The tracer of the partition, which traces the sampled commands through the appender and the
+   * stream processor. If not set, no command is traced.
+   *
+   * @param commandTracer the tracer of the partition
+   * @return this builder
+   */
+  LogStreamBuilder withCommandTracer(CommandTracer commandTracer);
+
   /**
    * The underlying log storage to read from/write to.
    *
@@ -10,12 +10,19 @@ package io.zeebe.logstreams.storage.atomix;
 import io.atomix.raft.partition.RaftPartition;
 import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.logstreams.spi.LogStorageReader;
+import io.zeebe.util.compression.PayloadCompressor;
 import java.nio.ByteBuffer;
 import java.util.NoSuchElementException;
 
 public class AtomixLogStorage implements LogStorage {
+  public static final int COMPRESSION_DISABLED = -1;
+
   private final AtomixReaderFactory readerFactory;
   private final AtomixAppenderSupplier appenderSupplier;
+  private final int compressionThreshold;
+  // created on the first compressed append and released on close, the storage is reopened
+  // whenever the partition becomes leader again
+  private PayloadCompressor compressor;
 
   private boolean opened;
   private final ZeebeIndexMapping zeebeIndexMapping;
@@ -24,15 +31,35 @@ public class AtomixLogStorage implements LogStorage {
       final ZeebeIndexMapping zeebeIndexMapping,
       final AtomixReaderFactory readerFactory,
       final AtomixAppenderSupplier appenderSupplier) {
+    this(zeebeIndexMapping, readerFactory, appenderSupplier, COMPRESSION_DISABLED);
+  }
+
+  /**
+   * @param compressionThreshold blocks of at least this many bytes are compressed before they are
+   *     appended, or {@link #COMPRESSION_DISABLED}
+   */
+  public AtomixLogStorage(
+      final ZeebeIndexMapping zeebeIndexMapping,
+      final AtomixReaderFactory readerFactory,
+      final AtomixAppenderSupplier appenderSupplier,
+      final int compressionThreshold) {
     this.zeebeIndexMapping = zeebeIndexMapping;
     this.readerFactory = readerFactory;
     this.appenderSupplier = appenderSupplier;
+    this.compressionThreshold = compressionThreshold;
   }
 
   public static AtomixLogStorage ofPartition(
       final ZeebeIndexMapping zeebeIndexMapping, final RaftPartition partition) {
+    return ofPartition(zeebeIndexMapping, partition, COMPRESSION_DISABLED);
+  }
+
+  public static AtomixLogStorage ofPartition(
+      final ZeebeIndexMapping zeebeIndexMapping,
+      final RaftPartition partition,
+      final int compressionThreshold) {
     final var server = new AtomixRaftServer(partition.getServer());
-    return new AtomixLogStorage(zeebeIndexMapping, server, server);
+    return new AtomixLogStorage(zeebeIndexMapping, server, server, compressionThreshold);
   }
 
   @Override
@@ -51,7 +78,7 @@ public class AtomixLogStorage implements LogStorage {
     if (optionalAppender.isPresent()) {
       final var appender = optionalAppender.get();
       final var adapter = new AtomixAppendListenerAdapter(listener);
-      appender.appendEntry(lowestPosition, highestPosition, buffer, adapter);
+      appender.appendEntry(lowestPosition, highestPosition, compressIfNeeded(buffer), adapter);
     } else {
       // todo: better error message
       listener.onWriteError(
@@ -60,6 +87,18 @@ public class AtomixLogStorage implements LogStorage {
     }
   }
 
+  private ByteBuffer compressIfNeeded(final ByteBuffer buffer) {
+    if (compressionThreshold == COMPRESSION_DISABLED || buffer.remaining() < compressionThreshold) {
+      return buffer;
+    }
+
+    if (compressor == null) {
+      compressor = new PayloadCompressor(CompressedEntryData.METRICS);
+    }
+
+    return CompressedEntryData.compress(buffer, compressor);
+  }
+
   @Override
   public void open() {
     opened = true;
@@ -68,6 +107,11 @@ public class AtomixLogStorage implements LogStorage {
   @Override
   public void close() {
     opened = false;
+
+    if (compressor != null) {
+      compressor.close();
+      compressor = null;
+    }
   }
 
   @Override
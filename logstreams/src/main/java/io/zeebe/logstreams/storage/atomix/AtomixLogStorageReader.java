@@ -12,12 +12,15 @@ import io.atomix.raft.zeebe.ZeebeEntry;
 import io.atomix.storage.journal.Indexed;
 import io.zeebe.logstreams.spi.LogStorage;
 import io.zeebe.logstreams.spi.LogStorageReader;
+import io.zeebe.util.compression.PayloadCompressor;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 
 public final class AtomixLogStorageReader implements LogStorageReader {
   private final RaftLogReader reader;
   private final ZeebeIndexMapping zeebeIndexMapping;
+  private final PayloadCompressor compressor =
+      new PayloadCompressor(CompressedEntryData.METRICS);
 
   public AtomixLogStorageReader(
       final ZeebeIndexMapping zeebeIndexMapping, final RaftLogReader reader) {
@@ -133,6 +136,7 @@ public final class AtomixLogStorageReader implements LogStorageReader {
   @Override
   public void close() {
     reader.close();
+    compressor.close();
   }
 
   /**
@@ -163,7 +167,9 @@ public final class AtomixLogStorageReader implements LogStorageReader {
   }
 
   private long wrapEntryData(final Indexed<ZeebeEntry> entry, final DirectBuffer dest) {
-    final var data = entry.entry().data();
+    // compressed entries are decompressed into a new buffer, so that blocks which were read
+    // before stay valid, as they do for uncompressed entries
+    final var data = CompressedEntryData.decompressIfNeeded(entry.entry().data(), compressor);
     final var length = data.remaining();
     dest.wrap(data, data.position(), data.remaining());
     return length;
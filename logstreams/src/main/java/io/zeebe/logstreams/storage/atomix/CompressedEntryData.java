@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.atomix;
+
+import io.zeebe.util.compression.CompressionMetrics;
+import io.zeebe.util.compression.PayloadCompressor;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * The optional compressed format of the data of a {@link io.atomix.raft.zeebe.ZeebeEntry}. The data
+ * of an uncompressed entry starts with the length of its first fragment, which is never negative.
+ * Compressed data starts with the negative {@link #MAGIC} instead, followed by the compressed
+ * fragments as written by {@link PayloadCompressor}. Readers can therefore handle both formats
+ * transparently.
+ */
+public final class CompressedEntryData {
+
+  public static final CompressionMetrics METRICS = new CompressionMetrics("journal");
+  static final int MAGIC = 0xC0DEC0DE;
+  private static final int MAGIC_LENGTH = Integer.BYTES;
+
+  private CompressedEntryData() {}
+
+  public static boolean isCompressed(final ByteBuffer data) {
+    return data.remaining() >= MAGIC_LENGTH
+        && data.duplicate().order(ByteOrder.LITTLE_ENDIAN).getInt(data.position()) == MAGIC;
+  }
+
+  /**
+   * Compresses the given entry data, without changing its position.
+   *
+   * @return the compressed entry data, or the given data if compression would not make it smaller
+   */
+  public static ByteBuffer compress(final ByteBuffer data, final PayloadCompressor compressor) {
+    final byte[] compressed = compressor.compress(data);
+    if (compressed == null || compressed.length + MAGIC_LENGTH >= data.remaining()) {
+      return data;
+    }
+
+    return ByteBuffer.allocate(MAGIC_LENGTH + compressed.length)
+        .order(ByteOrder.LITTLE_ENDIAN)
+        .putInt(MAGIC)
+        .put(compressed)
+        .flip();
+  }
+
+  /**
+   * Decompresses the given entry data if it is compressed, without changing its position.
+   *
+   * @return the decompressed entry data, or the given data if it is not compressed
+   */
+  public static ByteBuffer decompressIfNeeded(
+      final ByteBuffer data, final PayloadCompressor compressor) {
+    if (!isCompressed(data)) {
+      return data;
+    }
+
+    final ByteBuffer compressed = data.duplicate();
+    compressed.position(compressed.position() + MAGIC_LENGTH);
+    return ByteBuffer.wrap(compressor.decompress(compressed));
+  }
+}
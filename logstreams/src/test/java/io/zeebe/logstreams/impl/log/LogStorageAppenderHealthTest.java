@@ -19,6 +19,7 @@ import io.zeebe.util.ByteValue;
 import io.zeebe.util.health.HealthStatus;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import io.zeebe.util.trace.CommandTracer;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CountDownLatch;
@@ -54,7 +55,13 @@ public final class LogStorageAppenderHealthTest {
 
     appender =
         new LogStorageAppender(
-            "appender", PARTITION_ID, failingLogStorage, subscription, MAX_FRAGMENT_SIZE, l -> {});
+            "appender",
+            PARTITION_ID,
+            failingLogStorage,
+            subscription,
+            MAX_FRAGMENT_SIZE,
+            CommandTracer.disabled(),
+            l -> {});
     writer = new LogStreamWriterImpl(PARTITION_ID, dispatcher);
   }
 
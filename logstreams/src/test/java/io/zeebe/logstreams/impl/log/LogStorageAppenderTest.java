@@ -30,6 +30,7 @@ import io.zeebe.util.ByteValue;
 import io.zeebe.util.buffer.BufferReader;
 import io.zeebe.util.buffer.BufferWriter;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import io.zeebe.util.trace.CommandTracer;
 import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Objects;
@@ -82,7 +83,13 @@ public final class LogStorageAppenderTest {
 
     appender =
         new LogStorageAppender(
-            "appender", PARTITION_ID, logStorage, subscription, MAX_FRAGMENT_SIZE, l -> {});
+            "appender",
+            PARTITION_ID,
+            logStorage,
+            subscription,
+            MAX_FRAGMENT_SIZE,
+            CommandTracer.disabled(),
+            l -> {});
     writer = new LogStreamWriterImpl(PARTITION_ID, dispatcher);
     reader = new LogStreamReaderImpl(logStorage);
   }
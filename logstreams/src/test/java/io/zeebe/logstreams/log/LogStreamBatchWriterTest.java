@@ -415,6 +415,21 @@ public final class LogStreamBatchWriterTest {
     assertThat(pos).isEqualTo(0);
   }
 
+  @Test
+  public void shouldNotWriteAdditionalEventWhichExceedsMaxFragmentLength() {
+    // given
+    final int maxFragmentLength = writer.getMaxFragmentLength();
+    final DirectBuffer largeValue = new UnsafeBuffer(new byte[maxFragmentLength / 2]);
+
+    // when
+    writer.event().key(1).value(largeValue).done();
+
+    // then
+    assertThat(writer.canWriteAdditionalEvent(EVENT_VALUE_1.capacity())).isTrue();
+    assertThat(writer.canWriteAdditionalEvent(largeValue.capacity())).isFalse();
+    assertThat(writer.canWriteAdditionalEvent(maxFragmentLength)).isFalse();
+  }
+
   @Test
   public void shouldFailToWriteOnClosedLogStream() {
     // given
@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.logstreams.storage.atomix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.compression.CompressionMetrics;
+import io.zeebe.util.compression.PayloadCompressor;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.Test;
+
+public final class CompressedEntryDataTest {
+
+  private final PayloadCompressor compressor =
+      new PayloadCompressor(new CompressionMetrics("test"));
+
+  @Test
+  public void shouldDecompressCompressedEntryData() {
+    // given
+    final ByteBuffer data = newEntryData(4_096);
+
+    // when
+    final ByteBuffer compressed = CompressedEntryData.compress(data, compressor);
+
+    // then
+    assertThat(CompressedEntryData.isCompressed(compressed)).isTrue();
+    assertThat(compressed.remaining()).isLessThan(data.remaining());
+    assertThat(CompressedEntryData.decompressIfNeeded(compressed, compressor)).isEqualTo(data);
+  }
+
+  @Test
+  public void shouldReturnUncompressedEntryData() {
+    // given
+    final ByteBuffer data = newEntryData(4_096);
+
+    // when
+    final ByteBuffer result = CompressedEntryData.decompressIfNeeded(data, compressor);
+
+    // then
+    assertThat(CompressedEntryData.isCompressed(data)).isFalse();
+    assertThat(result).isSameAs(data);
+  }
+
+  @Test
+  public void shouldNotCompressSmallEntryData() {
+    // given
+    final ByteBuffer data = newEntryData(8);
+
+    // when
+    final ByteBuffer result = CompressedEntryData.compress(data, compressor);
+
+    // then
+    assertThat(result).isSameAs(data);
+  }
+
+  private static ByteBuffer newEntryData(final int length) {
+    // like a logged event, the data starts with the (positive) length of the first fragment
+    final ByteBuffer data = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+    data.putInt(0, length);
+    for (int i = Integer.BYTES; i < length; i++) {
+      data.put(i, (byte) (i % 16));
+    }
+    return data;
+  }
+}
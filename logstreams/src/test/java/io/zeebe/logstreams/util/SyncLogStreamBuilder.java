@@ -14,6 +14,8 @@ import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
+import io.zeebe.util.trace.CommandTracer;
+import java.nio.file.Path;
 import java.util.Objects;
 
 public final class SyncLogStreamBuilder implements LogStreamBuilder {
@@ -41,6 +43,24 @@ public final class SyncLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public SyncLogStreamBuilder withWriteBufferSize(final int writeBufferSize) {
+    delegate.withWriteBufferSize(writeBufferSize);
+    return this;
+  }
+
+  @Override
+  public SyncLogStreamBuilder withWriteBufferFile(final Path writeBufferFile) {
+    delegate.withWriteBufferFile(writeBufferFile);
+    return this;
+  }
+
+  @Override
+  public SyncLogStreamBuilder withCommandTracer(final CommandTracer commandTracer) {
+    delegate.withCommandTracer(commandTracer);
+    return this;
+  }
+
   @Override
   public SyncLogStreamBuilder withLogStorage(final LogStorage logStorage) {
     delegate.withLogStorage(logStorage);
@@ -19,11 +19,13 @@ import io.zeebe.protocol.record.BrokerInfoDecoder;
 import io.zeebe.protocol.record.BrokerInfoDecoder.AddressesDecoder;
 import io.zeebe.protocol.record.BrokerInfoDecoder.PartitionHealthDecoder;
 import io.zeebe.protocol.record.BrokerInfoDecoder.PartitionLeaderTermsDecoder;
+import io.zeebe.protocol.record.BrokerInfoDecoder.PartitionLoadDecoder;
 import io.zeebe.protocol.record.BrokerInfoDecoder.PartitionRolesDecoder;
 import io.zeebe.protocol.record.BrokerInfoEncoder;
 import io.zeebe.protocol.record.BrokerInfoEncoder.AddressesEncoder;
 import io.zeebe.protocol.record.BrokerInfoEncoder.PartitionHealthEncoder;
 import io.zeebe.protocol.record.BrokerInfoEncoder.PartitionLeaderTermsEncoder;
+import io.zeebe.protocol.record.BrokerInfoEncoder.PartitionLoadEncoder;
 import io.zeebe.protocol.record.BrokerInfoEncoder.PartitionRolesEncoder;
 import io.zeebe.protocol.record.MessageHeaderDecoder;
 import io.zeebe.protocol.record.MessageHeaderEncoder;
@@ -54,6 +56,7 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
 
   private static final String BROKER_INFO_PROPERTY_NAME = "brokerInfo";
   private static final DirectBuffer COMMAND_API_NAME = wrapString("commandApi");
+  private static final DirectBuffer GATEWAY_API_NAME = wrapString("gatewayApi");
 
   private static final Logger LOG = Loggers.PROTOCOL_LOGGER;
 
@@ -70,6 +73,7 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
   private final Map<Integer, PartitionRole> partitionRoles = new HashMap<>();
   private final Map<Integer, Long> partitionLeaderTerms = new HashMap<>();
   private final Map<Integer, PartitionHealthStatus> partitionHealthStatuses = new HashMap<>();
+  private final Map<Integer, Integer> partitionLoads = new HashMap<>();
 
   private int nodeId;
   private int partitionsCount;
@@ -103,6 +107,7 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
     partitionRoles.clear();
     partitionLeaderTerms.clear();
     partitionHealthStatuses.clear();
+    partitionLoads.clear();
   }
 
   public int getNodeId() {
@@ -179,6 +184,20 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
     return addAddress(COMMAND_API_NAME, address);
   }
 
+  /** @return the address of the gateway embedded in the broker, or null if it has none */
+  public String getGatewayAddress() {
+    final DirectBuffer buffer = addresses.get(GATEWAY_API_NAME);
+    if (buffer != null) {
+      return BufferUtil.bufferAsString(buffer);
+    } else {
+      return null;
+    }
+  }
+
+  public BrokerInfo setGatewayAddress(final String address) {
+    return addAddress(GATEWAY_API_NAME, BufferUtil.wrapString(address));
+  }
+
   public Map<Integer, PartitionRole> getPartitionRoles() {
     return partitionRoles;
   }
@@ -191,6 +210,19 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
     return partitionLeaderTerms;
   }
 
+  /**
+   * @return the load of the partitions this broker leads, as percentage of the in-flight request
+   *     limit of the partition
+   */
+  public Map<Integer, Integer> getPartitionLoads() {
+    return partitionLoads;
+  }
+
+  public BrokerInfo setPartitionLoad(final int partitionId, final int inflightUsage) {
+    partitionLoads.put(partitionId, inflightUsage);
+    return this;
+  }
+
   public BrokerInfo addPartitionRole(final Integer partitionId, final PartitionRole role) {
     partitionRoles.put(partitionId, role);
     return this;
@@ -214,6 +246,7 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
 
   public BrokerInfo setFollowerForPartition(final int partitionId) {
     partitionLeaderTerms.remove(partitionId);
+    partitionLoads.remove(partitionId);
     return addPartitionRole(partitionId, PartitionRole.FOLLOWER);
   }
 
@@ -224,6 +257,7 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
 
   public BrokerInfo setInactiveForPartition(final int partitionId) {
     partitionLeaderTerms.remove(partitionId);
+    partitionLoads.remove(partitionId);
     return addPartitionRole(partitionId, PartitionRole.INACTIVE);
   }
 
@@ -287,6 +321,16 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
           partitionHealthDecoder.partitionId(), partitionHealthDecoder.healthStatus());
     }
 
+    // brokers of older versions don't write the partition load
+    if (bodyDecoder.limit() < frameEnd) {
+      final PartitionLoadDecoder partitionLoadDecoder = bodyDecoder.partitionLoad();
+      while (partitionLoadDecoder.hasNext()) {
+        partitionLoadDecoder.next();
+        partitionLoads.put(
+            partitionLoadDecoder.partitionId(), partitionLoadDecoder.inflightUsage());
+      }
+    }
+
     assert bodyDecoder.limit() == frameEnd
         : "Decoder read only to position "
             + bodyDecoder.limit()
@@ -304,6 +348,7 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
             + PartitionRolesEncoder.sbeHeaderSize()
             + PartitionLeaderTermsEncoder.sbeHeaderSize()
             + PartitionHealthEncoder.sbeHeaderSize()
+            + PartitionLoadEncoder.sbeHeaderSize()
             + versionHeaderLength()
             + version.capacity();
 
@@ -319,6 +364,7 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
     length += partitionRoles.size() * PartitionRolesEncoder.sbeBlockLength();
     length += partitionLeaderTerms.size() * PartitionLeaderTermsEncoder.sbeBlockLength();
     length += partitionHealthStatuses.size() * PartitionHealthEncoder.sbeBlockLength();
+    length += partitionLoads.size() * PartitionLoadEncoder.sbeBlockLength();
 
     return length;
   }
@@ -388,6 +434,16 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
         partitionHealthEncoder.next().partitionId(entry.getKey()).healthStatus(entry.getValue());
       }
     }
+
+    final int partitionLoadCount = partitionLoads.size();
+    final PartitionLoadEncoder partitionLoadEncoder =
+        bodyEncoder.partitionLoadCount(partitionLoadCount);
+
+    if (partitionLoadCount > 0) {
+      for (final Entry<Integer, Integer> entry : partitionLoads.entrySet()) {
+        partitionLoadEncoder.next().partitionId(entry.getKey()).inflightUsage(entry.getValue());
+      }
+    }
   }
 
   public static BrokerInfo fromProperties(final Properties properties) {
@@ -489,6 +545,8 @@ public final class BrokerInfo implements BufferReader, BufferWriter {
         + partitionLeaderTerms
         + ", partitionHealthStatuses="
         + partitionHealthStatuses
+        + ", partitionLoads="
+        + partitionLoads
         + ", version="
         + BufferUtil.bufferAsString(version)
         + '}';
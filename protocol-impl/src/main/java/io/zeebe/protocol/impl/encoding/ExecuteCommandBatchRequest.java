@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.encoding;
+
+import static io.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.partitionIdNullValue;
+
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder.CommandsDecoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.CommandsEncoder;
+import io.zeebe.protocol.record.MessageHeaderDecoder;
+import io.zeebe.protocol.record.MessageHeaderEncoder;
+import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.util.buffer.BufferReader;
+import io.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * A batch of commands for a single partition. The commands are read as {@link
+ * ExecuteCommandRequest}s which wrap the value in the given buffer, so they are only valid as
+ * long as the buffer is not reused.
+ */
+public final class ExecuteCommandBatchRequest implements BufferReader, BufferWriter {
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final ExecuteCommandBatchRequestEncoder bodyEncoder =
+      new ExecuteCommandBatchRequestEncoder();
+  private final ExecuteCommandBatchRequestDecoder bodyDecoder =
+      new ExecuteCommandBatchRequestDecoder();
+  private final List<ExecuteCommandRequest> commands = new ArrayList<>();
+  private int partitionId;
+
+  public ExecuteCommandBatchRequest() {
+    reset();
+  }
+
+  public ExecuteCommandBatchRequest reset() {
+    partitionId = partitionIdNullValue();
+    commands.clear();
+
+    return this;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public ExecuteCommandBatchRequest setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public List<ExecuteCommandRequest> getCommands() {
+    return commands;
+  }
+
+  public ExecuteCommandBatchRequest addCommand(final ExecuteCommandRequest command) {
+    commands.add(command);
+    return this;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, int offset, final int length) {
+    reset();
+
+    final int frameEnd = offset + length;
+
+    headerDecoder.wrap(buffer, offset);
+
+    offset += headerDecoder.encodedLength();
+
+    bodyDecoder.wrap(buffer, offset, headerDecoder.blockLength(), headerDecoder.version());
+
+    partitionId = bodyDecoder.partitionId();
+
+    final CommandsDecoder commandsDecoder = bodyDecoder.commands();
+    while (commandsDecoder.hasNext()) {
+      commandsDecoder.next();
+
+      final ExecuteCommandRequest command =
+          new ExecuteCommandRequest()
+              .setKey(commandsDecoder.key())
+              .setPartitionId(partitionId)
+              .setValueType(commandsDecoder.valueType());
+      command.setIntent(Intent.fromProtocolValue(command.getValueType(), commandsDecoder.intent()));
+
+      final int valueOffset = bodyDecoder.limit() + CommandsDecoder.valueHeaderLength();
+      final int valueLength = commandsDecoder.valueLength();
+      command.setValue(buffer, valueOffset, valueLength);
+      commandsDecoder.skipValue();
+
+      commands.add(command);
+    }
+
+    assert bodyDecoder.limit() == frameEnd
+        : "Decoder read only to position "
+            + bodyDecoder.limit()
+            + " but expected "
+            + frameEnd
+            + " as final position";
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchRequestEncoder.BLOCK_LENGTH
+            + CommandsEncoder.sbeHeaderSize();
+
+    for (final ExecuteCommandRequest command : commands) {
+      length +=
+          CommandsEncoder.sbeBlockLength()
+              + CommandsEncoder.valueHeaderLength()
+              + command.getValue().capacity();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, int offset) {
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(bodyEncoder.sbeBlockLength())
+        .templateId(bodyEncoder.sbeTemplateId())
+        .schemaId(bodyEncoder.sbeSchemaId())
+        .version(bodyEncoder.sbeSchemaVersion());
+
+    offset += headerEncoder.encodedLength();
+
+    bodyEncoder.wrap(buffer, offset).partitionId(partitionId);
+
+    final CommandsEncoder commandsEncoder = bodyEncoder.commandsCount(commands.size());
+    for (final ExecuteCommandRequest command : commands) {
+      final DirectBuffer value = command.getValue();
+      commandsEncoder
+          .next()
+          .key(command.getKey())
+          .valueType(command.getValueType())
+          .intent(command.getIntent().value())
+          .putValue(value, 0, value.capacity());
+    }
+  }
+}
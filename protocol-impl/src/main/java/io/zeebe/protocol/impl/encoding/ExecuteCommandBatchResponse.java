@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.encoding;
+
+import static io.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder.partitionIdNullValue;
+
+import io.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder.ResultsDecoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder;
+import io.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder.ResultsEncoder;
+import io.zeebe.protocol.record.MessageHeaderDecoder;
+import io.zeebe.protocol.record.MessageHeaderEncoder;
+import io.zeebe.util.buffer.BufferReader;
+import io.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The results of an {@link ExecuteCommandBatchRequest}, in the order of its commands. Each result
+ * is an encoded {@link ExecuteCommandResponse} or {@link ErrorResponse}.
+ */
+public final class ExecuteCommandBatchResponse implements BufferReader, BufferWriter {
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final ExecuteCommandBatchResponseEncoder bodyEncoder =
+      new ExecuteCommandBatchResponseEncoder();
+  private final ExecuteCommandBatchResponseDecoder bodyDecoder =
+      new ExecuteCommandBatchResponseDecoder();
+  private final List<DirectBuffer> results = new ArrayList<>();
+  private int partitionId;
+
+  public ExecuteCommandBatchResponse() {
+    reset();
+  }
+
+  public ExecuteCommandBatchResponse reset() {
+    partitionId = partitionIdNullValue();
+    results.clear();
+
+    return this;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public ExecuteCommandBatchResponse setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public List<DirectBuffer> getResults() {
+    return results;
+  }
+
+  public ExecuteCommandBatchResponse addResult(final DirectBuffer result) {
+    results.add(result);
+    return this;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, int offset, final int length) {
+    reset();
+
+    final int frameEnd = offset + length;
+
+    headerDecoder.wrap(buffer, offset);
+
+    offset += headerDecoder.encodedLength();
+
+    bodyDecoder.wrap(buffer, offset, headerDecoder.blockLength(), headerDecoder.version());
+
+    partitionId = bodyDecoder.partitionId();
+
+    final ResultsDecoder resultsDecoder = bodyDecoder.results();
+    while (resultsDecoder.hasNext()) {
+      resultsDecoder.next();
+
+      final int resultOffset = bodyDecoder.limit() + ResultsDecoder.resultHeaderLength();
+      final int resultLength = resultsDecoder.resultLength();
+      results.add(new UnsafeBuffer(buffer, resultOffset, resultLength));
+      resultsDecoder.skipResult();
+    }
+
+    assert bodyDecoder.limit() == frameEnd
+        : "Decoder read only to position "
+            + bodyDecoder.limit()
+            + " but expected "
+            + frameEnd
+            + " as final position";
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchResponseEncoder.BLOCK_LENGTH
+            + ResultsEncoder.sbeHeaderSize();
+
+    for (final DirectBuffer result : results) {
+      length += ResultsEncoder.sbeBlockLength() + ResultsEncoder.resultHeaderLength();
+      length += result.capacity();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, int offset) {
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(bodyEncoder.sbeBlockLength())
+        .templateId(bodyEncoder.sbeTemplateId())
+        .schemaId(bodyEncoder.sbeSchemaId())
+        .version(bodyEncoder.sbeSchemaVersion());
+
+    offset += headerEncoder.encodedLength();
+
+    bodyEncoder.wrap(buffer, offset).partitionId(partitionId);
+
+    final ResultsEncoder resultsEncoder = bodyEncoder.resultsCount(results.size());
+    for (final DirectBuffer result : results) {
+      resultsEncoder.next().putResult(result, 0, result.capacity());
+    }
+  }
+}
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.zeebe.protocol.record.BrokerInfoEncoder;
+import io.zeebe.protocol.record.BrokerInfoEncoder.PartitionLoadEncoder;
 import io.zeebe.protocol.record.PartitionHealthStatus;
 import io.zeebe.protocol.record.PartitionRole;
 import java.util.HashMap;
@@ -40,6 +41,8 @@ public final class BrokerInfoTest {
     partitionHealthStatuses.put(1, PartitionHealthStatus.HEALTHY);
     partitionHealthStatuses.put(2, PartitionHealthStatus.UNHEALTHY);
     partitionHealthStatuses.put(123, PartitionHealthStatus.HEALTHY);
+    final Map<Integer, Integer> partitionLoads = new HashMap<>();
+    partitionLoads.put(2, 75);
 
     final BrokerInfo brokerInfo =
         new BrokerInfo()
@@ -51,6 +54,7 @@ public final class BrokerInfoTest {
     addresses.forEach(brokerInfo::addAddress);
     partitionRoles.forEach(brokerInfo::addPartitionRole);
     partitionHealthStatuses.forEach(brokerInfo::addPartitionHealth);
+    partitionLoads.forEach(brokerInfo::setPartitionLoad);
 
     // when
     encodeDecode(brokerInfo);
@@ -64,6 +68,7 @@ public final class BrokerInfoTest {
     assertThat(brokerInfo.getPartitionRoles()).containsAllEntriesOf(partitionRoles);
     assertThat(brokerInfo.getPartitionHealthStatuses())
         .containsAllEntriesOf(partitionHealthStatuses);
+    assertThat(brokerInfo.getPartitionLoads()).containsAllEntriesOf(partitionLoads);
   }
 
   @Test
@@ -114,6 +119,55 @@ public final class BrokerInfoTest {
     assertThat(brokerInfo.getPartitionHealthStatuses()).isEmpty();
   }
 
+  @Test
+  public void shouldDecodeBrokerInfoWithoutPartitionLoad() {
+    // given
+    final BrokerInfo brokerInfo =
+        new BrokerInfo().setNodeId(1).setPartitionsCount(2).setClusterSize(3);
+    brokerInfo.setLeaderForPartition(1, 5L);
+    brokerInfo.setPartitionHealthy(1);
+
+    // when - the partition load group is cut off, as written by a broker of an older version
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[brokerInfo.getLength()]);
+    brokerInfo.write(buffer, 0);
+    brokerInfo.reset();
+    brokerInfo.wrap(buffer, 0, buffer.capacity() - PartitionLoadEncoder.sbeHeaderSize());
+
+    // then
+    assertThat(brokerInfo.getNodeId()).isEqualTo(1);
+    assertThat(brokerInfo.getPartitionLeaderTerms()).containsEntry(1, 5L);
+    assertThat(brokerInfo.getPartitionHealthStatuses())
+        .containsEntry(1, PartitionHealthStatus.HEALTHY);
+    assertThat(brokerInfo.getPartitionLoads()).isEmpty();
+  }
+
+  @Test
+  public void shouldRemovePartitionLoadWhenNoLongerLeader() {
+    // given
+    final BrokerInfo brokerInfo = new BrokerInfo().setLeaderForPartition(1, 1L);
+    brokerInfo.setPartitionLoad(1, 50);
+
+    // when
+    brokerInfo.setFollowerForPartition(1);
+
+    // then
+    assertThat(brokerInfo.getPartitionLoads()).isEmpty();
+  }
+
+  @Test
+  public void shouldEncodeDecodeGatewayAddress() {
+    // given
+    final BrokerInfo brokerInfo = new BrokerInfo(1, "localhost:26501");
+    brokerInfo.setGatewayAddress("localhost:26500");
+
+    // when
+    encodeDecode(brokerInfo);
+
+    // then
+    assertThat(brokerInfo.getCommandApiAddress()).isEqualTo("localhost:26501");
+    assertThat(brokerInfo.getGatewayAddress()).isEqualTo("localhost:26500");
+  }
+
   private void encodeDecode(final BrokerInfo brokerInfo) {
     // encode
     final UnsafeBuffer buffer = new UnsafeBuffer(new byte[brokerInfo.getLength()]);
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.protocol.record.intent.MessageIntent;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class ExecuteCommandBatchTest {
+
+  @Test
+  public void shouldEncodeDecodeBatchRequest() {
+    // given
+    final DirectBuffer jobValue = wrapString("job");
+    final DirectBuffer messageValue = wrapString("message");
+    final ExecuteCommandBatchRequest request =
+        new ExecuteCommandBatchRequest()
+            .setPartitionId(3)
+            .addCommand(
+                new ExecuteCommandRequest()
+                    .setKey(Protocol.encodePartitionId(3, 12))
+                    .setValueType(ValueType.JOB)
+                    .setIntent(JobIntent.COMPLETE)
+                    .setValue(jobValue, 0, jobValue.capacity()))
+            .addCommand(
+                new ExecuteCommandRequest()
+                    .setValueType(ValueType.MESSAGE)
+                    .setIntent(MessageIntent.PUBLISH)
+                    .setValue(messageValue, 0, messageValue.capacity()));
+
+    // when
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[request.getLength()]);
+    request.write(buffer, 0);
+    request.reset();
+    request.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(request.getPartitionId()).isEqualTo(3);
+    assertThat(request.getCommands()).hasSize(2);
+
+    final ExecuteCommandRequest job = request.getCommands().get(0);
+    assertThat(job.getPartitionId()).isEqualTo(3);
+    assertThat(job.getKey()).isEqualTo(Protocol.encodePartitionId(3, 12));
+    assertThat(job.getValueType()).isEqualTo(ValueType.JOB);
+    assertThat(job.getIntent()).isEqualTo(JobIntent.COMPLETE);
+    assertThat(job.getValue()).isEqualTo(jobValue);
+
+    final ExecuteCommandRequest message = request.getCommands().get(1);
+    assertThat(message.getPartitionId()).isEqualTo(3);
+    assertThat(message.getValueType()).isEqualTo(ValueType.MESSAGE);
+    assertThat(message.getIntent()).isEqualTo(MessageIntent.PUBLISH);
+    assertThat(message.getValue()).isEqualTo(messageValue);
+  }
+
+  @Test
+  public void shouldEncodeDecodeBatchResponse() {
+    // given
+    final ExecuteCommandBatchResponse response =
+        new ExecuteCommandBatchResponse()
+            .setPartitionId(2)
+            .addResult(wrapString("first"))
+            .addResult(new UnsafeBuffer(0, 0))
+            .addResult(wrapString("third"));
+
+    // when
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[response.getLength()]);
+    response.write(buffer, 0);
+    response.reset();
+    response.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(response.getPartitionId()).isEqualTo(2);
+    assertThat(response.getResults())
+        .containsExactly(wrapString("first"), new UnsafeBuffer(0, 0), wrapString("third"));
+  }
+}
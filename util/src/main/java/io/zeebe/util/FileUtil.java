@@ -65,17 +65,38 @@ public final class FileUtil {
 
   public static void copySnapshot(final Path runtimeDirectory, final Path snapshotDirectory)
       throws Exception {
-    Files.walkFileTree(snapshotDirectory, new SnapshotCopier(snapshotDirectory, runtimeDirectory));
+    Files.walkFileTree(
+        snapshotDirectory, new SnapshotCopier(snapshotDirectory, runtimeDirectory, false));
+  }
+
+  /**
+   * Creates the runtime directory from the given snapshot, like {@link #copySnapshot(Path, Path)},
+   * but hard-links the immutable SST files instead of copying them. All other files (e.g. MANIFEST,
+   * OPTIONS or CURRENT) are still copied, since they are modified once the database is opened. If a
+   * file can't be linked, e.g. because the directories are on different file systems, the
+   * remaining files are copied.
+   *
+   * @param runtimeDirectory the directory to create
+   * @param snapshotDirectory the snapshot to recover from
+   */
+  public static void linkSnapshot(final Path runtimeDirectory, final Path snapshotDirectory)
+      throws Exception {
+    Files.walkFileTree(
+        snapshotDirectory, new SnapshotCopier(snapshotDirectory, runtimeDirectory, true));
   }
 
   public static final class SnapshotCopier extends SimpleFileVisitor<Path> {
 
+    private static final String IMMUTABLE_FILE_SUFFIX = ".sst";
+
     private final Path targetPath;
     private final Path sourcePath;
+    private boolean linkImmutableFiles;
 
-    SnapshotCopier(final Path sourcePath, final Path targetPath) {
+    SnapshotCopier(final Path sourcePath, final Path targetPath, final boolean linkImmutableFiles) {
       this.sourcePath = sourcePath;
       this.targetPath = targetPath;
+      this.linkImmutableFiles = linkImmutableFiles;
     }
 
     @Override
@@ -96,6 +117,16 @@ public final class FileUtil {
     public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
       final Path newFile = targetPath.resolve(sourcePath.relativize(file));
 
+      if (linkImmutableFiles && file.toString().endsWith(IMMUTABLE_FILE_SUFFIX)) {
+        try {
+          Files.createLink(newFile, file);
+          return CONTINUE;
+        } catch (final IOException | UnsupportedOperationException e) {
+          LOG.debug("Failed to link {} to {}, will copy the snapshot instead.", file, newFile, e);
+          linkImmutableFiles = false;
+        }
+      }
+
       try {
         Files.copy(file, newFile);
       } catch (final IOException ioException) {
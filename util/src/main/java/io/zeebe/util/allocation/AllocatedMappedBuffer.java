@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.allocation;
+
+import io.zeebe.util.Loggers;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A buffer which is memory mapped to a file. On close, only the file is deleted. The mapping is
+ * released when the buffer is garbage collected, like a direct buffer, such that a late access by a
+ * concurrent writer can't touch unmapped memory.
+ */
+public final class AllocatedMappedBuffer extends AllocatedBuffer {
+  private final Path file;
+
+  AllocatedMappedBuffer(final MappedByteBuffer buffer, final Path file) {
+    super(buffer);
+    this.file = file;
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  @Override
+  public void doClose() {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      Loggers.FILE_LOGGER.warn("Failed to delete mapped buffer file {}", file, e);
+    }
+  }
+}
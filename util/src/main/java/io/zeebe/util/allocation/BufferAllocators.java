@@ -7,6 +7,8 @@
  */
 package io.zeebe.util.allocation;
 
+import java.nio.file.Path;
+
 public final class BufferAllocators {
   private static final DirectBufferAllocator DIRECT_BUFFER_ALLOCATOR = new DirectBufferAllocator();
 
@@ -15,4 +17,8 @@ public final class BufferAllocators {
   public static AllocatedBuffer allocateDirect(final int capacity) {
     return DIRECT_BUFFER_ALLOCATOR.allocate(capacity);
   }
+
+  public static AllocatedBuffer allocateMapped(final Path file, final int capacity) {
+    return new MappedBufferAllocator(file).allocate(capacity);
+  }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.allocation;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+
+/**
+ * Allocates buffers which are memory mapped to a file. The pages of such a buffer are backed by the
+ * page cache instead of the heap or direct memory, so a large buffer only occupies memory for the
+ * parts which are used. The file is created sparse, overwriting any previous content, and is
+ * deleted when the buffer is closed.
+ */
+public final class MappedBufferAllocator implements BufferAllocator {
+  private final Path file;
+
+  public MappedBufferAllocator(final Path file) {
+    this.file = file;
+  }
+
+  @Override
+  public AllocatedBuffer allocate(final int capacity) {
+    try (final var raf = new RandomAccessFile(file.toFile(), "rw")) {
+      raf.setLength(0);
+      raf.setLength(capacity);
+
+      final MappedByteBuffer buffer = raf.getChannel().map(MapMode.READ_WRITE, 0, capacity);
+      return new AllocatedMappedBuffer(buffer, file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          String.format("Expected to map a buffer of %d bytes to %s, but failed", capacity, file),
+          e);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.compression;
+
+/**
+ * The codecs a compressed payload can be encoded with. The id is written together with the
+ * compressed payload, such that new codecs can be added without breaking existing data.
+ */
+public enum CompressionCodec {
+  DEFLATE((byte) 1);
+
+  private final byte id;
+
+  CompressionCodec(final byte id) {
+    this.id = id;
+  }
+
+  public byte getId() {
+    return id;
+  }
+
+  public static CompressionCodec forId(final byte id) {
+    for (final CompressionCodec codec : values()) {
+      if (codec.id == id) {
+        return codec;
+      }
+    }
+
+    throw new IllegalArgumentException(
+        String.format("Expected a known compression codec, but got id %d", id));
+  }
+}
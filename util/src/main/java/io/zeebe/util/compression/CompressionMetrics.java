@@ -0,0 +1,74 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.compression;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+public final class CompressionMetrics {
+
+  private static final Counter UNCOMPRESSED_BYTES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("compression_uncompressed_bytes_total")
+          .help("Number of bytes before compression, respectively after decompression")
+          .labelNames("context", "operation")
+          .register();
+
+  private static final Counter COMPRESSED_BYTES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("compression_compressed_bytes_total")
+          .help("Number of bytes after compression, respectively before decompression")
+          .labelNames("context", "operation")
+          .register();
+
+  private static final Histogram LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("compression_latency")
+          .help("Time to compress, respectively decompress, a payload in seconds")
+          .buckets(0.000_01, 0.000_05, 0.000_1, 0.000_5, 0.001, 0.005, 0.01, 0.05)
+          .labelNames("context", "operation")
+          .register();
+
+  private static final String COMPRESS = "compress";
+  private static final String DECOMPRESS = "decompress";
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private final Counter.Child compressInputBytes;
+  private final Counter.Child compressOutputBytes;
+  private final Histogram.Child compressLatency;
+  private final Counter.Child decompressInputBytes;
+  private final Counter.Child decompressOutputBytes;
+  private final Histogram.Child decompressLatency;
+
+  /** @param context where the compression is used, e.g. messaging or journal */
+  public CompressionMetrics(final String context) {
+    compressInputBytes = UNCOMPRESSED_BYTES.labels(context, COMPRESS);
+    compressOutputBytes = COMPRESSED_BYTES.labels(context, COMPRESS);
+    compressLatency = LATENCY.labels(context, COMPRESS);
+    decompressInputBytes = COMPRESSED_BYTES.labels(context, DECOMPRESS);
+    decompressOutputBytes = UNCOMPRESSED_BYTES.labels(context, DECOMPRESS);
+    decompressLatency = LATENCY.labels(context, DECOMPRESS);
+  }
+
+  public void compressed(
+      final int uncompressedLength, final int compressedLength, final long durationNanos) {
+    compressInputBytes.inc(uncompressedLength);
+    compressOutputBytes.inc(compressedLength);
+    compressLatency.observe(durationNanos / NANOS_PER_SECOND);
+  }
+
+  public void decompressed(
+      final int compressedLength, final int uncompressedLength, final long durationNanos) {
+    decompressInputBytes.inc(compressedLength);
+    decompressOutputBytes.inc(uncompressedLength);
+    decompressLatency.observe(durationNanos / NANOS_PER_SECOND);
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.compression;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses and decompresses payloads. A compressed payload is framed as
+ *
+ * <pre>
+ *  0                   1                   2                   3
+ *  0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ * +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ * |     Codec     |            Uncompressed length                |
+ * +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ * |               |             Compressed data                  ...
+ * +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ * </pre>
+ *
+ * <p>The codec is deflate at the fastest level, as there is no LZ4 or Zstd library available to
+ * all modules; the codec id allows to add faster codecs later without breaking existing payloads.
+ *
+ * <p>Instances reuse their deflater and inflater, so they are not thread safe. The native memory of
+ * the deflater and inflater is released when the compressor is closed.
+ */
+public final class PayloadCompressor implements AutoCloseable {
+
+  public static final int HEADER_LENGTH = Byte.BYTES + Integer.BYTES;
+
+  /** Larger than any message or log entry which is written, unless a smaller limit is given */
+  public static final int DEFAULT_MAX_PAYLOAD_LENGTH = 128 * 1024 * 1024;
+
+  private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+  private final Inflater inflater = new Inflater();
+  private final CompressionMetrics metrics;
+  private final int maxPayloadLength;
+  private byte[] compressBuffer = new byte[0];
+
+  public PayloadCompressor(final CompressionMetrics metrics) {
+    this(metrics, DEFAULT_MAX_PAYLOAD_LENGTH);
+  }
+
+  /**
+   * @param metrics the metrics to record the compression ratio and time
+   * @param maxPayloadLength the maximum length of a decompressed payload; a compressed payload
+   *     which claims to be larger is rejected before any memory is allocated for it
+   */
+  public PayloadCompressor(final CompressionMetrics metrics, final int maxPayloadLength) {
+    this.metrics = metrics;
+    this.maxPayloadLength = maxPayloadLength;
+  }
+
+  /**
+   * Compresses the given payload.
+   *
+   * @param payload the payload to compress
+   * @return the framed compressed payload, or null if it is not smaller than the given payload
+   */
+  public byte[] compress(final byte[] payload) {
+    return compress(ByteBuffer.wrap(payload));
+  }
+
+  /**
+   * Compresses the remaining bytes of the given buffer, without changing its position.
+   *
+   * @param payload the payload to compress
+   * @return the framed compressed payload, or null if it is not smaller than the given payload
+   */
+  public byte[] compress(final ByteBuffer payload) {
+    final long startTime = System.nanoTime();
+    final int length = payload.remaining();
+    if (length <= HEADER_LENGTH) {
+      return null;
+    }
+
+    ensureCompressBufferCapacity(length);
+
+    deflater.reset();
+    deflater.setInput(payload.duplicate());
+    deflater.finish();
+
+    int compressedLength = HEADER_LENGTH;
+    while (!deflater.finished() && compressedLength < length) {
+      compressedLength +=
+          deflater.deflate(compressBuffer, compressedLength, length - compressedLength);
+    }
+
+    if (!deflater.finished()) {
+      // not worth it, the compressed payload would not be smaller
+      return null;
+    }
+
+    final ByteBuffer header = ByteBuffer.wrap(compressBuffer, 0, HEADER_LENGTH);
+    header.put(CompressionCodec.DEFLATE.getId());
+    header.putInt(length);
+
+    metrics.compressed(length, compressedLength, System.nanoTime() - startTime);
+    return Arrays.copyOf(compressBuffer, compressedLength);
+  }
+
+  /**
+   * Decompresses the given framed compressed payload.
+   *
+   * @param compressed the framed compressed payload
+   * @return the decompressed payload
+   * @throws IllegalArgumentException if the payload cannot be decompressed
+   */
+  public byte[] decompress(final byte[] compressed) {
+    return decompress(ByteBuffer.wrap(compressed));
+  }
+
+  /**
+   * Decompresses the remaining bytes of the given buffer, without changing its position.
+   *
+   * @param compressed the framed compressed payload
+   * @return the decompressed payload
+   * @throws IllegalArgumentException if the payload cannot be decompressed, or if its
+   *     decompressed length is larger than the max payload length
+   */
+  public byte[] decompress(final ByteBuffer compressed) {
+    final long startTime = System.nanoTime();
+    final ByteBuffer input = compressed.duplicate();
+    final int compressedLength = input.remaining();
+    if (compressedLength < HEADER_LENGTH) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected a compressed payload of at least %d bytes, but got %d bytes",
+              HEADER_LENGTH, compressedLength));
+    }
+
+    final CompressionCodec codec = CompressionCodec.forId(input.get());
+    final int length = input.getInt();
+    if (length < 0 || length > maxPayloadLength) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected a decompressed payload of at most %d bytes, but got %d bytes",
+              maxPayloadLength, length));
+    }
+    final byte[] payload = new byte[length];
+
+    if (codec == CompressionCodec.DEFLATE) {
+      inflate(input, payload);
+    }
+
+    metrics.decompressed(compressedLength, length, System.nanoTime() - startTime);
+    return payload;
+  }
+
+  /** Releases the native memory of the deflater and inflater; the compressor can't be reused. */
+  @Override
+  public void close() {
+    deflater.end();
+    inflater.end();
+  }
+
+  private void inflate(final ByteBuffer input, final byte[] payload) {
+    inflater.reset();
+    inflater.setInput(input);
+
+    try {
+      int offset = 0;
+      while (offset < payload.length && !inflater.finished()) {
+        final int inflated = inflater.inflate(payload, offset, payload.length - offset);
+        if (inflated == 0 && inflater.needsInput()) {
+          break;
+        }
+        offset += inflated;
+      }
+
+      if (offset != payload.length) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Expected to decompress %d bytes, but got only %d bytes", payload.length, offset));
+      }
+    } catch (final DataFormatException e) {
+      throw new IllegalArgumentException("Expected to decompress a deflated payload", e);
+    }
+  }
+
+  private void ensureCompressBufferCapacity(final int length) {
+    if (compressBuffer.length < length) {
+      compressBuffer = new byte[length];
+    }
+  }
+}
@@ -15,6 +15,7 @@ import java.util.function.Consumer;
 
 public abstract class Actor implements CloseableSilently, AsyncClosable {
 
+  public static final int NO_AFFINITY = -1;
   private static final int MAX_CLOSE_TIMEOUT = 300;
   protected final ActorControl actor = new ActorControl(this);
 
@@ -22,6 +23,17 @@ public abstract class Actor implements CloseableSilently, AsyncClosable {
     return getClass().getName();
   }
 
+  /**
+   * Actors which return the same non-negative affinity key (e.g. the partition id) are always
+   * submitted to the same thread, if the scheduler runs with thread affinity. Other threads only
+   * steal them when they run out of work.
+   *
+   * @return the affinity key of this actor, or {@link #NO_AFFINITY}
+   */
+  public int getAffinityKey() {
+    return NO_AFFINITY;
+  }
+
   public boolean isActorClosed() {
     return actor.isClosed();
   }
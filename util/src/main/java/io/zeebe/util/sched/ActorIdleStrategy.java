@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import java.time.Duration;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.BusySpinIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.SleepingIdleStrategy;
+import org.agrona.concurrent.YieldingIdleStrategy;
+
+/** The strategy an {@link ActorThread} uses when it has no work to do. */
+public enum ActorIdleStrategy {
+  /** Never gives up the CPU. Lowest wake-up latency, but an idle thread uses a full core. */
+  BUSY_SPIN,
+  /** Yields the CPU to other threads, but never sleeps. */
+  YIELD,
+  /** Spins, yields and then parks up to the max park period; the default. */
+  BACKOFF,
+  /**
+   * Parks right away for up to the max park period. New work wakes the thread up directly, so an
+   * idle thread uses no CPU while the wake-up latency stays low.
+   */
+  PARK,
+  /**
+   * Spins as long as work usually arrives quickly after the thread became idle, otherwise parks
+   * right away. See {@link AdaptiveIdleStrategy}.
+   */
+  ADAPTIVE;
+
+  private static final int BACKOFF_MAX_SPINS = 100;
+  private static final int BACKOFF_MAX_YIELDS = 100;
+  private static final long BACKOFF_MIN_PARK_PERIOD_NS = 1;
+
+  public IdleStrategy newIdleStrategy(final Duration maxParkPeriod) {
+    final long maxParkPeriodNs = maxParkPeriod.toNanos();
+
+    switch (this) {
+      case BUSY_SPIN:
+        return new BusySpinIdleStrategy();
+      case YIELD:
+        return new YieldingIdleStrategy();
+      case PARK:
+        return new SleepingIdleStrategy(maxParkPeriodNs);
+      case ADAPTIVE:
+        return new AdaptiveIdleStrategy(maxParkPeriodNs);
+      case BACKOFF:
+      default:
+        return new BackoffIdleStrategy(
+            BACKOFF_MAX_SPINS, BACKOFF_MAX_YIELDS, BACKOFF_MIN_PARK_PERIOD_NS, maxParkPeriodNs);
+    }
+  }
+}
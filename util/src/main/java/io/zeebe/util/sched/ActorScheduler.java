@@ -9,6 +9,7 @@ package io.zeebe.util.sched;
 
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
@@ -90,6 +91,10 @@ public final class ActorScheduler {
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
     private ActorThreadGroup ioBoundActorGroup;
+    private boolean threadAffinityEnabled = false;
+    private CpuAffinity cpuAffinity = CpuAffinity.none();
+    private ActorIdleStrategy idleStrategy = ActorIdleStrategy.BACKOFF;
+    private Duration maxIdleParkPeriod = ActorThread.DEFAULT_MAX_IDLE_PARK_PERIOD;
 
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
@@ -141,6 +146,48 @@ public final class ActorScheduler {
       return this;
     }
 
+    public boolean isThreadAffinityEnabled() {
+      return threadAffinityEnabled;
+    }
+
+    /**
+     * If enabled, actors with an affinity key (see {@link Actor#getAffinityKey()}) are always
+     * submitted to the same thread. Work stealing is only used as fallback for idle threads.
+     */
+    public ActorSchedulerBuilder setThreadAffinityEnabled(final boolean threadAffinityEnabled) {
+      this.threadAffinityEnabled = threadAffinityEnabled;
+      return this;
+    }
+
+    public CpuAffinity getCpuAffinity() {
+      return cpuAffinity;
+    }
+
+    /** Sets the CPUs to which the CPU bound actor threads are bound, one CPU per thread. */
+    public ActorSchedulerBuilder setCpuAffinity(final CpuAffinity cpuAffinity) {
+      this.cpuAffinity = cpuAffinity;
+      return this;
+    }
+
+    public ActorIdleStrategy getIdleStrategy() {
+      return idleStrategy;
+    }
+
+    public ActorSchedulerBuilder setIdleStrategy(final ActorIdleStrategy idleStrategy) {
+      this.idleStrategy = idleStrategy;
+      return this;
+    }
+
+    public Duration getMaxIdleParkPeriod() {
+      return maxIdleParkPeriod;
+    }
+
+    /** Sets the longest time an idle thread parks before it checks for work and timers again. */
+    public ActorSchedulerBuilder setMaxIdleParkPeriod(final Duration maxIdleParkPeriod) {
+      this.maxIdleParkPeriod = maxIdleParkPeriod;
+      return this;
+    }
+
     public double[] getPriorityQuotas() {
       return Arrays.copyOf(priorityQuotas, priorityQuotas.length);
     }
@@ -38,6 +38,8 @@ public class ActorTask {
   boolean shouldYield;
   final AtomicReference<TaskSchedulingState> schedulingState = new AtomicReference<>();
   final AtomicLong stateCount = new AtomicLong(0);
+  /** the id of the thread which executed the task the last time, -1 if it was not executed yet */
+  int lastRunnerId = -1;
   private final CompletableActorFuture<Void> jobClosingTaskFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
@@ -60,6 +62,14 @@ public class ActorTask {
     this.actor = actor;
   }
 
+  /**
+   * @return the affinity key of the actor, or {@link Actor#NO_AFFINITY} if the actor can be run on
+   *     any thread
+   */
+  public int getAffinityKey() {
+    return actor.getAffinityKey();
+  }
+
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(
       final ActorExecutor actorExecutor, final ActorThreadGroup actorThreadGroup) {
@@ -11,12 +11,12 @@ import io.zeebe.util.BoundedArrayQueue;
 import io.zeebe.util.Loggers;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.clock.DefaultActorClock;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.agrona.UnsafeAccess;
-import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
 import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import org.slf4j.Logger;
 import org.slf4j.MDC;
@@ -24,6 +24,7 @@ import sun.misc.Unsafe;
 
 public class ActorThread extends Thread implements Consumer<Runnable> {
   static final Unsafe UNSAFE = UnsafeAccess.UNSAFE;
+  static final Duration DEFAULT_MAX_IDLE_PARK_PERIOD = Duration.ofMillis(1);
   private static final long STATE_OFFSET;
   private static final Logger LOG = Loggers.ACTOR_LOGGER;
 
@@ -46,6 +47,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final TaskScheduler taskScheduler;
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
+  private final ActorThreadMetrics metrics;
+  private CpuAffinity cpuAffinity = CpuAffinity.none();
   private volatile ActorThreadState state;
 
   public ActorThread(
@@ -62,6 +65,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     timerJobQueue = timerQueue != null ? timerQueue : new ActorTimerQueue(this.clock);
     actorThreadGroup = threadGroup;
     this.taskScheduler = taskScheduler;
+    metrics = new ActorThreadMetrics(name);
   }
 
   private void doWork() {
@@ -90,6 +94,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     boolean resubmit = false;
 
+    final int lastRunnerId = currentTask.lastRunnerId;
+    currentTask.lastRunnerId = threadId;
+    metrics.onTaskExecuted(lastRunnerId >= 0 && lastRunnerId != threadId);
+
     try {
       resubmit = currentTask.execute(this);
     } catch (final Exception e) {
@@ -182,8 +190,25 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
   }
 
+  /**
+   * Sets the strategy this thread uses when it has no work to do. Must be called before the thread
+   * is started.
+   */
+  public void setIdleStrategy(final IdleStrategy strategy) {
+    idleStrategy.strategy = strategy;
+  }
+
+  /**
+   * Sets the CPUs this thread binds itself to when it is started. Must be called before the thread
+   * is started.
+   */
+  public void setCpuAffinity(final CpuAffinity cpuAffinity) {
+    this.cpuAffinity = cpuAffinity;
+  }
+
   @Override
   public void run() {
+    cpuAffinity.bindCurrentThread(threadId);
     idleStrategy.init();
 
     while (state == ActorThreadState.RUNNING) {
@@ -243,9 +268,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   }
 
   protected class ActorTaskRunnerIdleStrategy {
-    final BackoffIdleStrategy backoff =
-        new BackoffIdleStrategy(100, 100, 1, TimeUnit.MILLISECONDS.toNanos(1));
-    boolean isIdle;
+    IdleStrategy strategy =
+        ActorIdleStrategy.BACKOFF.newIdleStrategy(DEFAULT_MAX_IDLE_PARK_PERIOD);
+    volatile boolean isIdle;
+    volatile long wakeUpHintTime;
 
     long idleTimeStart;
     long busyTimeStart;
@@ -256,24 +282,38 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     public void hintWorkAvailable() {
+      if (isIdle && wakeUpHintTime == 0) {
+        // racy on purpose, we only need one of the concurrent hints to measure the wake-up latency
+        wakeUpHintTime = System.nanoTime();
+      }
+
       LockSupport.unpark(ActorThread.this);
     }
 
     protected void onIdle() {
       if (!isIdle) {
         clock.update();
-        idleTimeStart = clock.getNanoTime();
+        idleTimeStart = System.nanoTime();
+        metrics.onBusy(idleTimeStart - busyTimeStart);
+        wakeUpHintTime = 0;
         isIdle = true;
       }
 
-      backoff.idle();
+      strategy.idle();
     }
 
     protected void onTaskExecuted() {
-      backoff.reset();
+      strategy.reset();
 
       if (isIdle) {
-        busyTimeStart = clock.getNanoTime();
+        busyTimeStart = System.nanoTime();
+        metrics.onIdle(busyTimeStart - idleTimeStart);
+
+        final long hintTime = wakeUpHintTime;
+        if (hintTime != 0) {
+          metrics.onWakeUp(busyTimeStart - hintTime);
+        }
+
         isIdle = false;
       }
     }
@@ -21,6 +21,7 @@ public abstract class ActorThreadGroup {
   protected final ActorThread[] threads;
   protected final MultiLevelWorkstealingGroup tasks;
   protected final int numOfThreads;
+  protected final boolean isAffinityEnabled;
 
   public ActorThreadGroup(
       final String groupName,
@@ -29,6 +30,7 @@ public abstract class ActorThreadGroup {
       final ActorSchedulerBuilder builder) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
+    isAffinityEnabled = builder.isThreadAffinityEnabled();
 
     tasks = new MultiLevelWorkstealingGroup(numOfThreads, numOfQueuesPerThread);
 
@@ -49,6 +51,9 @@ public abstract class ActorThreadGroup {
                   builder.getActorClock(),
                   builder.getActorTimerQueue());
 
+      thread.setCpuAffinity(getCpuAffinity(builder));
+      thread.setIdleStrategy(
+          builder.getIdleStrategy().newIdleStrategy(builder.getMaxIdleParkPeriod()));
       threads[t] = thread;
     }
   }
@@ -58,9 +63,17 @@ public abstract class ActorThreadGroup {
 
   public void submit(final ActorTask actorTask) {
     final int level = getLevel(actorTask);
+    final int affinityKey = actorTask.getAffinityKey();
 
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    if (isAffinityEnabled && affinityKey >= 0) {
+      // always go back to the home thread, even if the task was stolen by another thread before
+      final int threadId = affinityKey % numOfThreads;
+      tasks.submit(actorTask, level, threadId);
+      if (current != threads[threadId]) {
+        threads[threadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, level, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
@@ -71,6 +84,10 @@ public abstract class ActorThreadGroup {
 
   protected abstract int getLevel(ActorTask actorTask);
 
+  protected CpuAffinity getCpuAffinity(final ActorSchedulerBuilder builder) {
+    return CpuAffinity.none();
+  }
+
   public String getGroupName() {
     return groupName;
   }
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+/**
+ * Metrics of a single actor thread. The children are resolved once per thread, such that
+ * recording an execution does not need a label lookup.
+ */
+final class ActorThreadMetrics {
+
+  private static final Counter TASK_EXECUTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_executions_total")
+          .help("Number of times an actor task was executed by an actor thread")
+          .labelNames("thread")
+          .register();
+
+  private static final Counter TASK_MIGRATIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_migrations_total")
+          .help("Number of times an actor task was executed on another thread than before")
+          .labelNames("thread")
+          .register();
+
+  private static final Counter IDLE_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_idle_time_seconds_total")
+          .help("Time an actor thread spent without work, spinning, yielding or parked")
+          .labelNames("thread")
+          .register();
+
+  private static final Counter BUSY_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_busy_time_seconds_total")
+          .help("Time an actor thread spent executing tasks")
+          .labelNames("thread")
+          .register();
+
+  private static final Histogram WAKE_UP_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("actor_thread_wake_up_latency")
+          .help("Time between waking up an idle actor thread and it executing a task, in seconds")
+          .buckets(0.000_001, 0.000_005, 0.000_01, 0.000_05, 0.000_1, 0.000_5, 0.001, 0.005)
+          .labelNames("thread")
+          .register();
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private final Counter.Child executions;
+  private final Counter.Child migrations;
+  private final Counter.Child idleTime;
+  private final Counter.Child busyTime;
+  private final Histogram.Child wakeUpLatency;
+
+  ActorThreadMetrics(final String threadName) {
+    executions = TASK_EXECUTIONS.labels(threadName);
+    migrations = TASK_MIGRATIONS.labels(threadName);
+    idleTime = IDLE_TIME.labels(threadName);
+    busyTime = BUSY_TIME.labels(threadName);
+    wakeUpLatency = WAKE_UP_LATENCY.labels(threadName);
+  }
+
+  void onIdle(final long idleNanos) {
+    if (idleNanos > 0) {
+      idleTime.inc(idleNanos / NANOS_PER_SECOND);
+    }
+  }
+
+  void onBusy(final long busyNanos) {
+    if (busyNanos > 0) {
+      busyTime.inc(busyNanos / NANOS_PER_SECOND);
+    }
+  }
+
+  void onWakeUp(final long latencyNanos) {
+    wakeUpLatency.observe(Math.max(0, latencyNanos) / NANOS_PER_SECOND);
+  }
+
+  void onTaskExecuted(final boolean migrated) {
+    executions.inc();
+    if (migrated) {
+      migrations.inc();
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import java.util.concurrent.locks.LockSupport;
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * Idle strategy which adapts the time it busy spins to the observed arrival rate of work. It keeps
+ * an exponentially weighted moving average of the idle periods: if work usually arrives shortly
+ * after the thread became idle, the thread spins long enough to catch it without parking; if the
+ * thread is usually idle for longer, it parks almost immediately and backs off up to the maximum
+ * park period.
+ *
+ * <p>The parked thread is woken up by {@link ActorThread#hintWorkAvailable()}.
+ */
+public final class AdaptiveIdleStrategy implements IdleStrategy {
+
+  static final long MIN_PARK_PERIOD_NS = 1_000;
+  static final long MAX_SPIN_PERIOD_NS = 50_000;
+  private static final int AVERAGE_WEIGHT_SHIFT = 3;
+
+  private final long maxSpinPeriodNs;
+  private final long maxParkPeriodNs;
+
+  private long averageIdlePeriodNs;
+  private long spinPeriodNs;
+  private long idleStartNs;
+  private long parkPeriodNs;
+
+  public AdaptiveIdleStrategy(final long maxParkPeriodNs) {
+    this(MAX_SPIN_PERIOD_NS, maxParkPeriodNs);
+  }
+
+  public AdaptiveIdleStrategy(final long maxSpinPeriodNs, final long maxParkPeriodNs) {
+    this.maxSpinPeriodNs = maxSpinPeriodNs;
+    this.maxParkPeriodNs = Math.max(MIN_PARK_PERIOD_NS, maxParkPeriodNs);
+    spinPeriodNs = maxSpinPeriodNs;
+    averageIdlePeriodNs = maxSpinPeriodNs;
+    parkPeriodNs = MIN_PARK_PERIOD_NS;
+  }
+
+  @Override
+  public void idle(final int workCount) {
+    if (workCount > 0) {
+      reset();
+    } else {
+      idle();
+    }
+  }
+
+  @Override
+  public void idle() {
+    final long now = System.nanoTime();
+    if (idleStartNs == 0) {
+      idleStartNs = now;
+    }
+
+    if (now - idleStartNs < spinPeriodNs) {
+      Thread.onSpinWait();
+    } else {
+      LockSupport.parkNanos(parkPeriodNs);
+      parkPeriodNs = Math.min(parkPeriodNs << 1, maxParkPeriodNs);
+    }
+  }
+
+  @Override
+  public void reset() {
+    if (idleStartNs != 0) {
+      adapt(System.nanoTime() - idleStartNs);
+      idleStartNs = 0;
+    }
+
+    parkPeriodNs = MIN_PARK_PERIOD_NS;
+  }
+
+  private void adapt(final long idlePeriodNs) {
+    averageIdlePeriodNs += (idlePeriodNs - averageIdlePeriodNs) >> AVERAGE_WEIGHT_SHIFT;
+
+    // spin twice the average idle period if work arrives frequently, otherwise park right away
+    if (averageIdlePeriodNs <= maxSpinPeriodNs) {
+      spinPeriodNs = Math.min(maxSpinPeriodNs, averageIdlePeriodNs << 1);
+    } else {
+      spinPeriodNs = 0;
+    }
+  }
+
+  long getSpinPeriodNs() {
+    return spinPeriodNs;
+  }
+
+  @Override
+  public String alias() {
+    return "adaptive";
+  }
+}
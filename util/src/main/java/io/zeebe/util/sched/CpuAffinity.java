@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import io.zeebe.util.Loggers;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.agrona.collections.IntArrayList;
+import org.slf4j.Logger;
+
+/**
+ * Binds actor threads to a set of CPUs. Each thread of a group is pinned to exactly one CPU of the
+ * set (round robin by runner id), which keeps the caches of the actors it runs warm.
+ *
+ * <p>The JDK offers no access to {@code sched_setaffinity}, so the binding is done through the
+ * util-linux {@code taskset} tool, which is applied to the kernel thread id of the calling thread.
+ * On other platforms, or if the binding fails, a warning is logged and the thread stays unbound.
+ */
+public final class CpuAffinity {
+
+  private static final Logger LOG = Loggers.ACTOR_LOGGER;
+  private static final CpuAffinity NONE = new CpuAffinity(new int[0]);
+  private static final Path THREAD_SELF = Path.of("/proc/thread-self");
+  private static final String NUMA_NODE_CPU_LIST = "/sys/devices/system/node/node%d/cpulist";
+  private static final long BIND_TIMEOUT_SECONDS = 5;
+
+  private final int[] cpus;
+
+  private CpuAffinity(final int[] cpus) {
+    this.cpus = cpus;
+  }
+
+  public static CpuAffinity none() {
+    return NONE;
+  }
+
+  /**
+   * Creates an affinity from a Linux cpu list, e.g. {@code 0-3,8,10-11}.
+   *
+   * @param cpuList the cpu list
+   * @return the affinity which binds to the given CPUs
+   */
+  public static CpuAffinity ofCpuList(final String cpuList) {
+    if (cpuList == null || cpuList.isBlank()) {
+      return NONE;
+    }
+
+    return new CpuAffinity(parseCpuList(cpuList));
+  }
+
+  /**
+   * Creates an affinity which binds to the CPUs of the given NUMA node, as reported by {@code
+   * /sys/devices/system/node/node<N>/cpulist}.
+   *
+   * @param numaNode the NUMA node
+   * @return the affinity which binds to the CPUs of the node
+   * @throws IllegalArgumentException if the CPUs of the node cannot be resolved
+   */
+  public static CpuAffinity ofNumaNode(final int numaNode) {
+    final var cpuListPath = Path.of(String.format(NUMA_NODE_CPU_LIST, numaNode));
+    try {
+      return ofCpuList(Files.readString(cpuListPath, StandardCharsets.US_ASCII).trim());
+    } catch (final IOException e) {
+      throw new IllegalArgumentException(
+          String.format("Expected to resolve the CPUs of NUMA node %d, but failed", numaNode), e);
+    }
+  }
+
+  static int[] parseCpuList(final String cpuList) {
+    final var cpus = new IntArrayList();
+
+    for (final String range : cpuList.split(",")) {
+      final String trimmed = range.trim();
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+
+      final int separator = trimmed.indexOf('-');
+      try {
+        if (separator < 0) {
+          cpus.addInt(Integer.parseInt(trimmed));
+        } else {
+          final int from = Integer.parseInt(trimmed.substring(0, separator));
+          final int to = Integer.parseInt(trimmed.substring(separator + 1));
+          for (int cpu = from; cpu <= to; cpu++) {
+            cpus.addInt(cpu);
+          }
+        }
+      } catch (final NumberFormatException e) {
+        throw new IllegalArgumentException(
+            String.format("Expected a cpu list like '0-3,8', but got '%s'", cpuList), e);
+      }
+    }
+
+    return cpus.toIntArray();
+  }
+
+  public boolean isEnabled() {
+    return cpus.length > 0;
+  }
+
+  int[] getCpus() {
+    return Arrays.copyOf(cpus, cpus.length);
+  }
+
+  /**
+   * Binds the calling thread to one CPU of the set.
+   *
+   * @param runnerId the id of the calling actor thread, used to choose the CPU
+   */
+  void bindCurrentThread(final int runnerId) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    final int cpu = cpus[runnerId % cpus.length];
+    final String threadName = Thread.currentThread().getName();
+
+    try {
+      final String tid = Files.readSymbolicLink(THREAD_SELF).getFileName().toString();
+      final var process =
+          new ProcessBuilder("taskset", "-cp", Integer.toString(cpu), tid)
+              .redirectErrorStream(true)
+              .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+              .start();
+
+      if (!process.waitFor(BIND_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+        LOG.warn("Timed out binding actor thread {} to cpu {}", threadName, cpu);
+      } else if (process.exitValue() != 0) {
+        LOG.warn(
+            "Failed to bind actor thread {} to cpu {}, taskset exited with {}",
+            threadName,
+            cpu,
+            process.exitValue());
+      } else {
+        LOG.debug("Bound actor thread {} (tid {}) to cpu {}", threadName, tid, cpu);
+      }
+    } catch (final IOException | UnsupportedOperationException e) {
+      LOG.warn("Failed to bind actor thread {} to cpu {}", threadName, cpu, e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Interrupted while binding actor thread {} to cpu {}", threadName, cpu);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "CpuAffinity{" + "cpus=" + Arrays.toString(cpus) + '}';
+  }
+}
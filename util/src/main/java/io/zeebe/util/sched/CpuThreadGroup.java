@@ -26,6 +26,11 @@ public final class CpuThreadGroup extends ActorThreadGroup {
     return new PriorityScheduler(tasks::getNextTask, builder.getPriorityQuotas());
   }
 
+  @Override
+  protected CpuAffinity getCpuAffinity(final ActorSchedulerBuilder builder) {
+    return builder.getCpuAffinity();
+  }
+
   @Override
   protected int getLevel(final ActorTask actorTask) {
     return actorTask.getPriority();
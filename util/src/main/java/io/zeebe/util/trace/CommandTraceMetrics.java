@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.trace;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+final class CommandTraceMetrics {
+
+  private static final Histogram STAGE_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("command_trace_stage_latency")
+          .help(
+              "Time of sampled commands between the previous stage and the given stage, in seconds")
+          .buckets(0.000_1, 0.000_5, 0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 5)
+          .labelNames("partition", "stage")
+          .register();
+
+  private static final Histogram TOTAL_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("command_trace_total_latency")
+          .help("Time of sampled commands from being received until being processed, in seconds")
+          .buckets(0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10)
+          .labelNames("partition")
+          .register();
+
+  private static final Counter DROPPED_TRACES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("command_trace_dropped_total")
+          .help("Number of sampled command traces which were overwritten before they completed")
+          .labelNames("partition")
+          .register();
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private final Histogram.Child[] stageLatencies = new Histogram.Child[TraceStage.values().length];
+  private final Histogram.Child totalLatency;
+  private final Counter.Child droppedTraces;
+
+  CommandTraceMetrics(final int partitionId) {
+    final String partition = Integer.toString(partitionId);
+    for (final TraceStage stage : TraceStage.values()) {
+      stageLatencies[stage.ordinal()] = STAGE_LATENCY.labels(partition, stage.getLabel());
+    }
+    totalLatency = TOTAL_LATENCY.labels(partition);
+    droppedTraces = DROPPED_TRACES.labels(partition);
+  }
+
+  void observeStage(final TraceStage stage, final long nanos) {
+    stageLatencies[stage.ordinal()].observe(nanos / NANOS_PER_SECOND);
+  }
+
+  void observeTotal(final long nanos) {
+    totalLatency.observe(nanos / NANOS_PER_SECOND);
+  }
+
+  void traceDropped() {
+    droppedTraces.inc();
+  }
+}
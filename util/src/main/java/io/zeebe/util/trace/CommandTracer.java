@@ -0,0 +1,306 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.trace;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Traces the latency of sampled commands of a partition through the stages of the broker (see
+ * {@link TraceStage}). A sampled command gets a trace id when it is received. After it is written
+ * to the log stream, the trace is identified by the position of the command, such that the
+ * appender and the stream processor can continue the trace without adding the trace id to the
+ * record.
+ *
+ * <p>The stage timestamps are kept in a fixed size ring buffer, indexed by the trace id. If a trace
+ * doesn't complete before its slot is reused, it is dropped. When a trace completes, the time
+ * between its stages is observed in histograms and the {@link TraceListener} is notified.
+ *
+ * <p>Each partition has its own tracer. If the sampling is disabled (the default), the cost of each
+ * hook is a single comparison.
+ */
+public final class CommandTracer {
+
+  /** The id of a command which is not traced. All trace ids are positive. */
+  public static final long NO_TRACE = Long.MIN_VALUE;
+
+  private static final int CAPACITY = 1024;
+  private static final int MASK = CAPACITY - 1;
+  private static final int MAX_PENDING_POSITIONS = 64;
+  private static final int STAGE_COUNT = TraceStage.values().length;
+  private static final TraceListener NOOP_LISTENER = (partitionId, traceId, stageNanos) -> {};
+
+  // never samples a command, i.e. it has no state and can be shared
+  private static final CommandTracer DISABLED = new CommandTracer(-1, 0);
+
+  private final AtomicLongArray traceIds = new AtomicLongArray(CAPACITY);
+  private final AtomicLongArray stageTimestamps = new AtomicLongArray(CAPACITY * STAGE_COUNT);
+  private final long[] pendingPositions = new long[MAX_PENDING_POSITIONS];
+  private final long[] pendingTraceIds = new long[MAX_PENDING_POSITIONS];
+  private final boolean[] pendingAppended = new boolean[MAX_PENDING_POSITIONS];
+  private final boolean[] pendingCommitted = new boolean[MAX_PENDING_POSITIONS];
+  private final int partitionId;
+  private final int sampleRate;
+  private final CommandTraceMetrics metrics;
+  private final long epochOffsetNanos;
+
+  private volatile TraceListener listener = NOOP_LISTENER;
+  private volatile int pendingCount;
+  // only accessed by the thread which receives the commands
+  private long sampledCommands;
+
+  private CommandTracer(final int partitionId, final int sampleRate) {
+    this.partitionId = partitionId;
+    this.sampleRate = sampleRate;
+    metrics = sampleRate > 0 ? new CommandTraceMetrics(partitionId) : null;
+    epochOffsetNanos = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+  }
+
+  /**
+   * @param partitionId the id of the partition
+   * @param sampleRate every how many commands one is traced, or 0 to disable the tracing
+   * @return a new tracer for the given partition
+   */
+  public static CommandTracer create(final int partitionId, final int sampleRate) {
+    return sampleRate > 0 ? new CommandTracer(partitionId, sampleRate) : DISABLED;
+  }
+
+  /** @return a tracer which doesn't trace any command */
+  public static CommandTracer disabled() {
+    return DISABLED;
+  }
+
+  public static boolean isTraced(final long traceId) {
+    return traceId > 0;
+  }
+
+  public void setListener(final TraceListener listener) {
+    this.listener = listener != null ? listener : NOOP_LISTENER;
+  }
+
+  /**
+   * Decides whether the received command is traced, and if so starts the trace at {@link
+   * TraceStage#RECEIVED}. Must be called by the single thread which receives the commands of the
+   * partition.
+   *
+   * @return the id of the new trace, or {@link #NO_TRACE} if the command is not sampled
+   */
+  public long sample() {
+    if (sampleRate <= 0) {
+      return NO_TRACE;
+    }
+
+    sampledCommands += 1;
+    if (sampledCommands % sampleRate != 0) {
+      return NO_TRACE;
+    }
+
+    final long traceId = sampledCommands;
+    final int slot = slotOf(traceId);
+    for (int stage = 0; stage < STAGE_COUNT; stage++) {
+      stageTimestamps.set(slot * STAGE_COUNT + stage, 0);
+    }
+
+    if (traceIds.getAndSet(slot, traceId) != 0) {
+      // the previous trace of the slot didn't complete
+      metrics.traceDropped();
+    }
+
+    record(traceId, TraceStage.RECEIVED);
+    return traceId;
+  }
+
+  /**
+   * Records that the traced command was written to the log stream at the given position. From now
+   * on, the trace is continued by the position of the command.
+   *
+   * @param traceId the id of the trace, may be {@link #NO_TRACE}
+   * @param position the position of the command
+   */
+  public void onWritten(final long traceId, final long position) {
+    if (!isTraced(traceId)) {
+      return;
+    }
+
+    record(traceId, TraceStage.WRITTEN);
+    synchronized (pendingPositions) {
+      final int count = pendingCount;
+      if (count < MAX_PENDING_POSITIONS) {
+        pendingPositions[count] = position;
+        pendingTraceIds[count] = traceId;
+        pendingAppended[count] = false;
+        pendingCommitted[count] = false;
+        pendingCount = count + 1;
+      } else {
+        drop(traceId);
+      }
+    }
+  }
+
+  /** @param highestPosition the highest position which is appended to the log storage */
+  public void onAppended(final long highestPosition) {
+    if (pendingCount == 0) {
+      return;
+    }
+
+    synchronized (pendingPositions) {
+      for (int i = 0; i < pendingCount; i++) {
+        if (!pendingAppended[i] && pendingPositions[i] <= highestPosition) {
+          pendingAppended[i] = true;
+          record(pendingTraceIds[i], TraceStage.APPENDED);
+        }
+      }
+    }
+  }
+
+  /** @param highestPosition the highest position which is committed */
+  public void onCommitted(final long highestPosition) {
+    if (pendingCount == 0) {
+      return;
+    }
+
+    synchronized (pendingPositions) {
+      for (int i = 0; i < pendingCount; i++) {
+        if (!pendingCommitted[i] && pendingPositions[i] <= highestPosition) {
+          pendingCommitted[i] = true;
+          record(pendingTraceIds[i], TraceStage.COMMITTED);
+        }
+      }
+    }
+  }
+
+  /** @param position the position of the record which the stream processor starts to process */
+  public void onProcessing(final long position) {
+    if (pendingCount == 0) {
+      return;
+    }
+
+    synchronized (pendingPositions) {
+      final int index = indexOf(position);
+      if (index >= 0) {
+        record(pendingTraceIds[index], TraceStage.PROCESSING);
+      }
+    }
+  }
+
+  /**
+   * Completes the trace of the processed record. The traces of lower positions are dropped, since
+   * the records are processed in the order of their positions.
+   *
+   * @param position the position of the record which is processed
+   */
+  public void onProcessed(final long position) {
+    if (pendingCount == 0) {
+      return;
+    }
+
+    synchronized (pendingPositions) {
+      int count = pendingCount;
+      int i = 0;
+      while (i < count) {
+        if (pendingPositions[i] <= position) {
+          final long traceId = pendingTraceIds[i];
+          if (pendingPositions[i] == position) {
+            record(traceId, TraceStage.PROCESSED);
+          } else {
+            drop(traceId);
+          }
+
+          count -= 1;
+          pendingPositions[i] = pendingPositions[count];
+          pendingTraceIds[i] = pendingTraceIds[count];
+          pendingAppended[i] = pendingAppended[count];
+          pendingCommitted[i] = pendingCommitted[count];
+        } else {
+          i++;
+        }
+      }
+      pendingCount = count;
+    }
+  }
+
+  /**
+   * Drops all traces which are not completed yet. Must be called when the role of the partition
+   * changes, since the written commands may not be committed or processed by this broker anymore.
+   */
+  public void reset() {
+    if (sampleRate <= 0) {
+      return;
+    }
+
+    synchronized (pendingPositions) {
+      pendingCount = 0;
+      for (int slot = 0; slot < CAPACITY; slot++) {
+        traceIds.set(slot, 0);
+      }
+    }
+  }
+
+  void record(final long traceId, final TraceStage stage) {
+    if (!isTraced(traceId)) {
+      return;
+    }
+
+    final int slot = slotOf(traceId);
+    if (traceIds.get(slot) != traceId) {
+      return;
+    }
+
+    stageTimestamps.set(slot * STAGE_COUNT + stage.ordinal(), System.nanoTime());
+    if (stage == TraceStage.PROCESSED) {
+      complete(slot, traceId);
+    }
+  }
+
+  private int indexOf(final long position) {
+    for (int i = 0; i < pendingCount; i++) {
+      if (pendingPositions[i] == position) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void drop(final long traceId) {
+    if (traceIds.compareAndSet(slotOf(traceId), traceId, 0)) {
+      metrics.traceDropped();
+    }
+  }
+
+  private void complete(final int slot, final long traceId) {
+    if (!traceIds.compareAndSet(slot, traceId, 0)) {
+      return;
+    }
+
+    final long[] stageNanos = new long[STAGE_COUNT];
+    for (int stage = 0; stage < STAGE_COUNT; stage++) {
+      stageNanos[stage] = stageTimestamps.get(slot * STAGE_COUNT + stage);
+    }
+
+    final long received = stageNanos[TraceStage.RECEIVED.ordinal()];
+    long previous = received;
+    for (int stage = 1; stage < STAGE_COUNT; stage++) {
+      final long timestamp = stageNanos[stage];
+      if (timestamp != 0) {
+        metrics.observeStage(TraceStage.of(stage), timestamp - previous);
+        previous = timestamp;
+      }
+    }
+    metrics.observeTotal(previous - received);
+
+    for (int stage = 0; stage < STAGE_COUNT; stage++) {
+      if (stageNanos[stage] != 0) {
+        stageNanos[stage] += epochOffsetNanos;
+      }
+    }
+    listener.onTraceCompleted(partitionId, traceId, stageNanos);
+  }
+
+  private static int slotOf(final long traceId) {
+    return (int) (traceId & MASK);
+  }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.trace;
+
+/**
+ * Is notified about each completed command trace. It can be used to export the traces to a tracing
+ * system, e.g. as OpenTelemetry spans: each stage maps to one span of the trace, from the
+ * timestamp of the previous stage to the timestamp of the stage.
+ */
+@FunctionalInterface
+public interface TraceListener {
+
+  /**
+   * Called on the thread that completed the trace, i.e. it must not block.
+   *
+   * @param partitionId the partition of the command
+   * @param traceId the id of the trace, unique per partition and broker run
+   * @param stageEpochNanos the time at which the command passed each stage, in nanoseconds since
+   *     the epoch, indexed by {@link TraceStage#ordinal()}, or 0 if the stage was not recorded
+   */
+  void onTraceCompleted(int partitionId, long traceId, long[] stageEpochNanos);
+}
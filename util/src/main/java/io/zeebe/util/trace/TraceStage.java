@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.trace;
+
+/** The stages of a command in the broker, in the order in which they are passed. */
+public enum TraceStage {
+  /** The command was received by the command API. */
+  RECEIVED("received"),
+  /** The command was written to the dispatcher of the log stream. */
+  WRITTEN("written"),
+  /** The block containing the command was appended to the Raft log. */
+  APPENDED("appended"),
+  /** The block containing the command was committed by Raft. */
+  COMMITTED("committed"),
+  /** The stream processor started to process the command. */
+  PROCESSING("processing"),
+  /** The command was processed, its follow-up records are written and the response is sent. */
+  PROCESSED("processed");
+
+  private static final TraceStage[] STAGES = values();
+
+  private final String label;
+
+  TraceStage(final String label) {
+    this.label = label;
+  }
+
+  static TraceStage of(final int ordinal) {
+    return STAGES[ordinal];
+  }
+
+  public String getLabel() {
+    return label;
+  }
+}
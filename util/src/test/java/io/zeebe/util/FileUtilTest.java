@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import org.junit.Rule;
 import org.junit.Test;
@@ -46,4 +47,26 @@ public final class FileUtilTest {
             })
         .isInstanceOf(NoSuchFileException.class);
   }
+
+  @Test
+  public void shouldLinkImmutableSnapshotFiles() throws Exception {
+    // given
+    final var snapshot = tempFolder.newFolder("snapshot").toPath();
+    Files.writeString(snapshot.resolve("000001.sst"), "immutable");
+    Files.writeString(snapshot.resolve("CURRENT"), "MANIFEST-000001");
+    final var runtime = tempFolder.getRoot().toPath().resolve("runtime");
+
+    // when
+    FileUtil.linkSnapshot(runtime, snapshot);
+
+    // then
+    assertThat(Files.isSameFile(runtime.resolve("000001.sst"), snapshot.resolve("000001.sst")))
+        .isTrue();
+    assertThat(Files.isSameFile(runtime.resolve("CURRENT"), snapshot.resolve("CURRENT")))
+        .isFalse();
+    assertThat(Files.readString(runtime.resolve("CURRENT"))).isEqualTo("MANIFEST-000001");
+
+    Files.writeString(runtime.resolve("CURRENT"), "MANIFEST-000002");
+    assertThat(Files.readString(snapshot.resolve("CURRENT"))).isEqualTo("MANIFEST-000001");
+  }
 }
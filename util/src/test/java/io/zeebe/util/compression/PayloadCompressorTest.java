@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.Test;
+
+public final class PayloadCompressorTest {
+
+  private final PayloadCompressor compressor =
+      new PayloadCompressor(new CompressionMetrics("test"));
+
+  @Test
+  public void shouldDecompressCompressedPayload() {
+    // given
+    final byte[] payload = "zeebe".repeat(1_000).getBytes(StandardCharsets.UTF_8);
+
+    // when
+    final byte[] compressed = compressor.compress(payload);
+
+    // then
+    assertThat(compressed).isNotNull().hasSizeLessThan(payload.length);
+    assertThat(compressed[0]).isEqualTo(CompressionCodec.DEFLATE.getId());
+    assertThat(compressor.decompress(compressed)).isEqualTo(payload);
+  }
+
+  @Test
+  public void shouldNotChangePositionOfBuffer() {
+    // given
+    final byte[] payload = "zeebe".repeat(1_000).getBytes(StandardCharsets.UTF_8);
+    final ByteBuffer buffer = ByteBuffer.allocate(payload.length + 10);
+    buffer.position(10);
+    buffer.put(payload).position(10);
+
+    // when
+    final byte[] compressed = compressor.compress(buffer);
+
+    // then
+    assertThat(buffer.position()).isEqualTo(10);
+    assertThat(compressor.decompress(ByteBuffer.wrap(compressed))).isEqualTo(payload);
+  }
+
+  @Test
+  public void shouldNotCompressIncompressiblePayload() {
+    // given
+    final byte[] payload = new byte[1_024];
+    ThreadLocalRandom.current().nextBytes(payload);
+
+    // when
+    final byte[] compressed = compressor.compress(payload);
+
+    // then
+    assertThat(compressed).isNull();
+  }
+
+  @Test
+  public void shouldReuseCompressorForMultiplePayloads() {
+    // given
+    final byte[] first = "first".repeat(500).getBytes(StandardCharsets.UTF_8);
+    final byte[] second = "second".repeat(700).getBytes(StandardCharsets.UTF_8);
+
+    // when
+    final byte[] firstCompressed = compressor.compress(first);
+    final byte[] secondCompressed = compressor.compress(second);
+
+    // then
+    assertThat(compressor.decompress(firstCompressed)).isEqualTo(first);
+    assertThat(compressor.decompress(secondCompressed)).isEqualTo(second);
+  }
+
+  @Test
+  public void shouldRejectPayloadLargerThanMaxPayloadLength() {
+    // given
+    final byte[] payload = "zeebe".repeat(1_000).getBytes(StandardCharsets.UTF_8);
+    final byte[] compressed = compressor.compress(payload);
+    final PayloadCompressor limitedCompressor =
+        new PayloadCompressor(new CompressionMetrics("test"), payload.length - 1);
+
+    // when - then
+    assertThatThrownBy(() -> limitedCompressor.decompress(compressed))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("at most " + (payload.length - 1));
+  }
+
+  @Test
+  public void shouldRejectNegativePayloadLength() {
+    // given
+    final ByteBuffer compressed = ByteBuffer.allocate(PayloadCompressor.HEADER_LENGTH + 8);
+    compressed.put(CompressionCodec.DEFLATE.getId()).putInt(-1).rewind();
+
+    // when - then
+    assertThatThrownBy(() -> compressor.decompress(compressed))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
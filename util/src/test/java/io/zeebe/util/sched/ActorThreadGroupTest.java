@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Test;
+
+public final class ActorThreadGroupTest {
+
+  private static final int THREAD_COUNT = 4;
+
+  // records the ids of the threads which were hinted about submitted work, the threads are never
+  // started such that the submitted tasks stay in the queues
+  private final List<Integer> hintedThreads = new ArrayList<>();
+
+  @Test
+  public void shouldSubmitToThreadOfAffinityKey() {
+    // given
+    final CpuThreadGroup group = newThreadGroup(true);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      group.submit(new ActorTask(new AffinityActor(6)));
+    }
+
+    // then
+    assertThat(hintedThreads).hasSize(10).containsOnly(6 % THREAD_COUNT);
+  }
+
+  @Test
+  public void shouldSubmitActorsOfDifferentAffinityKeysToDifferentThreads() {
+    // given
+    final CpuThreadGroup group = newThreadGroup(true);
+
+    // when
+    for (int key = 0; key < THREAD_COUNT; key++) {
+      group.submit(new ActorTask(new AffinityActor(key)));
+    }
+
+    // then
+    assertThat(hintedThreads).containsExactly(0, 1, 2, 3);
+  }
+
+  @Test
+  public void shouldIgnoreNegativeAffinityKey() {
+    // given
+    final CpuThreadGroup group = newThreadGroup(true);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      group.submit(new ActorTask(new AffinityActor(Actor.NO_AFFINITY)));
+    }
+
+    // then
+    assertThat(new HashSet<>(hintedThreads)).hasSizeGreaterThan(1);
+  }
+
+  @Test
+  public void shouldIgnoreAffinityKeyIfAffinityIsDisabled() {
+    // given
+    final CpuThreadGroup group = newThreadGroup(false);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      group.submit(new ActorTask(new AffinityActor(6)));
+    }
+
+    // then
+    assertThat(hintedThreads).hasSize(100);
+    assertThat(new HashSet<>(hintedThreads)).hasSizeGreaterThan(1);
+  }
+
+  private CpuThreadGroup newThreadGroup(final boolean affinityEnabled) {
+    final ActorSchedulerBuilder builder =
+        ActorScheduler.newActorScheduler()
+            .setSchedulerName("affinity-test")
+            .setCpuBoundActorThreadCount(THREAD_COUNT)
+            .setThreadAffinityEnabled(affinityEnabled)
+            .setActorThreadFactory(
+                (name, id, threadGroup, taskScheduler, clock, timerQueue) ->
+                    new ActorThread(name, id, threadGroup, taskScheduler, clock, timerQueue) {
+                      @Override
+                      public void hintWorkAvailable() {
+                        hintedThreads.add(id);
+                      }
+                    });
+
+    return new CpuThreadGroup(builder);
+  }
+
+  private static final class AffinityActor extends Actor {
+    private final int affinityKey;
+
+    private AffinityActor(final int affinityKey) {
+      this.affinityKey = affinityKey;
+    }
+
+    @Override
+    public int getAffinityKey() {
+      return affinityKey;
+    }
+  }
+}
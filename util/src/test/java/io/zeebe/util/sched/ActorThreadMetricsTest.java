@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.prometheus.client.CollectorRegistry;
+import org.junit.Test;
+
+public final class ActorThreadMetricsTest {
+
+  @Test
+  public void shouldCountMigratedExecutions() {
+    // given
+    final ActorThreadMetrics metrics = new ActorThreadMetrics("metrics-test-0");
+
+    // when
+    metrics.onTaskExecuted(false);
+    metrics.onTaskExecuted(true);
+    metrics.onTaskExecuted(false);
+
+    // then
+    assertThat(sample("zeebe_actor_task_executions_total", "metrics-test-0")).isEqualTo(3.0);
+    assertThat(sample("zeebe_actor_task_migrations_total", "metrics-test-0")).isEqualTo(1.0);
+  }
+
+  @Test
+  public void shouldNotCountMigrationsOnSingleThread() {
+    // given
+    final ActorScheduler scheduler =
+        ActorScheduler.newActorScheduler()
+            .setSchedulerName("single")
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+
+    final Actor actor = Actor.wrap(control -> {});
+
+    try {
+      // when
+      scheduler.submitActor(actor).join();
+      actor.actor.call(() -> 1).join();
+    } finally {
+      FutureUtil.join(scheduler.stop());
+    }
+
+    // then
+    final String threadName = "single-zb-actors-0";
+    assertThat(sample("zeebe_actor_task_executions_total", threadName)).isGreaterThan(0.0);
+    assertThat(sample("zeebe_actor_task_migrations_total", threadName)).isZero();
+  }
+
+  private static Double sample(final String name, final String threadName) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        name, new String[] {"thread"}, new String[] {threadName});
+  }
+}
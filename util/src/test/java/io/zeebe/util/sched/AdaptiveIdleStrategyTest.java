@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+public final class AdaptiveIdleStrategyTest {
+
+  private static final long MAX_SPIN_PERIOD_NS = Duration.ofMillis(100).toNanos();
+  private static final long MAX_PARK_PERIOD_NS = Duration.ofMillis(1).toNanos();
+
+  @Test
+  public void shouldStopSpinningIfIdleForLong() throws InterruptedException {
+    // given
+    final var idleStrategy = new AdaptiveIdleStrategy(1_000, MAX_PARK_PERIOD_NS);
+
+    // when
+    for (int i = 0; i < 32; i++) {
+      idleStrategy.idle();
+      Thread.sleep(1);
+      idleStrategy.reset();
+    }
+
+    // then
+    assertThat(idleStrategy.getSpinPeriodNs()).isZero();
+  }
+
+  @Test
+  public void shouldKeepSpinningIfWorkArrivesFrequently() {
+    // given
+    final var idleStrategy = new AdaptiveIdleStrategy(MAX_SPIN_PERIOD_NS, MAX_PARK_PERIOD_NS);
+
+    // when
+    for (int i = 0; i < 32; i++) {
+      idleStrategy.idle();
+      idleStrategy.reset();
+    }
+
+    // then
+    assertThat(idleStrategy.getSpinPeriodNs()).isPositive();
+  }
+}
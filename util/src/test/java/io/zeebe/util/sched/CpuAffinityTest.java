@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+public final class CpuAffinityTest {
+
+  @Test
+  public void shouldParseCpuList() {
+    // when
+    final int[] cpus = CpuAffinity.parseCpuList("0-2, 5,8-9");
+
+    // then
+    assertThat(cpus).containsExactly(0, 1, 2, 5, 8, 9);
+  }
+
+  @Test
+  public void shouldBeDisabledWithoutCpuList() {
+    // when
+    final CpuAffinity affinity = CpuAffinity.ofCpuList(null);
+
+    // then
+    assertThat(affinity.isEnabled()).isFalse();
+    assertThat(affinity.getCpus()).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectInvalidCpuList() {
+    // when - then
+    assertThatThrownBy(() -> CpuAffinity.ofCpuList("0-a"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
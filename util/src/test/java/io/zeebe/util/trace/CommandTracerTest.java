@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class CommandTracerTest {
+
+  private final List<long[]> completedTraces = new ArrayList<>();
+  private final TraceListener listener =
+      (partitionId, traceId, stageNanos) -> completedTraces.add(stageNanos);
+
+  @Test
+  public void shouldNotTraceIfDisabled() {
+    // given
+    final CommandTracer tracer = CommandTracer.create(1, 0);
+
+    // when
+    final long traceId = tracer.sample();
+
+    // then
+    assertThat(traceId).isEqualTo(CommandTracer.NO_TRACE);
+    assertThat(CommandTracer.isTraced(traceId)).isFalse();
+  }
+
+  @Test
+  public void shouldSampleEveryNthCommand() {
+    // given
+    final CommandTracer tracer = CommandTracer.create(1, 3);
+
+    // when
+    final long first = tracer.sample();
+    final long second = tracer.sample();
+    final long third = tracer.sample();
+
+    // then
+    assertThat(CommandTracer.isTraced(first)).isFalse();
+    assertThat(CommandTracer.isTraced(second)).isFalse();
+    assertThat(CommandTracer.isTraced(third)).isTrue();
+  }
+
+  @Test
+  public void shouldSampleCommandsOfPartitionsIndependently() {
+    // given
+    final CommandTracer tracer = CommandTracer.create(1, 2);
+    final CommandTracer otherTracer = CommandTracer.create(1, 2);
+
+    // when
+    tracer.sample();
+    final long otherTraceId = otherTracer.sample();
+
+    // then
+    assertThat(CommandTracer.isTraced(otherTraceId)).isFalse();
+  }
+
+  @Test
+  public void shouldCompleteTraceOfAllStages() {
+    // given
+    final CommandTracer tracer = CommandTracer.create(1, 1);
+    tracer.setListener(listener);
+    final long traceId = tracer.sample();
+
+    // when
+    tracer.onWritten(traceId, 10);
+    tracer.onAppended(10);
+    tracer.onCommitted(10);
+    tracer.onProcessing(10);
+    tracer.onProcessed(10);
+
+    // then
+    assertThat(completedTraces).hasSize(1);
+    final long[] stageNanos = completedTraces.get(0);
+    assertThat(stageNanos).hasSize(TraceStage.values().length).doesNotContain(0L);
+    for (int stage = 1; stage < stageNanos.length; stage++) {
+      assertThat(stageNanos[stage]).isGreaterThanOrEqualTo(stageNanos[stage - 1]);
+    }
+  }
+
+  @Test
+  public void shouldNotRecordStagesOfHigherPositions() {
+    // given
+    final CommandTracer tracer = CommandTracer.create(1, 1);
+    tracer.setListener(listener);
+    final long traceId = tracer.sample();
+    tracer.onWritten(traceId, 10);
+
+    // when
+    tracer.onAppended(9);
+    tracer.onCommitted(9);
+    tracer.onProcessed(10);
+
+    // then
+    assertThat(completedTraces).hasSize(1);
+    final long[] stageNanos = completedTraces.get(0);
+    assertThat(stageNanos[TraceStage.WRITTEN.ordinal()]).isNotZero();
+    assertThat(stageNanos[TraceStage.APPENDED.ordinal()]).isZero();
+    assertThat(stageNanos[TraceStage.COMMITTED.ordinal()]).isZero();
+  }
+
+  @Test
+  public void shouldIgnoreStagesOfCompletedTrace() {
+    // given
+    final CommandTracer tracer = CommandTracer.create(1, 1);
+    tracer.setListener(listener);
+    final long traceId = tracer.sample();
+    tracer.onWritten(traceId, 10);
+    tracer.onProcessed(10);
+
+    // when
+    tracer.onProcessed(10);
+
+    // then
+    assertThat(completedTraces).hasSize(1);
+  }
+
+  @Test
+  public void shouldDropTracesOfSkippedPositions() {
+    // given
+    final CommandTracer tracer = CommandTracer.create(1, 1);
+    tracer.setListener(listener);
+    tracer.onWritten(tracer.sample(), 10);
+    tracer.onWritten(tracer.sample(), 11);
+
+    // when
+    tracer.onProcessed(11);
+    tracer.onProcessed(10);
+
+    // then
+    assertThat(completedTraces).hasSize(1);
+  }
+
+  @Test
+  public void shouldDropPendingTracesOnReset() {
+    // given
+    final CommandTracer tracer = CommandTracer.create(1, 1);
+    tracer.setListener(listener);
+    for (int i = 0; i < 64; i++) {
+      tracer.onWritten(tracer.sample(), i);
+    }
+
+    // when
+    tracer.reset();
+    final long traceId = tracer.sample();
+    tracer.onWritten(traceId, 100);
+    tracer.onProcessed(100);
+
+    // then
+    assertThat(completedTraces).hasSize(1);
+  }
+}
@@ -109,6 +109,18 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
       KeyType key,
       ValueType value);
 
+  /**
+   * Visits the key-value pairs, which are stored in the column family, starting at the given key or
+   * at the next greater key if it doesn't exist. The visitor can indicate via the return value,
+   * whether the iteration should continue or not.
+   *
+   * <p>Similar to {@link #whileTrue(KeyValuePairVisitor)}.
+   *
+   * @param startAtKey the key at which the iteration starts
+   * @param visitor the visitor which visits the key-value pairs
+   */
+  void whileTrue(KeyType startAtKey, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the key-value pairs, which are stored in the column family and which have the same
    * common prefix. The ordering depends on the key.
@@ -150,6 +162,24 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   void delete(DbContext dbContext, KeyType key);
 
+  /**
+   * Deletes all key-value pairs which have the given common prefix from the column family. In
+   * contrast to deleting the pairs via {@link #whileEqualPrefix(DbKey, BiConsumer)}, the keys and
+   * values are not wrapped, and no visitor is called for each pair.
+   *
+   * @param keyPrefix the prefix which the keys to delete have in common
+   */
+  void deletePrefix(DbKey keyPrefix);
+
+  /**
+   * Deletes all key-value pairs which have the given common prefix from the column family. Uses
+   * the provided {@code dbContext} instead of the default instance, to be thread-safe.
+   *
+   * @param dbContext the database context
+   * @param keyPrefix the prefix which the keys to delete have in common
+   */
+  void deletePrefix(DbContext dbContext, DbKey keyPrefix);
+
   /**
    * Checks for key existence in the column family.
    *
@@ -38,4 +38,14 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Enables or disables the conflict tracking of the following writes. Without the tracking, the
+   * transaction behaves like a write batch: the written keys are not kept to check for conflicts on
+   * commit, which makes large transactions cheaper. It must only be disabled if no other
+   * transaction writes concurrently.
+   *
+   * @param enabled {@code false} to write without conflict tracking
+   */
+  void setConflictTracking(boolean enabled);
 }
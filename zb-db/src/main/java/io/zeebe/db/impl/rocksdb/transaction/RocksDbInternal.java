@@ -35,8 +35,10 @@ public final class RocksDbInternal {
   static Field nativeHandle;
 
   static Method putWithHandle;
+  static Method putUntrackedWithHandle;
   static Method getWithHandle;
   static Method removeWithHandle;
+  static Method removeUntrackedWithHandle;
 
   static Method seekMethod;
 
@@ -54,8 +56,10 @@ public final class RocksDbInternal {
     nativeHandles();
 
     putWithHandle();
+    putUntrackedWithHandle();
     getWithHandle();
     removeWithHandle();
+    removeUntrackedWithHandle();
 
     seekWithHandle();
   }
@@ -83,6 +87,23 @@ public final class RocksDbInternal {
     putWithHandle.setAccessible(true);
   }
 
+  //    private native void putUntracked(final long handle, final byte[] key,
+  //      final int keyLength, final byte[] value, final int valueLength,
+  //      final long columnFamilyHandle)
+
+  private static void putUntrackedWithHandle() throws NoSuchMethodException {
+    putUntrackedWithHandle =
+        Transaction.class.getDeclaredMethod(
+            "putUntracked",
+            Long.TYPE,
+            byte[].class,
+            Integer.TYPE,
+            byte[].class,
+            Integer.TYPE,
+            Long.TYPE);
+    putUntrackedWithHandle.setAccessible(true);
+  }
+
   //    private native byte[] get(final long handle, final long readOptionsHandle,
   //      final byte key[], final int keyLength, final long columnFamilyHandle)
 
@@ -103,6 +124,16 @@ public final class RocksDbInternal {
     removeWithHandle.setAccessible(true);
   }
 
+  //    private native void deleteUntracked(final long handle, final byte[] key,
+  //      final int keyLength, final long columnFamilyHandle)
+
+  private static void removeUntrackedWithHandle() throws NoSuchMethodException {
+    removeUntrackedWithHandle =
+        Transaction.class.getDeclaredMethod(
+            "deleteUntracked", Long.TYPE, byte[].class, Integer.TYPE, Long.TYPE);
+    removeUntrackedWithHandle.setAccessible(true);
+  }
+
   private static void seekWithHandle() throws NoSuchMethodException {
     seekMethod =
         RocksIterator.class.getDeclaredMethod("seek0", long.class, byte[].class, int.class);
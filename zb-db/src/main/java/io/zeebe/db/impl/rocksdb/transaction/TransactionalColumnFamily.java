@@ -93,6 +93,12 @@ class TransactionalColumnFamily<
     transactionDb.whileTrue(handle, context, key, value, visitor);
   }
 
+  @Override
+  public void whileTrue(
+      final KeyType startAtKey, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    transactionDb.whileTrue(handle, context, startAtKey, keyInstance, valueInstance, visitor);
+  }
+
   @Override
   public void whileEqualPrefix(
       final DbKey keyPrefix, final BiConsumer<KeyType, ValueType> visitor) {
@@ -115,6 +121,16 @@ class TransactionalColumnFamily<
     transactionDb.delete(handle, context, key);
   }
 
+  @Override
+  public void deletePrefix(final DbKey keyPrefix) {
+    deletePrefix(context, keyPrefix);
+  }
+
+  @Override
+  public void deletePrefix(final DbContext context, final DbKey keyPrefix) {
+    transactionDb.deletePrefix(handle, context, keyPrefix);
+  }
+
   @Override
   public boolean exists(final KeyType key) {
     return exists(context, key);
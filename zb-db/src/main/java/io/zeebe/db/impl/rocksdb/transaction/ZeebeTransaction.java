@@ -23,6 +23,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   private final Transaction transaction;
   private final long nativeHandle;
   private boolean inCurrentTransaction;
+  private boolean conflictTracking = true;
 
   public ZeebeTransaction(final Transaction transaction) {
     this.transaction = transaction;
@@ -40,8 +41,13 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] value,
       final int valueLength)
       throws Exception {
-    RocksDbInternal.putWithHandle.invoke(
-        transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
+    if (conflictTracking) {
+      RocksDbInternal.putWithHandle.invoke(
+          transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
+    } else {
+      RocksDbInternal.putUntrackedWithHandle.invoke(
+          transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle);
+    }
   }
 
   public byte[] get(
@@ -57,8 +63,13 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
-    RocksDbInternal.removeWithHandle.invoke(
-        transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
+    if (conflictTracking) {
+      RocksDbInternal.removeWithHandle.invoke(
+          transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
+    } else {
+      RocksDbInternal.removeUntrackedWithHandle.invoke(
+          transaction, nativeHandle, key, keyLength, columnFamilyHandle);
+    }
   }
 
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
@@ -112,6 +123,11 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setConflictTracking(final boolean enabled) {
+    conflictTracking = enabled;
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
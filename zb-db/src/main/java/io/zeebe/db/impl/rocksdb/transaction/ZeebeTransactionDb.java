@@ -237,6 +237,48 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
             transaction.delete(columnFamilyHandle, context.getKeyBufferArray(), key.getLength()));
   }
 
+  /**
+   * Deletes the keys with the given prefix as part of the current transaction. RocksDB's {@code
+   * DeleteRange} is not supported by transactions, i.e. the range tombstone would neither be
+   * rolled back nor be visible to reads of the transaction, so the keys are deleted one by one.
+   * The keys are taken directly from the iterator, without wrapping any key or value instance.
+   */
+  protected void deletePrefix(
+      final long columnFamilyHandle, final DbContext context, final DbKey prefix) {
+    context.withPrefixKeyBuffer(
+        prefixKeyBuffer ->
+            ensureInOpenTransaction(
+                context,
+                transaction -> {
+                  try (final RocksIterator iterator =
+                      newIterator(columnFamilyHandle, context, prefixReadOptions)) {
+                    prefix.write(prefixKeyBuffer, 0);
+                    final int prefixLength = prefix.getLength();
+
+                    for (RocksDbInternal.seek(
+                            iterator,
+                            getNativeHandle(iterator),
+                            prefixKeyBuffer.byteArray(),
+                            prefixLength);
+                        iterator.isValid();
+                        iterator.next()) {
+                      final byte[] keyBytes = iterator.key();
+                      if (!startsWith(
+                          prefixKeyBuffer.byteArray(),
+                          0,
+                          prefixLength,
+                          keyBytes,
+                          0,
+                          keyBytes.length)) {
+                        break;
+                      }
+
+                      transaction.delete(columnFamilyHandle, keyBytes, keyBytes.length);
+                    }
+                  }
+                }));
+  }
+
   ////////////////////////////////////////////////////////////////////
   //////////////////////////// ITERATION /////////////////////////////
   ////////////////////////////////////////////////////////////////////
@@ -314,6 +356,39 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         });
   }
 
+  /** Like {@link #whileTrue}, but seeks to the given key instead of the first key. */
+  protected <KeyType extends DbKey, ValueType extends DbValue> void whileTrue(
+      final long columnFamilyHandle,
+      final DbContext context,
+      final DbKey startAtKey,
+      final KeyType keyInstance,
+      final ValueType valueInstance,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    context.withPrefixKeyBuffer(
+        startKeyBuffer ->
+            ensureInOpenTransaction(
+                context,
+                transaction -> {
+                  try (final RocksIterator iterator =
+                      newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+                    startAtKey.write(startKeyBuffer, 0);
+
+                    boolean shouldVisitNext = true;
+
+                    for (RocksDbInternal.seek(
+                            iterator,
+                            getNativeHandle(iterator),
+                            startKeyBuffer.byteArray(),
+                            startAtKey.getLength());
+                        iterator.isValid() && shouldVisitNext;
+                        iterator.next()) {
+                      shouldVisitNext =
+                          visit(context, keyInstance, valueInstance, visitor, iterator);
+                    }
+                  }
+                }));
+  }
+
   protected <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
       final long columnFamilyHandle,
       final DbContext context,
@@ -373,6 +373,25 @@ public final class DbCompositeKeyColumnFamilyTest {
     assertThat(secondKeyParts).containsExactly(34L, 37426L, 923113L, 255L);
   }
 
+  @Test
+  public void shouldDeletePrefix() {
+    // given
+    putKeyValuePair("foo", 12, "baring");
+    putKeyValuePair("foo", 13, "different value");
+    putKeyValuePair("foobar", 14, "not in prefix");
+    putKeyValuePair("hello", 34, "world");
+
+    // when
+    firstKey.wrapString("foo");
+    columnFamily.deletePrefix(firstKey);
+
+    // then
+    final List<String> values = new ArrayList<>();
+    columnFamily.forEach((key, value) -> values.add(value.toString()));
+
+    assertThat(values).containsExactly("world", "not in prefix");
+  }
+
   private void putKeyValuePair(final String firstKey, final long secondKey, final String value) {
     this.firstKey.wrapString(firstKey);
     this.secondKey.wrapLong(secondKey);
@@ -455,6 +455,37 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldWriteAndRollbackWithoutConflictTracking() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    oneColumnFamily.put(oneKey, oneValue);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.setConflictTracking(false);
+
+    // when
+    transaction.run(
+        () -> {
+          oneColumnFamily.delete(oneKey);
+          twoColumnFamily.put(twoKey, twoValue);
+        });
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isFalse();
+    assertThat(twoColumnFamily.exists(twoKey)).isTrue();
+
+    transaction.rollback();
+    transaction.setConflictTracking(true);
+
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
   private enum ColumnFamilies {
     DEFAULT, // rocksDB needs a default column family
     ONE,